@@ -43,6 +43,7 @@ import org.veo.core.entity.ref.TypedId;
 import org.veo.core.repository.DomainRepository;
 import org.veo.core.repository.ElementQuery;
 import org.veo.core.repository.GenericElementRepository;
+import org.veo.core.repository.GraphTraversal;
 import org.veo.core.repository.PagingConfiguration;
 import org.veo.core.repository.QueryCondition;
 import org.veo.core.repository.RelationRow;
@@ -142,9 +143,75 @@ public class RelationGraphService {
     return new GraphResultDto(allEntities, relationDtos, totalCount);
   }
 
+  /**
+   * Returns the neighborhood of an element up to the given number of hops. Unlike {@link
+   * #getGraph}, neighbors are not loaded as entities, only their display fields are read.
+   */
+  @Transactional
+  public GraphResultDto getMultiHopGraph(
+      UUID id,
+      UUID domainId,
+      int depth,
+      int neighborLimit,
+      int limit,
+      Set<ElementType> elementTypes,
+      Set<String> linkTypes,
+      Locale locale) {
+    UUID clientId = userAccessRightsProvider.getAccessRights().getClientId();
+    Domain domain = domainRepository.getById(domainId, clientId);
+
+    ElementQuery<Element> query = genericRepository.query(domain.getOwner());
+    query.whereIdIn(new QueryCondition<>(Set.of(id)));
+    query.whereDomainsContain(domain);
+    if (query.execute(PagingConfiguration.UNPAGED).resultPage().isEmpty()) {
+      throw new NotFoundException("Element not found");
+    }
+
+    GraphTraversal graph =
+        genericRepository
+            .traverseGraph(id, domainId, depth, neighborLimit, limit, elementTypes, linkTypes)
+            .execute();
+    Map<UUID, String> urlsById =
+        graph.nodes().stream()
+            .collect(
+                Collectors.toMap(
+                    GraphTraversal.Node::id, node -> urlBuild(node.id(), node.type(), domainId)));
+    var translations = entitySchemaService.findTranslations(Set.of(domain), Set.of(locale));
+
+    List<GraphNodeDto> nodes =
+        graph.nodes().stream()
+            .map(
+                node ->
+                    new GraphNodeDto(
+                        urlsById.get(node.id()),
+                        node.displayName(),
+                        node.type(),
+                        node.subType(),
+                        node.id()))
+            .toList();
+    List<RelationDto> relations =
+        graph.edges().stream()
+            .map(
+                edge -> {
+                  var relationType = RelationDto.RelationType.valueOf(edge.relationType());
+                  return new RelationDto(
+                      relationType,
+                      urlsById.get(edge.sourceId()),
+                      urlsById.get(edge.targetId()),
+                      relationType == RelationDto.RelationType.CUSTOM_LINK
+                          ? translations.get(locale, edge.linkType()).orElse(edge.linkType())
+                          : buildPartsMembersLabel(locale));
+                })
+            .toList();
+    return new GraphResultDto(nodes, relations, graph.totalCount());
+  }
+
   private String urlBuild(Element el, UUID domainId) {
-    return urlAssembler.elementInDomainRefOf(
-        TypedId.from(el.getId(), el.getType().getTypeStrict()), domainId);
+    return urlBuild(el.getId(), el.getType(), domainId);
+  }
+
+  private String urlBuild(UUID id, ElementType type, UUID domainId) {
+    return urlAssembler.elementInDomainRefOf(TypedId.from(id, type.getTypeStrict()), domainId);
   }
 
   private String buildPartsMembersLabel(Locale locale) {
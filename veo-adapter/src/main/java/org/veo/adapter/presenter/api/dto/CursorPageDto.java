@@ -0,0 +1,32 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.adapter.presenter.api.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "A page of items that is continued with a cursor")
+public record CursorPageDto<T>(
+    List<T> items,
+    @Schema(
+            description = "Cursor for requesting the next page, absent if this is the last page",
+            nullable = true)
+        String nextCursor,
+    @Schema(description = "Total number of items, absent if not requested", nullable = true)
+        Long totalItemCount) {}
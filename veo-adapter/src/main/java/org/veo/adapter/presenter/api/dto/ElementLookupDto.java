@@ -0,0 +1,48 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.adapter.presenter.api.dto;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import org.veo.core.entity.ElementType;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Elements to load in a multi-element request")
+public record ElementLookupDto(
+    @NotNull
+        @Size(min = 1, max = ElementLookupDto.MAX_IDS)
+        @ArraySchema(
+            schema = @Schema(description = "ID of an element to load"),
+            minItems = 1,
+            maxItems = ElementLookupDto.MAX_IDS)
+        List<UUID> ids,
+    @Schema(description = "Only load elements of these types") Set<ElementType> elementTypes,
+    @Schema(
+            description =
+                "ETags of elements that the client already knows. Those elements are reported with"
+                    + " status 304 if they have not been modified.")
+        Set<String> knownETags) {
+  public static final int MAX_IDS = 500;
+}
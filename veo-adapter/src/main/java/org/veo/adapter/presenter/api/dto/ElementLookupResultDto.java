@@ -0,0 +1,51 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.adapter.presenter.api.dto;
+
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(
+    description = "Outcome of loading a single element in a multi-element request",
+    accessMode = Schema.AccessMode.READ_ONLY)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ElementLookupResultDto(
+    @Schema(description = "Requested element ID") UUID id,
+    @Schema(
+            description =
+                "HTTP status that a single request would have returned (200, 304 if the given ETag"
+                    + " is still current, 404 if the element is missing, not accessible or not"
+                    + " associated with the domain)")
+        int status,
+    @Schema(description = "Current ETag of the element") String eTag,
+    @Schema(
+            description = "The element, only present with status 200",
+            implementation = FullElementInDomainDto.class)
+        AbstractElementInDomainDto<?> element) {
+
+  public static ElementLookupResultDto notFound(UUID id) {
+    return new ElementLookupResultDto(id, 404, null, null);
+  }
+
+  public static ElementLookupResultDto notModified(UUID id, String eTag) {
+    return new ElementLookupResultDto(id, 304, eTag, null);
+  }
+}
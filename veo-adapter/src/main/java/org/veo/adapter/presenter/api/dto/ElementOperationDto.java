@@ -0,0 +1,42 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.adapter.presenter.api.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+import org.veo.adapter.presenter.api.response.IdentifiableDto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(
+    description =
+        "Single operation in a batch: creates a new element if the element has no ID, otherwise"
+            + " updates the existing element")
+public record ElementOperationDto<T extends AbstractElementInDomainDto<?> & IdentifiableDto>(
+    @Schema(
+            description =
+                "ETag of the element to update (as returned in the ETag header), equivalent to"
+                    + " the If-Match header of a single update")
+        String eTag,
+    @Schema(description = "IDs of scopes that a new element should be added to")
+        List<UUID> scopeIds,
+    @Valid @NotNull T element) {}
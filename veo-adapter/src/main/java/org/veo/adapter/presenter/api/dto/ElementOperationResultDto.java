@@ -0,0 +1,39 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.adapter.presenter.api.dto;
+
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(
+    description = "Outcome of a single operation in a batch",
+    accessMode = Schema.AccessMode.READ_ONLY)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ElementOperationResultDto(
+    @Schema(description = "Position of the operation in the request") int index,
+    @Schema(
+            description =
+                "HTTP status that a single request would have returned (201, 200 or an error"
+                    + " status)")
+        int status,
+    @Schema(description = "ID of the created or updated element") UUID id,
+    @Schema(description = "New ETag of the created or updated element") String eTag,
+    @Schema(description = "Error message if the operation was rejected") String message) {}
@@ -0,0 +1,80 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.adapter.presenter.api.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import org.veo.adapter.presenter.api.common.ReferenceAssembler;
+import org.veo.core.entity.ref.TypedId;
+import org.veo.core.repository.RiskValueSummary;
+import org.veo.core.repository.RiskValueSummary.ElementSummary;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(
+    description = "Values of a risk in one category of a risk definition",
+    accessMode = Schema.AccessMode.READ_ONLY)
+public record RiskValueDto(
+    String designator,
+    ElementRefDto riskAffected,
+    ElementRefDto scenario,
+    @Schema(nullable = true) ElementRefDto mitigation,
+    @Schema(nullable = true) ElementRefDto riskOwner,
+    String riskDefinitionId,
+    String category,
+    @Schema(description = "Effective probability", nullable = true) BigDecimal probability,
+    @Schema(description = "Effective impact in the category", nullable = true) BigDecimal impact,
+    @Schema(nullable = true) BigDecimal inherentRisk,
+    @Schema(
+            description = "User-defined residual risk, or the inherent risk if there is none",
+            nullable = true)
+        BigDecimal residualRisk) {
+
+  @Schema(description = "Reference to an element in the domain")
+  public record ElementRefDto(String targetInDomainUri, UUID id, String designator, String name) {}
+
+  public static RiskValueDto from(
+      RiskValueSummary source, UUID domainId, ReferenceAssembler referenceAssembler) {
+    return new RiskValueDto(
+        source.designator(),
+        toRef(source.riskAffected(), domainId, referenceAssembler),
+        toRef(source.scenario(), domainId, referenceAssembler),
+        toRef(source.mitigation(), domainId, referenceAssembler),
+        toRef(source.riskOwner(), domainId, referenceAssembler),
+        source.riskDefinitionId(),
+        source.category(),
+        source.probability(),
+        source.impact(),
+        source.inherentRisk(),
+        source.residualRisk());
+  }
+
+  private static ElementRefDto toRef(
+      ElementSummary element, UUID domainId, ReferenceAssembler referenceAssembler) {
+    if (element == null) {
+      return null;
+    }
+    return new ElementRefDto(
+        referenceAssembler.elementInDomainRefOf(
+            TypedId.from(element.id(), element.type().getTypeStrict()), domainId),
+        element.id(),
+        element.designator(),
+        element.name());
+  }
+}
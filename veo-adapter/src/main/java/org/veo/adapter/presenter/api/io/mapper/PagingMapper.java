@@ -40,10 +40,10 @@ public class PagingMapper {
 
   public static <TSortCriterion> PagingConfiguration<TSortCriterion> toConfig(
       int pageSize, int pageNumber, TSortCriterion sortColumn, String sortOrder) {
-    return new PagingConfiguration<>(pageSize, pageNumber, sortColumn, getSortOrder(sortOrder));
+    return new PagingConfiguration<>(pageSize, pageNumber, sortColumn, toSortOrder(sortOrder));
   }
 
-  private static PagingConfiguration.SortOrder getSortOrder(String sortOrder) {
+  public static PagingConfiguration.SortOrder toSortOrder(String sortOrder) {
     if (sortOrder.equalsIgnoreCase("DESC")) {
       return PagingConfiguration.SortOrder.DESCENDING;
     }
@@ -89,6 +89,17 @@ public class QueryInputMapper {
         .build();
   }
 
+  /** Creates input data for loading a set of elements by ID, all on one page. */
+  public static GetElementsUseCase.InputData map(
+      UUID domainId, Collection<UUID> ids, Set<ElementType> elementTypes) {
+    return GetElementsUseCase.InputData.builder()
+        .ids(new QueryCondition<>(new HashSet<>(ids)))
+        .elementTypes(whereIn(elementTypes))
+        .domainId(whereEquals(domainId))
+        .pagingConfiguration(PagingMapper.toConfig(Math.max(ids.size(), 1), 0, "name", "asc"))
+        .build();
+  }
+
   public static QueryCatalogItemsUseCase.InputData map(
       UUID domainId,
       ElementType elementType,
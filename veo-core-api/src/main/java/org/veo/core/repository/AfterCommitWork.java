@@ -0,0 +1,42 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.core.repository;
+
+import java.util.UUID;
+
+import org.veo.core.entity.ElementType;
+
+/**
+ * Derived data that must be recalculated after a change has been committed. It is recorded in the
+ * same transaction as the change, so it can be recovered if the application terminates before the
+ * recalculation has been completed. Either an element or a unit is affected.
+ *
+ * @param domainId the affected domain, {@code null} if all domains may be affected
+ */
+public record AfterCommitWork(
+    UUID id, UUID clientId, UUID domainId, UUID unitId, UUID elementId, ElementType elementType) {
+
+  public static AfterCommitWork forElement(
+      UUID clientId, UUID domainId, UUID elementId, ElementType elementType) {
+    return new AfterCommitWork(UUID.randomUUID(), clientId, domainId, null, elementId, elementType);
+  }
+
+  public static AfterCommitWork forUnit(UUID clientId, UUID domainId, UUID unitId) {
+    return new AfterCommitWork(UUID.randomUUID(), clientId, domainId, unitId, null, null);
+  }
+}
@@ -0,0 +1,40 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.core.repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/** Records pending {@link AfterCommitWork} until it has been completed. */
+public interface AfterCommitWorkRepository {
+  /** Records the work in the current transaction, which must not be read-only. */
+  void add(AfterCommitWork work);
+
+  void remove(UUID id);
+
+  /** Finds work that has been recorded before the given point in time, oldest first. */
+  List<AfterCommitWork> findRecordedBefore(Instant time, int maxResults);
+
+  /**
+   * Locks the given work for the current transaction.
+   *
+   * @return {@code false} if the work has been completed or is locked by another transaction
+   */
+  boolean lock(UUID id);
+}
@@ -35,6 +35,13 @@ public interface CatalogItemRepository
     extends AbstractTemplateItemRepository<CatalogItem, DomainBase> {
   Set<CatalogItem> findAllByIdsFetchTailoringReferences(Collection<UUID> symIds, Domain domain);
 
+  /**
+   * Loads the given items together with all items that they reference directly or indirectly
+   * through tailoring references of any type. The tailoring references of all returned items are
+   * fetched, so the reference graph can be traversed without further queries.
+   */
+  Set<CatalogItem> findAllByIdsFetchReferencedItems(Collection<UUID> symIds, Domain domain);
+
   CatalogItem getByIdInDomain(UUID catalogItemId, Domain domain);
 
   Set<CatalogItem> findAllByDomain(Domain domain);
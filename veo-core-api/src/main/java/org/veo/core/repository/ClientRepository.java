@@ -51,4 +51,6 @@ public interface ClientRepository extends IdentifiableVersionedRepository<Client
 
   Set<Client> findAllActiveWhereDomainTemplateNotAppliedAndWithDomainTemplateOfName(
       UUID uuid, String name);
+
+  Set<UUID> findIdsByState(ClientState state);
 }
@@ -19,6 +19,7 @@ package org.veo.core.repository;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -39,6 +40,9 @@ public interface DomainRepository extends IdentifiableVersionedRepository<Domain
 
   Set<Domain> findAllActiveByClient(UUID clientId);
 
+  /** Reads the versions of the client's active domains by domain ID. */
+  Map<UUID, Long> findActiveVersionsByClient(UUID clientId);
+
   Set<Domain> findActiveDomainsWithProfilesAndRiskDefinitions(UUID clientId);
 
   Set<Domain> findActiveByIdsAndClientWithEntityTypeDefinitionsAndRiskDefinitions(
@@ -48,6 +52,12 @@ public interface DomainRepository extends IdentifiableVersionedRepository<Domain
 
   Domain getActiveById(UUID domainId, UUID clientId);
 
+  /**
+   * Locks the domain until the end of the current transaction, so that structural changes of the
+   * domain (e.g. updates to a new template) by concurrent transactions are serialized.
+   */
+  void lockForUpdate(UUID domainId);
+
   Domain getById(@NonNull UUID domainId, @NonNull UUID clientId);
 
   Set<Domain> getByIds(@NonNull Set<@NonNull UUID> domainIds, @NonNull UUID clientId);
@@ -75,4 +85,11 @@ public interface DomainRepository extends IdentifiableVersionedRepository<Domain
   }
 
   void deleteByClient(Client client);
+
+  /**
+   * Copies the catalog items of a domain template, and optionally its profiles, to a persisted
+   * domain using set-based statements. <b>This will clear the persistence context</b>, so all
+   * entity references will become stale.
+   */
+  void copyTemplateItems(UUID domainTemplateId, UUID domainId, boolean includeProfiles);
 }
@@ -32,7 +32,7 @@ import org.veo.core.entity.DomainTemplate;
  * <p>Implements basic CRUD operations from the superinterface and extends them with more specific
  * methods - i.e. queries based on particular fields.
  */
-public interface DomainTemplateRepository extends Repository<DomainTemplate> {
+public interface DomainTemplateRepository extends IdentifiableVersionedRepository<DomainTemplate> {
   List<DomainTemplate> findAll();
 
   List<UUID> getDomainTemplateIds(String name);
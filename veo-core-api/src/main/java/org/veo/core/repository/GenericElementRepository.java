@@ -38,8 +38,28 @@ public interface GenericElementRepository extends ElementQueryProvider<Element>
 
   void deleteAll(Collection<Element> entities);
 
+  /**
+   * Reads the numbers of elements per element type, sub type and status from the maintained
+   * counters, which does not depend on the number of elements in the unit.
+   */
   Set<SubTypeStatusCount> getCountsBySubType(Unit u, Domain domain);
 
+  /** Folds the count deltas recorded by the database into a single counter per key. */
+  void compactCountsBySubType();
+
+  /**
+   * Recalculates the counters of the given unit from its elements to repair any drift. This should
+   * only be done while the unit is not being modified.
+   */
+  void rebuildCountsBySubType(UUID unitId);
+
+  /**
+   * Reads a page of IDs of elements associated with the given domain, ordered by ID. Pass the last
+   * ID of the previous page as {@code afterId} to read the next page (or {@code null} for the first
+   * page).
+   */
+  List<UUID> findIdsByDomain(UUID domainId, UUID afterId, int limit);
+
   @Deprecated
   // TODO: will be removed with #3950
   default <T extends Element> T getById(UUID elementId, Class<T> elementType, Client client) {
@@ -69,15 +89,64 @@ public interface GenericElementRepository extends ElementQueryProvider<Element>
 
   GraphQuery queryGraph(UUID elementId, UUID domainId, ElementType elementType, int limit);
 
+  /**
+   * Traverses the custom links, parts and scope members of the elements in the given domain,
+   * starting at the given element.
+   *
+   * @param depth the maximum number of hops from the start element
+   * @param neighborLimit the maximum number of neighbors that are followed from each element
+   * @param limit the maximum number of nodes in the result and on each level of the traversal
+   * @param elementTypes only elements of these types are traversed (all types if empty)
+   * @param linkTypes only custom links of these types are traversed (all types if empty)
+   */
+  GraphTraversalQuery traverseGraph(
+      UUID elementId,
+      UUID domainId,
+      int depth,
+      int neighborLimit,
+      int limit,
+      Set<ElementType> elementTypes,
+      Set<String> linkTypes);
+
+  /**
+   * Queries the values of the risks of all risk-affected elements in the given domain that the user
+   * may read, with one result per risk definition and category.
+   */
+  RiskValueQuery queryRiskValues(UUID domainId, RiskValueFilter filter, UserAccessRights user);
+
   /**
    * Delete all elements in the given unit. <b>This will clear the persistence context</b>, so all
    * entity references will become stale.
    */
   void deleteByUnit(Unit unit);
 
+  /**
+   * Delete all elements in the given unit including their risks using set-based statements. Unlike
+   * {@link #deleteByUnit(Unit)}, this neither loads the elements nor publishes any events for them.
+   * Purging a unit that has no elements has no effect. <b>This will clear the persistence
+   * context</b>, so all entity references will become stale.
+   */
+  void purgeByUnit(UUID unitId);
+
+  default List<Object> findUsedAttributeValues(
+      UUID unitId,
+      UUID domainId,
+      Map<String, Set<String>> caKeysByType,
+      Map<String, Set<String>> linkKeysByType,
+      String attributeType,
+      int limit) {
+    return findUsedAttributeValues(
+        unitId, domainId, caKeysByType, linkKeysByType, attributeType, null, null, limit);
+  }
+
   /**
    * Reads the distinct attribute values already in use within a unit for the given custom aspect
    * and link attribute keys (grouped by custom aspect / link type).
+   *
+   * @param prefix only values whose text starts with this prefix (ignoring case) are returned, may
+   *     be {@code null}
+   * @param after the text of the last value of the previous page, or {@code null} for the first
+   *     page
    */
   List<Object> findUsedAttributeValues(
       UUID unitId,
@@ -85,5 +154,16 @@ public interface GenericElementRepository extends ElementQueryProvider<Element>
       Map<String, Set<String>> caKeysByType,
       Map<String, Set<String>> linkKeysByType,
       String attributeType,
+      String prefix,
+      String after,
       int limit);
+
+  /** Folds the attribute value usage deltas recorded by the database into one entry per value. */
+  void compactUsedAttributeValues();
+
+  /**
+   * Recalculates the attribute value usages of the given unit from its custom aspects and links to
+   * repair any drift. This should only be done while the unit is not being modified.
+   */
+  void rebuildUsedAttributeValues(UUID unitId);
 }
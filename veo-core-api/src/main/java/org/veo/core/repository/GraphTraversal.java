@@ -0,0 +1,41 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.core.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.veo.core.entity.ElementType;
+
+/**
+ * The neighborhood of an element up to a certain number of hops. Nodes only carry the fields that
+ * are needed for displaying them, edges may only connect nodes that are part of the result.
+ *
+ * @param totalCount the number of nodes that were reached before the node limit was applied to the
+ *     result. As the node limit also applies to each level of the traversal, this is not
+ *     necessarily the number of all nodes within reach.
+ */
+public record GraphTraversal(List<Node> nodes, List<Edge> edges, long totalCount) {
+
+  /**
+   * @param depth the minimum number of hops from the start element
+   */
+  public record Node(UUID id, ElementType type, String displayName, String subType, int depth) {}
+
+  public record Edge(String relationType, UUID sourceId, UUID targetId, String linkType) {}
+}
@@ -0,0 +1,29 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.core.repository;
+
+import java.util.List;
+
+/**
+ * A page of results from a repository query that is continued from the last item of the previous
+ * page instead of skipping a number of items.
+ *
+ * @param nextCursor opaque token for reading the next page, {@code null} if this is the last page
+ * @param totalResults the total number of results, {@code null} if they have not been counted
+ */
+public record KeysetPage<T>(List<T> resultPage, String nextCursor, Long totalResults) {}
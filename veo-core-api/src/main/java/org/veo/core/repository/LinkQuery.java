@@ -26,6 +26,20 @@ import java.util.stream.Collectors;
 import org.veo.core.entity.InOrOutboundLink;
 
 public interface LinkQuery extends Query<InOrOutboundLink, LinkQuery.SortCriterion> {
+
+  /**
+   * Reads the page of links following the given cursor.
+   *
+   * @param cursor the cursor returned with the previous page or {@code null} for the first page
+   * @param countTotal whether the total number of links should be counted
+   * @throws IllegalArgumentException if the cursor is malformed
+   */
+  KeysetPage<InOrOutboundLink> executeAfter(
+      int pageSize,
+      SortCriterion sortColumn,
+      PagingConfiguration.SortOrder sortOrder,
+      String cursor,
+      boolean countTotal);
   enum SortCriterion {
     DIRECTION,
     LINKED_ELEMENT_ABBREVIATION,
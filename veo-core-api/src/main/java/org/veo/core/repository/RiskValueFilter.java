@@ -0,0 +1,35 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.core.repository;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Restricts the risk values read by a {@link RiskValueQuery}. Conditions that are {@code null} or
+ * empty are ignored.
+ *
+ * @param inherentRisks the accepted inherent risk levels
+ * @param residualRisks the accepted residual risk levels
+ */
+public record RiskValueFilter(
+    UUID unitId,
+    String riskDefinitionId,
+    String category,
+    Set<Integer> inherentRisks,
+    Set<Integer> residualRisks) {}
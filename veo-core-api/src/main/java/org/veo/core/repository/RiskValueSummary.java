@@ -0,0 +1,47 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.core.repository;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import org.veo.core.entity.ElementType;
+
+/**
+ * The values of a risk for one category of a risk definition, together with the elements the risk
+ * refers to. Risks without values in the domain are omitted.
+ *
+ * @param probability the effective probability of the risk definition
+ * @param impact the effective impact in the category
+ * @param residualRisk the user-defined residual risk, or the inherent risk if there is none
+ */
+public record RiskValueSummary(
+    String designator,
+    ElementSummary riskAffected,
+    ElementSummary scenario,
+    ElementSummary mitigation,
+    ElementSummary riskOwner,
+    String riskDefinitionId,
+    String category,
+    BigDecimal probability,
+    BigDecimal impact,
+    BigDecimal inherentRisk,
+    BigDecimal residualRisk) {
+
+  public record ElementSummary(UUID id, ElementType type, String designator, String name) {}
+}
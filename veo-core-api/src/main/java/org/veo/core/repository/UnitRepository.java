@@ -58,4 +58,10 @@ public interface UnitRepository extends IdentifiableVersionedRepository<Unit> {
   List<Unit> findByUser(UserAccessRights user);
 
   Long count();
+
+  /**
+   * Deletes all units of the given client using set-based statements. The elements in these units
+   * must have been removed beforehand.
+   */
+  void deleteByClient(UUID clientId);
 }
@@ -0,0 +1,78 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.core.usecase;
+
+import java.util.UUID;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+import org.veo.core.UserAccessRights;
+import org.veo.core.entity.Domain;
+import org.veo.core.entity.Element;
+import org.veo.core.entity.InOrOutboundLink;
+import org.veo.core.entity.exception.NotFoundException;
+import org.veo.core.repository.DomainRepository;
+import org.veo.core.repository.GenericElementRepository;
+import org.veo.core.repository.KeysetPage;
+import org.veo.core.repository.LinkQuery;
+import org.veo.core.repository.PagingConfiguration;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reads the links of an element page by page, continuing each page from the cursor of the previous
+ * one. Counting all links is optional, so large link sets can be listed without a full count.
+ */
+@RequiredArgsConstructor
+public class GetLinksByElementKeysetUseCase
+    implements TransactionalUseCase<
+        GetLinksByElementKeysetUseCase.InputData, GetLinksByElementKeysetUseCase.OutputData> {
+
+  private final DomainRepository domainRepository;
+  private final GenericElementRepository elementRepository;
+
+  @Override
+  public OutputData execute(InputData input, UserAccessRights userAccessRights) {
+    var domain = domainRepository.getById(input.domainId, userAccessRights.getClientId());
+    var element = elementRepository.getById(input.elementId, Element.class, userAccessRights);
+    if (!element.isAssociatedWithDomain(domain)) {
+      throw NotFoundException.elementNotAssociatedWithDomain(element, domain.getIdAsString());
+    }
+    return new OutputData(
+        elementRepository
+            .queryLinks(element, domain)
+            .executeAfter(
+                input.pageSize, input.sortColumn, input.sortOrder, input.cursor, input.countTotal),
+        domain);
+  }
+
+  @Valid
+  public record InputData(
+      @NotNull UUID elementId,
+      @NotNull UUID domainId,
+      int pageSize,
+      @NotNull LinkQuery.SortCriterion sortColumn,
+      @NotNull PagingConfiguration.SortOrder sortOrder,
+      String cursor,
+      boolean countTotal)
+      implements UseCase.InputData {}
+
+  public record OutputData(@Valid KeysetPage<InOrOutboundLink> page, Domain domain)
+      implements UseCase.OutputData {}
+}
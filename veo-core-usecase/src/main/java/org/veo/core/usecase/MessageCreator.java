@@ -17,6 +17,8 @@
  */
 package org.veo.core.usecase;
 
+import java.util.Collection;
+
 import org.veo.core.entity.ClientOwned;
 import org.veo.core.entity.Domain;
 import org.veo.core.entity.ElementType;
@@ -32,6 +34,13 @@ public interface MessageCreator {
   <T extends Versioned & ClientOwned> void createEntityRevisionMessage(
       ClientOwnedEntityVersioningEvent<T> event);
 
+  /**
+   * Creates entity revision messages for many events at once, so they can be inserted into the
+   * outbox in batches.
+   */
+  <T extends Versioned & ClientOwned> void createEntityRevisionMessages(
+      Collection<ClientOwnedEntityVersioningEvent<T>> events);
+
   void createDomainCreationMessage(Domain domain);
 
   void createElementTypeDefinitionUpdateMessage(Domain domain, ElementType entityType);
@@ -60,12 +60,16 @@ public class AttributeValidator {
       return List.of(ValidationError.localized("error_attribute_not_defined", attrKey));
     }
 
+    var errors = attrDefinition.getErrors(attrValue);
+    if (errors.isEmpty()) {
+      return List.of();
+    }
     return ValidationError.mergeIfAny(
         ValidationError.localized(
             "error_invalid_attribute_value",
             List.of(
                 (_) -> attrValue,
                 l -> translations.getOrDefault(l, Map.of()).getOrDefault(attrKey, attrKey))),
-        attrDefinition.getErrors(attrValue));
+        errors);
   }
 }
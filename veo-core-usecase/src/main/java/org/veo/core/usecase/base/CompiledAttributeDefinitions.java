@@ -0,0 +1,89 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.core.usecase.base;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.veo.core.entity.ValidationError;
+import org.veo.core.entity.definitions.attribute.AttributeDefinition;
+import org.veo.core.entity.definitions.attribute.EnumAttributeDefinition;
+import org.veo.core.entity.definitions.attribute.ListAttributeDefinition;
+
+/**
+ * Attribute definitions prepared for validating many attribute maps. Allowed values of enum
+ * attributes (and of enum lists) are resolved into sets up front, so valid attributes are checked
+ * without creating any validation errors. Only if an attribute is invalid, the errors are created
+ * by {@link AttributeValidator}.
+ */
+public final class CompiledAttributeDefinitions {
+  private final Map<String, AttributeDefinition> definitions;
+  private final Map<Locale, Map<String, String>> translations;
+  private final Map<String, Set<String>> enumValues = new HashMap<>();
+  private final Map<String, Set<String>> enumListValues = new HashMap<>();
+
+  public CompiledAttributeDefinitions(
+      Map<String, AttributeDefinition> definitions,
+      Map<Locale, Map<String, String>> translations) {
+    this.definitions = definitions;
+    this.translations = translations;
+    definitions.forEach(
+        (key, definition) -> {
+          if (definition instanceof EnumAttributeDefinition enumDefinition) {
+            enumValues.put(key, new HashSet<>(enumDefinition.getAllowedValues()));
+          } else if (definition instanceof ListAttributeDefinition listDefinition
+              && listDefinition.getItemDefinition() instanceof EnumAttributeDefinition enumItems) {
+            enumListValues.put(key, new HashSet<>(enumItems.getAllowedValues()));
+          }
+        });
+  }
+
+  public List<ValidationError> getErrors(Map<String, Object> attributes) {
+    for (var attribute : attributes.entrySet()) {
+      if (!isValid(attribute.getKey(), attribute.getValue())) {
+        return AttributeValidator.getErrors(attributes, definitions, translations);
+      }
+    }
+    return List.of();
+  }
+
+  private boolean isValid(String key, Object value) {
+    var allowedValues = enumValues.get(key);
+    if (allowedValues != null) {
+      return value instanceof String && allowedValues.contains(value);
+    }
+    var allowedItems = enumListValues.get(key);
+    if (allowedItems != null) {
+      if (!(value instanceof List<?> items)) {
+        return false;
+      }
+      for (var item : items) {
+        if (!(item instanceof String) || !allowedItems.contains(item)) {
+          return false;
+        }
+      }
+      return true;
+    }
+    var definition = definitions.get(key);
+    return definition != null && definition.getErrors(value).isEmpty();
+  }
+}
@@ -0,0 +1,160 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.core.usecase.base;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.veo.core.entity.Domain;
+import org.veo.core.entity.ElementType;
+import org.veo.core.entity.definitions.ElementTypeDefinition;
+import org.veo.core.entity.definitions.LinkDefinition;
+
+/**
+ * Compiles the validation rules of a domain's element type definition on first use and reuses them
+ * for any further elements of that type. Element type definitions are mutable, so an instance
+ * should only be used for a batch of elements within one operation (e.g. an import or a domain
+ * migration) and must not be cached beyond that.
+ *
+ * <p>Validations of single elements use the {@link #shared()} instance instead, which caches the
+ * compiled definitions by domain ID and version. Updating an element type definition increments
+ * the version of its domain, so the shared instance must not be used for domains with unsaved
+ * changes to their element type definitions.
+ */
+public final class CompiledDomainDefinitions {
+  private static final int SHARED_CAPACITY = 500;
+  private static final CompiledDomainDefinitions SHARED = new CompiledDomainDefinitions(true);
+
+  private final Map<Domain, Map<ElementType, CompiledElementTypeDefinition>> definitions =
+      new HashMap<>();
+  private final Map<SharedKey, CompiledElementTypeDefinition> sharedDefinitions;
+
+  public CompiledDomainDefinitions() {
+    this(false);
+  }
+
+  private CompiledDomainDefinitions(boolean shared) {
+    sharedDefinitions =
+        shared
+            ? Collections.synchronizedMap(
+                new LinkedHashMap<>(16, 0.75f, true) {
+                  @Override
+                  protected boolean removeEldestEntry(
+                      Map.Entry<SharedKey, CompiledElementTypeDefinition> eldest) {
+                    return size() > SHARED_CAPACITY;
+                  }
+                })
+            : null;
+  }
+
+  /** Returns the instance that is shared by all single element validations. */
+  public static CompiledDomainDefinitions shared() {
+    return SHARED;
+  }
+
+  CompiledElementTypeDefinition get(Domain domain, ElementType elementType) {
+    if (sharedDefinitions != null) {
+      if (domain.getId() == null) {
+        return compile(domain, elementType);
+      }
+      // the least recently used definitions are evicted when the capacity is exceeded
+      var key = new SharedKey(domain.getId(), domain.getVersion(), elementType);
+      var compiled = sharedDefinitions.get(key);
+      if (compiled == null) {
+        compiled = compile(domain, elementType);
+        sharedDefinitions.put(key, compiled);
+      }
+      return compiled;
+    }
+    return definitions
+        .computeIfAbsent(domain, _ -> new EnumMap<>(ElementType.class))
+        .computeIfAbsent(elementType, type -> compile(domain, type));
+  }
+
+  private static CompiledElementTypeDefinition compile(Domain domain, ElementType elementType) {
+    return new CompiledElementTypeDefinition(domain.getElementTypeDefinition(elementType));
+  }
+
+  private record SharedKey(UUID domainId, long domainVersion, ElementType elementType) {}
+
+  static final class CompiledElementTypeDefinition {
+    final ElementTypeDefinition definition;
+    private final Map<String, CompiledAttributeDefinitions> customAspects = new HashMap<>();
+    private final Map<String, CompiledAttributeDefinitions> linkAttributes = new HashMap<>();
+    private final Map<String, CompiledAttributeDefinitions> controlImplementationCustomAspects =
+        new HashMap<>();
+
+    private CompiledElementTypeDefinition(ElementTypeDefinition definition) {
+      this.definition = definition;
+      var translations = definition.getTranslations();
+      definition
+          .getCustomAspects()
+          .forEach(
+              (type, caDefinition) ->
+                  customAspects.put(
+                      type,
+                      new CompiledAttributeDefinitions(
+                          caDefinition.getAttributeDefinitions(), translations)));
+      definition
+          .getLinks()
+          .forEach(
+              (type, linkDefinition) ->
+                  linkAttributes.put(
+                      type,
+                      new CompiledAttributeDefinitions(
+                          linkDefinition.getAttributeDefinitions(), translations)));
+      var ciDefinition = definition.getControlImplementationDefinition();
+      if (ciDefinition != null) {
+        ciDefinition
+            .getCustomAspects()
+            .forEach(
+                (type, caDefinition) ->
+                    controlImplementationCustomAspects.put(
+                        type,
+                        new CompiledAttributeDefinitions(
+                            caDefinition.getAttributeDefinitions(),
+                            ciDefinition.getTranslations())));
+      }
+    }
+
+    CompiledAttributeDefinitions getCustomAspect(String caType) {
+      var compiled = customAspects.get(caType);
+      if (compiled == null) {
+        // throws the usual exception for undefined custom aspects
+        definition.getCustomAspectDefinition(caType);
+      }
+      return compiled;
+    }
+
+    LinkDefinition getLink(String linkType) {
+      return definition.getLinks().get(linkType);
+    }
+
+    CompiledAttributeDefinitions getLinkAttributes(String linkType) {
+      return linkAttributes.get(linkType);
+    }
+
+    CompiledAttributeDefinitions getControlImplementationCustomAspect(String caType) {
+      return controlImplementationCustomAspects.get(caType);
+    }
+  }
+}
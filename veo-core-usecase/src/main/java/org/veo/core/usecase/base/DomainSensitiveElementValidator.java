@@ -33,7 +33,6 @@ import org.veo.core.entity.RiskAffected;
 import org.veo.core.entity.Scenario;
 import org.veo.core.entity.ValidationError;
 import org.veo.core.entity.condition.CustomAspectAttributeValueExpression;
-import org.veo.core.entity.definitions.ElementTypeDefinition;
 import org.veo.core.entity.definitions.LinkDefinition;
 import org.veo.core.entity.domainmigration.CustomAspectAttribute;
 import org.veo.core.entity.domainmigration.DomainMigrationStep;
@@ -43,6 +42,7 @@ import org.veo.core.entity.risk.DomainRiskReferenceProvider;
 import org.veo.core.entity.specification.ElementDomainsAreSubsetOfUnitDomains;
 import org.veo.core.entity.specification.ElementOnlyReferencesAssociatedDomains;
 import org.veo.core.entity.specification.ElementOnlyReferencesItsOwnUnitSpecification;
+import org.veo.core.usecase.base.CompiledDomainDefinitions.CompiledElementTypeDefinition;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -52,9 +52,24 @@ import lombok.extern.slf4j.Slf4j;
 /** Validates elements considering domain-specific rules (e.g. element type definitions). */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class DomainSensitiveElementValidator {
+  private static final ElementOnlyReferencesItsOwnUnitSpecification OWN_UNIT_REFERENCES =
+      new ElementOnlyReferencesItsOwnUnitSpecification();
+  private static final ElementDomainsAreSubsetOfUnitDomains UNIT_DOMAINS =
+      new ElementDomainsAreSubsetOfUnitDomains();
+  private static final ElementOnlyReferencesAssociatedDomains ASSOCIATED_DOMAIN_REFERENCES =
+      new ElementOnlyReferencesAssociatedDomains();
 
   public static boolean isValid(Element element, Domain domain) {
-    var errors = getErrors(element, domain);
+    return isValid(element, domain, new CompiledDomainDefinitions());
+  }
+
+  /**
+   * Checks the element using the given compiled definitions, which should be reused for all
+   * elements of a batch.
+   */
+  public static boolean isValid(
+      Element element, Domain domain, CompiledDomainDefinitions definitions) {
+    var errors = getErrors(element, domain, definitions);
     if (!errors.isEmpty()) {
       log.warn(
           "element {} ({}) is invalid: {}", element.getName(), element.getIdAsString(), errors);
@@ -64,14 +79,22 @@ public class DomainSensitiveElementValidator {
   }
 
   public static void validate(Element element) {
-    if (!new ElementOnlyReferencesItsOwnUnitSpecification().test(element)) {
+    validate(element, CompiledDomainDefinitions.shared());
+  }
+
+  /**
+   * Validates the element using the given compiled definitions, which should be reused for all
+   * elements of a batch.
+   */
+  public static void validate(Element element, CompiledDomainDefinitions definitions) {
+    if (!OWN_UNIT_REFERENCES.test(element)) {
       throw new CrossUnitReferenceException();
     }
-    if (!new ElementDomainsAreSubsetOfUnitDomains().test(element)) {
+    if (!UNIT_DOMAINS.test(element)) {
       throw new UnprocessableDataException(
           "Element can only be associated with its unit's domains");
     }
-    if (!new ElementOnlyReferencesAssociatedDomains().test(element)) {
+    if (!ASSOCIATED_DOMAIN_REFERENCES.test(element)) {
       throw new IllegalArgumentException(
           "Element cannot contain custom aspects or links for domains it is not associated with");
     }
@@ -84,7 +107,7 @@ public class DomainSensitiveElementValidator {
         .getDomains()
         .forEach(
             domain -> {
-              validate(element, domain);
+              ValidationError.throwOnErrors(getErrors(element, domain, definitions));
             });
   }
 
@@ -147,27 +170,30 @@ public class DomainSensitiveElementValidator {
   }
 
   public static List<ValidationError> getErrors(Element element, Domain domain) {
+    return getErrors(element, domain, new CompiledDomainDefinitions());
+  }
+
+  public static List<ValidationError> getErrors(
+      Element element, Domain domain, CompiledDomainDefinitions definitions) {
     var errors = new ArrayList<ValidationError>();
-    errors.addAll(
-        element.getCustomAspects(domain).stream()
-            .flatMap(ca -> getCustomAspectErrors(element, ca).stream())
-            .toList());
-    errors.addAll(
-        element.getLinks(domain).stream()
-            .flatMap(
-                link ->
-                    getLinkErrors(
-                        link.getType(),
-                        element,
-                        link.getTarget(),
-                        link.getAttributes(),
-                        link.getDomain())
-                        .stream())
-            .toList());
+    for (var ca : element.getCustomAspects(domain)) {
+      errors.addAll(getCustomAspectErrors(element, ca, definitions));
+    }
+    for (var link : element.getLinks(domain)) {
+      errors.addAll(
+          getLinkErrors(
+              link.getType(),
+              element,
+              link.getTarget(),
+              link.getAttributes(),
+              link.getDomain(),
+              definitions));
+    }
 
+    var typeDefinition = definitions.get(domain, element.getType());
     errors.addAll(
         SubTypeValidator.getErrors(
-            domain,
+            typeDefinition.definition,
             element.findSubType(domain).orElse(null),
             element.findStatus(domain).orElse(null),
             element.getType()));
@@ -189,7 +215,8 @@ public class DomainSensitiveElementValidator {
       errors.addAll(
           RiskValuesValidator.getImpactValueErrors(
               riskAffected.getImpactValues(domain), riskRefProvider));
-      errors.addAll(getControlImplementationCustomAspectErrors(riskAffected, domain));
+      errors.addAll(
+          getControlImplementationCustomAspectErrors(riskAffected, domain, typeDefinition));
     }
     if (element instanceof Scenario scenario) {
       errors.addAll(
@@ -204,14 +231,17 @@ public class DomainSensitiveElementValidator {
     ValidationError.throwOnErrors(getLinkTargetTypeErrors(linkType, targetType, linkDefinition));
   }
 
-  private static List<ValidationError> getCustomAspectErrors(Element element, CustomAspect ca) {
-    var etd = ca.getDomain().getElementTypeDefinition(element.getType());
-    var caDefinition = etd.getCustomAspectDefinition(ca.getType());
+  private static List<ValidationError> getCustomAspectErrors(
+      Element element, CustomAspect ca, CompiledDomainDefinitions definitions) {
+    var typeDefinition = definitions.get(ca.getDomain(), element.getType());
     // TODO #919 include translated CA name in the error message
-    var errors =
-        new ArrayList<>(
-            AttributeValidator.getErrors(
-                ca.getAttributes(), caDefinition.getAttributeDefinitions(), etd.getTranslations()));
+    var attributeErrors =
+        typeDefinition.getCustomAspect(ca.getType()).getErrors(ca.getAttributes());
+    if (element.getDomains().size() < 2) {
+      return attributeErrors;
+    }
+    var errors = new ArrayList<>(attributeErrors);
+    var caDefinition = typeDefinition.definition.getCustomAspectDefinition(ca.getType());
     var conflictingDomains =
         element.getDomains().stream()
             .filter(d -> !d.equals(ca.getDomain()))
@@ -241,24 +271,31 @@ public class DomainSensitiveElementValidator {
       Element source,
       Element target,
       Map<String, Object> attributes,
-      Domain domain) {
+      Domain domain,
+      CompiledDomainDefinitions definitions) {
     ElementType modelType = source.getType();
-    ElementTypeDefinition etd = domain.getElementTypeDefinition(modelType);
-    var linkDefinition = etd.getLinks().get(linkType);
+    var typeDefinition = definitions.get(domain, modelType);
+    var linkDefinition = typeDefinition.getLink(linkType);
     if (linkDefinition == null) {
       return List.of(
           ValidationError.localized(
               "error_link_type_not_defined", linkType, modelType.getSingularTerm()));
     }
+    var targetTypeErrors = getLinkTargetTypeErrors(linkType, target.getType(), linkDefinition);
+    var targetSubTypeErrors = getLinkTargetSubTypeErrors(linkType, target, domain, linkDefinition);
+    var attributeErrors = typeDefinition.getLinkAttributes(linkType).getErrors(attributes);
+    if (targetTypeErrors.isEmpty() && targetSubTypeErrors.isEmpty() && attributeErrors.isEmpty()) {
+      return List.of();
+    }
+    var etd = typeDefinition.definition;
     var errors = new ArrayList<ValidationError>();
-    errors.addAll(getLinkTargetTypeErrors(linkType, target.getType(), linkDefinition));
-    errors.addAll(getLinkTargetSubTypeErrors(linkType, target, domain, linkDefinition));
+    errors.addAll(targetTypeErrors);
+    errors.addAll(targetSubTypeErrors);
     errors.addAll(
         ValidationError.mergeIfAny(
             ValidationError.localized(
                 "error_invalid_link_attributes", List.of(l -> etd.findTranslation(l, linkType))),
-            AttributeValidator.getErrors(
-                attributes, linkDefinition.getAttributeDefinitions(), etd.getTranslations())));
+            attributeErrors));
     return errors;
   }
 
@@ -269,7 +306,7 @@ public class DomainSensitiveElementValidator {
           ValidationError.localized(
               "error_invalid_link_target_type", targetType.getSingularTerm(), linkType));
     }
-    return new ArrayList<>();
+    return List.of();
   }
 
   private static List<ValidationError> getLinkTargetSubTypeErrors(
@@ -284,15 +321,16 @@ public class DomainSensitiveElementValidator {
               linkDefinition.getTargetSubType(),
               targetSubType));
     }
-    return new ArrayList<>();
+    return List.of();
   }
 
   private static List<ValidationError> getControlImplementationCustomAspectErrors(
-      RiskAffected<?, ?> riskAffected, Domain domain) {
-    var ciDef =
-        domain
-            .getElementTypeDefinition(riskAffected.getType())
-            .getControlImplementationDefinition();
+      RiskAffected<?, ?> riskAffected,
+      Domain domain,
+      CompiledElementTypeDefinition typeDefinition) {
+    if (riskAffected.getControlImplementations().isEmpty()) {
+      return List.of();
+    }
     return riskAffected.getControlImplementations().stream()
         .map(
             ci -> {
@@ -311,18 +349,16 @@ public class DomainSensitiveElementValidator {
                       entry -> {
                         String caType = entry.getKey();
                         Map<String, Object> attributes = entry.getValue();
-                        if (ciDef == null || !ciDef.getCustomAspects().containsKey(caType)) {
+                        var caDefinition =
+                            typeDefinition.getControlImplementationCustomAspect(caType);
+                        if (caDefinition == null) {
                           return List.of(
                               ValidationError.localized(
                                   "error_ci_custom_aspect_not_defined",
                                   caType,
                                   riskAffected.getType().getSingularTerm()));
                         }
-                        var caDefinition = ciDef.getCustomAspects().get(caType);
-                        return AttributeValidator.getErrors(
-                            attributes,
-                            caDefinition.getAttributeDefinitions(),
-                            ciDef.getTranslations());
+                        return caDefinition.getErrors(attributes);
                       })
                   .flatMap(Collection::stream)
                   .toList();
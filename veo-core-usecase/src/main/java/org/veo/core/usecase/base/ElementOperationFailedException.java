@@ -0,0 +1,43 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.core.usecase.base;
+
+import lombok.Getter;
+
+/**
+ * Thrown when a single operation of a batch fails after a persistent element has already been
+ * modified. The surrounding transaction must be rolled back, but the remaining operations of the
+ * batch may be applied again without the failed one.
+ */
+@Getter
+public class ElementOperationFailedException extends RuntimeException {
+  private static final long serialVersionUID = 4210183578356209147L;
+
+  /** Position of the failed operation in the batch */
+  private final int index;
+
+  public ElementOperationFailedException(int index, RuntimeException cause) {
+    super(cause.getMessage(), cause);
+    this.index = index;
+  }
+
+  @Override
+  public synchronized RuntimeException getCause() {
+    return (RuntimeException) super.getCause();
+  }
+}
@@ -86,6 +86,7 @@ public class GetElementsUseCase
   protected void applyDefaultQueryParameters(
       InputData input, ElementQuery<?> query, Client client, UserAccessRights userAccessRights) {
 
+    Optional.ofNullable(input.ids).ifPresent(query::whereIdIn);
     Optional.ofNullable(input.elementTypes).ifPresent(query::whereElementTypeMatches);
     // TODO: verinice-veo#3950
     if (userAccessRights.isUnitAccessRestricted()) {
@@ -153,6 +154,7 @@ public class GetElementsUseCase
   @Builder
   @With
   public record InputData(
+      QueryCondition<UUID> ids,
       QueryCondition<ElementType> elementTypes,
       QueryCondition<UUID> unitUuid,
       SingleValueQueryCondition<UUID> domainId,
@@ -0,0 +1,360 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.core.usecase.base;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import jakarta.validation.Valid;
+
+import org.veo.core.UserAccessRights;
+import org.veo.core.entity.Asset;
+import org.veo.core.entity.Client;
+import org.veo.core.entity.Designated;
+import org.veo.core.entity.Domain;
+import org.veo.core.entity.Element;
+import org.veo.core.entity.ElementType;
+import org.veo.core.entity.Process;
+import org.veo.core.entity.Scenario;
+import org.veo.core.entity.Scope;
+import org.veo.core.entity.event.RiskAffectingElementChangeEvent;
+import org.veo.core.entity.exception.NotFoundException;
+import org.veo.core.entity.exception.ReferenceTargetNotFoundException;
+import org.veo.core.entity.specification.ClientBoundaryViolationException;
+import org.veo.core.entity.state.ElementState;
+import org.veo.core.entity.transform.IdentifiableFactory;
+import org.veo.core.repository.GenericElementRepository;
+import org.veo.core.repository.RepositoryProvider;
+import org.veo.core.service.EventPublisher;
+import org.veo.core.usecase.DesignatorService;
+import org.veo.core.usecase.RetryableUseCase;
+import org.veo.core.usecase.TransactionalUseCase;
+import org.veo.core.usecase.UseCase;
+import org.veo.core.usecase.common.ETag;
+import org.veo.core.usecase.decision.Decider;
+import org.veo.core.usecase.service.DbIdRefResolver;
+import org.veo.core.usecase.service.EntityStateMapper;
+import org.veo.core.usecase.service.RefResolverFactory;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Creates and updates a batch of elements from the viewpoint of a domain in a single transaction.
+ * Stored elements, owners and scopes are fetched in batches, designators are assigned in one go and
+ * all elements are saved together.
+ *
+ * <p>Operations that are rejected before any persistent element has been modified (e.g. missing
+ * element, insufficient permissions, outdated ETag, invalid new element) are reported in the
+ * output and the remaining operations are still applied. If an update fails after the stored
+ * element has been modified, an {@link ElementOperationFailedException} is thrown and the
+ * transaction must be rolled back.
+ *
+ * <p>Like {@link CreateElementUseCase}, this runs serializable and is retried on conflicts with
+ * concurrent transactions (e.g. when assigning designators).
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class SaveElementsInDomainUseCase
+    implements TransactionalUseCase<
+            SaveElementsInDomainUseCase.InputData, SaveElementsInDomainUseCase.OutputData>,
+        RetryableUseCase {
+  private final RefResolverFactory refResolverFactory;
+  private final RepositoryProvider repositoryProvider;
+  private final GenericElementRepository genericElementRepository;
+  private final DesignatorService designatorService;
+  private final EventPublisher eventPublisher;
+  private final IdentifiableFactory identifiableFactory;
+  private final EntityStateMapper entityStateMapper;
+  private final Decider decider;
+
+  @Override
+  public OutputData execute(InputData input, UserAccessRights userAccessRights) {
+    var client =
+        repositoryProvider
+            .getRepositoryFor(Client.class)
+            .findById(userAccessRights.getClientId())
+            .orElseThrow();
+    var idRefResolver = refResolverFactory.db(client);
+    var domain = idRefResolver.resolve(input.domainId, Domain.class);
+    var storedElements = fetchStoredElements(input.operations, userAccessRights);
+    var scopes = fetchScopes(input.operations);
+    prefetchOwners(input.operations, idRefResolver);
+    var definitions = new CompiledDomainDefinitions();
+
+    var failures = new ArrayList<Result>();
+    var created = new ArrayList<Applied>();
+    var updated = new ArrayList<Applied>();
+    var updatedIds = new HashSet<UUID>();
+    for (var operation : input.operations) {
+      try {
+        if (operation.isCreate()) {
+          created.add(
+              new Applied(
+                  operation,
+                  create(
+                      operation, scopes, client, idRefResolver, userAccessRights, definitions)));
+        } else {
+          if (!updatedIds.add(operation.id)) {
+            throw new IllegalArgumentException(
+                "Element %s is updated more than once".formatted(operation.id));
+          }
+          updated.add(
+              new Applied(
+                  operation,
+                  update(
+                      operation,
+                      storedElements,
+                      domain,
+                      idRefResolver,
+                      userAccessRights,
+                      definitions)));
+        }
+      } catch (ElementOperationFailedException ex) {
+        throw ex;
+      } catch (RuntimeException ex) {
+        log.debug("Operation {} rejected", operation.index, ex);
+        failures.add(new Result(operation.index, null, false, ex));
+      }
+    }
+
+    designatorService.assignDesignators(
+        created.stream().map(a -> (Designated) a.element).toList(), client);
+    var saved = Stream.concat(created.stream(), updated.stream()).map(Applied::element).toList();
+    genericElementRepository.saveAll(saved);
+    // add scope memberships after the new elements have been persisted
+    created.forEach(
+        a ->
+            a.operation.scopeIds.stream()
+                .map(scopes::get)
+                .filter(Objects::nonNull)
+                .forEach(scope -> scope.addMember(a.element)));
+    publishEvents(created, updated, domain);
+
+    // re-fetch elements to make sure they are returned with updated versioning information
+    var refetched = fetchByIds(saved, userAccessRights);
+    var results = new ArrayList<>(failures);
+    created.forEach(a -> results.add(a.toResult(refetched, true)));
+    updated.forEach(a -> results.add(a.toResult(refetched, false)));
+    results.sort(Comparator.comparingInt(Result::index));
+    log.info(
+        "{} elements created, {} updated, {} operations rejected in domain {}",
+        created.size(),
+        updated.size(),
+        failures.size(),
+        domain.getIdAsString());
+    return new OutputData(results);
+  }
+
+  private Element create(
+      Operation operation,
+      Map<UUID, Scope> scopes,
+      Client client,
+      DbIdRefResolver idRefResolver,
+      UserAccessRights userAccessRights,
+      CompiledDomainDefinitions definitions) {
+    var state = operation.element;
+    userAccessRights.checkCreateElementWriteAccess(state);
+    operation.scopeIds.stream()
+        .map(scopes::get)
+        .filter(Objects::nonNull)
+        .forEach(scope -> scope.checkSameClient(client));
+    var entity = identifiableFactory.create(state.getModelInterface());
+    // the new element is transient, so a failure here leaves no trace in the persistence context
+    entityStateMapper.mapState(state, entity, false, false, idRefResolver);
+    DomainSensitiveElementValidator.validate(entity, definitions);
+    entity.getDomains().forEach(d -> decider.decide(entity, d));
+    return entity;
+  }
+
+  private Element update(
+      Operation operation,
+      Map<UUID, Element> storedElements,
+      Domain domain,
+      DbIdRefResolver idRefResolver,
+      UserAccessRights userAccessRights,
+      CompiledDomainDefinitions definitions) {
+    var storedElement = storedElements.get(operation.id);
+    if (storedElement == null
+        || !storedElement.getModelInterface().equals(operation.element.getModelInterface())) {
+      throw new NotFoundException(operation.id, operation.element.getModelInterface());
+    }
+    userAccessRights.checkElementWriteAccess(storedElement);
+    if (!storedElement.isAssociatedWithDomain(domain)) {
+      throw NotFoundException.elementNotAssociatedWithDomain(
+          storedElement, domain.getIdAsString());
+    }
+    ETag.validate(operation.eTag, storedElement);
+    try {
+      entityStateMapper.mapState(operation.element, storedElement, false, true, idRefResolver);
+      storedElement.setUpdatedAt(Instant.now());
+      decider.decide(storedElement, domain);
+      DomainSensitiveElementValidator.validate(storedElement, definitions);
+    } catch (RuntimeException ex) {
+      throw new ElementOperationFailedException(operation.index, ex);
+    }
+    return storedElement;
+  }
+
+  private Map<UUID, Element> fetchStoredElements(
+      List<Operation> operations, UserAccessRights userAccessRights) {
+    var idsByType =
+        operations.stream()
+            .filter(o -> !o.isCreate())
+            .collect(groupingBy(Operation::type, mapping(Operation::id, toSet())));
+    var result = new HashMap<UUID, Element>();
+    idsByType.forEach(
+        (type, ids) ->
+            repositoryProvider
+                .getElementRepositoryFor(type.getType())
+                .findByIds(ids, userAccessRights)
+                .forEach(e -> result.put(e.getId(), e)));
+    return result;
+  }
+
+  private Map<UUID, Scope> fetchScopes(List<Operation> operations) {
+    var scopeIds =
+        operations.stream()
+            .filter(Operation::isCreate)
+            .flatMap(o -> o.scopeIds.stream())
+            .collect(toSet());
+    if (scopeIds.isEmpty()) {
+      return Map.of();
+    }
+    return repositoryProvider.getElementRepositoryFor(Scope.class).findByIds(scopeIds).stream()
+        .collect(toMap(Scope::getId, Function.identity()));
+  }
+
+  /**
+   * Loads all referenced units into the resolver's cache with a single query. Invalid references
+   * are left for the individual operations to report.
+   */
+  private void prefetchOwners(List<Operation> operations, DbIdRefResolver idRefResolver) {
+    var owners =
+        operations.stream()
+            .map(o -> o.element.getOwner())
+            .filter(Objects::nonNull)
+            .collect(toSet());
+    try {
+      idRefResolver.resolve(owners);
+    } catch (ReferenceTargetNotFoundException | ClientBoundaryViolationException ex) {
+      log.debug("Could not prefetch all owners", ex);
+    }
+  }
+
+  private Map<UUID, Element> fetchByIds(
+      Collection<Element> elements, UserAccessRights userAccessRights) {
+    var result = new HashMap<UUID, Element>();
+    elements.stream()
+        .collect(groupingBy(Element::getType, mapping(Element::getId, toSet())))
+        .forEach(
+            (type, ids) ->
+                repositoryProvider
+                    .getElementRepositoryFor(type.getType())
+                    .findByIds(ids, userAccessRights)
+                    .forEach(e -> result.put(e.getId(), e)));
+    return result;
+  }
+
+  private void publishEvents(List<Applied> created, List<Applied> updated, Domain domain) {
+    created.stream()
+        .map(Applied::element)
+        .filter(e -> e instanceof Process || e instanceof Asset || e instanceof Scope)
+        .forEach(e -> eventPublisher.publish(new RiskAffectingElementChangeEvent(e, this)));
+    updated.stream()
+        .map(Applied::element)
+        .filter(
+            e ->
+                e instanceof Process
+                    || e instanceof Asset
+                    || e instanceof Scope
+                    || e instanceof Scenario)
+        .forEach(
+            e -> eventPublisher.publish(new RiskAffectingElementChangeEvent(e, domain, this)));
+  }
+
+  @Override
+  public boolean isReadOnly() {
+    return false;
+  }
+
+  @Override
+  public Isolation getIsolation() {
+    return Isolation.SERIALIZABLE;
+  }
+
+  @Override
+  public int getMaxAttempts() {
+    return 5;
+  }
+
+  /**
+   * @param operations creations (without ID) and updates (with ID and ETag), all in the viewpoint
+   *     of the domain
+   */
+  @Valid
+  public record InputData(UUID domainId, @Valid List<Operation> operations)
+      implements UseCase.InputData {}
+
+  /**
+   * @param index position of the operation in the original batch, used to correlate results
+   * @param id ID of the element to update, {@code null} to create a new element
+   * @param eTag expected ETag of the element to update
+   * @param scopeIds scopes that a new element should be added to
+   */
+  public record Operation(
+      int index, UUID id, String eTag, @Valid ElementState<?> element, Set<UUID> scopeIds) {
+    public boolean isCreate() {
+      return id == null;
+    }
+
+    public ElementType type() {
+      return ElementType.fromModelInterface(element.getModelInterface());
+    }
+  }
+
+  public record OutputData(List<Result> results) implements UseCase.OutputData {}
+
+  /**
+   * @param element the created or updated element, {@code null} if the operation was rejected
+   * @param error the reason why the operation was rejected
+   */
+  public record Result(int index, Element element, boolean created, RuntimeException error) {}
+
+  private record Applied(Operation operation, Element element) {
+    Result toResult(Map<UUID, Element> refetched, boolean created) {
+      return new Result(operation.index, refetched.get(element.getId()), created, null);
+    }
+  }
+}
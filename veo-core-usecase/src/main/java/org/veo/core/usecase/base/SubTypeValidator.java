@@ -17,12 +17,12 @@
  */
 package org.veo.core.usecase.base;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import org.veo.core.entity.DomainBase;
 import org.veo.core.entity.ElementType;
 import org.veo.core.entity.ValidationError;
+import org.veo.core.entity.definitions.ElementTypeDefinition;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -38,8 +38,15 @@ class SubTypeValidator {
       DomainBase domain, String subType, String status, ElementType modelType) {
     if (subType == null)
       return List.of(ValidationError.localized("error_domain_association_without_sub_type"));
+    return getErrors(domain.getElementTypeDefinition(modelType), subType, status, modelType);
+  }
+
+  static List<ValidationError> getErrors(
+      ElementTypeDefinition typeDefinition, String subType, String status, ElementType modelType) {
+    if (subType == null)
+      return List.of(ValidationError.localized("error_domain_association_without_sub_type"));
 
-    var definition = domain.getElementTypeDefinition(modelType).getSubTypes().get(subType);
+    var definition = typeDefinition.getSubTypes().get(subType);
     if (definition == null) {
       return List.of(
           ValidationError.localized(
@@ -48,6 +55,6 @@ class SubTypeValidator {
     if (!definition.getStatuses().contains(status)) {
       return List.of(ValidationError.localized("error_status_not_defined", status, subType));
     }
-    return new ArrayList<>();
+    return List.of();
   }
 }
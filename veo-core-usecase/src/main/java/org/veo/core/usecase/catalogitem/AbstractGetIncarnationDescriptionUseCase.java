@@ -35,6 +35,7 @@ import jakarta.validation.constraints.NotNull;
 
 import javax.annotation.Nullable;
 
+import org.veo.core.entity.CatalogItem;
 import org.veo.core.entity.Domain;
 import org.veo.core.entity.DomainBase;
 import org.veo.core.entity.Element;
@@ -172,33 +173,59 @@ public class AbstractGetIncarnationDescriptionUseCase<
         overrideTailoringRefs ? exclude : defaultConfig.exclude());
   }
 
+  /**
+   * Looks up existing incarnations of the given items in the unit with a single query.
+   *
+   * @return A map containing an existing incarnation for each given item that has been incarnated
+   *     in the unit.
+   */
+  private Map<T, Element> findExistingIncarnations(Collection<T> items, Unit unit, Domain domain) {
+    var catalogItems =
+        items.stream()
+            .map(i -> i.findCatalogItem().orElse(null))
+            .filter(Objects::nonNull)
+            .distinct()
+            .toList();
+    if (catalogItems.isEmpty()) {
+      return Map.of();
+    }
+    var query = genericElementRepository.query(unit.getClient());
+    query.whereOwnerIs(unit);
+    query.whereAppliedItemIn(catalogItems, domain);
+    query.fetchAppliedCatalogItems();
+    var elementsByCatalogItem = new HashMap<CatalogItem, Element>();
+    query
+        .execute(PagingConfiguration.UNPAGED)
+        .resultPage()
+        .forEach(
+            element ->
+                element
+                    .findAppliedCatalogItem(domain)
+                    .ifPresent(item -> elementsByCatalogItem.putIfAbsent(item, element)));
+    var result = new HashMap<T, Element>();
+    items.forEach(
+        item ->
+            item.findCatalogItem()
+                .map(elementsByCatalogItem::get)
+                .ifPresent(element -> result.put(item, element)));
+    return result;
+  }
+
   /**
    * @return A map containing all given items as keys. For each item, the map value is either an
    *     existing incarnation of the item or {@link Optional#empty()} if no incarnation was found in
-   *     the unit.
+   *     the unit (or existing incarnations should not be used).
    */
   private Map<T, Optional<Element>> buildIncarnationMap(
-      Collection<T> items, Unit unit, Domain domain, boolean addExistingIncarnations) {
-    if (addExistingIncarnations) {
-      var query = genericElementRepository.query(unit.getClient());
-      query.whereOwnerIs(unit);
-      query.whereAppliedItemIn(
-          items.stream()
-              .map(i -> i.findCatalogItem().orElse(null))
-              .filter(Objects::nonNull)
-              .toList(),
-          domain);
-      query.fetchAppliedCatalogItems();
-      var elements = query.execute(PagingConfiguration.UNPAGED).resultPage();
-      return items.stream()
-          .collect(
-              Collectors.toMap(
-                  Function.identity(),
-                  item -> elements.stream().filter(item::isAppliedTo).findAny()));
-    } else {
-      return items.stream()
-          .collect(Collectors.toMap(Function.identity(), item -> Optional.empty()));
-    }
+      Collection<T> items, Map<T, Element> existingIncarnations, boolean addExistingIncarnations) {
+    return items.stream()
+        .collect(
+            Collectors.toMap(
+                Function.identity(),
+                item ->
+                    addExistingIncarnations
+                        ? Optional.ofNullable(existingIncarnations.get(item))
+                        : Optional.empty()));
   }
 
   private List<TemplateItemIncarnationDescription<T, TNamespace>> getList(
@@ -273,8 +300,16 @@ public class AbstractGetIncarnationDescriptionUseCase<
       IncarnationLookup lookup,
       Unit unit,
       Domain domain) {
+    // Look up existing incarnations of all items that may be encountered below at once instead of
+    // querying them level by level.
+    var existingIncarnations =
+        lookup == IncarnationLookup.NEVER
+            ? Map.<T, Element>of()
+            : findExistingIncarnations(
+                getReachableItems(requestedItems, tailoringReferenceFilter, mode), unit, domain);
     var current =
-        buildIncarnationMap(requestedItems, unit, domain, lookup == IncarnationLookup.ALWAYS);
+        buildIncarnationMap(
+            requestedItems, existingIncarnations, lookup == IncarnationLookup.ALWAYS);
     var result = new HashMap<>(current);
 
     switch (mode) {
@@ -291,7 +326,7 @@ public class AbstractGetIncarnationDescriptionUseCase<
           break;
         }
         var referencedItems = getReferencedItems(current, result, tailoringReferenceFilter, false);
-        buildIncarnationMap(referencedItems, unit, domain, true).entrySet().stream()
+        buildIncarnationMap(referencedItems, existingIncarnations, true).entrySet().stream()
             .filter(itemToElement -> itemToElement.getValue().isPresent())
             .forEach(itemToElement -> result.put(itemToElement.getKey(), itemToElement.getValue()));
       }
@@ -305,7 +340,8 @@ public class AbstractGetIncarnationDescriptionUseCase<
               getReferencedItems(
                   current, result, tailoringReferenceFilter, lookup == IncarnationLookup.ALWAYS);
           current =
-              buildIncarnationMap(nextLevelItems, unit, domain, lookup != IncarnationLookup.NEVER);
+              buildIncarnationMap(
+                  nextLevelItems, existingIncarnations, lookup != IncarnationLookup.NEVER);
           result.putAll(current);
         }
       }
@@ -313,6 +349,34 @@ public class AbstractGetIncarnationDescriptionUseCase<
     return result;
   }
 
+  /**
+   * Collects the requested items and all items that could be referenced by them. In {@link
+   * IncarnationRequestModeType#MANUAL}, only directly referenced items are included.
+   */
+  private Set<T> getReachableItems(
+      List<T> requestedItems,
+      Predicate<? super TailoringReference<?, ?>> referenceFilter,
+      IncarnationRequestModeType mode) {
+    var reachable = new HashSet<>(requestedItems);
+    Collection<T> current = requestedItems;
+    while (!current.isEmpty()) {
+      var next = new HashSet<T>();
+      current.stream()
+          .map(TemplateItem::getTailoringReferences)
+          .flatMap(Collection::stream)
+          .filter(referenceFilter)
+          .map(TemplateItemReference::getTarget)
+          .forEach(
+              item -> {
+                if (reachable.add(item)) {
+                  next.add(item);
+                }
+              });
+      current = mode == IncarnationRequestModeType.MANUAL ? Set.of() : next;
+    }
+    return reachable;
+  }
+
   private Set<T> getReferencedItems(
       Map<T, Optional<Element>> current,
       Map<T, Optional<Element>> encountered,
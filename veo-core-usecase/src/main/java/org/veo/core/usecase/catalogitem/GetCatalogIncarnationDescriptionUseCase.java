@@ -19,6 +19,7 @@ package org.veo.core.usecase.catalogitem;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
@@ -74,8 +75,15 @@ public class GetCatalogIncarnationDescriptionUseCase
     Unit unit = unitRepository.getByIdFetchClient(input.unitId, userAccessRights);
     validateInput(input);
     var domain = domainRepository.getActiveById(input.domainId, userAccessRights.getClientId());
+    var mode =
+        Optional.ofNullable(input.requestType).orElse(domain.getIncarnationConfiguration().mode());
+    // In the default mode, indirectly referenced items are also traversed, so the whole reference
+    // graph is loaded up front instead of lazily loading one item after the other.
     var items =
-        catalogItemRepository.findAllByIdsFetchTailoringReferences(input.catalogItemIds(), domain);
+        mode == IncarnationRequestModeType.DEFAULT
+            ? catalogItemRepository.findAllByIdsFetchReferencedItems(input.catalogItemIds(), domain)
+            : catalogItemRepository.findAllByIdsFetchTailoringReferences(
+                input.catalogItemIds(), domain);
     var incarnationDescriptions =
         getIncarnationDescriptions(
             input.catalogItemIds(),
@@ -23,7 +23,6 @@ import java.time.Instant;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -57,6 +56,9 @@ import org.veo.core.entity.state.TemplateItemIncarnationDescriptionState;
 import org.veo.core.entity.transform.EntityFactory;
 import org.veo.core.repository.AbstractTemplateItemRepository;
 import org.veo.core.repository.GenericElementRepository;
+import org.veo.core.repository.PagingConfiguration;
+import org.veo.core.repository.QueryCondition;
+import org.veo.core.usecase.base.CompiledDomainDefinitions;
 import org.veo.core.usecase.base.DomainSensitiveElementValidator;
 import org.veo.core.usecase.domain.ElementBatchCreator;
 
@@ -83,8 +85,9 @@ public class IncarnationDescriptionApplier {
     var tailoringReferencesById = loadTailoringReferences(descriptions, repository, client);
     var newElements =
         incarnate(descriptions, unit, itemsById, referencedElementsById, tailoringReferencesById);
+    var definitions = new CompiledDomainDefinitions();
     Stream.concat(newElements.stream(), referencedElementsById.values().stream())
-        .forEach(DomainSensitiveElementValidator::validate);
+        .forEach(e -> DomainSensitiveElementValidator.validate(e, definitions));
     return newElements;
   }
 
@@ -120,18 +123,34 @@ public class IncarnationDescriptionApplier {
         .collect(Collectors.toMap(Identifiable::getIdAsString, identity()));
   }
 
+  /** Loads all elements that are referenced by the descriptions' parameters with one query. */
   private <T extends TemplateItem<T, TNamespace>, TNamespace extends Identifiable>
       Map<UUID, Element> loadReferencedElements(
           List<TemplateItemIncarnationDescriptionState<T, TNamespace>> descriptions,
           Client client) {
-    return descriptions.stream()
-        .flatMap(r -> r.getParameterStates().stream())
-        .map(TailoringReferenceParameterState::getReferencedElementRef)
-        .map(o -> o.orElse(null))
-        .filter(Objects::nonNull)
-        .distinct()
-        .map(ref -> elementRepository.getById(ref.getId(), ref.getType(), client))
-        .collect(Collectors.toMap(Element::getId, identity()));
+    var refs =
+        descriptions.stream()
+            .flatMap(r -> r.getParameterStates().stream())
+            .map(TailoringReferenceParameterState::getReferencedElementRef)
+            .flatMap(Optional::stream)
+            .collect(Collectors.toSet());
+    if (refs.isEmpty()) {
+      return Map.of();
+    }
+    var query = elementRepository.query(client);
+    query.whereIdIn(
+        new QueryCondition<>(refs.stream().map(ITypedId::getId).collect(Collectors.toSet())));
+    var elementsById =
+        query.execute(PagingConfiguration.UNPAGED).resultPage().stream()
+            .collect(Collectors.toMap(Element::getId, identity()));
+    refs.forEach(
+        ref -> {
+          var element = elementsById.get(ref.getId());
+          if (element == null || !ref.getType().isInstance(element)) {
+            throw new NotFoundException(ref.getId(), ref.getType());
+          }
+        });
+    return elementsById;
   }
 
   private <T extends TemplateItem<T, TNamespace>, TNamespace extends Identifiable>
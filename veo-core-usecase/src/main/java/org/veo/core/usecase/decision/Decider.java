@@ -44,6 +44,18 @@ public class Decider {
     return element.getDecisionResults(domain);
   }
 
+  /** Reevaluates all decisions on an element in all its domains. */
+  public void updateAllDecisions(Element element) {
+    element
+        .getDomains()
+        .forEach(
+            domain -> {
+              if (element.evaluateDecisions(domain, null)) {
+                element.setUpdatedAt(Instant.now());
+              }
+            });
+  }
+
   /**
    * Reevaluates all decisions on an element that are affected by given event and updates the
    * decision results on the element accordingly.
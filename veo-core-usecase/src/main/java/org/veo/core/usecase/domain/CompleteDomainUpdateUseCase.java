@@ -0,0 +1,80 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.core.usecase.domain;
+
+import java.util.UUID;
+
+import org.veo.core.UserAccessRights;
+import org.veo.core.entity.Domain;
+import org.veo.core.entity.exception.NotFoundException;
+import org.veo.core.repository.DomainRepository;
+import org.veo.core.repository.UnitRepository;
+import org.veo.core.usecase.TransactionalUseCase;
+import org.veo.core.usecase.UseCase;
+import org.veo.core.usecase.service.MigrationService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Completes a domain update that has been performed in chunks by {@link
+ * MigrateDomainElementsUseCase}: Elements that have been added to the old domain in the meantime
+ * are migrated, and the old domain is removed from its units and deactivated.
+ */
+@RequiredArgsConstructor
+public class CompleteDomainUpdateUseCase
+    implements TransactionalUseCase<
+        CompleteDomainUpdateUseCase.InputData, CompleteDomainUpdateUseCase.OutputData> {
+  private final DomainRepository domainRepository;
+  private final UnitRepository unitRepository;
+  private final MigrationService migrationService;
+
+  @Override
+  public OutputData execute(InputData input, UserAccessRights userAccessRights) {
+    userAccessRights.checkUnitUpdateAllowed();
+    domainRepository.lockForUpdate(input.domainId);
+    var oldDomain = domainRepository.getActiveById(input.domainId, userAccessRights.getClientId());
+    var newDomain =
+        migrationService
+            .findUpdateInProgress(oldDomain, input.domainTemplateId)
+            .orElseThrow(
+                () ->
+                    new NotFoundException(
+                        "No update of domain %s to template %s in progress",
+                        input.domainId,
+                        input.domainTemplateId));
+    migrationService.updateElements(oldDomain, newDomain, userAccessRights.getUsername());
+    unitRepository
+        .findByDomain(oldDomain.getId())
+        .forEach(
+            u -> {
+              u.addToDomains(newDomain);
+              u.removeFromDomains(oldDomain);
+            });
+    oldDomain.setActive(false);
+    return new OutputData(newDomain);
+  }
+
+  @Override
+  public boolean isReadOnly() {
+    return false;
+  }
+
+  public record InputData(UUID domainId, UUID domainTemplateId) implements UseCase.InputData {}
+
+  public record OutputData(Domain newDomain) implements UseCase.OutputData {}
+}
@@ -47,10 +47,7 @@ public class CreateDomainFromTemplateUseCase
       throw new MissingAdminPrivilegesException();
     }
     var client = clientRepository.getActiveById(input.clientId);
-    client.addToDomains(
-        domainTemplateService.createDomain(client, input.domainTemplateId, input.templateItems));
-
-    clientRepository.save(client);
+    domainTemplateService.addDomainToClient(client, input.domainTemplateId, input.templateItems);
     return EmptyOutput.INSTANCE;
   }
 
@@ -17,6 +17,7 @@
  */
 package org.veo.core.usecase.domain;
 
+import java.time.Instant;
 import java.util.UUID;
 
 import org.veo.core.UserAccessRights;
@@ -35,6 +36,7 @@ public class DeleteProfileUseCase
   public EmptyOutput execute(InputData input, UserAccessRights userAccessRights) {
     var domain = domainRepository.getActiveById(input.domainId, userAccessRights.getClientId());
     domain.removeProfile(input.profileId);
+    domain.setUpdatedAt(Instant.now());
     return EmptyOutput.INSTANCE;
   }
 
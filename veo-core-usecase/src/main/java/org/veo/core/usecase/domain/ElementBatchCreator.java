@@ -115,15 +115,16 @@ public class ElementBatchCreator {
           elementLinks.forEach(element::applyLink);
         });
 
+    designatorService.assignDesignators(
+        risks.values().stream()
+            .flatMap(Set::stream)
+            .filter(r -> r.getDesignator() == null)
+            .map(Designated.class::cast)
+            .toList(),
+        unit.getClient());
     risks.forEach(
         (element, elementRisks) -> {
-          elementRisks.forEach(
-              r -> {
-                if (r.getDesignator() == null) {
-                  designatorService.assignDesignator(r, unit.getClient());
-                }
-                element.addRisk(r);
-              });
+          elementRisks.forEach(element::addRisk);
         });
 
     scopeMemberships.forEach(Scope::addMembers);
@@ -32,6 +32,7 @@ import org.veo.core.entity.Unit;
 import org.veo.core.entity.definitions.CustomAspectDefinition;
 import org.veo.core.entity.definitions.ElementTypeDefinition;
 import org.veo.core.entity.definitions.attribute.AttributeDefinition;
+import org.veo.core.entity.definitions.attribute.DurationAttributeDefinition;
 import org.veo.core.repository.DomainRepository;
 import org.veo.core.repository.GenericElementRepository;
 import org.veo.core.repository.UnitRepository;
@@ -56,6 +57,11 @@ public class GetAttributeValuesUseCase
     if (!AttributeDefinition.getValidTypes().contains(wantedType)) {
       throw new IllegalArgumentException("Unknown attribute type '%s'".formatted(wantedType));
     }
+    if (input.after != null
+        && DurationAttributeDefinition.TYPE.equals(wantedType)
+        && !new DurationAttributeDefinition().getErrors(input.after).isEmpty()) {
+      throw new IllegalArgumentException("Invalid duration '%s'".formatted(input.after));
+    }
 
     Domain domain =
         domainRepository.getActiveByIdWithElementTypeDefinitionsAndRiskDefinitions(
@@ -69,11 +75,18 @@ public class GetAttributeValuesUseCase
       collectKeysByType(etd.getLinks(), wantedType, linkTypeToKeys);
     }
 
-    // Values are extracted, deduplicated and ordered (descending) in the database. One extra value
-    // beyond the limit is fetched so we can detect truncation.
+    // Values are read from an index maintained by the database, deduplicated and ordered there. One
+    // extra value beyond the limit is fetched so we can detect truncation.
     List<Object> values =
         genericElementRepository.findUsedAttributeValues(
-            unit.getId(), domain.getId(), caTypeToKeys, linkTypeToKeys, wantedType, maxResults + 1);
+            unit.getId(),
+            domain.getId(),
+            caTypeToKeys,
+            linkTypeToKeys,
+            wantedType,
+            input.prefix,
+            input.after,
+            maxResults + 1);
     boolean truncated = values.size() > maxResults;
     if (truncated) {
       values = values.subList(0, maxResults);
@@ -97,7 +110,8 @@ public class GetAttributeValuesUseCase
   }
 
   @Valid
-  public record InputData(UUID domainId, UUID unitId, String attributeType)
+  public record InputData(
+      UUID domainId, UUID unitId, String attributeType, String prefix, String after)
       implements UseCase.InputData {}
 
   @Valid
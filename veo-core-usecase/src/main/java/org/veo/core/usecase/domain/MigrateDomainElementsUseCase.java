@@ -0,0 +1,108 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.core.usecase.domain;
+
+import java.util.UUID;
+
+import org.veo.core.UserAccessRights;
+import org.veo.core.entity.Domain;
+import org.veo.core.repository.DomainRepository;
+import org.veo.core.repository.UnitRepository;
+import org.veo.core.usecase.DomainChangeService;
+import org.veo.core.usecase.MessageCreator;
+import org.veo.core.usecase.TemplateItems;
+import org.veo.core.usecase.TransactionalUseCase;
+import org.veo.core.usecase.UseCase;
+import org.veo.core.usecase.service.DomainTemplateService;
+import org.veo.core.usecase.service.MigrationService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Migrates one chunk of elements from an old domain to a newer template version. The new domain is
+ * created and added to all units of the old domain by the first chunk. Migrated elements leave the
+ * old domain, so each chunk simply takes the first page of elements remaining in the old domain and
+ * an interrupted update can be resumed by executing this use case again.
+ *
+ * @see CompleteDomainUpdateUseCase
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class MigrateDomainElementsUseCase
+    implements TransactionalUseCase<
+        MigrateDomainElementsUseCase.InputData, MigrateDomainElementsUseCase.OutputData> {
+  private final DomainRepository domainRepository;
+  private final UnitRepository unitRepository;
+  private final DomainTemplateService domainTemplateService;
+  private final DomainChangeService domainChangeService;
+  private final MigrationService migrationService;
+  private final MessageCreator messageCreator;
+
+  @Override
+  public OutputData execute(InputData input, UserAccessRights userAccessRights) {
+    userAccessRights.checkUnitUpdateAllowed();
+    domainRepository.lockForUpdate(input.domainId);
+    var clientId = userAccessRights.getClientId();
+    var oldDomain = domainRepository.getActiveById(input.domainId, clientId);
+    var updateInProgress = migrationService.findUpdateInProgress(oldDomain, input.domainTemplateId);
+    Domain newDomain;
+    if (updateInProgress.isPresent()) {
+      newDomain = updateInProgress.get();
+    } else {
+      var newDomainId =
+          domainTemplateService.addDomainToClient(
+              oldDomain.getOwner(), input.domainTemplateId, TemplateItems.CATALOG_AND_PROFILES);
+      // The persistence context has been cleared.
+      oldDomain = domainRepository.getActiveById(input.domainId, clientId);
+      newDomain = domainRepository.getActiveById(newDomainId, clientId);
+      startUpdate(oldDomain, newDomain);
+    }
+    var elementIds = migrationService.findElementIds(oldDomain, null, input.pageSize);
+    migrationService.updateElements(
+        oldDomain, newDomain, userAccessRights.getUsername(), elementIds);
+    return new OutputData(elementIds.size(), elementIds.size() < input.pageSize);
+  }
+
+  private void startUpdate(Domain oldDomain, Domain newDomain) {
+    log.info(
+        "Starting chunked update of domain {}::{}->{}",
+        oldDomain.getName(),
+        oldDomain.getTemplateVersion(),
+        newDomain.getTemplateVersion());
+    domainChangeService.transferCustomization(oldDomain, newDomain);
+    unitRepository.findByDomain(oldDomain.getId()).forEach(u -> u.addToDomains(newDomain));
+    // TODO #5017 rethink event creation
+    messageCreator.createDomainCreationMessage(newDomain);
+  }
+
+  @Override
+  public boolean isReadOnly() {
+    return false;
+  }
+
+  public record InputData(UUID domainId, UUID domainTemplateId, int pageSize)
+      implements UseCase.InputData {}
+
+  /**
+   * @param migratedElementCount number of elements migrated in this chunk
+   * @param complete whether all elements have been migrated
+   */
+  public record OutputData(int migratedElementCount, boolean complete)
+      implements UseCase.OutputData {}
+}
@@ -0,0 +1,124 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.core.usecase.domain;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import org.veo.core.UserAccessRights;
+import org.veo.core.entity.Domain;
+import org.veo.core.repository.DomainRepository;
+import org.veo.core.usecase.DomainChangeService;
+import org.veo.core.usecase.DomainUpdateFailedException;
+import org.veo.core.usecase.TemplateItems;
+import org.veo.core.usecase.TransactionalUseCase;
+import org.veo.core.usecase.UseCase;
+import org.veo.core.usecase.service.DomainTemplateService;
+import org.veo.core.usecase.service.MigrationService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Validates a page of elements for a domain update without persisting anything: The elements are
+ * migrated in memory to a transient domain created from the new template. The transient domain is
+ * created by the first page and passed on to the following pages together with the conflicts found
+ * so far, which are reported as a {@link DomainUpdateFailedException} when the last page has been
+ * validated.
+ *
+ * <p>If all elements fit on the first page and no chunked update is in progress, nothing is
+ * validated, because the update can be performed (and validated) in a single transaction.
+ */
+@RequiredArgsConstructor
+public class ValidateDomainUpdateUseCase
+    implements TransactionalUseCase<
+        ValidateDomainUpdateUseCase.InputData, ValidateDomainUpdateUseCase.OutputData> {
+  private final DomainRepository domainRepository;
+  private final DomainTemplateService domainTemplateService;
+  private final DomainChangeService domainChangeService;
+  private final MigrationService migrationService;
+
+  @Override
+  public OutputData execute(InputData input, UserAccessRights userAccessRights) {
+    userAccessRights.checkUnitUpdateAllowed();
+    var oldDomain = domainRepository.getActiveById(input.domainId, userAccessRights.getClientId());
+    var updateInProgress =
+        migrationService.findUpdateInProgress(oldDomain, input.domainTemplateId).isPresent();
+    var elementIds =
+        migrationService.findElementIds(oldDomain, input.afterElementId, input.pageSize);
+    var complete = elementIds.size() < input.pageSize;
+    if (input.afterElementId == null && complete && !updateInProgress) {
+      return new OutputData(null, true, false, Set.of(), null);
+    }
+    var newDomain = input.newDomain;
+    var conflictedElementIds = new HashSet<>(input.conflictedElementIds);
+    if (!elementIds.isEmpty()) {
+      if (newDomain == null) {
+        newDomain =
+            domainTemplateService.createDomain(
+                oldDomain.getOwner(), input.domainTemplateId, TemplateItems.CATALOG_ONLY);
+        domainChangeService.transferCustomization(oldDomain, newDomain);
+      }
+      conflictedElementIds.addAll(migrationService.findConflicts(oldDomain, newDomain, elementIds));
+    }
+    if (complete && !conflictedElementIds.isEmpty()) {
+      throw new DomainUpdateFailedException(
+          oldDomain,
+          new HashSet<>(migrationService.findElements(oldDomain, conflictedElementIds)));
+    }
+    return new OutputData(
+        elementIds.isEmpty() ? input.afterElementId : elementIds.getLast(),
+        complete,
+        updateInProgress,
+        conflictedElementIds,
+        newDomain);
+  }
+
+  @Override
+  public boolean isReadOnly() {
+    return true;
+  }
+
+  /**
+   * @param newDomain the transient domain returned by the previous page, {@code null} for the first
+   *     page
+   */
+  public record InputData(
+      UUID domainId,
+      UUID domainTemplateId,
+      UUID afterElementId,
+      int pageSize,
+      Set<UUID> conflictedElementIds,
+      Domain newDomain)
+      implements UseCase.InputData {}
+
+  /**
+   * @param lastElementId ID of the last validated element, to be passed on to the next page
+   * @param complete whether this was the last page
+   * @param updateInProgress whether a chunked update to the new template has already been started
+   *     and must be continued
+   * @param newDomain the transient domain to be passed on to the next page
+   */
+  public record OutputData(
+      UUID lastElementId,
+      boolean complete,
+      boolean updateInProgress,
+      Set<UUID> conflictedElementIds,
+      Domain newDomain)
+      implements UseCase.OutputData {}
+}
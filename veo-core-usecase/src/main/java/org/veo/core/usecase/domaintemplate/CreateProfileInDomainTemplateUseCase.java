@@ -17,6 +17,7 @@
  */
 package org.veo.core.usecase.domaintemplate;
 
+import java.time.Instant;
 import java.util.UUID;
 
 import jakarta.validation.Valid;
@@ -66,6 +67,7 @@ public class CreateProfileInDomainTemplateUseCase
             });
 
     Profile profile = domainStateMapper.toProfile(input.profile, domainTemplate);
+    domainTemplate.setUpdatedAt(Instant.now());
     log.info(
         "profile added {}({}) to {}({})",
         profile.getName(),
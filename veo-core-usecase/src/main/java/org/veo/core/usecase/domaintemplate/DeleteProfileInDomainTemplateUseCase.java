@@ -17,6 +17,7 @@
  */
 package org.veo.core.usecase.domaintemplate;
 
+import java.time.Instant;
 import java.util.UUID;
 
 import jakarta.validation.Valid;
@@ -43,6 +44,7 @@ public class DeleteProfileInDomainTemplateUseCase
             .findById(input.domainTemplateId)
             .orElseThrow(() -> new NotFoundException(input.domainTemplateId, DomainTemplate.class));
     domainTemplate.removeProfile(input.profileId);
+    domainTemplate.setUpdatedAt(Instant.now());
     return EmptyOutput.INSTANCE;
   }
 
@@ -0,0 +1,95 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.core.usecase.risk;
+
+import java.util.Set;
+import java.util.UUID;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+import org.veo.core.UserAccessRights;
+import org.veo.core.entity.exception.NotFoundException;
+import org.veo.core.repository.DomainRepository;
+import org.veo.core.repository.GenericElementRepository;
+import org.veo.core.repository.KeysetPage;
+import org.veo.core.repository.RiskValueFilter;
+import org.veo.core.repository.RiskValueSummary;
+import org.veo.core.repository.UnitRepository;
+import org.veo.core.usecase.TransactionalUseCase;
+import org.veo.core.usecase.UseCase;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Lists the risk values of all risk-affected elements in a domain (optionally restricted to a
+ * unit) page by page, without loading the risks themselves.
+ */
+@RequiredArgsConstructor
+public class GetRiskValuesUseCase
+    implements TransactionalUseCase<
+        GetRiskValuesUseCase.InputData, GetRiskValuesUseCase.OutputData> {
+
+  private final DomainRepository domainRepository;
+  private final UnitRepository unitRepository;
+  private final GenericElementRepository elementRepository;
+
+  @Override
+  public OutputData execute(InputData input, UserAccessRights userAccessRights) {
+    var domain = domainRepository.getById(input.domainId, userAccessRights.getClientId());
+    if (!domain.isActive()) {
+      throw new NotFoundException("Domain is inactive.");
+    }
+    if (input.unitId != null) {
+      // checks that the unit exists and may be read
+      unitRepository.getById(input.unitId, userAccessRights);
+    }
+    if (input.riskDefinitionId != null
+        && domain.findRiskDefinition(input.riskDefinitionId).isEmpty()) {
+      throw new NotFoundException(
+          "Risk definition %s not found in domain %s", input.riskDefinitionId, domain.getId());
+    }
+    return new OutputData(
+        elementRepository
+            .queryRiskValues(
+                domain.getId(),
+                new RiskValueFilter(
+                    input.unitId,
+                    input.riskDefinitionId,
+                    input.category,
+                    input.inherentRisks,
+                    input.residualRisks),
+                userAccessRights)
+            .execute(input.pageSize, input.cursor));
+  }
+
+  @Valid
+  public record InputData(
+      @NotNull UUID domainId,
+      UUID unitId,
+      String riskDefinitionId,
+      String category,
+      Set<Integer> inherentRisks,
+      Set<Integer> residualRisks,
+      int pageSize,
+      String cursor)
+      implements UseCase.InputData {}
+
+  public record OutputData(@Valid KeysetPage<RiskValueSummary> page)
+      implements UseCase.OutputData {}
+}
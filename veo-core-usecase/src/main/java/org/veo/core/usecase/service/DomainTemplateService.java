@@ -26,6 +26,8 @@ import org.veo.core.entity.Domain;
 import org.veo.core.entity.DomainTemplate;
 import org.veo.core.entity.Profile;
 import org.veo.core.entity.exception.ModelConsistencyException;
+import org.veo.core.repository.ClientRepository;
+import org.veo.core.repository.DomainRepository;
 import org.veo.core.repository.DomainTemplateRepository;
 import org.veo.core.usecase.TemplateItems;
 
@@ -42,6 +44,8 @@ import lombok.extern.slf4j.Slf4j;
 public class DomainTemplateService {
   private final DomainTemplateRepository domainTemplateRepository;
   private final DomainStateMapper domainStateMapper;
+  private final ClientRepository clientRepository;
+  private final DomainRepository domainRepository;
 
   public List<DomainTemplate> getTemplates(Client client) {
     return Collections.emptyList();
@@ -78,6 +82,26 @@ public class DomainTemplateService {
     return domain;
   }
 
+  /**
+   * Creates a domain from a template, adds it to the given persisted client and saves it. Unlike
+   * {@link #createDomain(Client, UUID, TemplateItems)}, the catalog items and profiles are not
+   * mapped to new entities one by one but copied in the database, which is much faster for large
+   * templates. <b>This will clear the persistence context</b>, so the client must be reloaded
+   * before using it again.
+   *
+   * @return the ID of the new domain
+   */
+  public UUID addDomainToClient(Client client, UUID templateId, TemplateItems templateItems) {
+    var domain = createDomain(client, templateId, TemplateItems.NONE);
+    client.addToDomains(domain);
+    clientRepository.save(client);
+    if (templateItems != TemplateItems.NONE) {
+      domainRepository.copyTemplateItems(
+          templateId, domain.getId(), templateItems == TemplateItems.CATALOG_AND_PROFILES);
+    }
+    return domain.getId();
+  }
+
   public void copyProfileToDomain(Profile profile, Domain domain) {
     log.info(
         "create profile {} in domain {}:{}",
@@ -19,8 +19,13 @@ package org.veo.core.usecase.service;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.veo.core.entity.Domain;
 import org.veo.core.entity.Element;
@@ -28,14 +33,24 @@ import org.veo.core.entity.event.ClientOwnedEntityVersioningEvent;
 import org.veo.core.entity.event.VersioningEvent;
 import org.veo.core.repository.GenericElementRepository;
 import org.veo.core.repository.PagingConfiguration;
+import org.veo.core.repository.QueryCondition;
 import org.veo.core.usecase.DomainUpdateFailedException;
 import org.veo.core.usecase.MessageCreator;
+import org.veo.core.usecase.base.CompiledDomainDefinitions;
 import org.veo.core.usecase.base.DomainSensitiveElementValidator;
 import org.veo.core.usecase.decision.Decider;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Migrates elements from an old domain to a new domain (usually a newer version of the same domain
+ * template). Small domains can be migrated in a single transaction using {@link
+ * #updateElements(Domain, Domain, String)}. Large domains can be processed in pages of element IDs
+ * (see {@link #findElementIds}): a page can be validated in a transaction that is discarded
+ * afterward ({@link #findConflicts}) and migrated in a transaction of its own ({@link
+ * #updateElements(Domain, Domain, String, Collection)}).
+ */
 @RequiredArgsConstructor
 @Slf4j
 public class MigrationService {
@@ -51,17 +66,103 @@ public class MigrationService {
         newDomain.getName(),
         oldDomain.getTemplateVersion(),
         newDomain.getTemplateVersion());
+    updateElements(oldDomain, newDomain, username, loadElements(oldDomain, null));
+  }
 
-    var elementQuery = genericElementRepository.query(oldDomain.getOwner());
-    elementQuery.whereDomainsContain(oldDomain);
-    elementQuery.fetchAppliedCatalogItems();
-    elementQuery.fetchRisks();
-    elementQuery.fetchRiskValuesAspects();
-    elementQuery.fetchControlImplementations();
-    elementQuery.fetchChildren();
-    elementQuery.fetchRequirementImplementations();
+  /**
+   * Migrates the elements with given IDs. Elements that are not (or no longer) associated with the
+   * old domain are ignored.
+   */
+  public void updateElements(
+      Domain oldDomain, Domain newDomain, String username, Collection<UUID> elementIds)
+      throws DomainUpdateFailedException {
+    if (elementIds.isEmpty()) {
+      return;
+    }
+    updateElements(oldDomain, newDomain, username, loadElements(oldDomain, elementIds));
+  }
 
-    var elements = elementQuery.execute(PagingConfiguration.UNPAGED).resultPage();
+  /**
+   * Reads a page of IDs of the elements in the old domain.
+   *
+   * @see GenericElementRepository#findIdsByDomain(UUID, UUID, int)
+   */
+  public List<UUID> findElementIds(Domain oldDomain, UUID afterId, int limit) {
+    return genericElementRepository.findIdsByDomain(oldDomain.getId(), afterId, limit);
+  }
+
+  /**
+   * Finds the new domain of a chunked update from the old domain to given template that has been
+   * started but not completed yet. During such an update, both domains are active.
+   */
+  public Optional<Domain> findUpdateInProgress(Domain oldDomain, UUID domainTemplateId) {
+    return oldDomain.getOwner().getDomains().stream()
+        .filter(Domain::isActive)
+        .filter(d -> !d.equals(oldDomain))
+        .filter(
+            d ->
+                d.getDomainTemplate() != null
+                    && d.getDomainTemplate().getId().equals(domainTemplateId))
+        .findFirst();
+  }
+
+  /**
+   * Loads the elements with given IDs from the old domain (e.g. to report conflicts found by {@link
+   * #findConflicts}).
+   */
+  public List<Element> findElements(Domain oldDomain, Collection<UUID> elementIds) {
+    return loadElements(oldDomain, elementIds);
+  }
+
+  /**
+   * Migrates the elements with given IDs in memory and returns the IDs of the elements that cannot
+   * be migrated. <b>This modifies the elements</b>, so it must only be called in a transaction that
+   * is rolled back or read-only.
+   */
+  public Set<UUID> findConflicts(Domain oldDomain, Domain newDomain, Collection<UUID> elementIds) {
+    if (elementIds.isEmpty()) {
+      return Set.of();
+    }
+    return migrate(loadElements(oldDomain, elementIds), oldDomain, newDomain).stream()
+        .map(Element::getId)
+        .collect(Collectors.toSet());
+  }
+
+  private void updateElements(
+      Domain oldDomain, Domain newDomain, String username, List<Element> elements) {
+    var invalidElements = migrate(elements, oldDomain, newDomain);
+    if (!invalidElements.isEmpty()) {
+      // Conflicted elements are left associated with the old domain to allow for nicer error
+      // reporting.
+      throw new DomainUpdateFailedException(oldDomain, new HashSet<>(invalidElements));
+    }
+    log.debug("removing {} elements from old domain: {}", elements.size(), oldDomain);
+    var now = Instant.now();
+    elements.forEach(
+        e -> {
+          e.removeFromDomains(oldDomain);
+          e.setUpdatedAt(now);
+          e.setUpdatedBy(username);
+        });
+    // TODO #5017 rethink event creation
+    messageCreator.createEntityRevisionMessages(
+        elements.stream()
+            .map(
+                e ->
+                    new ClientOwnedEntityVersioningEvent<>(
+                        e,
+                        VersioningEvent.ModificationType.UPDATE,
+                        e.getUpdatedBy(),
+                        e.getUpdatedAt(),
+                        e.nextChangeNumberForUpdate()))
+            .toList());
+  }
+
+  /**
+   * Migrates given elements to the new domain (while keeping them in the old domain) and returns
+   * the elements that cannot be migrated.
+   */
+  private List<Element> migrate(List<Element> elements, Domain oldDomain, Domain newDomain) {
     List<Element> invalidElements = new ArrayList<>();
     List<Element> validElements = new ArrayList<>();
 
@@ -76,30 +177,27 @@ public class MigrationService {
     newDomain.migrate(validElements, oldDomain);
 
     validElements.forEach(element -> decider.decide(element, newDomain));
+    var definitions = new CompiledDomainDefinitions();
     invalidElements.addAll(
         validElements.stream()
-            .filter(e -> !DomainSensitiveElementValidator.isValid(e, newDomain))
+            .filter(e -> !DomainSensitiveElementValidator.isValid(e, newDomain, definitions))
             .toList());
+    return invalidElements;
+  }
 
-    if (!invalidElements.isEmpty()) {
-      // Conflicted elements are left associated with the old domain to allow for nicer error
-      // reporting.
-      throw new DomainUpdateFailedException(oldDomain, new HashSet<>(invalidElements));
+  /** Loads all elements in the old domain, optionally restricted to given IDs. */
+  private List<Element> loadElements(Domain oldDomain, Collection<UUID> elementIds) {
+    var elementQuery = genericElementRepository.query(oldDomain.getOwner());
+    elementQuery.whereDomainsContain(oldDomain);
+    if (elementIds != null) {
+      elementQuery.whereIdIn(new QueryCondition<>(Set.copyOf(elementIds)));
     }
-    log.debug("removing elements from old domain: {}", oldDomain);
-    elements.forEach(
-        e -> {
-          e.removeFromDomains(oldDomain);
-          e.setUpdatedAt(Instant.now());
-          e.setUpdatedBy(username);
-          // TODO #5017 rethink event creation
-          messageCreator.createEntityRevisionMessage(
-              new ClientOwnedEntityVersioningEvent<>(
-                  e,
-                  VersioningEvent.ModificationType.UPDATE,
-                  e.getUpdatedBy(),
-                  e.getUpdatedAt(),
-                  e.nextChangeNumberForUpdate()));
-        });
+    elementQuery.fetchAppliedCatalogItems();
+    elementQuery.fetchRisks();
+    elementQuery.fetchRiskValuesAspects();
+    elementQuery.fetchControlImplementations();
+    elementQuery.fetchChildren();
+    elementQuery.fetchRequirementImplementations();
+    return elementQuery.execute(PagingConfiguration.UNPAGED).resultPage();
   }
 }
@@ -0,0 +1,53 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.core.usecase.unit;
+
+import java.util.UUID;
+
+import jakarta.validation.Valid;
+
+import org.veo.core.UserAccessRights;
+import org.veo.core.entity.Unit;
+import org.veo.core.entity.exception.NotFoundException;
+import org.veo.core.repository.GenericElementRepository;
+import org.veo.core.repository.UnitRepository;
+import org.veo.core.usecase.TransactionalUseCase;
+import org.veo.core.usecase.UseCase;
+
+import lombok.RequiredArgsConstructor;
+
+/** Recalculates the element status counters of a unit from its elements to repair any drift. */
+@RequiredArgsConstructor
+public class RebuildElementStatusCountsUseCase
+    implements TransactionalUseCase<
+        RebuildElementStatusCountsUseCase.InputData, UseCase.EmptyOutput> {
+  private final UnitRepository unitRepository;
+  private final GenericElementRepository genericElementRepository;
+
+  @Override
+  public EmptyOutput execute(InputData input, UserAccessRights userAccessRights) {
+    if (!unitRepository.exists(input.unitId)) {
+      throw new NotFoundException(input.unitId, Unit.class);
+    }
+    genericElementRepository.rebuildCountsBySubType(input.unitId);
+    return EmptyOutput.INSTANCE;
+  }
+
+  @Valid
+  public record InputData(UUID unitId) implements UseCase.InputData {}
+}
@@ -45,6 +45,7 @@ import org.veo.core.service.EventPublisher;
 import org.veo.core.usecase.RetryableUseCase;
 import org.veo.core.usecase.TransactionalUseCase;
 import org.veo.core.usecase.UseCase;
+import org.veo.core.usecase.base.CompiledDomainDefinitions;
 import org.veo.core.usecase.base.DomainSensitiveElementValidator;
 import org.veo.core.usecase.domain.ElementBatchCreator;
 import org.veo.core.usecase.service.EntityStateMapper;
@@ -101,7 +102,8 @@ public class UnitImportUseCase
 
     elementBatchCreator.create(elements, unitRepository.save(unit));
     try {
-      elements.forEach(DomainSensitiveElementValidator::validate);
+      var definitions = new CompiledDomainDefinitions();
+      elements.forEach(e -> DomainSensitiveElementValidator.validate(e, definitions));
     } catch (IllegalArgumentException illEx) {
       throw new UnprocessableDataException(illEx.getMessage());
     }
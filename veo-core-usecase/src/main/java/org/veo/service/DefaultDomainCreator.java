@@ -54,6 +54,29 @@ public class DefaultDomainCreator {
             });
   }
 
+  /**
+   * Adds the latest version of the given default domain template to a persisted client using
+   * {@link DomainTemplateService#addDomainToClient}. <b>This will clear the persistence
+   * context</b>, so the client must be reloaded before using it again.
+   */
+  public void addDomainToPersistedClient(
+      Client client, String templateName, TemplateItems templateItems) {
+    domainTemplateRepository
+        .getLatestDomainTemplateId(templateName)
+        .ifPresentOrElse(
+            templateId -> {
+              log.debug(
+                  "Adding default domain {} ({}) to persisted client {}",
+                  templateId,
+                  templateName,
+                  client.getIdAsString());
+              domainService.addDomainToClient(client, templateId, templateItems);
+            },
+            () -> {
+              log.warn("Default domain template {} not found.", templateName);
+            });
+  }
+
   public void copyProfileToDomain(Profile profile, Domain domain) {
     domainService.copyProfileToDomain(profile, domain);
   }
@@ -19,11 +19,14 @@ package org.veo.service.risk;
 
 import java.time.Instant;
 import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.veo.core.entity.Client;
 import org.veo.core.entity.Domain;
 import org.veo.core.entity.Element;
+import org.veo.core.entity.FlyweightElement;
 import org.veo.core.entity.RiskAffected;
 import org.veo.core.entity.Unit;
 import org.veo.core.entity.riskdefinition.RiskDefinition;
@@ -49,6 +52,20 @@ public interface ImpactInheritanceCalculator {
   Collection<? extends Element> updateAllRootNodes(
       Unit unit, Domain domain, String riskDefinitionId);
 
+  /**
+   * Splits the inheritance graph of the unit for a risk definition into its weakly connected
+   * components. Impacts are never inherited across components, so each component can be updated
+   * separately using {@link #updateComponent}.
+   */
+  List<Set<FlyweightElement>> findComponents(Unit unit, Domain domain, String riskDefinitionId);
+
+  /**
+   * Calculates the impact inheritance for all elements of a component returned by {@link
+   * #findComponents}. Returns the changed elements.
+   */
+  Collection<? extends Element> updateComponent(
+      Unit unit, Domain domain, String riskDefinitionId, Set<FlyweightElement> component);
+
   default void calculateImpactInheritance(
       RiskAffected<?, ?> element, Domain domain, String linkType) {
     Unit owner = element.getOwner();
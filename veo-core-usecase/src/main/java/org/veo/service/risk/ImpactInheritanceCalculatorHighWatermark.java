@@ -35,11 +35,13 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.jgrapht.Graph;
 import org.jgrapht.alg.connectivity.BiconnectivityInspector;
+import org.jgrapht.alg.connectivity.ConnectivityInspector;
 import org.jgrapht.alg.cycle.CycleDetector;
 import org.jgrapht.graph.AbstractGraph;
 import org.jgrapht.graph.DirectedPseudograph;
@@ -176,8 +178,50 @@ public class ImpactInheritanceCalculatorHighWatermark implements ImpactInheritan
       // TODO: #2908 examine and handle edge cases, like unconnected nodes
       return Collections.emptyList();
     }
-    Set<RiskAffected<?, ?>> allRiskElements = loadAllRiskElements(unit, domain);
+    Collection<? extends Element> changedElements =
+        updateRootNodes(data, loadAllRiskElements(unit, domain));
 
+    // TODO: #2908 compare the number of nodes in the flyweight graph to the number of riskaffected
+    // in the unit and clear those not in the flyweight
+    long timeNeeded = System.currentTimeMillis() - startTime;
+    log.debug("updateAllRootNodes needed {} ms", timeNeeded);
+    return changedElements;
+  }
+
+  @Override
+  public List<Set<FlyweightElement>> findComponents(
+      Unit unit, Domain domain, String riskDefinitionId) {
+    FlyweightImpactInheritanceContext data = prepareData(unit, domain, riskDefinitionId);
+    if (!data.hasValidGraph()) {
+      return Collections.emptyList();
+    }
+    List<Set<FlyweightElement>> components =
+        new ConnectivityInspector<>(data.completeGraph).connectedSets();
+    log.debug(
+        "{} components in unit '{}' for rd: '{}'",
+        components.size(),
+        unit.getName(),
+        riskDefinitionId);
+    return components;
+  }
+
+  @Override
+  public Collection<? extends Element> updateComponent(
+      Unit unit, Domain domain, String riskDefinitionId, Set<FlyweightElement> component) {
+    FlyweightImpactInheritanceContext data =
+        prepareData(unit, domain, riskDefinitionId, linkTypes -> component);
+    if (!data.hasValidGraph()) {
+      return Collections.emptyList();
+    }
+    return updateRootNodes(data, loadRiskElements(unit, domain, toIds(component)));
+  }
+
+  /**
+   * Walks the graph from all root elements and updates the calculated impacts. The given elements
+   * must contain all elements of the graph.
+   */
+  private Collection<? extends Element> updateRootNodes(
+      FlyweightImpactInheritanceContext data, Set<RiskAffected<?, ?>> allRiskElements) {
     // we group the elements by the number of incoming edges
     Map<Integer, List<FlyweightElement>> inDegree =
         data.completeGraph.vertexSet().stream()
@@ -192,7 +236,10 @@ public class ImpactInheritanceCalculatorHighWatermark implements ImpactInheritan
           .setMessage("no roots, may be circles: {}")
           .addArgument(() -> listNodes(elementsInCycle))
           .log();
-      clearCalculatedImpactsInCycle(elementsInCycle, domain, data.definitionRef);
+      Set<Element> clearedElements = new HashSet<>();
+      clearCalculatedImpactsInCycle(
+          elementsInCycle, data.domain, data.definitionRef, clearedElements);
+      saveAffectedElements(clearedElements);
       return elementsInCycle;
     }
 
@@ -202,6 +249,7 @@ public class ImpactInheritanceCalculatorHighWatermark implements ImpactInheritan
         allRootelements.stream().collect(toMap(Identifiable::getIdAsString, identity()));
     Set<FlyweightElement> processed = new HashSet<>();
     List<Element> changedElements = new ArrayList<>(data.completeGraph.vertexSet().size());
+    Set<Element> clearedElements = new HashSet<>();
 
     listOfRootElements.stream()
         .filter(notProcessed(processed))
@@ -210,12 +258,10 @@ public class ImpactInheritanceCalculatorHighWatermark implements ImpactInheritan
         .forEach(
             parameter ->
                 updateAllRootsInSubgraph(
-                    listOfRootElements, processed, changedElements, parameter));
+                    listOfRootElements, processed, changedElements, clearedElements, parameter));
 
-    // TODO: #2908 compare the number of nodes in the flyweight graph to the number of riskaffected
-    // in the unit and clear those not in the flyweight
-    long timeNeeded = System.currentTimeMillis() - startTime;
-    log.debug("updateAllRootNodes needed {} ms", timeNeeded);
+    clearedElements.addAll(changedElements);
+    saveAffectedElements(clearedElements);
     return changedElements;
   }
 
@@ -223,6 +269,7 @@ public class ImpactInheritanceCalculatorHighWatermark implements ImpactInheritan
       List<FlyweightElement> listOfRootElements,
       Set<FlyweightElement> processed,
       List<Element> changedElements,
+      Set<Element> clearedElements,
       UpdateAffectedGraphParameter parameter) {
     List<FlyweightElement> rootElementsForSubGraph =
         listOfRootElements.stream()
@@ -245,7 +292,7 @@ public class ImpactInheritanceCalculatorHighWatermark implements ImpactInheritan
         .log();
     allRootsOfGraph.stream()
         .sorted(comparing(Nameable::getName)) // walk roots in predictable manner
-        .forEach(root -> updateAffectedGraph(parameter, root, changedElements));
+        .forEach(root -> updateAffectedGraph(parameter, root, changedElements, clearedElements));
   }
 
   @Override
@@ -263,10 +310,12 @@ public class ImpactInheritanceCalculatorHighWatermark implements ImpactInheritan
     if (!data.isInheritanceActive()) {
       return Collections.emptyList();
     }
+    Set<Element> clearedElements = new HashSet<>();
     if (!data.hasValidGraph()) {
       affectedElement
           .getImpactValues(domain, data.definitionRef)
-          .ifPresent(clearCalculatedValues(affectedElement));
+          .ifPresent(clearCalculatedValues(affectedElement, clearedElements));
+      saveAffectedElements(clearedElements);
       return Collections.emptyList();
     }
 
@@ -280,8 +329,8 @@ public class ImpactInheritanceCalculatorHighWatermark implements ImpactInheritan
       log.debug("affected element '{}' not in Graph", affectedElement.getName());
       affectedElement
           .getImpactValues(domain, data.definitionRef)
-          .ifPresent(clearCalculatedValues(affectedElement));
-
+          .ifPresent(clearCalculatedValues(affectedElement, clearedElements));
+      saveAffectedElements(clearedElements);
       return Collections.emptyList();
     }
 
@@ -293,12 +342,15 @@ public class ImpactInheritanceCalculatorHighWatermark implements ImpactInheritan
           .addArgument(affectedElement.getName())
           .addArgument(() -> listNodes(elementsInCycle))
           .log();
-      clearCalculatedImpactsInCycle(elementsInCycle, domain, data.definitionRef);
+      clearCalculatedImpactsInCycle(elementsInCycle, domain, data.definitionRef, clearedElements);
+      saveAffectedElements(clearedElements);
       return Collections.emptyList();
     }
 
     List<Element> changedElements = new ArrayList<>(parameter.elementGraph.vertexSet().size());
-    updateAffectedGraph(parameter, affectedElement, changedElements);
+    updateAffectedGraph(parameter, affectedElement, changedElements, clearedElements);
+    clearedElements.addAll(changedElements);
+    saveAffectedElements(clearedElements);
 
     long timeNeeded = System.currentTimeMillis() - startTime;
     log.debug("calculateImpactInheritance took {} ms", timeNeeded);
@@ -307,12 +359,14 @@ public class ImpactInheritanceCalculatorHighWatermark implements ImpactInheritan
 
   /**
    * Walks the graph down by following the outgoing links, determine the max impact of the outgoing,
-   * compare, update the calculated value and collect all elements affected.
+   * compare, update the calculated value and collect all elements affected. The affected elements
+   * are not saved yet.
    */
   private void updateAffectedGraph(
       UpdateAffectedGraphParameter graphData,
       RiskAffected<?, ?> affectedElement,
-      List<Element> changedElements) {
+      List<Element> changedElements,
+      Set<Element> clearedElements) {
 
     Set<CustomLink> outgoingEdges = graphData.elementGraph.outgoingEdgesOf(affectedElement);
     Set<CustomLink> incomingEdges = graphData.elementGraph.incomingEdgesOf(affectedElement);
@@ -352,7 +406,7 @@ public class ImpactInheritanceCalculatorHighWatermark implements ImpactInheritan
           .addArgument(() -> listNodes(elementsPartOfCycle))
           .log();
       clearCalculatedImpactsInCycle(
-          elementsPartOfCycle, graphData.domain, graphData.riskDefinitionRef);
+          elementsPartOfCycle, graphData.domain, graphData.riskDefinitionRef, clearedElements);
       // TODO: #2588 we could also return the already affected elements
       return;
     }
@@ -362,7 +416,7 @@ public class ImpactInheritanceCalculatorHighWatermark implements ImpactInheritan
         .map(graphData.elementGraph::getEdgeTarget)
         .map(RiskAffected.class::cast)
         .sorted(comparing(Nameable::getName))
-        .forEach(e -> updateAffectedGraph(graphData, e, changedElements));
+        .forEach(e -> updateAffectedGraph(graphData, e, changedElements, clearedElements));
   }
 
   /**
@@ -402,6 +456,18 @@ public class ImpactInheritanceCalculatorHighWatermark implements ImpactInheritan
 
   private FlyweightImpactInheritanceContext prepareData(
       Unit unit, Domain domain, String riskDefinitionId) {
+    return prepareData(
+        unit,
+        domain,
+        riskDefinitionId,
+        linkTypes -> loadFlyweightElements(unit, domain, linkTypes));
+  }
+
+  private FlyweightImpactInheritanceContext prepareData(
+      Unit unit,
+      Domain domain,
+      String riskDefinitionId,
+      Function<Set<String>, Set<FlyweightElement>> flyweightElementLoader) {
     FlyweightImpactInheritanceContext fd = new FlyweightImpactInheritanceContext();
     fd.unit = unit;
     fd.domain = domain;
@@ -439,7 +505,7 @@ public class ImpactInheritanceCalculatorHighWatermark implements ImpactInheritan
       return fd;
     }
 
-    fd.flyweightGraphElements = loadFlyweightElements(unit, domain, fd.inheritanceLinkTypes);
+    fd.flyweightGraphElements = flyweightElementLoader.apply(fd.inheritanceLinkTypes);
     if (fd.flyweightGraphElements.isEmpty()) {
       log.debug("Not a connected Graph");
       return fd;
@@ -598,15 +664,34 @@ public class ImpactInheritanceCalculatorHighWatermark implements ImpactInheritan
         .collect(Collectors.toSet());
   }
 
-  private RiskAffected<?, ?> saveAffectedElement(RiskAffected<?, ?> affectedElement) {
+  /** Saves the given elements with one batch per element type. */
+  private void saveAffectedElements(Collection<? extends Element> affectedElements) {
+    Set<Asset> assets = new HashSet<>();
+    Set<Process> processes = new HashSet<>();
+    Set<Scope> scopes = new HashSet<>();
+    affectedElements.forEach(e -> saveAffectedElement(e, assets, processes, scopes));
+    if (!assets.isEmpty()) {
+      assetRepository.saveAll(assets);
+    }
+    if (!processes.isEmpty()) {
+      processRepository.saveAll(processes);
+    }
+    if (!scopes.isEmpty()) {
+      scopeRepository.saveAll(scopes);
+    }
+  }
+
+  private void saveAffectedElement(
+      Element affectedElement, Set<Asset> assets, Set<Process> processes, Set<Scope> scopes) {
     if (affectedElement instanceof Asset asset) {
-      return assetRepository.save(asset);
+      assets.add(asset);
     } else if (affectedElement instanceof Process process) {
-      return processRepository.save(process);
+      processes.add(process);
     } else if (affectedElement instanceof Scope scope) {
-      return scopeRepository.save(scope);
+      scopes.add(scope);
+    } else {
+      throw new IllegalArgumentException();
     }
-    throw new IllegalArgumentException();
   }
 
   private Runnable initializeCalculatedImpacts(
@@ -623,12 +708,15 @@ public class ImpactInheritanceCalculatorHighWatermark implements ImpactInheritan
           Map.of(
               riskDefinitionRef,
               new ImpactValues(new HashMap<>(), maxImpactPerCategorie, null, null)));
-      changedElements.add(saveAffectedElement(affectedElement));
+      changedElements.add(affectedElement);
     };
   }
 
   private void clearCalculatedImpactsInCycle(
-      Set<? extends Element> elementsInCycle, Domain domain, RiskDefinitionRef riskDefinitionRef) {
+      Set<? extends Element> elementsInCycle,
+      Domain domain,
+      RiskDefinitionRef riskDefinitionRef,
+      Set<Element> clearedElements) {
     log.atDebug()
         .setMessage("clear calculated impact in elements : {}")
         .addArgument(() -> listNodes(elementsInCycle))
@@ -636,14 +724,17 @@ public class ImpactInheritanceCalculatorHighWatermark implements ImpactInheritan
     elementsInCycle.stream()
         .map(RiskAffected.class::cast)
         .forEach(
-            e -> e.getImpactValues(domain, riskDefinitionRef).ifPresent(clearCalculatedValues(e)));
+            e ->
+                e.getImpactValues(domain, riskDefinitionRef)
+                    .ifPresent(clearCalculatedValues(e, clearedElements)));
   }
 
-  private Consumer<ImpactValues> clearCalculatedValues(RiskAffected<?, ?> affectedElement) {
+  private Consumer<ImpactValues> clearCalculatedValues(
+      RiskAffected<?, ?> affectedElement, Set<Element> clearedElements) {
     return iv -> {
       if (!iv.potentialImpactsCalculated().isEmpty()) {
         iv.potentialImpactsCalculated().clear();
-        saveAffectedElement(affectedElement);
+        clearedElements.add(affectedElement);
       }
     };
   }
@@ -657,7 +748,7 @@ public class ImpactInheritanceCalculatorHighWatermark implements ImpactInheritan
         log.debug("{} set calculated values {}", affectedElement.getName(), maxImpactPerCategorie);
         iv.potentialImpactsCalculated().clear();
         iv.potentialImpactsCalculated().putAll(maxImpactPerCategorie);
-        changedElements.add(saveAffectedElement(affectedElement));
+        changedElements.add(affectedElement);
       }
     };
   }
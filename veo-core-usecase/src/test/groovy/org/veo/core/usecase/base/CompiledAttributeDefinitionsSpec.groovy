@@ -0,0 +1,49 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.core.usecase.base
+
+import org.veo.core.entity.definitions.attribute.EnumAttributeDefinition
+import org.veo.core.entity.definitions.attribute.ListAttributeDefinition
+import org.veo.core.entity.definitions.attribute.TextAttributeDefinition
+
+import spock.lang.Specification
+
+class CompiledAttributeDefinitionsSpec extends Specification {
+    def definitions = new CompiledAttributeDefinitions([
+        color: new EnumAttributeDefinition(["red", "green"]),
+        colors: new ListAttributeDefinition(new EnumAttributeDefinition(["red", "green"])),
+        note: new TextAttributeDefinition(),
+    ], [(Locale.ENGLISH): [color: "Color"]])
+
+    def "valid attributes produce no errors"() {
+        expect:
+        definitions.getErrors([color: "red", colors: ["green", "red"], note: "hi"]).empty
+        definitions.getErrors([:]).empty
+    }
+
+    def "invalid attributes produce the usual errors"() {
+        expect:
+        definitions.getErrors(attributes)*.getMessage(Locale.ENGLISH) == [message]
+
+        where:
+        attributes            | message
+        [color: "blue"]       | "Invalid value 'blue' for attribute 'Color': must be one of the following values: [red, green]"
+        [colors: ["blue"]]    | "Invalid value '[blue]' for attribute 'colors': Invalid value '[blue]': must be one of the following values: [red, green]"
+        [shape: "round"]      | "Attribute 'shape' is not defined"
+    }
+}
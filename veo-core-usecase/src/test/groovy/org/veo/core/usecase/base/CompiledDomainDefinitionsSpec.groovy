@@ -0,0 +1,47 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.core.usecase.base
+
+import org.veo.core.entity.Domain
+import org.veo.core.entity.ElementType
+import org.veo.core.entity.definitions.ElementTypeDefinition
+
+import spock.lang.Specification
+
+class CompiledDomainDefinitionsSpec extends Specification {
+
+    def "shared definitions are reused until the domain version changes"() {
+        given:
+        def domainId = UUID.randomUUID()
+        def domain = Mock(Domain) {
+            id >> domainId
+            version >>> [1, 1, 2]
+        }
+        def definitions = CompiledDomainDefinitions.shared()
+
+        when:
+        def first = definitions.get(domain, ElementType.ASSET)
+        def second = definitions.get(domain, ElementType.ASSET)
+        def third = definitions.get(domain, ElementType.ASSET)
+
+        then: "the definition is only compiled again for the new version"
+        2 * domain.getElementTypeDefinition(ElementType.ASSET) >> Stub(ElementTypeDefinition)
+        first.is(second)
+        !third.is(first)
+    }
+}
@@ -18,9 +18,6 @@
 package org.veo.message;
 
 import java.time.Instant;
-import java.util.Collection;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.veo.core.entity.event.StoredEvent;
 
@@ -61,14 +58,15 @@ public class EventMessage {
   Instant timestamp;
 
   public static EventMessage from(StoredEvent event) {
+    return from(event, event.getContent());
+  }
+
+  /** Creates a message for the given event with content that differs from the stored content. */
+  public static EventMessage from(StoredEvent event, String content) {
     return new EventMessage(
         event.getRoutingKey(),
-        event.getContent(),
+        content,
         event.getId(),
         event.getTimestamp() != null ? event.getTimestamp() : Instant.now());
   }
-
-  public static Set<EventMessage> messagesFrom(Collection<StoredEvent> events) {
-    return events.stream().map(EventMessage::from).collect(Collectors.toSet());
-  }
 }
@@ -0,0 +1,51 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.persistence.migrations
+
+import org.flywaydb.core.api.migration.BaseJavaMigration
+import org.flywaydb.core.api.migration.Context
+
+import groovy.sql.Sql
+import groovy.util.logging.Slf4j
+
+/**
+ * Switches stored event content to lz4 TOAST compression. This requires PostgreSQL 14 or later built
+ * with lz4 support. On other servers the default compression is kept.
+ */
+@Slf4j
+class V132__compress_stored_event_content extends BaseJavaMigration {
+
+    @Override
+    void migrate(Context context) throws Exception {
+        new Sql(context.connection).with {
+            def lz4Supported = firstRow('''
+                select 1 from pg_settings
+                    where name = 'default_toast_compression' and 'lz4' = any(enumvals);
+        ''')
+            if (!lz4Supported) {
+                log.warn("lz4 compression is not supported by the database, keeping the default compression for stored events")
+                return
+            }
+            // Only affects newly stored events, existing rows keep their compression method.
+            execute('''
+                alter table stored_event_data
+                    alter column content set compression lz4;
+        ''')
+        }
+    }
+}
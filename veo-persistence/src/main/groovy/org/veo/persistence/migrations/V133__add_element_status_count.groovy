@@ -0,0 +1,129 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.persistence.migrations
+
+import org.flywaydb.core.api.migration.BaseJavaMigration
+import org.flywaydb.core.api.migration.Context
+
+import groovy.sql.Sql
+
+/**
+ * Adds a table with the numbers of elements per unit, domain, element type, sub type and status.
+ * The table is maintained by triggers that append count deltas, so concurrent transactions never
+ * compete for the same counter row. Deltas are folded periodically by the application.
+ */
+class V133__add_element_status_count extends BaseJavaMigration {
+
+    @Override
+    void migrate(Context context) throws Exception {
+        new Sql(context.connection).with {
+            execute('''
+                create table element_status_count (
+                    id bigint generated always as identity primary key,
+                    unit_id uuid not null,
+                    domain_id uuid not null,
+                    element_type element_type not null,
+                    sub_type varchar(255) not null,
+                    status varchar(255) not null,
+                    count bigint not null
+                );
+
+                create index idx_element_status_count_unit_id_domain_id
+                    on element_status_count(unit_id, domain_id);
+
+                insert into element_status_count (unit_id, domain_id, element_type, sub_type, status, count)
+                    select e.owner_id, a.domain_id, e.dtype, a.sub_type, a.status, count(*)
+                    from element_domain_association a
+                             join element e on e.db_id = a.owner_db_id
+                    where e.owner_id is not null
+                    group by e.owner_id, a.domain_id, e.dtype, a.sub_type, a.status;
+
+                create function element_status_count_on_association_change() returns trigger
+                    language plpgsql as $$
+                begin
+                    if tg_op = 'INSERT' then
+                        insert into element_status_count (unit_id, domain_id, element_type, sub_type, status, count)
+                            select e.owner_id, n.domain_id, e.dtype, n.sub_type, n.status, count(*)
+                            from new_associations n
+                                     join element e on e.db_id = n.owner_db_id
+                            where e.owner_id is not null
+                            group by e.owner_id, n.domain_id, e.dtype, n.sub_type, n.status;
+                    elsif tg_op = 'DELETE' then
+                        insert into element_status_count (unit_id, domain_id, element_type, sub_type, status, count)
+                            select e.owner_id, o.domain_id, e.dtype, o.sub_type, o.status, -count(*)
+                            from old_associations o
+                                     join element e on e.db_id = o.owner_db_id
+                            where e.owner_id is not null
+                            group by e.owner_id, o.domain_id, e.dtype, o.sub_type, o.status;
+                    else
+                        insert into element_status_count (unit_id, domain_id, element_type, sub_type, status, count)
+                            select e.owner_id, c.domain_id, e.dtype, c.sub_type, c.status, sum(c.delta)
+                            from (select o.owner_db_id, o.domain_id, o.sub_type, o.status, -1 as delta
+                                  from old_associations o
+                                           join new_associations n on n.db_id = o.db_id
+                                  where (o.domain_id, o.sub_type, o.status) is distinct from (n.domain_id, n.sub_type, n.status)
+                                  union all
+                                  select n.owner_db_id, n.domain_id, n.sub_type, n.status, 1 as delta
+                                  from old_associations o
+                                           join new_associations n on n.db_id = o.db_id
+                                  where (o.domain_id, o.sub_type, o.status) is distinct from (n.domain_id, n.sub_type, n.status)) c
+                                     join element e on e.db_id = c.owner_db_id
+                            where e.owner_id is not null
+                            group by e.owner_id, c.domain_id, e.dtype, c.sub_type, c.status;
+                    end if;
+                    return null;
+                end;
+                $$;
+
+                create trigger element_status_count_on_association_insert
+                    after insert on element_domain_association
+                    referencing new table as new_associations
+                    for each statement execute function element_status_count_on_association_change();
+
+                create trigger element_status_count_on_association_update
+                    after update on element_domain_association
+                    referencing old table as old_associations new table as new_associations
+                    for each statement execute function element_status_count_on_association_change();
+
+                create trigger element_status_count_on_association_delete
+                    after delete on element_domain_association
+                    referencing old table as old_associations
+                    for each statement execute function element_status_count_on_association_change();
+
+                create function element_status_count_on_element_move() returns trigger
+                    language plpgsql as $$
+                begin
+                    insert into element_status_count (unit_id, domain_id, element_type, sub_type, status, count)
+                        select u.unit_id, a.domain_id, new.dtype, a.sub_type, a.status, u.delta
+                        from element_domain_association a,
+                             (values (old.owner_id, -1), (new.owner_id, 1)) as u(unit_id, delta)
+                        where a.owner_db_id = new.db_id
+                          and u.unit_id is not null;
+                    return null;
+                end;
+                $$;
+
+                create trigger element_status_count_on_element_move
+                    after update of owner_id on element
+                    for each row
+                    when (old.owner_id is distinct from new.owner_id)
+                    execute function element_status_count_on_element_move();
+        ''')
+        }
+    }
+}
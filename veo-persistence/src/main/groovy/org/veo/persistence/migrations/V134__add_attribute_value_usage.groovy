@@ -0,0 +1,158 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.persistence.migrations
+
+import org.flywaydb.core.api.migration.BaseJavaMigration
+import org.flywaydb.core.api.migration.Context
+
+import groovy.sql.Sql
+
+/**
+ * Adds an index of the attribute values used in custom aspects and custom links per unit and
+ * domain. Like the element status counts, the index is maintained by triggers that append usage
+ * count deltas which are folded periodically by the application.
+ */
+class V134__add_attribute_value_usage extends BaseJavaMigration {
+
+    @Override
+    void migrate(Context context) throws Exception {
+        new Sql(context.connection).with {
+            execute('''
+                create table attribute_value_usage (
+                    id bigint generated always as identity primary key,
+                    unit_id uuid not null,
+                    domain_id uuid not null,
+                    owner_kind varchar(16) not null,
+                    type varchar(255) not null,
+                    key varchar(255) not null,
+                    value jsonb not null,
+                    count bigint not null
+                );
+
+                create index idx_attribute_value_usage_unit_id_domain_id_type_key
+                    on attribute_value_usage(unit_id, domain_id, owner_kind, type, key);
+
+                insert into attribute_value_usage (unit_id, domain_id, owner_kind, type, key, value, count)
+                    select e.owner_id, ca.domain_id, 'CUSTOM_ASPECT', ca.type, a.key, a.value, count(*)
+                    from custom_aspect ca
+                             join element e on e.db_id = ca.owner_db_id
+                             cross join lateral jsonb_each(ca.attributes) a
+                    where e.owner_id is not null
+                      and jsonb_typeof(a.value) <> 'null'
+                    group by e.owner_id, ca.domain_id, ca.type, a.key, a.value;
+
+                insert into attribute_value_usage (unit_id, domain_id, owner_kind, type, key, value, count)
+                    select e.owner_id, l.domain_id, 'LINK', l.type, a.key, a.value, count(*)
+                    from customlink l
+                             join element e on e.db_id = l.source_id
+                             cross join lateral jsonb_each(l.attributes) a
+                    where e.owner_id is not null
+                      and jsonb_typeof(a.value) <> 'null'
+                    group by e.owner_id, l.domain_id, l.type, a.key, a.value;
+
+                -- Arguments: the column referencing the owning element, the owner kind.
+                create function attribute_value_usage_on_change() returns trigger
+                    language plpgsql as $$
+                declare
+                    template text := 'insert into attribute_value_usage (unit_id, domain_id, owner_kind, type, key, value, count)
+                            select e.owner_id, c.domain_id, %L, c.type, a.key, a.value, %s * count(*)
+                            from %I c
+                                     join element e on e.db_id = c.%I
+                                     cross join lateral jsonb_each(c.attributes) a
+                            where e.owner_id is not null
+                              and jsonb_typeof(a.value) <> ''null'' %s
+                            group by e.owner_id, c.domain_id, c.type, a.key, a.value';
+                    changed text := '';
+                begin
+                    if tg_op = 'UPDATE' then
+                        changed := format('and c.db_id in (select o.db_id
+                                from old_rows o
+                                         join new_rows n on n.db_id = o.db_id
+                                where (o.domain_id, o.type, o.attributes, o.%1$I)
+                                          is distinct from (n.domain_id, n.type, n.attributes, n.%1$I))',
+                            tg_argv[0]);
+                    end if;
+                    if tg_op in ('UPDATE', 'DELETE') then
+                        execute format(template, tg_argv[1], -1, 'old_rows', tg_argv[0], changed);
+                    end if;
+                    if tg_op in ('UPDATE', 'INSERT') then
+                        execute format(template, tg_argv[1], 1, 'new_rows', tg_argv[0], changed);
+                    end if;
+                    return null;
+                end;
+                $$;
+
+                create trigger attribute_value_usage_on_custom_aspect_insert
+                    after insert on custom_aspect
+                    referencing new table as new_rows
+                    for each statement execute function attribute_value_usage_on_change('owner_db_id', 'CUSTOM_ASPECT');
+
+                create trigger attribute_value_usage_on_custom_aspect_update
+                    after update on custom_aspect
+                    referencing old table as old_rows new table as new_rows
+                    for each statement execute function attribute_value_usage_on_change('owner_db_id', 'CUSTOM_ASPECT');
+
+                create trigger attribute_value_usage_on_custom_aspect_delete
+                    after delete on custom_aspect
+                    referencing old table as old_rows
+                    for each statement execute function attribute_value_usage_on_change('owner_db_id', 'CUSTOM_ASPECT');
+
+                create trigger attribute_value_usage_on_link_insert
+                    after insert on customlink
+                    referencing new table as new_rows
+                    for each statement execute function attribute_value_usage_on_change('source_id', 'LINK');
+
+                create trigger attribute_value_usage_on_link_update
+                    after update on customlink
+                    referencing old table as old_rows new table as new_rows
+                    for each statement execute function attribute_value_usage_on_change('source_id', 'LINK');
+
+                create trigger attribute_value_usage_on_link_delete
+                    after delete on customlink
+                    referencing old table as old_rows
+                    for each statement execute function attribute_value_usage_on_change('source_id', 'LINK');
+
+                create function attribute_value_usage_on_element_move() returns trigger
+                    language plpgsql as $$
+                begin
+                    insert into attribute_value_usage (unit_id, domain_id, owner_kind, type, key, value, count)
+                        select u.unit_id, c.domain_id, c.owner_kind, c.type, a.key, a.value, u.delta
+                        from (select domain_id, 'CUSTOM_ASPECT' as owner_kind, type, attributes
+                              from custom_aspect
+                              where owner_db_id = new.db_id
+                              union all
+                              select domain_id, 'LINK', type, attributes
+                              from customlink
+                              where source_id = new.db_id) c
+                                 cross join lateral jsonb_each(c.attributes) a,
+                             (values (old.owner_id, -1), (new.owner_id, 1)) as u(unit_id, delta)
+                        where u.unit_id is not null
+                          and jsonb_typeof(a.value) <> 'null';
+                    return null;
+                end;
+                $$;
+
+                create trigger attribute_value_usage_on_element_move
+                    after update of owner_id on element
+                    for each row
+                    when (old.owner_id is distinct from new.owner_id)
+                    execute function attribute_value_usage_on_element_move();
+        ''')
+        }
+    }
+}
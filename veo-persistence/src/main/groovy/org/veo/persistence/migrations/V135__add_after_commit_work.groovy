@@ -0,0 +1,51 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.persistence.migrations
+
+import org.flywaydb.core.api.migration.BaseJavaMigration
+import org.flywaydb.core.api.migration.Context
+
+import groovy.sql.Sql
+
+/**
+ * Adds a table for the derived data recalculations that are pending after a change has been
+ * committed. Entries are recorded together with the change and removed once the recalculation has
+ * been completed, so that incomplete recalculations can be recovered.
+ */
+class V135__add_after_commit_work extends BaseJavaMigration {
+
+    @Override
+    void migrate(Context context) throws Exception {
+        new Sql(context.connection).with {
+            execute('''
+                create table after_commit_work (
+                    id uuid primary key,
+                    client_id uuid not null,
+                    domain_id uuid,
+                    unit_id uuid,
+                    element_id uuid,
+                    element_type element_type,
+                    recorded_at timestamp(6) with time zone not null
+                );
+
+                create index idx_after_commit_work_recorded_at
+                    on after_commit_work(recorded_at);
+        ''')
+        }
+    }
+}
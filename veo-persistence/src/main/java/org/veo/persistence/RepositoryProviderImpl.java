@@ -148,6 +148,9 @@ public class RepositoryProviderImpl implements RepositoryProvider {
     if (Domain.class.isAssignableFrom(entityType)) {
       return (IdentifiableVersionedRepository<T>) domainRepository;
     }
+    if (DomainTemplate.class.isAssignableFrom(entityType)) {
+      return (IdentifiableVersionedRepository<T>) domainTemplateRepository;
+    }
     if (Unit.class.isAssignableFrom(entityType)) {
       return (IdentifiableVersionedRepository<T>) unitRepository;
     }
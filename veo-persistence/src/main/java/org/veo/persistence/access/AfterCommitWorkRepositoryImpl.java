@@ -0,0 +1,116 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.persistence.access;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.persistence.EntityManager;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import org.veo.core.entity.ElementType;
+import org.veo.core.repository.AfterCommitWork;
+import org.veo.core.repository.AfterCommitWorkRepository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class AfterCommitWorkRepositoryImpl implements AfterCommitWorkRepository {
+  private static final ObjectMapper JSON = new ObjectMapper();
+
+  private final EntityManager em;
+
+  @Override
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void add(AfterCommitWork work) {
+    // passed as JSON, because the nullable columns cannot be bound as untyped parameters
+    em.createNativeQuery(
+            """
+            insert into after_commit_work
+                (id, client_id, domain_id, unit_id, element_id, element_type, recorded_at)
+              select w.id, w."clientId", w."domainId", w."unitId", w."elementId",
+                     cast(w."elementType" as element_type), clock_timestamp()
+                from jsonb_to_record(cast(?1 as jsonb)) as w(id uuid, "clientId" uuid,
+                     "domainId" uuid, "unitId" uuid, "elementId" uuid, "elementType" text)
+            """)
+        .setParameter(1, toJson(work))
+        .executeUpdate();
+  }
+
+  @Override
+  @Transactional
+  public void remove(UUID id) {
+    em.createNativeQuery("delete from after_commit_work where id = ?1")
+        .setParameter(1, id)
+        .executeUpdate();
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<AfterCommitWork> findRecordedBefore(Instant time, int maxResults) {
+    List<Object[]> rows =
+        em.createNativeQuery(
+                """
+                select id, client_id, domain_id, unit_id, element_id, element_type::text
+                  from after_commit_work
+                  where recorded_at < ?1
+                  order by recorded_at
+                  limit ?2
+                """,
+                Object[].class)
+            .setParameter(1, time)
+            .setParameter(2, maxResults)
+            .getResultList();
+    return rows.stream()
+        .map(
+            row ->
+                new AfterCommitWork(
+                    (UUID) row[0],
+                    (UUID) row[1],
+                    (UUID) row[2],
+                    (UUID) row[3],
+                    (UUID) row[4],
+                    row[5] == null ? null : ElementType.valueOf((String) row[5])))
+        .toList();
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.MANDATORY)
+  public boolean lock(UUID id) {
+    return !em.createNativeQuery(
+            "select id from after_commit_work where id = ?1 for update skip locked")
+        .setParameter(1, id)
+        .getResultList()
+        .isEmpty();
+  }
+
+  private static String toJson(AfterCommitWork work) {
+    try {
+      return JSON.writeValueAsString(work);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Cannot serialize " + work, e);
+    }
+  }
+}
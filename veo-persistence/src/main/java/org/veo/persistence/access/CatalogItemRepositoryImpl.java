@@ -58,6 +58,15 @@ public class CatalogItemRepositoryImpl implements CatalogItemRepository {
         .collect(Collectors.toSet());
   }
 
+  @Override
+  public Set<CatalogItem> findAllByIdsFetchReferencedItems(Collection<UUID> symIds, Domain domain) {
+    if (symIds.isEmpty()) {
+      return Set.of();
+    }
+    return findAllByIdsFetchTailoringReferences(
+        catalogItemDataRepository.findReferencedSymbolicIds(symIds, domain.getId()), domain);
+  }
+
   @Override
   public CatalogItem getByIdInDomain(UUID catalogItemId, Domain domain) {
     return catalogItemDataRepository
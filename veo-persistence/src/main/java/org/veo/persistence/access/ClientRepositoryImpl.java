@@ -24,6 +24,7 @@ import java.util.stream.Collectors;
 import org.springframework.stereotype.Repository;
 
 import org.veo.core.entity.Client;
+import org.veo.core.entity.ClientState;
 import org.veo.core.repository.ClientRepository;
 import org.veo.core.repository.DomainRepository;
 import org.veo.persistence.access.jpa.ClientDataRepository;
@@ -70,6 +71,11 @@ public class ClientRepositoryImpl
         .collect(Collectors.toSet());
   }
 
+  @Override
+  public Set<UUID> findIdsByState(ClientState state) {
+    return clientDataRepository.findIdsByState(state);
+  }
+
   @Override
   public void delete(Client client) {
     userConfigurationDataRepository.deleteByClient(client.getId());
@@ -19,11 +19,14 @@ package org.veo.persistence.access;
 
 import static java.lang.String.format;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -50,9 +53,34 @@ public class DomainRepositoryImpl
     extends AbstractIdentifiableVersionedRepository<Domain, DomainData>
     implements DomainRepository {
 
+  private static final String TEMPLATE_CATALOG_ITEMS =
+      "select db_id from catalogitem where domain_template_db_id = :templateId";
+  private static final String TEMPLATE_PROFILES =
+      "select db_id from profile where domain_template_db_id = :templateId";
+  private static final String TEMPLATE_PROFILE_ITEMS =
+      "select db_id from profile_item where owner_db_id in (" + TEMPLATE_PROFILES + ")";
+
+  /**
+   * Tables that are copied from a domain template to a domain, with the conditions selecting the
+   * template's rows, in insertion order.
+   */
+  private static final List<Map.Entry<String, String>> CATALOG_TABLES =
+      List.of(
+          Map.entry("catalogitem", "domain_template_db_id = :templateId"),
+          Map.entry(
+              "catalog_tailoring_reference", "owner_db_id in (" + TEMPLATE_CATALOG_ITEMS + ")"));
+
+  private static final List<Map.Entry<String, String>> PROFILE_TABLES =
+      List.of(
+          Map.entry("profile", "domain_template_db_id = :templateId"),
+          Map.entry("profile_item", "owner_db_id in (" + TEMPLATE_PROFILES + ")"),
+          Map.entry(
+              "profile_tailoring_reference", "owner_db_id in (" + TEMPLATE_PROFILE_ITEMS + ")"));
+
   private final DomainDataRepository dataRepository;
   private final ProfileDataRepository profileDataRepository;
   private final EntityManager em;
+  private final Map<String, List<String>> columnsByTable = new ConcurrentHashMap<>();
 
   public DomainRepositoryImpl(
       DomainDataRepository dataRepository,
@@ -72,6 +100,19 @@ public class DomainRepositoryImpl
         .collect(Collectors.toSet());
   }
 
+  @Override
+  public Map<UUID, Long> findActiveVersionsByClient(UUID clientId) {
+    return dataRepository.findActiveVersionsByClient(clientId).stream()
+        .collect(Collectors.toMap(row -> (UUID) row[0], row -> (Long) row[1]));
+  }
+
+  @Override
+  public void lockForUpdate(UUID domainId) {
+    em.createNativeQuery("select db_id from domain where db_id = :domainId for update")
+        .setParameter("domainId", domainId)
+        .getResultList();
+  }
+
   @Override
   public Set<Domain> findActiveDomainsWithProfilesAndRiskDefinitions(UUID clientId) {
     return dataRepository.findActiveDomainsWithProfilesAndRiskDefinitions(clientId).stream()
@@ -184,4 +225,90 @@ public class DomainRepositoryImpl
     var domains = dataRepository.findAllByClient(clientId);
     dataRepository.deleteAll(domains);
   }
+
+  /**
+   * Copies rows with INSERT ... SELECT statements instead of mapping each template item to a new
+   * entity. New IDs are generated for the copied rows up front and stored in a temporary table,
+   * so references between the copied rows can be remapped within the statements. The column lists
+   * are read from the database schema, so columns added later are copied as well.
+   */
+  @Override
+  @Transactional
+  public void copyTemplateItems(UUID domainTemplateId, UUID domainId, boolean includeProfiles) {
+    em.flush();
+    var tables = new ArrayList<>(CATALOG_TABLES);
+    if (includeProfiles) {
+      tables.addAll(PROFILE_TABLES);
+    }
+    executeCopyStatement(
+        "create temporary table if not exists template_item_id_map (old_id uuid primary key, new_id uuid not null) on commit drop",
+        domainTemplateId,
+        domainId);
+    executeCopyStatement("delete from template_item_id_map", domainTemplateId, domainId);
+    tables.forEach(
+        table ->
+            executeCopyStatement(
+                "insert into template_item_id_map select t.db_id, gen_random_uuid() from %s t where t.%s"
+                    .formatted(table.getKey(), table.getValue()),
+                domainTemplateId,
+                domainId));
+    tables.forEach(
+        table -> {
+          var columns = getColumns(table.getKey());
+          executeCopyStatement(
+              "insert into %s (%s) select %s from %s t where t.%s"
+                  .formatted(
+                      table.getKey(),
+                      String.join(", ", columns),
+                      columns.stream()
+                          .map(DomainRepositoryImpl::copiedValue)
+                          .collect(Collectors.joining(", ")),
+                      table.getKey(),
+                      table.getValue()),
+              domainTemplateId,
+              domainId);
+        });
+    em.clear();
+  }
+
+  private void executeCopyStatement(String statement, UUID domainTemplateId, UUID domainId) {
+    var query = em.createNativeQuery(statement);
+    if (statement.contains(":templateId")) {
+      query.setParameter("templateId", domainTemplateId);
+    }
+    if (statement.contains(":domainId")) {
+      query.setParameter("domainId", domainId);
+    }
+    query.executeUpdate();
+  }
+
+  /** Returns the SQL expression for the value of the given column in a copied row. */
+  private static String copiedValue(String column) {
+    return switch (column) {
+      case "domain_db_id" -> ":domainId";
+      case "domain_template_db_id" -> "null";
+      case "symbolic_db_id" -> "t.symbolic_db_id";
+      case "version", "change_number" -> "0";
+      case "created_at", "updated_at" -> "now()";
+      // the copies are attributed to the author of the new domain
+      case "created_by", "updated_by" ->
+          "(select d.created_by from domain d where d.db_id = :domainId)";
+      default ->
+          column.equals("db_id") || column.endsWith("_db_id")
+              ? "coalesce((select m.new_id from template_item_id_map m where m.old_id = t.%s), t.%s)"
+                  .formatted(column, column)
+              : "t." + column;
+    };
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<String> getColumns(String table) {
+    return columnsByTable.computeIfAbsent(
+        table,
+        t ->
+            em.createNativeQuery(
+                    "select column_name from information_schema.columns where table_schema = current_schema() and table_name = :table order by ordinal_position")
+                .setParameter("table", t)
+                .getResultList());
+  }
 }
@@ -30,6 +30,7 @@ import java.util.stream.Stream;
 import jakarta.persistence.EntityManager;
 
 import org.apache.commons.collections4.ListUtils;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -60,9 +61,12 @@ import org.veo.core.entity.definitions.attribute.DurationAttributeDefinition;
 import org.veo.core.repository.ElementQuery;
 import org.veo.core.repository.GenericElementRepository;
 import org.veo.core.repository.GraphQuery;
+import org.veo.core.repository.GraphTraversalQuery;
 import org.veo.core.repository.LinkQuery;
 import org.veo.core.repository.PagingConfiguration;
 import org.veo.core.repository.ParentElementQuery;
+import org.veo.core.repository.RiskValueFilter;
+import org.veo.core.repository.RiskValueQuery;
 import org.veo.core.repository.SubTypeStatusCount;
 import org.veo.persistence.access.jpa.AssetDataRepository;
 import org.veo.persistence.access.jpa.ControlImplementationDataRepository;
@@ -73,8 +77,10 @@ import org.veo.persistence.access.jpa.RequirementImplementationDataRepository;
 import org.veo.persistence.access.jpa.ScopeDataRepository;
 import org.veo.persistence.access.query.ElementQueryFactory;
 import org.veo.persistence.access.query.GraphQueryImpl;
+import org.veo.persistence.access.query.GraphTraversalQueryImpl;
 import org.veo.persistence.access.query.LinkQueryImpl;
 import org.veo.persistence.access.query.ParentElementQueryImpl;
+import org.veo.persistence.access.query.RiskValueQueryImpl;
 import org.veo.persistence.entity.jpa.ControlImplementationData;
 import org.veo.persistence.entity.jpa.ElementData;
 import org.veo.persistence.entity.jpa.RequirementImplementationData;
@@ -88,54 +94,62 @@ import lombok.RequiredArgsConstructor;
 public class GenericElementRepositoryImpl implements GenericElementRepository {
   private static final ObjectMapper JSON = new ObjectMapper();
 
+  /** Lower bound for keyset pagination (PostgreSQL compares UUIDs byte by byte). */
+  private static final UUID MIN_UUID = new UUID(0, 0);
+
+  /**
+   * Deletes everything owned by the elements in a unit (given as parameter 1) except for the risks.
+   * Elements must not reference elements in other units, so this does not leave any dangling
+   * references behind.
+   */
+  private static final List<String> DELETE_ELEMENT_DEPENDENCIES_BY_UNIT =
+      List.of(
+          "delete from requirement_implementation where origin_db_id in (select db_id from element where owner_id = ?1)",
+          "delete from control_implementation where owner_db_id in (select db_id from element where owner_id = ?1)",
+          "delete from customlink where source_id in (select db_id from element where owner_id = ?1)",
+          "delete from custom_aspect where owner_db_id in (select db_id from element where owner_id = ?1)",
+          "delete from decision_results_aspect where owner_db_id in (select db_id from element where owner_id = ?1)",
+          "delete from element_domain_association where owner_db_id in (select db_id from element where owner_id = ?1)",
+          "delete from scenario_risk_values_aspect where owner_db_id in (select db_id from element where dtype = 'SCENARIO' and owner_id = ?1)",
+          "delete from impact_values_aspect where owner_db_id in (select db_id from element where dtype in ('ASSET', 'PROCESS', 'SCOPE') and owner_id = ?1)",
+          "delete from scope_risk_values_aspect where owner_db_id in (select db_id from element where dtype = 'SCOPE' and owner_id = ?1)",
+          "delete from asset_parts where composite_id in (select db_id from element where dtype = 'ASSET' and owner_id = ?1)",
+          "delete from control_parts where composite_id in (select db_id from element where dtype = 'CONTROL' and owner_id = ?1)",
+          "delete from document_parts where composite_id in (select db_id from element where dtype = 'DOCUMENT' and owner_id = ?1)",
+          "delete from incident_parts where composite_id in (select db_id from element where dtype = 'INCIDENT' and owner_id = ?1)",
+          "delete from person_parts where composite_id in (select db_id from element where dtype = 'PERSON' and owner_id = ?1)",
+          "delete from process_parts where composite_id in (select db_id from element where dtype = 'PROCESS' and owner_id = ?1)",
+          "delete from scenario_parts where composite_id in (select db_id from element where dtype = 'SCENARIO' and owner_id = ?1)",
+          "delete from scope_members where scope_id in (select db_id from element where dtype = 'SCOPE' and owner_id = ?1)",
+          "delete from riskvalues_aspect a where a.owner_db_id in (select r.db_id from abstractriskdata r where r.entity_db_id in (select db_id from element where dtype in ('ASSET', 'PROCESS', 'SCOPE') and owner_id = ?1))");
+
   /** Placeholder for the SQL expression that makes an attribute value sortable. */
   private static final String SORTABLE_VALUE_EXPRESSION_PLACEHOLDER = "${sortableValueExpression}";
 
+  /** Placeholder for the condition that skips the values up to the keyset cursor. */
+  private static final String KEYSET_CONDITION_PLACEHOLDER = "${keysetCondition}";
+
+  /**
+   * Reads the distinct attribute values from the index maintained by the database, which holds the
+   * usage counts of all attribute values per unit, domain, custom aspect / link type and key.
+   */
   private static final String USED_ATTRIBUTE_VALUES_QUERY_TEMPLATE =
       """
-    select value from (
-      select distinct
-             elem::text as value,
-             ${sortableValueExpression} as sortable_value
-      from (
-        select (select jsonb_agg(entry.value)
-                from jsonb_each(ca.attributes) as entry
-                where entry.key in (
-                    select jsonb_array_elements_text(cast(:caKeys as jsonb) -> ca.type))
-                  and jsonb_typeof(entry.value) <> 'null'
-               ) as vals
-        from custom_aspect ca
-        join element e on e.db_id = ca.owner_db_id
-        where ca.domain_id = cast(:domainId as uuid)
-          and e.owner_id = cast(:unitId as uuid)
-          and ca.type in (select jsonb_object_keys(cast(:caKeys as jsonb)))
-      ) ca_matches
-      cross join lateral jsonb_array_elements(vals) as elem
-      where vals is not null
-
-      union
-
-      select distinct
-             elem::text as value,
-             ${sortableValueExpression} as sortable_value
-      from (
-        select (select jsonb_agg(entry.value)
-                from jsonb_each(l.attributes) as entry
-                where entry.key in (
-                    select jsonb_array_elements_text(cast(:linkKeys as jsonb) -> l.type))
-                  and jsonb_typeof(entry.value) <> 'null'
-               ) as vals
-        from customlink l
-        join element e on e.db_id = l.source_id
-        where l.domain_id = cast(:domainId as uuid)
-          and e.owner_id = cast(:unitId as uuid)
-          and l.type in (select jsonb_object_keys(cast(:linkKeys as jsonb)))
-      ) link_matches
-      cross join lateral jsonb_array_elements(vals) as elem
-      where vals is not null
-    ) all_values
-    where sortable_value is not null
-    order by sortable_value asc
+    select value::text from (
+      select u.value, u.value #>> '{}' as value_text
+      from attribute_value_usage u
+      where u.unit_id = cast(:unitId as uuid)
+        and u.domain_id = cast(:domainId as uuid)
+        and ((u.owner_kind = 'CUSTOM_ASPECT'
+              and u.key in (select jsonb_array_elements_text(cast(:caKeys as jsonb) -> u.type)))
+          or (u.owner_kind = 'LINK'
+              and u.key in (select jsonb_array_elements_text(cast(:linkKeys as jsonb) -> u.type))))
+        and starts_with(lower(u.value #>> '{}'), lower(:prefix))
+        ${keysetCondition}
+      group by u.value
+      having sum(u.count) > 0
+    ) used_values
+    order by ${sortableValueExpression}, value_text
     limit :limit
     """;
 
@@ -145,11 +159,25 @@ public class GenericElementRepositoryImpl implements GenericElementRepository {
    */
   private static final String USED_GENERIC_ATTRIBUTE_VALUES_QUERY =
       USED_ATTRIBUTE_VALUES_QUERY_TEMPLATE.replace(
-          SORTABLE_VALUE_EXPRESSION_PLACEHOLDER, "elem::text");
+          SORTABLE_VALUE_EXPRESSION_PLACEHOLDER, "value_text");
 
   private static final String USED_DURATION_ATTRIBUTE_VALUES_QUERY =
       USED_ATTRIBUTE_VALUES_QUERY_TEMPLATE.replace(
-          SORTABLE_VALUE_EXPRESSION_PLACEHOLDER, "(elem #>> '{}')::interval ");
+          SORTABLE_VALUE_EXPRESSION_PLACEHOLDER, "value_text::interval");
+
+  /**
+   * Skips the values up to and including the given cursor (the plain text of the last value of the
+   * previous page). Values are ordered by their sortable representation and then by their text,
+   * because different durations may be equal as intervals (e.g. "P1D" and "PT24H").
+   */
+  private static final String GENERIC_KEYSET_CONDITION =
+      "and u.value #>> '{}' > cast(:after as text)";
+
+  private static final String DURATION_KEYSET_CONDITION =
+      """
+      and ((u.value #>> '{}')::interval, u.value #>> '{}')
+        > (cast(:after as interval), cast(:after as text))
+      """;
 
   private final ElementQueryFactory elementQueryFactory;
   private final ElementDataRepository<ElementData> dataRepository;
@@ -170,7 +198,129 @@ public class GenericElementRepositoryImpl implements GenericElementRepository {
 
   @Override
   public Set<SubTypeStatusCount> getCountsBySubType(Unit u, Domain d) {
-    return dataRepository.getCountsBySubType(u.getId(), d.getId());
+    List<Object[]> rows =
+        em.createNativeQuery(
+                """
+                select element_type::text, sub_type, status, sum(count)
+                  from element_status_count
+                  where unit_id = ?1 and domain_id = ?2
+                  group by element_type, sub_type, status
+                  having sum(count) > 0
+                """,
+                Object[].class)
+            .setParameter(1, u.getId())
+            .setParameter(2, d.getId())
+            .getResultList();
+    return rows.stream()
+        .map(
+            row ->
+                new SubTypeStatusCount(
+                    ElementType.valueOf((String) row[0]),
+                    (String) row[1],
+                    (String) row[2],
+                    ((Number) row[3]).longValue()))
+        .collect(Collectors.toSet());
+  }
+
+  @Override
+  @Transactional
+  public void compactCountsBySubType() {
+    em.createNativeQuery(
+            """
+                with folded as (
+                  delete from element_status_count
+                    where (unit_id, domain_id, element_type, sub_type, status) in (
+                      select unit_id, domain_id, element_type, sub_type, status
+                        from element_status_count
+                        group by unit_id, domain_id, element_type, sub_type, status
+                        having count(*) > 1 or sum(count) = 0)
+                    returning unit_id, domain_id, element_type, sub_type, status, count)
+                insert into element_status_count
+                    (unit_id, domain_id, element_type, sub_type, status, count)
+                  select unit_id, domain_id, element_type, sub_type, status, sum(count)
+                    from folded
+                    group by unit_id, domain_id, element_type, sub_type, status
+                    having sum(count) <> 0
+                """)
+        .executeUpdate();
+  }
+
+  @Override
+  @Transactional
+  public void compactUsedAttributeValues() {
+    em.createNativeQuery(
+            """
+                with folded as (
+                  delete from attribute_value_usage
+                    where (unit_id, domain_id, owner_kind, type, key, value) in (
+                      select unit_id, domain_id, owner_kind, type, key, value
+                        from attribute_value_usage
+                        group by unit_id, domain_id, owner_kind, type, key, value
+                        having count(*) > 1 or sum(count) = 0)
+                    returning unit_id, domain_id, owner_kind, type, key, value, count)
+                insert into attribute_value_usage
+                    (unit_id, domain_id, owner_kind, type, key, value, count)
+                  select unit_id, domain_id, owner_kind, type, key, value, sum(count)
+                    from folded
+                    group by unit_id, domain_id, owner_kind, type, key, value
+                    having sum(count) <> 0
+                """)
+        .executeUpdate();
+  }
+
+  @Override
+  @Transactional
+  public void rebuildCountsBySubType(UUID unitId) {
+    em.flush();
+    em.createNativeQuery("delete from element_status_count where unit_id = ?1")
+        .setParameter(1, unitId)
+        .executeUpdate();
+    em.createNativeQuery(
+            """
+            insert into element_status_count
+                (unit_id, domain_id, element_type, sub_type, status, count)
+              select e.owner_id, a.domain_id, e.dtype, a.sub_type, a.status, count(*)
+                from element_domain_association a
+                join element e on e.db_id = a.owner_db_id
+                where e.owner_id = ?1
+                group by e.owner_id, a.domain_id, e.dtype, a.sub_type, a.status
+            """)
+        .setParameter(1, unitId)
+        .executeUpdate();
+  }
+
+  @Override
+  @Transactional
+  public void rebuildUsedAttributeValues(UUID unitId) {
+    em.flush();
+    em.createNativeQuery("delete from attribute_value_usage where unit_id = ?1")
+        .setParameter(1, unitId)
+        .executeUpdate();
+    em.createNativeQuery(
+            """
+            insert into attribute_value_usage
+                (unit_id, domain_id, owner_kind, type, key, value, count)
+              select e.owner_id, c.domain_id, c.owner_kind, c.type, a.key, a.value, count(*)
+                from (select owner_db_id as element_id, domain_id, 'CUSTOM_ASPECT' as owner_kind,
+                             type, attributes
+                        from custom_aspect
+                      union all
+                      select source_id, domain_id, 'LINK', type, attributes
+                        from customlink) c
+                join element e on e.db_id = c.element_id
+                cross join lateral jsonb_each(c.attributes) a
+                where e.owner_id = ?1
+                  and jsonb_typeof(a.value) <> 'null'
+                group by e.owner_id, c.domain_id, c.owner_kind, c.type, a.key, a.value
+            """)
+        .setParameter(1, unitId)
+        .executeUpdate();
+  }
+
+  @Override
+  public List<UUID> findIdsByDomain(UUID domainId, UUID afterId, int limit) {
+    return dataRepository.findIdsByDomain(
+        domainId, Optional.ofNullable(afterId).orElse(MIN_UUID), PageRequest.of(0, limit));
   }
 
   @Override
@@ -199,6 +349,26 @@ public class GenericElementRepositoryImpl implements GenericElementRepository {
     return new GraphQueryImpl(em, elementId, domainId, elementType, limit);
   }
 
+  @Override
+  public GraphTraversalQuery traverseGraph(
+      UUID elementId,
+      UUID domainId,
+      int depth,
+      int neighborLimit,
+      int limit,
+      Set<ElementType> elementTypes,
+      Set<String> linkTypes) {
+    return new GraphTraversalQueryImpl(
+        em, elementId, domainId, depth, neighborLimit, limit, elementTypes, linkTypes);
+  }
+
+  @Override
+  public RiskValueQuery queryRiskValues(
+      UUID domainId, RiskValueFilter filter, UserAccessRights user) {
+    return new RiskValueQueryImpl(
+        em, domainId, filter, user.isUnitAccessRestricted() ? user.getReadableUnitIds() : null);
+  }
+
   @Override
   public LinkQuery queryLinks(Element element, Domain domain) {
     return new LinkQueryImpl(em, dataRepository, element, domain);
@@ -300,27 +470,8 @@ public class GenericElementRepositoryImpl implements GenericElementRepository {
   public void deleteByUnit(Unit unit) {
     var unitId = unit.getId();
     em.flush();
-    Stream.of(
-            "delete from requirement_implementation where origin_db_id in (select db_id from element where owner_id = ?1)",
-            "delete from control_implementation where owner_db_id in (select db_id from element where owner_id = ?1)",
-            "delete from customlink where source_id in (select db_id from element where owner_id = ?1)",
-            "delete from custom_aspect where owner_db_id in (select db_id from element where owner_id = ?1)",
-            "delete from decision_results_aspect where owner_db_id in (select db_id from element where owner_id = ?1)",
-            "delete from element_domain_association where owner_db_id in (select db_id from element where owner_id = ?1)",
-            "delete from scenario_risk_values_aspect where owner_db_id in (select db_id from element where dtype = 'SCENARIO' and owner_id = ?1)",
-            "delete from impact_values_aspect where owner_db_id in (select db_id from element where dtype in ('ASSET', 'PROCESS', 'SCOPE') and owner_id = ?1)",
-            "delete from scope_risk_values_aspect where owner_db_id in (select db_id from element where dtype = 'SCOPE' and owner_id = ?1)",
-            "delete from asset_parts where composite_id in (select db_id from element where dtype = 'ASSET' and owner_id = ?1)",
-            "delete from control_parts where composite_id in (select db_id from element where dtype = 'CONTROL' and owner_id = ?1)",
-            "delete from document_parts where composite_id in (select db_id from element where dtype = 'DOCUMENT' and owner_id = ?1)",
-            "delete from incident_parts where composite_id in (select db_id from element where dtype = 'INCIDENT' and owner_id = ?1)",
-            "delete from person_parts where composite_id in (select db_id from element where dtype = 'PERSON' and owner_id = ?1)",
-            "delete from process_parts where composite_id in (select db_id from element where dtype = 'PROCESS' and owner_id = ?1)",
-            "delete from scenario_parts where composite_id in (select db_id from element where dtype = 'SCENARIO' and owner_id = ?1)",
-            "delete from scope_members where scope_id in (select db_id from element where dtype = 'SCOPE' and owner_id = ?1)",
-            "delete from riskvalues_aspect a where a.owner_db_id in (select r.db_id from abstractriskdata r where r.entity_db_id in (select db_id from element where dtype in ('ASSET', 'PROCESS', 'SCOPE') and owner_id = ?1))")
-        .forEach(
-            statement -> em.createNativeQuery(statement).setParameter(1, unitId).executeUpdate());
+    DELETE_ELEMENT_DEPENDENCIES_BY_UNIT.forEach(
+        statement -> em.createNativeQuery(statement).setParameter(1, unitId).executeUpdate());
     em.clear();
 
     ElementQuery<Element> query = query(unit.getClient());
@@ -342,6 +493,20 @@ public class GenericElementRepositoryImpl implements GenericElementRepository {
     dataRepository.deleteAll(elements.stream().map(ElementData.class::cast).toList());
   }
 
+  @Override
+  @Transactional
+  public void purgeByUnit(UUID unitId) {
+    em.flush();
+    Stream.concat(
+            DELETE_ELEMENT_DEPENDENCIES_BY_UNIT.stream(),
+            Stream.of(
+                "delete from abstractriskdata where entity_db_id in (select db_id from element where dtype in ('ASSET', 'PROCESS', 'SCOPE') and owner_id = ?1)",
+                "delete from element where owner_id = ?1"))
+        .forEach(
+            statement -> em.createNativeQuery(statement).setParameter(1, unitId).executeUpdate());
+    em.clear();
+  }
+
   private void removeCIs(RiskAffected<?, ?> ra) {
     ListUtils.partition(
             List.copyOf(ra.getControlImplementations()), VeoConstants.DB_QUERY_CHUNK_SIZE)
@@ -391,29 +556,37 @@ public class GenericElementRepositoryImpl implements GenericElementRepository {
       Map<String, Set<String>> caKeysByType,
       Map<String, Set<String>> linkKeysByType,
       String attributeType,
+      String prefix,
+      String after,
       int limit) {
     if (caKeysByType.isEmpty() && linkKeysByType.isEmpty()) {
       return List.of();
     }
-    String query = resolveQuery(attributeType);
-    @SuppressWarnings("unchecked")
-    List<String> rows =
+    String query = resolveQuery(attributeType, after != null);
+    var nativeQuery =
         em.createNativeQuery(query)
             .setParameter("caKeys", toJson(caKeysByType))
             .setParameter("linkKeys", toJson(linkKeysByType))
             .setParameter("unitId", unitId.toString())
             .setParameter("domainId", domainId.toString())
-            .setParameter("limit", limit)
-            .getResultList();
+            .setParameter("prefix", prefix == null ? "" : prefix)
+            .setParameter("limit", limit);
+    if (after != null) {
+      nativeQuery.setParameter("after", after);
+    }
+    @SuppressWarnings("unchecked")
+    List<String> rows = nativeQuery.getResultList();
     return rows.stream().map(GenericElementRepositoryImpl::fromJson).toList();
   }
 
-  private static String resolveQuery(String attributeType) {
+  private static String resolveQuery(String attributeType, boolean paged) {
     if (DurationAttributeDefinition.TYPE.equals(attributeType)) {
-      return USED_DURATION_ATTRIBUTE_VALUES_QUERY;
+      return USED_DURATION_ATTRIBUTE_VALUES_QUERY.replace(
+          KEYSET_CONDITION_PLACEHOLDER, paged ? DURATION_KEYSET_CONDITION : "");
     }
 
-    return USED_GENERIC_ATTRIBUTE_VALUES_QUERY;
+    return USED_GENERIC_ATTRIBUTE_VALUES_QUERY.replace(
+        KEYSET_CONDITION_PLACEHOLDER, paged ? GENERIC_KEYSET_CONDITION : "");
   }
 
   private static String toJson(Object value) {
@@ -22,6 +22,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import org.veo.core.UserAccessRights;
 import org.veo.core.entity.Client;
@@ -84,4 +85,11 @@ public class UnitRepositoryImpl extends AbstractIdentifiableVersionedRepository<
   public Long count() {
     return dataRepository.count();
   }
+
+  @Override
+  @Transactional
+  public void deleteByClient(UUID clientId) {
+    dataRepository.deleteDomainAssociationsByClientId(clientId);
+    dataRepository.deleteByClientId(clientId);
+  }
 }
@@ -55,6 +55,29 @@ public interface CatalogItemDataRepository extends CrudRepository<CatalogItemDat
           """)
   Set<CatalogItemData> findAllByIdsFetchTailoringReferences(Iterable<UUID> symIds, Domain domain);
 
+  /**
+   * Returns the symbolic IDs of the given catalog items and of all items they reference directly or
+   * indirectly through tailoring references.
+   */
+  @Query(
+      value =
+          """
+         with recursive closure(db_id) as (
+             select ci.db_id from catalogitem ci
+               where ci.symbolic_db_id in ?1 and ci.domain_db_id = ?2
+           union
+             select tr.target_db_id from catalog_tailoring_reference tr
+               join closure c on tr.owner_db_id = c.db_id
+         )
+         select ci.symbolic_db_id from catalogitem ci
+           join closure c on ci.db_id = c.db_id
+         """,
+      nativeQuery = true)
+  // NOTES:
+  // - UNION (rather than UNION ALL) discards items that have already been visited, which makes
+  //   the recursion terminate for circular references.
+  Set<UUID> findReferencedSymbolicIds(Collection<UUID> symIds, UUID domainId);
+
   @Query("select ci from #{#entityName} ci where ci.domain = ?1")
   Set<CatalogItem> findAllByDomain(DomainData domain);
 
@@ -24,6 +24,7 @@ import java.util.UUID;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Query;
 
+import org.veo.core.entity.ClientState;
 import org.veo.persistence.entity.jpa.ClientData;
 
 public interface ClientDataRepository extends IdentifiableVersionedDataRepository<ClientData> {
@@ -52,4 +53,7 @@ public interface ClientDataRepository extends IdentifiableVersionedDataRepositor
               """)
   Set<ClientData> findAllActiveWhereDomainTemplateNotAppliedAndWithDomainTemplateOfName(
       UUID uuid, String name);
+
+  @Query("select c.id from #{#entityName} c where c.state = ?1")
+  Set<UUID> findIdsByState(ClientState state);
 }
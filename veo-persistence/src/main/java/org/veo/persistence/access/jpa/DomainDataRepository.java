@@ -40,6 +40,9 @@ public interface DomainDataRepository extends IdentifiableVersionedDataRepositor
       "select d from #{#entityName} d left join fetch d.elementTypeDefinitions where d.owner.id = ?1")
   Set<DomainData> findAllByClient(UUID clientId);
 
+  @Query("select d.id, d.version from #{#entityName} d where d.owner.id = ?1 and d.active = true")
+  List<Object[]> findActiveVersionsByClient(UUID clientId);
+
   @Query("select d from #{#entityName} d " + "where d.id = ?1 and d.owner.id = ?2")
   Optional<Domain> findById(UUID domainId, UUID clientId);
 
@@ -34,7 +34,6 @@ import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.transaction.annotation.Transactional;
 
-import org.veo.core.repository.SubTypeStatusCount;
 import org.veo.persistence.entity.jpa.ElementData;
 
 @Primary
@@ -119,12 +118,13 @@ public interface ElementDataRepository<T extends ElementData>
   Page<T> findAll(Specification<T> specification, Pageable pageable);
 
   @Query(
-      "SELECT new org.veo.core.repository.SubTypeStatusCount(e.elementType, a.subType, a.status, count(a.status)) from #{#entityName} as e "
+      "select e.id from #{#entityName} as e "
           + "inner join e.domainAssociations a "
-          + "where e.owner.id = ?1 "
-          + "and a.domain.id = ?2 "
-          + "group by e.elementType, a.subType, a.status")
-  Set<SubTypeStatusCount> getCountsBySubType(UUID unitId, UUID uuid);
+          + "where a.domain.id = ?1 "
+          + "and e.id > ?2 "
+          + "order by e.id")
+  @Transactional(readOnly = true)
+  List<UUID> findIdsByDomain(UUID domainId, UUID afterId, Pageable pageable);
 
   @Transactional(readOnly = true)
   @EntityGraph(attributePaths = {"scopes", "scopes.members"})
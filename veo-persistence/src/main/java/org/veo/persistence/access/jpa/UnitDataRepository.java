@@ -22,6 +22,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import org.veo.persistence.entity.jpa.UnitData;
@@ -45,4 +46,15 @@ public interface UnitDataRepository extends IdentifiableVersionedDataRepository<
       UUID uuidValue, UUID clientId, boolean restrictUnitAccess, Set<UUID> access);
 
   List<UnitData> findByDomainsId(UUID domainId);
+
+  @Query(
+      nativeQuery = true,
+      value =
+          "delete from unit_domains where unit_db_id in (select db_id from unit where client_id = ?1)")
+  @Modifying
+  void deleteDomainAssociationsByClientId(UUID clientId);
+
+  @Query(nativeQuery = true, value = "delete from unit where client_id = ?1")
+  @Modifying
+  void deleteByClientId(UUID clientId);
 }
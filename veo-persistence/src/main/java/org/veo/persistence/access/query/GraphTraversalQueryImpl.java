@@ -0,0 +1,278 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.persistence.access.query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import jakarta.persistence.EntityManager;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import org.veo.core.entity.ElementType;
+import org.veo.core.repository.GraphTraversal;
+import org.veo.core.repository.GraphTraversalQuery;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Traverses the relations of an element level by level in a single query. Each level only contains
+ * elements that have not been reached on a previous level, so every element is expanded at most
+ * once. The number of neighbors that are followed from each element and the number of elements on
+ * each level are capped, so the size of the traversal grows linearly with the depth. Nodes and
+ * edges are returned in the same result set, distinguished by the first column.
+ */
+@RequiredArgsConstructor
+public class GraphTraversalQueryImpl implements GraphTraversalQuery {
+  private static final ObjectMapper JSON = new ObjectMapper();
+  private static final String NODE = "NODE";
+
+  private final EntityManager em;
+  private final UUID elementId;
+  private final UUID domainId;
+  private final int depth;
+  private final int neighborLimit;
+  private final int limit;
+  private final Set<ElementType> elementTypes;
+  private final Set<String> linkTypes;
+
+  /** Selects the neighbors of the element {@code t} (at most {@code :neighborLimit}). */
+  private static final String NEIGHBORS =
+      """
+                select r.neighbor_id, neighbor.dtype::text as neighbor_type,
+                       r.relation_type::text as relation_type, r.source_id, r.target_id,
+                       r.link_type::text as link_type
+                from (
+                    select cl.target_id as neighbor_id, 'CUSTOM_LINK' as relation_type,
+                           cl.source_id, cl.target_id, cl.type as link_type
+                    from customlink cl
+                    where cl.source_id = t.element_id
+                      and cl.domain_id = :domainId
+
+                    union all
+
+                    select cl.source_id, 'CUSTOM_LINK', cl.source_id, cl.target_id, cl.type
+                    from customlink cl
+                    where cl.target_id = t.element_id
+                      and cl.domain_id = :domainId
+
+                    union all
+
+                    select sm.scope_id, 'PART_OR_MEMBER', sm.scope_id, sm.member_id, null
+                    from scope_members sm
+                    where sm.member_id = t.element_id
+
+                    union all
+
+                    select sm.member_id, 'PART_OR_MEMBER', sm.scope_id, sm.member_id, null
+                    from scope_members sm
+                    where sm.scope_id = t.element_id
+                      and t.element_type = 'SCOPE'
+
+                    ${partRelations}
+                ) r
+                join element neighbor on neighbor.db_id = r.neighbor_id
+                join element_domain_association neighbor_eda
+                  on neighbor_eda.owner_db_id = r.neighbor_id
+                 and neighbor_eda.domain_id = :domainId
+                where r.neighbor_id <> t.element_id
+                  and (jsonb_array_length(cast(:elementTypes as jsonb)) = 0
+                    or neighbor.dtype::text in (
+                        select jsonb_array_elements_text(cast(:elementTypes as jsonb))))
+                  and (r.relation_type <> 'CUSTOM_LINK'
+                    or jsonb_array_length(cast(:linkTypes as jsonb)) = 0
+                    or r.link_type in (
+                        select jsonb_array_elements_text(cast(:linkTypes as jsonb))))
+                order by r.neighbor_id
+                limit :neighborLimit
+      """
+          .replace(
+              "${partRelations}",
+              Arrays.stream(ElementType.values())
+                  .filter(type -> type != ElementType.SCOPE)
+                  .map(GraphTraversalQueryImpl::partRelations)
+                  .collect(Collectors.joining()));
+
+  /**
+   * Expands the elements of the previous level. Relations to elements that have already been
+   * reached are kept as edges, but only new elements form the next level, which is capped at {@code
+   * :limit} elements.
+   */
+  private static final String LEVEL =
+      """
+        expansion${level} as materialized (
+            select n.*
+            from level${previous} t
+            cross join lateral (
+                ${neighbors}
+            ) n
+        ),
+
+        level${level} as (
+            select distinct on (x.neighbor_id)
+                   x.neighbor_id as element_id, x.neighbor_type as element_type, ${level} as depth
+            from expansion${level} x
+            where x.neighbor_id not in (${visited})
+            order by x.neighbor_id
+            limit :limit
+        ),
+      """;
+
+  private static final String QUERY =
+      """
+        with level0 as (
+            select e.db_id as element_id, e.dtype::text as element_type, 0 as depth
+            from element e
+            where e.db_id = :elementId
+        ),
+
+        ${levels}
+
+        nodes as (
+            ${nodes}
+        ),
+
+        edges as (
+            ${edges}
+        ),
+
+        limited_nodes as (
+            select n.element_id, n.element_type, n.depth
+            from nodes n
+            order by n.depth, n.element_id
+            limit :limit
+        )
+
+        select 'NODE', ln.element_id, null::uuid, ln.element_type,
+               concat_ws(' ', e.designator, e.abbreviation, e.name), eda.sub_type, ln.depth,
+               (select count(*) from nodes)
+        from limited_nodes ln
+        join element e on e.db_id = ln.element_id
+        left join element_domain_association eda
+          on eda.owner_db_id = ln.element_id
+         and eda.domain_id = :domainId
+
+        union all
+
+        select distinct 'EDGE', ed.source_id, ed.target_id, ed.relation_type, ed.link_type, null,
+               null, null
+        from edges ed
+        where ed.source_id in (select element_id from limited_nodes)
+          and ed.target_id in (select element_id from limited_nodes)
+    """;
+
+  private static String partRelations(ElementType elementType) {
+    return """
+                    union all
+
+                    select p.part_id, 'PART_OR_MEMBER', p.composite_id, p.part_id, null
+                    from ${table} p
+                    where p.composite_id = t.element_id
+                      and t.element_type = '${type}'
+
+                    union all
+
+                    select p.composite_id, 'PART_OR_MEMBER', p.composite_id, p.part_id, null
+                    from ${table} p
+                    where p.part_id = t.element_id
+                      and t.element_type = '${type}'
+        """
+        .replace("${table}", elementType.name().toLowerCase(Locale.ROOT) + "_parts")
+        .replace("${type}", elementType.name());
+  }
+
+  private static String buildQuery(int depth) {
+    var levels = new StringBuilder();
+    var levelNames = new ArrayList<>(List.of("level0"));
+    var edges = new ArrayList<String>();
+    for (int level = 1; level <= depth; level++) {
+      levels.append(
+          LEVEL
+              .replace("${neighbors}", NEIGHBORS)
+              .replace("${visited}", union(levelNames, "select element_id from "))
+              .replace("${previous}", String.valueOf(level - 1))
+              .replace("${level}", String.valueOf(level)));
+      levelNames.add("level" + level);
+      edges.add("expansion" + level);
+    }
+    return QUERY
+        .replace("${levels}", levels)
+        .replace("${nodes}", union(levelNames, "select * from "))
+        .replace(
+            "${edges}",
+            edges.isEmpty()
+                ? "select null::uuid as source_id, null::uuid as target_id,"
+                    + " null::text as relation_type, null::text as link_type where false"
+                : union(edges, "select source_id, target_id, relation_type, link_type from "));
+  }
+
+  private static String union(List<String> tables, String select) {
+    return tables.stream().map(select::concat).collect(Collectors.joining(" union all "));
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  @Transactional(readOnly = true)
+  public GraphTraversal execute() {
+    List<Object[]> rows =
+        em.createNativeQuery(buildQuery(depth))
+            .setParameter("elementId", elementId)
+            .setParameter("domainId", domainId)
+            .setParameter("neighborLimit", neighborLimit)
+            .setParameter("limit", limit)
+            .setParameter("elementTypes", toJson(elementTypes.stream().map(Enum::name).toList()))
+            .setParameter("linkTypes", toJson(linkTypes))
+            .getResultList();
+    var nodes = new ArrayList<GraphTraversal.Node>();
+    var edges = new ArrayList<GraphTraversal.Edge>();
+    long totalCount = 0;
+    for (Object[] row : rows) {
+      if (NODE.equals(row[0])) {
+        nodes.add(
+            new GraphTraversal.Node(
+                (UUID) row[1],
+                ElementType.valueOf((String) row[3]),
+                (String) row[4],
+                (String) row[5],
+                ((Number) row[6]).intValue()));
+        totalCount = ((Number) row[7]).longValue();
+      } else {
+        edges.add(
+            new GraphTraversal.Edge(
+                (String) row[3], (UUID) row[1], (UUID) row[2], (String) row[4]));
+      }
+    }
+    return new GraphTraversal(nodes, edges, totalCount);
+  }
+
+  private static String toJson(Collection<String> values) {
+    try {
+      return JSON.writeValueAsString(values);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Cannot serialize graph filter", e);
+    }
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.persistence.access.query;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Encodes the position of a result in the sort order of a keyset-paged query as URL-safe Base64 of
+ * a JSON array of the sort key values.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class KeysetCursors {
+  private static final ObjectMapper JSON = new ObjectMapper();
+
+  static String encode(Object... sortKey) {
+    try {
+      return Base64.getUrlEncoder()
+          .withoutPadding()
+          .encodeToString(JSON.writeValueAsString(sortKey).getBytes(StandardCharsets.UTF_8));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Cannot encode cursor", e);
+    }
+  }
+
+  /**
+   * Decodes a cursor and maps its sort key values with the given factory.
+   *
+   * @throws IllegalArgumentException if the cursor is malformed or the factory rejects its values
+   */
+  static <T> T decode(String cursor, Function<Object[], T> factory) {
+    try {
+      return factory.apply(JSON.readValue(Base64.getUrlDecoder().decode(cursor), Object[].class));
+    } catch (IOException | RuntimeException e) {
+      throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+    }
+  }
+}
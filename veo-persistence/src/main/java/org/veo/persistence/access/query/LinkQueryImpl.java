@@ -31,6 +31,7 @@ import org.veo.core.entity.Domain;
 import org.veo.core.entity.Element;
 import org.veo.core.entity.InOrOutboundLink;
 import org.veo.core.entity.LinkDirection;
+import org.veo.core.repository.KeysetPage;
 import org.veo.core.repository.LinkQuery;
 import org.veo.core.repository.PagedResult;
 import org.veo.core.repository.PagingConfiguration;
@@ -39,6 +40,12 @@ import org.veo.persistence.entity.jpa.ElementData;
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * Reads the links of an element with a single statement. Links are ordered by the sort key and then
+ * by direction, type and linked element ID, which identify a link uniquely, so pages can be
+ * continued from the last link of the previous page. Linked elements are loaded with their domain
+ * associations only, which is all that is needed to reference them.
+ */
 @RequiredArgsConstructor
 public class LinkQueryImpl implements LinkQuery {
   public static final String WITH_LINK_SUB_QUERY =
@@ -49,6 +56,33 @@ public class LinkQueryImpl implements LinkQuery {
                   (select 'OUTBOUND' as direction, type, customlink.domain_id, target_id as element_id
                    from customlink where source_id = :elementId and domain_id = :domainId))
 """;
+
+  /**
+   * Selects a page of links. The total count is read from the materialized CTE in the same
+   * statement.
+   */
+  private static final String PAGE_QUERY =
+      """
+        select l.direction, l.type, l.element_id,
+               ${sortValue} is null as sort_value_null,
+               coalesce(${sortValue}, '') as sort_value,
+               ${totalCount} as total_count
+        from l
+        join element e on e.db_id = l.element_id
+        ${keysetCondition}
+        order by ${sortValue} is null ${order}, coalesce(${sortValue}, '') ${order},
+                 l.direction ${order}, l.type ${order}, l.element_id ${order}
+        limit :limit offset :offset
+      """;
+
+  private static final String KEYSET_CONDITION =
+      """
+        where (${sortValue} is null, coalesce(${sortValue}, ''), l.direction, l.type,
+               l.element_id)
+              ${comparator} (:afterSortValueNull, :afterSortValue, :afterDirection, :afterType,
+               :afterElementId)
+      """;
+
   private final EntityManager em;
   private final ElementDataRepository<ElementData> elementDataRepository;
   private final Element element;
@@ -58,55 +92,149 @@ public class LinkQueryImpl implements LinkQuery {
   @Transactional(readOnly = true)
   public PagedResult<InOrOutboundLink, SortCriterion> execute(
       PagingConfiguration<SortCriterion> pagingConfig) {
-    var totalResultCount = (long) linkQuery("select count(*) from l;").getSingleResult();
-    var totalPages = (int) Math.ceilDiv(totalResultCount, pagingConfig.pageSize());
-    List<Object[]> resultList =
-        linkQuery(
-                "select l.direction, l.type, l.element_id from l\n"
-                    + join(pagingConfig.sortColumn())
-                    + order(pagingConfig.sortColumn(), pagingConfig.sortOrder())
-                    + "limit :limit offset :offset;")
+    var query =
+        em.createNativeQuery(
+                WITH_LINK_SUB_QUERY
+                    + buildQuery(
+                        pagingConfig.sortColumn(), pagingConfig.sortOrder(), false, true))
             .setParameter("limit", pagingConfig.pageSize())
-            .setParameter("offset", pagingConfig.pageNumber() * pagingConfig.pageSize())
-            .getResultList();
+            .setParameter("offset", pagingConfig.pageNumber() * pagingConfig.pageSize());
+    List<Object[]> rows = getResultList(query);
+    long totalResultCount = totalCount(rows, pagingConfig.pageNumber() > 0);
+    var totalPages = (int) Math.ceilDiv(totalResultCount, pagingConfig.pageSize());
+    return new PagedResult<>(pagingConfig, toLinks(rows), totalResultCount, totalPages);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public KeysetPage<InOrOutboundLink> executeAfter(
+      int pageSize,
+      SortCriterion sortColumn,
+      PagingConfiguration.SortOrder sortOrder,
+      String cursor,
+      boolean countTotal) {
+    var query =
+        em.createNativeQuery(
+                WITH_LINK_SUB_QUERY
+                    + buildQuery(sortColumn, sortOrder, cursor != null, countTotal))
+            // one additional link is read to find out whether there is a next page
+            .setParameter("limit", (long) pageSize + 1)
+            .setParameter("offset", 0);
+    if (cursor != null) {
+      var after = Cursor.decode(cursor);
+      query
+          .setParameter("afterSortValueNull", after.sortValueNull())
+          .setParameter("afterSortValue", after.sortValue())
+          .setParameter("afterDirection", after.direction())
+          .setParameter("afterType", after.type())
+          .setParameter("afterElementId", after.elementId());
+    }
+    List<Object[]> rows = getResultList(query);
+    Long totalResultCount = null;
+    if (countTotal) {
+      totalResultCount = totalCount(rows, cursor != null);
+    }
+    String nextCursor = null;
+    if (rows.size() > pageSize) {
+      rows = rows.subList(0, pageSize);
+      nextCursor = Cursor.of(rows.getLast()).encode();
+    }
+    return new KeysetPage<>(toLinks(rows), nextCursor, totalResultCount);
+  }
+
+  private String buildQuery(
+      SortCriterion sortColumn,
+      PagingConfiguration.SortOrder sortOrder,
+      boolean continued,
+      boolean countTotal) {
+    var keysetCondition =
+        continued
+            ? KEYSET_CONDITION.replace(
+                "${comparator}", sortOrder == PagingConfiguration.SortOrder.ASCENDING ? ">" : "<")
+            : "";
+    return PAGE_QUERY
+        .replace("${keysetCondition}", keysetCondition)
+        .replace("${totalCount}", countTotal ? "(select count(*) from l)" : "null")
+        .replace("${sortValue}", sortValue(sortColumn))
+        .replace("${order}", sortOrder.getSqlKeyword());
+  }
+
+  private static String sortValue(SortCriterion sortColumn) {
+    return switch (sortColumn) {
+      case DIRECTION -> "l.direction";
+      case LINKED_ELEMENT_ABBREVIATION -> "e.abbreviation";
+      case LINKED_ELEMENT_NAME -> "e.name";
+    };
+  }
+
+  /**
+   * Reads the total count from the first row. An empty page only requires a separate count if it
+   * is not the first page.
+   */
+  private long totalCount(List<Object[]> rows, boolean skipped) {
+    if (!rows.isEmpty()) {
+      return ((Number) rows.getFirst()[5]).longValue();
+    }
+    return skipped ? countLinks() : 0;
+  }
+
+  private long countLinks() {
+    return ((Number)
+            em.createNativeQuery(WITH_LINK_SUB_QUERY + "select count(*) from l;")
+                .setParameter("elementId", element.getId())
+                .setParameter("domainId", domain.getId())
+                .getSingleResult())
+        .longValue();
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<Object[]> getResultList(Query query) {
+    return query
+        .setParameter("elementId", element.getId())
+        .setParameter("domainId", domain.getId())
+        .getResultList();
+  }
+
+  private List<InOrOutboundLink> toLinks(List<Object[]> rows) {
     var linkedElementsById =
         elementDataRepository
-            .findAllById(resultList.stream().map(row -> (UUID) row[2]).distinct().toList())
+            .findAllWithDomainAssociationsByIdIn(
+                rows.stream().map(row -> (UUID) row[2]).distinct().toList())
             .stream()
             .collect(Collectors.toMap(Element::getId, Function.identity()));
-    var pageItems =
-        resultList.stream()
-            .map(
-                row ->
-                    new InOrOutboundLink(
-                        LinkDirection.valueOf((String) row[0]),
-                        (String) row[1],
-                        linkedElementsById.get((UUID) row[2])))
-            .toList();
-    return new PagedResult<>(pagingConfig, pageItems, totalResultCount, totalPages);
+    return rows.stream()
+        .map(
+            row ->
+                new InOrOutboundLink(
+                    LinkDirection.valueOf((String) row[0]),
+                    (String) row[1],
+                    linkedElementsById.get((UUID) row[2])))
+        .toList();
   }
 
-  private String order(SortCriterion sortColumn, PagingConfiguration.SortOrder sortOrder) {
-    var col =
-        switch (sortColumn) {
-          case DIRECTION -> "l.direction";
-          case LINKED_ELEMENT_ABBREVIATION -> "e.abbreviation";
-          case LINKED_ELEMENT_NAME -> "e.name";
-        };
-    return "order by " + col + " " + sortOrder.getSqlKeyword() + "\n";
-  }
+  /** Position of a link in the sort order, encoded as URL-safe Base64 of a JSON array. */
+  private record Cursor(
+      boolean sortValueNull, String sortValue, String direction, String type, UUID elementId) {
 
-  private String join(SortCriterion sortColumn) {
-    if (sortColumn == SortCriterion.LINKED_ELEMENT_ABBREVIATION
-        || sortColumn == SortCriterion.LINKED_ELEMENT_NAME) {
-      return "inner join element as e on e.db_id = l.element_id\n";
+    static Cursor of(Object[] row) {
+      return new Cursor(
+          (Boolean) row[3], (String) row[4], (String) row[0], (String) row[1], (UUID) row[2]);
     }
-    return "";
-  }
 
-  private Query linkQuery(String query) {
-    return em.createNativeQuery(WITH_LINK_SUB_QUERY + query)
-        .setParameter("elementId", element.getId())
-        .setParameter("domainId", domain.getId());
+    static Cursor decode(String cursor) {
+      return KeysetCursors.decode(
+          cursor,
+          values ->
+              new Cursor(
+                  (Boolean) values[0],
+                  (String) values[1],
+                  (String) values[2],
+                  (String) values[3],
+                  UUID.fromString((String) values[4])));
+    }
+
+    String encode() {
+      return KeysetCursors.encode(sortValueNull, sortValue, direction, type, elementId);
+    }
   }
 }
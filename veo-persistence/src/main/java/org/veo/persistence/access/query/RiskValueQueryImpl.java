@@ -0,0 +1,242 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.persistence.access.query;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import org.veo.core.entity.ElementType;
+import org.veo.core.repository.KeysetPage;
+import org.veo.core.repository.RiskValueFilter;
+import org.veo.core.repository.RiskValueQuery;
+import org.veo.core.repository.RiskValueSummary;
+import org.veo.core.repository.RiskValueSummary.ElementSummary;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reads risk values with a single statement that joins the risks with their elements and unnests
+ * the risk categories of their risk value aspects, so no risk entities are loaded. Risks without
+ * risk values in the domain are omitted. Results are
+ * ordered by residual risk and then by risk, risk definition and category, which identify a result
+ * uniquely, so pages can be continued from the last result of the previous page.
+ */
+@RequiredArgsConstructor
+public class RiskValueQueryImpl implements RiskValueQuery {
+  private static final String RESIDUAL_RISK =
+      "coalesce((rc.value->>'userDefinedResidualRisk')::numeric,"
+          + " (rc.value->>'inherentRisk')::numeric)";
+
+  private static final String QUERY =
+      """
+        select r.designator,
+               e.db_id, e.dtype::text, e.designator, e.name,
+               s.db_id, s.dtype::text, s.designator, s.name,
+               c.db_id, c.dtype::text, c.designator, c.name,
+               p.db_id, p.dtype::text, p.designator, p.name,
+               a.risk_definition,
+               rc.value->>'category',
+               (a.probability->>'effectiveProbability')::numeric,
+               (select (i->>'effectiveImpact')::numeric
+                from jsonb_array_elements(a.impact_categories) i
+                where i->>'category' = rc.value->>'category'),
+               (rc.value->>'inherentRisk')::numeric,
+               ${residualRisk},
+               r.db_id,
+               a.risk_definition,
+               coalesce(rc.value->>'category', '')
+        from abstractriskdata r
+        join element e on e.db_id = r.entity_db_id
+        join element_domain_association eda
+          on eda.owner_db_id = e.db_id and eda.domain_id = :domainId
+        join element s on s.db_id = r.scenario_db_id
+        left join element c on c.db_id = r.control_id
+        left join element p on p.db_id = r.person_id
+        join riskvalues_aspect a on a.owner_db_id = r.db_id and a.domain_id = :domainId
+        left join lateral jsonb_array_elements(a.risk_categories) rc(value) on true
+        where true
+        ${conditions}
+        order by coalesce(${residualRisk}, -1) desc, r.db_id desc,
+                 a.risk_definition desc, coalesce(rc.value->>'category', '') desc
+        limit :limit
+      """;
+
+  private static final String KEYSET_CONDITION =
+      """
+        and (coalesce(${residualRisk}, -1), r.db_id, a.risk_definition,
+             coalesce(rc.value->>'category', ''))
+            < (:afterResidualRisk, :afterRiskId, :afterRiskDefinition, :afterCategory)
+      """;
+
+  private final EntityManager em;
+  private final UUID domainId;
+  private final RiskValueFilter filter;
+
+  /** The units whose risks may be read, {@code null} if the user may read all units. */
+  private final Set<UUID> readableUnitIds;
+
+  @Override
+  @Transactional(readOnly = true)
+  public KeysetPage<RiskValueSummary> execute(int pageSize, String cursor) {
+    if (readableUnitIds != null && readableUnitIds.isEmpty()) {
+      return new KeysetPage<>(List.of(), null, null);
+    }
+    var query =
+        em.createNativeQuery(buildQuery(cursor != null))
+            .setParameter("domainId", domainId)
+            // one additional row is read to find out whether there is a next page
+            .setParameter("limit", (long) pageSize + 1);
+    bindFilter(query);
+    if (cursor != null) {
+      var after = Cursor.decode(cursor);
+      query
+          .setParameter("afterResidualRisk", after.residualRisk())
+          .setParameter("afterRiskId", after.riskId())
+          .setParameter("afterRiskDefinition", after.riskDefinition())
+          .setParameter("afterCategory", after.category());
+    }
+    @SuppressWarnings("unchecked")
+    List<Object[]> rows = query.getResultList();
+    String nextCursor = null;
+    if (rows.size() > pageSize) {
+      rows = rows.subList(0, pageSize);
+      nextCursor = Cursor.of(rows.getLast()).encode();
+    }
+    return new KeysetPage<>(
+        rows.stream().map(RiskValueQueryImpl::toSummary).toList(), nextCursor, null);
+  }
+
+  private String buildQuery(boolean continued) {
+    var conditions = new StringBuilder();
+    if (readableUnitIds != null) {
+      conditions.append(" and e.owner_id in (:readableUnitIds)");
+    }
+    if (filter.unitId() != null) {
+      conditions.append(" and e.owner_id = :unitId");
+    }
+    if (filter.riskDefinitionId() != null) {
+      conditions.append(" and a.risk_definition = :riskDefinitionId");
+    }
+    if (filter.category() != null) {
+      conditions.append(" and rc.value->>'category' = :category");
+    }
+    if (!isEmpty(filter.inherentRisks())) {
+      conditions.append(" and (rc.value->>'inherentRisk')::numeric in (:inherentRisks)");
+    }
+    if (!isEmpty(filter.residualRisks())) {
+      conditions.append(" and ${residualRisk} in (:residualRisks)");
+    }
+    if (continued) {
+      conditions.append(KEYSET_CONDITION);
+    }
+    return QUERY
+        .replace("${conditions}", conditions)
+        .replace("${residualRisk}", RESIDUAL_RISK);
+  }
+
+  private void bindFilter(Query query) {
+    if (readableUnitIds != null) {
+      query.setParameter("readableUnitIds", readableUnitIds);
+    }
+    if (filter.unitId() != null) {
+      query.setParameter("unitId", filter.unitId());
+    }
+    if (filter.riskDefinitionId() != null) {
+      query.setParameter("riskDefinitionId", filter.riskDefinitionId());
+    }
+    if (filter.category() != null) {
+      query.setParameter("category", filter.category());
+    }
+    if (!isEmpty(filter.inherentRisks())) {
+      query.setParameter("inherentRisks", toNumeric(filter.inherentRisks()));
+    }
+    if (!isEmpty(filter.residualRisks())) {
+      query.setParameter("residualRisks", toNumeric(filter.residualRisks()));
+    }
+  }
+
+  private static boolean isEmpty(Set<Integer> levels) {
+    return levels == null || levels.isEmpty();
+  }
+
+  private static List<BigDecimal> toNumeric(Set<Integer> levels) {
+    return levels.stream().map(BigDecimal::valueOf).toList();
+  }
+
+  private static RiskValueSummary toSummary(Object[] row) {
+    return new RiskValueSummary(
+        (String) row[0],
+        toElementSummary(row, 1),
+        toElementSummary(row, 5),
+        toElementSummary(row, 9),
+        toElementSummary(row, 13),
+        (String) row[17],
+        (String) row[18],
+        (BigDecimal) row[19],
+        (BigDecimal) row[20],
+        (BigDecimal) row[21],
+        (BigDecimal) row[22]);
+  }
+
+  private static ElementSummary toElementSummary(Object[] row, int offset) {
+    if (row[offset] == null) {
+      return null;
+    }
+    return new ElementSummary(
+        (UUID) row[offset],
+        ElementType.valueOf((String) row[offset + 1]),
+        (String) row[offset + 2],
+        (String) row[offset + 3]);
+  }
+
+  /** Position of a result in the sort order, encoded as URL-safe Base64 of a JSON array. */
+  private record Cursor(
+      BigDecimal residualRisk, UUID riskId, String riskDefinition, String category) {
+
+    static Cursor of(Object[] row) {
+      var residualRisk = (BigDecimal) row[22];
+      return new Cursor(
+          residualRisk == null ? BigDecimal.ONE.negate() : residualRisk,
+          (UUID) row[23],
+          (String) row[24],
+          (String) row[25]);
+    }
+
+    static Cursor decode(String cursor) {
+      return KeysetCursors.decode(
+          cursor,
+          values ->
+              new Cursor(
+                  new BigDecimal(values[0].toString()),
+                  UUID.fromString((String) values[1]),
+                  (String) values[2],
+                  (String) values[3]));
+    }
+
+    String encode() {
+      return KeysetCursors.encode(residualRisk, riskId, riskDefinition, category);
+    }
+  }
+}
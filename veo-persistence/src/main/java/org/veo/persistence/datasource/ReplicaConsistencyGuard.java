@@ -0,0 +1,136 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.persistence.datasource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Decides whether read-only transactions may use the replica. After a client has written data, its
+ * reads are pinned to the primary until the replica has replayed the write (based on the WAL
+ * position) or until the configured pin window has passed, whichever comes first. Reads without a
+ * client context (e.g. background jobs) always use the primary.
+ */
+@Slf4j
+public class ReplicaConsistencyGuard {
+  private static final String PRIMARY_LSN_QUERY =
+      "select pg_wal_lsn_diff(pg_current_wal_insert_lsn(), '0/0')::bigint";
+  private static final String REPLAY_LSN_QUERY =
+      "select pg_wal_lsn_diff(pg_last_wal_replay_lsn(), '0/0')::bigint";
+  private static final long UNKNOWN_LSN = -1;
+
+  private final JdbcTemplate primary;
+  private final JdbcTemplate replica;
+  private final Supplier<Optional<UUID>> currentClient;
+  private final Duration pinWindow;
+  private final Duration replayLsnMaxAge;
+  private final boolean trackLsn;
+  private final Clock clock;
+
+  private final Map<UUID, Write> lastWrites = new ConcurrentHashMap<>();
+  private volatile ReplayPosition replayPosition = new ReplayPosition(UNKNOWN_LSN, Instant.MIN);
+
+  public ReplicaConsistencyGuard(
+      DataSource primary,
+      DataSource replica,
+      Supplier<Optional<UUID>> currentClient,
+      Duration pinWindow,
+      Duration replayLsnMaxAge,
+      boolean trackLsn,
+      Clock clock) {
+    this.primary = new JdbcTemplate(primary);
+    this.replica = new JdbcTemplate(replica);
+    this.currentClient = currentClient;
+    this.pinWindow = pinWindow;
+    this.replayLsnMaxAge = replayLsnMaxAge;
+    this.trackLsn = trackLsn;
+    this.clock = clock;
+  }
+
+  /** Must be called after a write transaction on behalf of given client has been committed. */
+  public void recordWrite(UUID clientId) {
+    var lsn = trackLsn ? queryLsn(primary, PRIMARY_LSN_QUERY) : UNKNOWN_LSN;
+    lastWrites.put(clientId, new Write(clock.instant(), lsn));
+  }
+
+  /** Determines whether the current read-only transaction may be served by the replica. */
+  public boolean mayReadFromReplica() {
+    return currentClient.get().map(clientId -> !isPinned(clientId)).orElse(false);
+  }
+
+  private boolean isPinned(UUID clientId) {
+    var write = lastWrites.get(clientId);
+    if (write == null) {
+      return false;
+    }
+    if (write.time().plus(pinWindow).isBefore(clock.instant())) {
+      lastWrites.remove(clientId, write);
+      return false;
+    }
+    if (write.lsn() == UNKNOWN_LSN) {
+      return true;
+    }
+    var replayed = getReplayLsn();
+    if (replayed == UNKNOWN_LSN || replayed < write.lsn()) {
+      return true;
+    }
+    lastWrites.remove(clientId, write);
+    return false;
+  }
+
+  /**
+   * Returns the last WAL position replayed by the replica. The position is cached briefly, so a
+   * burst of reads does not cause a burst of replica status queries.
+   */
+  private long getReplayLsn() {
+    var position = replayPosition;
+    var now = clock.instant();
+    if (position.fetchedAt().plus(replayLsnMaxAge).isBefore(now)) {
+      position = new ReplayPosition(queryLsn(replica, REPLAY_LSN_QUERY), now);
+      replayPosition = position;
+    }
+    return position.lsn();
+  }
+
+  private static long queryLsn(JdbcTemplate jdbcTemplate, String query) {
+    try {
+      return Optional.ofNullable(jdbcTemplate.queryForObject(query, Long.class))
+          .orElse(UNKNOWN_LSN);
+    } catch (DataAccessException e) {
+      log.warn("Failed to determine WAL position", e);
+      return UNKNOWN_LSN;
+    }
+  }
+
+  private record Write(Instant time, long lsn) {}
+
+  private record ReplayPosition(long lsn, Instant fetchedAt) {}
+}
@@ -0,0 +1,73 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.persistence.datasource;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Serves read-only connections from the replica unless the {@link ReplicaConsistencyGuard} requires
+ * the current client to read from the primary. This is meant to be used as the read-only data
+ * source of a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, so the
+ * routing decision is made when a read-only transaction actually needs a connection.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+  private static final String PRIMARY = "primary";
+  private static final String REPLICA = "replica";
+
+  private final ReplicaConsistencyGuard guard;
+  private final Counter primaryReads;
+  private final Counter replicaReads;
+
+  public ReplicaRoutingDataSource(
+      DataSource primary,
+      DataSource replica,
+      ReplicaConsistencyGuard guard,
+      MeterRegistry meterRegistry) {
+    this.guard = guard;
+    this.primaryReads = readCounter(meterRegistry, PRIMARY);
+    this.replicaReads = readCounter(meterRegistry, REPLICA);
+    setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+    setDefaultTargetDataSource(primary);
+    setLenientFallback(false);
+    afterPropertiesSet();
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (guard.mayReadFromReplica()) {
+      replicaReads.increment();
+      return REPLICA;
+    }
+    primaryReads.increment();
+    return PRIMARY;
+  }
+
+  private static Counter readCounter(MeterRegistry meterRegistry, String target) {
+    return Counter.builder("veo.datasource.read.connections")
+        .description("Connections obtained for read-only transactions")
+        .tag("pool", target)
+        .register(meterRegistry);
+  }
+}
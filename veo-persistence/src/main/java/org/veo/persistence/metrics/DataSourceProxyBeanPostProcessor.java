@@ -126,6 +126,7 @@ public class DataSourceProxyBeanPostProcessor implements BeanPostProcessor {
                       && method.getName().equals("next")) {
                     int totalResultSetRowsRead =
                         DataSourceProxyBeanPostProcessor.TOTAL_RESULT_ROWS_READ.incrementAndGet();
+                    ExecutionStatistics.recordRow();
                     log.debug("Total ResultSet rows processed: {}", totalResultSetRowsRead);
                   }
                 });
@@ -0,0 +1,87 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.persistence.metrics;
+
+import java.util.Optional;
+
+import lombok.Getter;
+
+/**
+ * Collects persistence statistics (JDBC statements, result set rows, loaded entities) for a unit of
+ * work that is executed on the current thread, e.g. a use case. Collection is cheap: listeners only
+ * increment counters of the statistics bound to their thread, if there are any.
+ */
+@Getter
+public final class ExecutionStatistics implements AutoCloseable {
+  private static final ThreadLocal<ExecutionStatistics> CURRENT = new ThreadLocal<>();
+
+  private final ExecutionStatistics previous;
+  private int statements;
+  private int rows;
+  private int entitiesLoaded;
+  private int retries;
+
+  private ExecutionStatistics(ExecutionStatistics previous) {
+    this.previous = previous;
+  }
+
+  /** Starts collecting statistics on the current thread until the returned object is closed. */
+  public static ExecutionStatistics begin() {
+    var statistics = new ExecutionStatistics(CURRENT.get());
+    CURRENT.set(statistics);
+    return statistics;
+  }
+
+  public static Optional<ExecutionStatistics> current() {
+    return Optional.ofNullable(CURRENT.get());
+  }
+
+  static void recordStatement() {
+    var statistics = CURRENT.get();
+    if (statistics != null) {
+      statistics.statements++;
+    }
+  }
+
+  static void recordRow() {
+    var statistics = CURRENT.get();
+    if (statistics != null) {
+      statistics.rows++;
+    }
+  }
+
+  static void recordEntityLoaded() {
+    var statistics = CURRENT.get();
+    if (statistics != null) {
+      statistics.entitiesLoaded++;
+    }
+  }
+
+  public void recordRetry() {
+    retries++;
+  }
+
+  @Override
+  public void close() {
+    if (previous == null) {
+      CURRENT.remove();
+    } else {
+      CURRENT.set(previous);
+    }
+  }
+}
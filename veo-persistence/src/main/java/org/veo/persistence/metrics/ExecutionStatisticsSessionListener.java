@@ -0,0 +1,37 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.persistence.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Counts executed JDBC statements for the {@link ExecutionStatistics} of the current thread.
+ * Hibernate creates an instance for each session, see {@code hibernate.session.events.auto}.
+ */
+public class ExecutionStatisticsSessionListener implements SessionEventListener {
+
+  @Override
+  public void jdbcExecuteStatementEnd() {
+    ExecutionStatistics.recordStatement();
+  }
+
+  @Override
+  public void jdbcExecuteBatchEnd() {
+    ExecutionStatistics.recordStatement();
+  }
+}
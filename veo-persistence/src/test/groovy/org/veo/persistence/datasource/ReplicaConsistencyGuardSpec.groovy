@@ -0,0 +1,71 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.persistence.datasource
+
+import java.time.Clock
+import java.time.Duration
+import java.time.Instant
+
+import javax.sql.DataSource
+
+import spock.lang.Specification
+
+class ReplicaConsistencyGuardSpec extends Specification {
+
+    def clientId = UUID.randomUUID()
+    def otherClientId = UUID.randomUUID()
+    def currentClient = Optional.of(clientId)
+    def now = Instant.parse("2026-01-01T00:00:00Z")
+    def clock = Mock(Clock) {
+        instant() >> { now }
+    }
+    def guard = new ReplicaConsistencyGuard(Mock(DataSource), Mock(DataSource), { currentClient },
+    Duration.ofSeconds(10), Duration.ofMillis(100), false, clock)
+
+    def "reads are pinned to the primary after a write"() {
+        expect:
+        guard.mayReadFromReplica()
+
+        when:
+        guard.recordWrite(clientId)
+
+        then:
+        !guard.mayReadFromReplica()
+
+        when: "another client reads"
+        currentClient = Optional.of(otherClientId)
+
+        then:
+        guard.mayReadFromReplica()
+
+        when: "the pin window has passed"
+        currentClient = Optional.of(clientId)
+        now = now.plusSeconds(11)
+
+        then:
+        guard.mayReadFromReplica()
+    }
+
+    def "reads without a client use the primary"() {
+        given:
+        currentClient = Optional.empty()
+
+        expect:
+        !guard.mayReadFromReplica()
+    }
+}
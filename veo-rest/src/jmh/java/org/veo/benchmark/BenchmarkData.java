@@ -0,0 +1,184 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.veo.core.entity.Asset;
+import org.veo.core.entity.Client;
+import org.veo.core.entity.Domain;
+import org.veo.core.entity.ElementType;
+import org.veo.core.entity.Process;
+import org.veo.core.entity.ProcessRisk;
+import org.veo.core.entity.Scenario;
+import org.veo.core.entity.Unit;
+import org.veo.core.entity.definitions.CustomAspectDefinition;
+import org.veo.core.entity.definitions.LinkDefinition;
+import org.veo.core.entity.definitions.SubTypeDefinition;
+import org.veo.core.entity.definitions.attribute.AttributeDefinition;
+import org.veo.core.entity.definitions.attribute.BooleanAttributeDefinition;
+import org.veo.core.entity.definitions.attribute.EnumAttributeDefinition;
+import org.veo.core.entity.definitions.attribute.IntegerAttributeDefinition;
+import org.veo.core.entity.definitions.attribute.TextAttributeDefinition;
+import org.veo.core.entity.risk.CategoryRef;
+import org.veo.core.entity.risk.ImpactRef;
+import org.veo.core.entity.risk.PotentialProbability;
+import org.veo.core.entity.risk.ProbabilityRef;
+import org.veo.core.entity.risk.RiskDefinitionRef;
+import org.veo.core.entity.riskdefinition.RiskDefinition;
+import org.veo.test.VeoSpec;
+
+/**
+ * In-memory fixture shared by the benchmarks. A process is associated with a domain that defines a
+ * custom aspect, a link type and a risk definition. The process has the given number of risks and
+ * links, so benchmark parameters can scale the aggregate size.
+ */
+final class BenchmarkData {
+  static final String RISK_DEFINITION_ID = "r2d2";
+  static final String PROCESS_SUB_TYPE = "NormalProcess";
+  static final String ASSET_SUB_TYPE = "NormalAsset";
+  static final String SCENARIO_SUB_TYPE = "NormalScenario";
+  static final String CUSTOM_ASPECT = "process_details";
+  static final String LINK_TYPE = "process_assets";
+  static final String TEXT_ATTRIBUTE = "process_details_description";
+  static final String INTEGER_ATTRIBUTE = "process_details_affectedPersons";
+  static final String ENUM_ATTRIBUTE = "process_details_legalBasis";
+  static final String BOOLEAN_ATTRIBUTE = "process_details_automated";
+  static final List<String> LEGAL_BASES =
+      List.of(
+          "process_details_legalBasis_consent",
+          "process_details_legalBasis_contract",
+          "process_details_legalBasis_legalObligation",
+          "process_details_legalBasis_vitalInterest",
+          "process_details_legalBasis_publicInterest",
+          "process_details_legalBasis_legitimateInterest");
+
+  final Client client;
+  final Unit unit;
+  final Domain domain;
+  final RiskDefinition riskDefinition;
+  final RiskDefinitionRef riskDefinitionRef;
+  final Process process;
+  final List<Scenario> scenarios = new ArrayList<>();
+  final List<Asset> assets = new ArrayList<>();
+  final Map<String, Object> attributes;
+
+  BenchmarkData(int riskCount, int linkCount) {
+    client = VeoSpec.newClient();
+    riskDefinition = VeoSpec.createRiskDefinition(RISK_DEFINITION_ID);
+    riskDefinitionRef = RiskDefinitionRef.from(riskDefinition);
+    domain = VeoSpec.newDomain(client);
+    domain.setId(UUID.randomUUID());
+    domain.setRiskDefinitions(new HashMap<>(Map.of(RISK_DEFINITION_ID, riskDefinition)));
+    defineTypes();
+    unit = VeoSpec.newUnit(client);
+    unit.setId(UUID.randomUUID());
+
+    attributes =
+        Map.of(
+            TEXT_ATTRIBUTE,
+            "Payroll accounting for all employees",
+            INTEGER_ATTRIBUTE,
+            250,
+            ENUM_ATTRIBUTE,
+            LEGAL_BASES.get(1),
+            BOOLEAN_ATTRIBUTE,
+            true);
+    process = VeoSpec.newProcess(unit);
+    process.setId(UUID.randomUUID());
+    process.associateWithDomain(domain, PROCESS_SUB_TYPE, "NEW");
+    var customAspect = VeoSpec.newCustomAspect(CUSTOM_ASPECT, domain);
+    customAspect.setAttributes(attributes);
+    process.applyCustomAspect(customAspect);
+
+    for (int i = 0; i < linkCount; i++) {
+      var asset = VeoSpec.newAsset(unit);
+      asset.setId(UUID.randomUUID());
+      asset.associateWithDomain(domain, ASSET_SUB_TYPE, "NEW");
+      assets.add(asset);
+      process.addLink(VeoSpec.newCustomLink(asset, LINK_TYPE, domain));
+    }
+
+    var probabilityLevels = riskDefinition.getProbability().getLevels();
+    var category = riskDefinition.getCategory("D").orElseThrow();
+    for (int i = 0; i < riskCount; i++) {
+      var scenario = VeoSpec.newScenario(unit);
+      scenario.setId(UUID.randomUUID());
+      scenario.associateWithDomain(domain, SCENARIO_SUB_TYPE, "NEW");
+      scenario.setPotentialProbability(
+          domain,
+          Map.of(
+              riskDefinitionRef,
+              new PotentialProbability(
+                  ProbabilityRef.from(probabilityLevels.get(i % probabilityLevels.size())))));
+      scenarios.add(scenario);
+
+      ProcessRisk risk = process.obtainRisk(scenario);
+      VeoSpec.assignDesignator(risk);
+      risk.defineRiskValues(Set.of(VeoSpec.newRiskValues(riskDefinitionRef, domain)));
+      var impactLevels = category.getPotentialImpacts();
+      risk.getImpactProvider(riskDefinitionRef, domain)
+          .setSpecificImpact(
+              CategoryRef.from(category),
+              ImpactRef.from(impactLevels.get(i % impactLevels.size())));
+    }
+  }
+
+  private void defineTypes() {
+    var processDefinition = domain.getElementTypeDefinition(ElementType.PROCESS);
+    processDefinition.setSubTypes(Map.of(PROCESS_SUB_TYPE, subType()));
+    var customAspect = new CustomAspectDefinition();
+    customAspect.setAttributeDefinitions(
+        Map.<String, AttributeDefinition>of(
+            TEXT_ATTRIBUTE,
+            new TextAttributeDefinition(),
+            INTEGER_ATTRIBUTE,
+            new IntegerAttributeDefinition(),
+            ENUM_ATTRIBUTE,
+            new EnumAttributeDefinition(LEGAL_BASES),
+            BOOLEAN_ATTRIBUTE,
+            new BooleanAttributeDefinition()));
+    processDefinition.setCustomAspects(Map.of(CUSTOM_ASPECT, customAspect));
+    var link = new LinkDefinition();
+    link.setTargetType(ElementType.ASSET);
+    link.setTargetSubType(ASSET_SUB_TYPE);
+    processDefinition.setLinks(Map.of(LINK_TYPE, link));
+    var translations = new HashMap<String, String>();
+    LEGAL_BASES.forEach(key -> translations.put(key, key));
+    processDefinition.setTranslations(Map.of(Locale.ENGLISH, translations));
+
+    domain
+        .getElementTypeDefinition(ElementType.ASSET)
+        .setSubTypes(Map.of(ASSET_SUB_TYPE, subType()));
+    domain
+        .getElementTypeDefinition(ElementType.SCENARIO)
+        .setSubTypes(Map.of(SCENARIO_SUB_TYPE, subType()));
+  }
+
+  private static SubTypeDefinition subType() {
+    var definition = new SubTypeDefinition();
+    definition.setStatuses(List.of("NEW", "IN_PROGRESS", "RELEASED"));
+    return definition;
+  }
+}
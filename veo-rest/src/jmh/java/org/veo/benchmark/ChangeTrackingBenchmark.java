@@ -0,0 +1,92 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.benchmark;
+
+import static org.veo.core.entity.event.VersioningEvent.ModificationType.UPDATE;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import org.veo.core.entity.Element;
+import org.veo.core.entity.event.ClientOwnedEntityVersioningEvent;
+import org.veo.core.usecase.common.ETag;
+import org.veo.persistence.access.jpa.MostRecentChangeTracker;
+
+/**
+ * ETag computation and consolidation of versioning events. A transaction is simulated by
+ * activating transaction synchronization on the benchmark thread.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChangeTrackingBenchmark {
+  private static final int EVENTS = 200;
+
+  private BenchmarkData data;
+  private List<ClientOwnedEntityVersioningEvent<Element>> events;
+  private MostRecentChangeTracker<?, ?> tracker;
+  private long version;
+
+  @Setup
+  public void setUp() {
+    ETag.setSalt("benchmark");
+    data = new BenchmarkData(0, 50);
+    events = new ArrayList<>(EVENTS);
+    for (int i = 0; i < EVENTS; i++) {
+      Element element = data.assets.get(i % data.assets.size());
+      events.add(
+          new ClientOwnedEntityVersioningEvent<>(element, UPDATE, "benchmark", Instant.now(), i));
+    }
+    TransactionSynchronizationManager.setActualTransactionActive(true);
+    TransactionSynchronizationManager.initSynchronization();
+    tracker = MostRecentChangeTracker.getForCurrentTransaction(event -> {});
+  }
+
+  @TearDown
+  public void tearDown() {
+    TransactionSynchronizationManager.clear();
+  }
+
+  @Benchmark
+  public String eTag() {
+    return ETag.from(data.process.getIdAsString(), version++);
+  }
+
+  /** Updates are spread across 50 elements, so each one is consolidated four times. */
+  @Benchmark
+  @OperationsPerInvocation(EVENTS)
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  public void putEvents() {
+    MostRecentChangeTracker rawTracker = tracker;
+    events.forEach(rawTracker::put);
+    rawTracker.clear();
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.benchmark;
+
+import static org.veo.benchmark.BenchmarkData.BOOLEAN_ATTRIBUTE;
+import static org.veo.benchmark.BenchmarkData.CUSTOM_ASPECT;
+import static org.veo.benchmark.BenchmarkData.ENUM_ATTRIBUTE;
+import static org.veo.benchmark.BenchmarkData.INTEGER_ATTRIBUTE;
+import static org.veo.benchmark.BenchmarkData.LEGAL_BASES;
+import static org.veo.benchmark.BenchmarkData.LINK_TYPE;
+import static org.veo.benchmark.BenchmarkData.PROCESS_SUB_TYPE;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.veo.core.entity.ElementType;
+import org.veo.core.entity.TranslatedText;
+import org.veo.core.entity.condition.AndExpression;
+import org.veo.core.entity.condition.ConstantExpression;
+import org.veo.core.entity.condition.CurrentElementExpression;
+import org.veo.core.entity.condition.CustomAspectAttributeValueExpression;
+import org.veo.core.entity.condition.EqualsExpression;
+import org.veo.core.entity.condition.LinkTargetsExpression;
+import org.veo.core.entity.condition.MaxRiskExpression;
+import org.veo.core.entity.condition.VeoExpression;
+import org.veo.core.entity.decision.DecisionResult;
+import org.veo.core.entity.decision.firsthitpolicy.Condition;
+import org.veo.core.entity.decision.firsthitpolicy.EqualsMatcher;
+import org.veo.core.entity.decision.firsthitpolicy.FirstHitPolicyDecision;
+import org.veo.core.entity.decision.firsthitpolicy.Rule;
+import org.veo.core.entity.inspection.Finding;
+import org.veo.core.entity.inspection.Inspection;
+import org.veo.core.entity.inspection.Severity;
+
+/**
+ * Evaluation of {@link VeoExpression}s in decisions and inspections. The decision's matching rule
+ * comes last, so all rules are evaluated.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ExpressionBenchmark {
+  @Param({"10", "100"})
+  int links;
+
+  private BenchmarkData data;
+  private FirstHitPolicyDecision decision;
+  private Inspection inspection;
+
+  @Setup
+  public void setUp() {
+    data = new BenchmarkData(10, links);
+    decision =
+        new FirstHitPolicyDecision(
+            TranslatedText.empty(),
+            ElementType.PROCESS,
+            PROCESS_SUB_TYPE,
+            null,
+            List.of(
+                rule(true, attribute(BOOLEAN_ATTRIBUTE), false),
+                rule(true, attribute(ENUM_ATTRIBUTE), LEGAL_BASES.getFirst()),
+                rule(true, new MaxRiskExpression(), BigDecimal.valueOf(3)),
+                rule(false, attribute(INTEGER_ATTRIBUTE), 250)),
+            null);
+    inspection =
+        new Inspection(
+            Severity.WARNING,
+            TranslatedText.empty(),
+            ElementType.PROCESS,
+            PROCESS_SUB_TYPE,
+            new AndExpression(
+                List.of(
+                    new EqualsExpression(
+                        attribute(ENUM_ATTRIBUTE), new ConstantExpression(LEGAL_BASES.get(1))),
+                    new EqualsExpression(
+                        new EqualsExpression(
+                            new LinkTargetsExpression(new CurrentElementExpression(), LINK_TYPE),
+                            new ConstantExpression(List.of())),
+                        new ConstantExpression(false)))));
+  }
+
+  @Benchmark
+  public DecisionResult evaluateDecision() {
+    return decision.evaluate(data.process, data.domain);
+  }
+
+  @Benchmark
+  public Finding runInspection() {
+    return inspection.run(data.process, data.domain).orElseThrow();
+  }
+
+  private static VeoExpression attribute(String attribute) {
+    return new CustomAspectAttributeValueExpression(CUSTOM_ASPECT, attribute);
+  }
+
+  private static Rule rule(boolean output, VeoExpression input, Object comparisonValue) {
+    var rule = new Rule(output, TranslatedText.empty());
+    rule.getConditions().add(new Condition(input, new EqualsMatcher(comparisonValue)));
+    return rule;
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.veo.core.entity.risk.ImpactRef;
+import org.veo.core.entity.risk.ProbabilityRef;
+import org.veo.core.entity.riskdefinition.CategoryDefinition;
+import org.veo.core.repository.AssetRepository;
+import org.veo.core.repository.ProcessRepository;
+import org.veo.core.repository.ScopeRepository;
+import org.veo.core.service.EventPublisher;
+import org.veo.service.risk.RiskService;
+
+/**
+ * Risk calculation for a process with a growing number of risks. The repositories are stubs, the
+ * entities are already loaded, so only the calculation itself is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RiskCalculationBenchmark {
+  @Param({"10", "100"})
+  int risks;
+
+  private BenchmarkData data;
+  private RiskService riskService;
+  private CategoryDefinition category;
+  private List<ProbabilityRef> probabilities;
+  private List<ImpactRef> impacts;
+
+  @Setup
+  public void setUp() {
+    data = new BenchmarkData(risks, 0);
+    riskService =
+        new RiskService(
+            stub(ProcessRepository.class),
+            stub(AssetRepository.class),
+            stub(ScopeRepository.class),
+            stub(EventPublisher.class));
+    category = data.riskDefinition.getCategory("D").orElseThrow();
+    probabilities =
+        data.riskDefinition.getProbability().getLevels().stream()
+            .map(ProbabilityRef::from)
+            .toList();
+    impacts = category.getPotentialImpacts().stream().map(ImpactRef::from).toList();
+  }
+
+  /** Values are stable after the first invocation, so this is the no-change path. */
+  @Benchmark
+  public void evaluateChangedRiskComponent() {
+    riskService.evaluateChangedRiskComponent(data.process);
+  }
+
+  @Benchmark
+  public void getRiskValue(Blackhole blackhole) {
+    for (var probability : probabilities) {
+      for (var impact : impacts) {
+        blackhole.consume(category.getRiskValue(probability, impact));
+      }
+    }
+  }
+
+  /** Creates a no-op implementation, the risk service ignores the repositories' results. */
+  @SuppressWarnings("unchecked")
+  private static <T> T stub(Class<T> type) {
+    return (T)
+        Proxy.newProxyInstance(
+            type.getClassLoader(),
+            new Class<?>[] {type},
+            (proxy, method, args) ->
+                switch (method.getName()) {
+                  case "hashCode" -> System.identityHashCode(proxy);
+                  case "equals" -> proxy == args[0];
+                  case "toString" -> type.getSimpleName() + " stub";
+                  default -> null;
+                });
+  }
+}
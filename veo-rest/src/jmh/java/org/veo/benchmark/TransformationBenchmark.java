@@ -0,0 +1,71 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.veo.adapter.presenter.api.dto.AbstractElementDto;
+import org.veo.adapter.presenter.api.response.transformer.DomainAssociationTransformer;
+import org.veo.adapter.presenter.api.response.transformer.EntityToDtoTransformer;
+import org.veo.rest.common.marshalling.ReferenceAssemblerImpl;
+
+/** Mapping of elements to DTOs, including the URI references to linked elements. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransformationBenchmark {
+  @Param({"10", "100"})
+  int links;
+
+  private BenchmarkData data;
+  private ReferenceAssemblerImpl referenceAssembler;
+  private EntityToDtoTransformer transformer;
+
+  @Setup
+  public void setUp() {
+    data = new BenchmarkData(10, links);
+    referenceAssembler = new ReferenceAssemblerImpl();
+    transformer =
+        new EntityToDtoTransformer(
+            referenceAssembler, new DomainAssociationTransformer(referenceAssembler));
+  }
+
+  @Benchmark
+  public AbstractElementDto<?> transform2Dto() {
+    return transformer.transform2Dto(data.process, false);
+  }
+
+  @Benchmark
+  public void targetReferenceOf(Blackhole blackhole) {
+    blackhole.consume(referenceAssembler.targetReferenceOf(data.process));
+    blackhole.consume(referenceAssembler.targetReferenceOf(data.domain));
+    for (var asset : data.assets) {
+      blackhole.consume(referenceAssembler.targetReferenceOf(asset));
+    }
+  }
+}
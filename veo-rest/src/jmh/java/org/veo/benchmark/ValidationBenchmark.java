@@ -0,0 +1,89 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.benchmark;
+
+import static org.veo.benchmark.BenchmarkData.CUSTOM_ASPECT;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.veo.adapter.persistence.schema.SchemaExtender;
+import org.veo.adapter.persistence.schema.SchemaProvider;
+import org.veo.adapter.presenter.api.dto.full.FullProcessInDomainDto;
+import org.veo.core.entity.ElementType;
+import org.veo.core.entity.ValidationError;
+import org.veo.core.entity.definitions.attribute.AttributeDefinition;
+import org.veo.core.usecase.base.AttributeValidator;
+import org.veo.core.usecase.base.CompiledAttributeDefinitions;
+
+import tools.jackson.databind.node.ObjectNode;
+
+/** Custom aspect attribute validation and creation of domain-specific element schemas. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ValidationBenchmark {
+  private BenchmarkData data;
+  private Map<String, AttributeDefinition> attributeDefinitions;
+  private Map<Locale, Map<String, String>> translations;
+  private CompiledAttributeDefinitions compiledAttributeDefinitions;
+  private SchemaExtender schemaExtender;
+  private Supplier<ObjectNode> baseSchema;
+
+  @Setup
+  public void setUp() {
+    data = new BenchmarkData(0, 0);
+    var typeDefinition = data.domain.getElementTypeDefinition(ElementType.PROCESS);
+    attributeDefinitions =
+        typeDefinition.getCustomAspectDefinition(CUSTOM_ASPECT).getAttributeDefinitions();
+    translations = typeDefinition.getTranslations();
+    compiledAttributeDefinitions =
+        new CompiledAttributeDefinitions(attributeDefinitions, translations);
+    schemaExtender = new SchemaExtender();
+    baseSchema = SchemaProvider.getInstance().schema(FullProcessInDomainDto.class);
+  }
+
+  @Benchmark
+  public List<ValidationError> getAttributeErrors() {
+    return AttributeValidator.getErrors(data.attributes, attributeDefinitions, translations);
+  }
+
+  @Benchmark
+  public List<ValidationError> getCompiledAttributeErrors() {
+    return compiledAttributeDefinitions.getErrors(data.attributes);
+  }
+
+  /** Includes copying the cached base schema, as the schema generator does for every request. */
+  @Benchmark
+  public ObjectNode extendSchema() {
+    var schema = baseSchema.get();
+    schemaExtender.extendSchema(schema, ElementType.PROCESS, data.domain);
+    return schema;
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.core.events;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toMap;
+import static org.veo.core.events.MessageCreatorImpl.CONTENT_PENDING;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import org.veo.adapter.presenter.api.common.ReferenceAssembler;
+import org.veo.adapter.presenter.api.response.transformer.EntityToDtoTransformer;
+import org.veo.core.entity.Element;
+import org.veo.core.entity.event.StoredEvent;
+import org.veo.core.repository.ClientReadOnlyRepository;
+import org.veo.core.repository.GenericElementRepository;
+import org.veo.core.repository.PagingConfiguration;
+import org.veo.core.repository.QueryCondition;
+import org.veo.message.EventMessage;
+
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Renders the content of element revision messages that have been stored without it (see {@link
+ * MessageCreatorImpl#CONTENT_PENDING}). The elements are loaded in bulk within a read-only
+ * transaction. If an element has been modified or deleted since the revision was stored, the state
+ * of that revision is no longer available. Such messages are flagged as superseded and sent without
+ * content - a later revision message for the element will follow. Consumers that keep the complete
+ * revision history therefore cannot be served in this mode, which is why it requires {@code
+ * veo.message.entity-revision.complete-history} to be disabled.
+ */
+@Component
+@Slf4j
+public class EntityRevisionContentRenderer {
+  public static final String CONTENT_SUPERSEDED = "contentSuperseded";
+
+  private final ObjectMapper objectMapper;
+  private final ReferenceAssembler referenceAssembler;
+  private final EntityToDtoTransformer entityToDtoTransformer;
+  private final ClientReadOnlyRepository clientRepository;
+  private final GenericElementRepository elementRepository;
+  private final TransactionTemplate transactionTemplate;
+
+  public EntityRevisionContentRenderer(
+      ObjectMapper objectMapper,
+      ReferenceAssembler referenceAssembler,
+      EntityToDtoTransformer entityToDtoTransformer,
+      ClientReadOnlyRepository clientRepository,
+      GenericElementRepository elementRepository,
+      PlatformTransactionManager transactionManager) {
+    this.objectMapper = objectMapper;
+    this.referenceAssembler = referenceAssembler;
+    this.entityToDtoTransformer = entityToDtoTransformer;
+    this.clientRepository = clientRepository;
+    this.elementRepository = elementRepository;
+    transactionTemplate = new TransactionTemplate(transactionManager);
+    transactionTemplate.setReadOnly(true);
+  }
+
+  /** Creates messages for the given events, rendering any pending element content. */
+  public Set<EventMessage> messagesFrom(Collection<StoredEvent> events) {
+    var pendingRevisions = new HashMap<Long, ObjectNode>();
+    events.stream()
+        .filter(e -> e.getContent().contains(CONTENT_PENDING))
+        .forEach(
+            e -> {
+              var json = (ObjectNode) objectMapper.readTree(e.getContent());
+              if (json.path(CONTENT_PENDING).asBoolean()) {
+                pendingRevisions.put(e.getId(), json);
+              }
+            });
+    if (!pendingRevisions.isEmpty()) {
+      log.debug("Rendering content for {} element revisions", pendingRevisions.size());
+      transactionTemplate.executeWithoutResult(
+          status ->
+              pendingRevisions.values().stream()
+                  .collect(groupingBy(json -> UUID.fromString(json.get("clientId").asText())))
+                  .forEach(this::render));
+    }
+    return events.stream()
+        .map(
+            e -> {
+              var json = pendingRevisions.get(e.getId());
+              return json == null ? EventMessage.from(e) : EventMessage.from(e, json.toString());
+            })
+        .collect(Collectors.toSet());
+  }
+
+  private void render(UUID clientId, List<ObjectNode> revisions) {
+    Map<String, UUID> idsByUri =
+        revisions.stream()
+            .map(json -> json.get("uri").asText())
+            .distinct()
+            .collect(
+                toMap(Function.identity(), uri -> referenceAssembler.parseElementRef(uri).getId()));
+    Map<UUID, Element> elements =
+        clientRepository
+            .findById(clientId)
+            .map(
+                client -> {
+                  var query = elementRepository.query(client);
+                  query.whereIdIn(new QueryCondition<>(Set.copyOf(idsByUri.values())));
+                  return query.execute(PagingConfiguration.UNPAGED).resultPage().stream()
+                      .collect(toMap(Element::getId, Function.identity()));
+                })
+            .orElse(Map.of());
+    revisions.forEach(
+        json -> {
+          json.remove(CONTENT_PENDING);
+          var element = elements.get(idsByUri.get(json.get("uri").asText()));
+          if (element != null && element.getChangeNumber() == json.get("changeNumber").asLong()) {
+            json.set(
+                "content",
+                objectMapper.valueToTree(entityToDtoTransformer.transform2Dto(element, true)));
+          } else {
+            json.put(CONTENT_SUPERSEDED, true);
+          }
+        });
+  }
+}
@@ -18,6 +18,9 @@
 package org.veo.core.events;
 
 import java.time.Instant;
+import java.util.Collection;
+
+import jakarta.annotation.PostConstruct;
 
 import org.apache.commons.lang3.NotImplementedException;
 import org.springframework.beans.factory.annotation.Value;
@@ -30,11 +33,13 @@ import org.veo.core.entity.AbstractRisk;
 import org.veo.core.entity.ClientOwned;
 import org.veo.core.entity.Domain;
 import org.veo.core.entity.DomainTemplate;
+import org.veo.core.entity.Element;
 import org.veo.core.entity.ElementType;
 import org.veo.core.entity.Identifiable;
 import org.veo.core.entity.Unit;
 import org.veo.core.entity.Versioned;
 import org.veo.core.entity.event.ClientOwnedEntityVersioningEvent;
+import org.veo.core.entity.event.StoredEvent;
 import org.veo.core.entity.event.VersioningEvent;
 import org.veo.core.entity.event.VersioningEvent.ModificationType;
 import org.veo.core.usecase.MessageCreator;
@@ -65,10 +70,33 @@ public class MessageCreatorImpl implements MessageCreator {
       "element_type_definition_update";
   public static final String EVENT_TYPE_DOMAIN_TEMPLATE_CREATION = "domain_template_creation";
   public static final String EVENT_TYPE_UNIT_DELETION = "unit_deletion";
+  public static final String CONTENT_PENDING = "contentPending";
 
   @Value("${veo.message.routing-key-prefix}")
   private String routingKeyPrefix;
 
+  // If this flag is enabled, element revision messages are stored without content. The content is
+  // rendered when the message is dispatched (see EntityRevisionContentRenderer). Revisions that
+  // have been superseded by the time of dispatch are sent without content, so this must not be
+  // used while consumers (e.g. veo-history) rely on the content of every revision.
+  @Value("${veo.message.entity-revision.deferred-content:false}")
+  private boolean deferElementContent;
+
+  // Must be disabled explicitly to acknowledge that revision content may be missing when using
+  // deferred content.
+  @Value("${veo.message.entity-revision.complete-history:true}")
+  private boolean completeHistory;
+
+  @PostConstruct
+  public void checkEntityRevisionConfiguration() {
+    if (deferElementContent && completeHistory) {
+      throw new IllegalStateException(
+          "Deferred entity revision content cannot provide the content of superseded revisions."
+              + " Set veo.message.entity-revision.complete-history to false if no message"
+              + " consumer requires the complete revision history.");
+    }
+  }
+
   @Override
   @Transactional(propagation = Propagation.MANDATORY)
   public <T extends Versioned & ClientOwned> void createEntityRevisionMessage(
@@ -76,18 +104,15 @@ public class MessageCreatorImpl implements MessageCreator {
     // NOTE: if you encounter a LazyInitializationException being thrown here, you can add the
     // required collection to the method
     // org.veo.persistence.access.jpa.MostRecentChangeTracker.hydrate
-    var json =
-        createEntityRevisionJson(
-            versioningEvent.entity(),
-            versioningEvent.type(),
-            versioningEvent.author(),
-            versioningEvent.time(),
-            versioningEvent.changeNumber());
-    storeMessage(
-        EVENT_TYPE_ENTITY_REVISION,
-        json,
-        getUri(versioningEvent.entity()),
-        versioningEvent.changeNumber());
+    storedEventRepository.save(toEntityRevisionMessage(versioningEvent));
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.MANDATORY)
+  public <T extends Versioned & ClientOwned> void createEntityRevisionMessages(
+      Collection<ClientOwnedEntityVersioningEvent<T>> versioningEvents) {
+    storedEventRepository.saveAll(
+        versioningEvents.stream().map(this::toEntityRevisionMessage).toList());
   }
 
   @Override
@@ -141,11 +166,31 @@ public class MessageCreatorImpl implements MessageCreator {
   }
 
   private void storeMessage(String eventType, ObjectNode content, String uri, Long changeNumber) {
+    storedEventRepository.save(createMessage(eventType, content, uri, changeNumber));
+  }
+
+  private StoredEvent createMessage(
+      String eventType, ObjectNode content, String uri, Long changeNumber) {
     log.debug("Storing message {}", content);
     content.put(EVENT_TYPE, eventType);
-    storedEventRepository.save(
-        StoredEventData.newInstance(
-            content.toString(), routingKeyPrefix + eventType, uri, changeNumber));
+    return StoredEventData.newInstance(
+        content.toString(), routingKeyPrefix + eventType, uri, changeNumber);
+  }
+
+  private <T extends Versioned & ClientOwned> StoredEvent toEntityRevisionMessage(
+      ClientOwnedEntityVersioningEvent<T> versioningEvent) {
+    var json =
+        createEntityRevisionJson(
+            versioningEvent.entity(),
+            versioningEvent.type(),
+            versioningEvent.author(),
+            versioningEvent.time(),
+            versioningEvent.changeNumber());
+    return createMessage(
+        EVENT_TYPE_ENTITY_REVISION,
+        json,
+        getUri(versioningEvent.entity()),
+        versioningEvent.changeNumber());
   }
 
   private <T extends Versioned & ClientOwned> ObjectNode createEntityRevisionJson(
@@ -162,8 +207,13 @@ public class MessageCreatorImpl implements MessageCreator {
     tree.put("author", author);
     tree.put("clientId", entity.getOwningClient().get().getIdAsString());
     if (type != ModificationType.REMOVE) {
-      tree.set(
-          "content", objectMapper.valueToTree(entityToDtoTransformer.transform2Dto(entity, true)));
+      if (deferElementContent && entity instanceof Element) {
+        tree.put(CONTENT_PENDING, true);
+      } else {
+        tree.set(
+            "content",
+            objectMapper.valueToTree(entityToDtoTransformer.transform2Dto(entity, true)));
+      }
     }
     return tree;
   }
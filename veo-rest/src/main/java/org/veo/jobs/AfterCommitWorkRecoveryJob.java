@@ -0,0 +1,75 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.jobs;
+
+import static org.veo.rest.VeoRestConfiguration.PROFILE_BACKGROUND_TASKS;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import org.veo.core.repository.AfterCommitWorkRepository;
+import org.veo.listeners.RiskComponentChangeListener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Recovers after-commit work that has not been completed in time, e.g. because the application was
+ * terminated while the work was pending or because processing it failed.
+ */
+@Component
+@Slf4j
+@Profile(PROFILE_BACKGROUND_TASKS)
+@RequiredArgsConstructor
+public class AfterCommitWorkRecoveryJob {
+  private static final int MAX_WORK_PER_RUN = 1000;
+
+  private final AfterCommitWorkRepository afterCommitWorkRepository;
+  private final RiskComponentChangeListener riskComponentChangeListener;
+
+  @Value("${veo.events.after-commit.recovery.min-age:10m}")
+  private final Duration minAge;
+
+  @Scheduled(
+      initialDelayString = "${veo.events.after-commit.recovery.delayMs:60000}",
+      fixedDelayString = "${veo.events.after-commit.recovery.delayMs:60000}")
+  public void recover() {
+    var abandonedWork =
+        afterCommitWorkRepository.findRecordedBefore(Instant.now().minus(minAge), MAX_WORK_PER_RUN);
+    if (abandonedWork.isEmpty()) {
+      log.debug("No after-commit work to recover");
+      return;
+    }
+    log.info("Recovering {} abandoned after-commit work items", abandonedWork.size());
+    AsSystemUser.runAsAdmin(
+        () ->
+            abandonedWork.forEach(
+                work -> {
+                  try {
+                    riskComponentChangeListener.recover(work);
+                  } catch (RuntimeException e) {
+                    log.error("Failed to recover {}", work, e);
+                  }
+                }));
+  }
+}
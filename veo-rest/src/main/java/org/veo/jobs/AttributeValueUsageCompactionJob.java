@@ -0,0 +1,47 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.jobs;
+
+import static org.veo.rest.VeoRestConfiguration.PROFILE_BACKGROUND_TASKS;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import org.veo.core.repository.GenericElementRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Folds the attribute value usage deltas that are appended by the database whenever custom aspects
+ * or links change, so looking up the attribute values used in a unit stays cheap.
+ */
+@Component
+@Slf4j
+@Profile(PROFILE_BACKGROUND_TASKS)
+@RequiredArgsConstructor
+public class AttributeValueUsageCompactionJob {
+  private final GenericElementRepository genericElementRepository;
+
+  @Scheduled(fixedDelayString = "${veo.attribute-values.compaction.delayMs:60000}")
+  public void compact() {
+    log.debug("Compacting attribute value usages");
+    genericElementRepository.compactUsedAttributeValues();
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.jobs;
+
+import static org.veo.rest.VeoRestConfiguration.PROFILE_BACKGROUND_TASKS;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import org.veo.core.entity.ClientState;
+import org.veo.core.repository.ClientRepository;
+import org.veo.listeners.ClientPurger;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Resumes purging clients that have been deleted but still exist, e.g. because the application was
+ * stopped while purging them.
+ */
+@Component
+@Slf4j
+@Profile(PROFILE_BACKGROUND_TASKS)
+@RequiredArgsConstructor
+public class ClientPurgeJob {
+  private final ClientRepository clientRepository;
+  private final ClientPurger clientPurger;
+
+  @Scheduled(
+      initialDelayString = "${veo.clients.purge.delayMs:600000}",
+      fixedDelayString = "${veo.clients.purge.delayMs:600000}")
+  public void purgeDeletedClients() {
+    var clientIds = clientRepository.findIdsByState(ClientState.DELETED);
+    if (clientIds.isEmpty()) {
+      log.debug("No deleted clients to purge");
+      return;
+    }
+    log.info("Resuming purge of {} deleted clients", clientIds.size());
+    clientIds.forEach(
+        clientId -> {
+          try {
+            clientPurger.purge(clientId);
+          } catch (RuntimeException e) {
+            log.error("Failed to purge client {}", clientId, e);
+          }
+        });
+  }
+}
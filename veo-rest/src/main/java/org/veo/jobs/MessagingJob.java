@@ -17,7 +17,6 @@
  */
 package org.veo.jobs;
 
-import static org.veo.message.EventMessage.messagesFrom;
 import static org.veo.rest.VeoRestConfiguration.PROFILE_BACKGROUND_TASKS;
 
 import java.util.List;
@@ -28,6 +27,7 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import org.veo.core.entity.event.StoredEvent;
+import org.veo.core.events.EntityRevisionContentRenderer;
 import org.veo.core.events.MessageCreatorImpl;
 import org.veo.message.EventDispatcher;
 import org.veo.rest.VeoRestConfiguration;
@@ -57,11 +57,17 @@ public class MessagingJob {
 
   private final EventRetriever retriever;
 
+  private final EntityRevisionContentRenderer contentRenderer;
+
   public MessagingJob(
-      VeoRestConfiguration config, EventDispatcher eventDispatcher, EventRetriever retriever) {
+      VeoRestConfiguration config,
+      EventDispatcher eventDispatcher,
+      EventRetriever retriever,
+      EntityRevisionContentRenderer contentRenderer) {
     this.config = config;
     this.eventDispatcher = eventDispatcher;
     this.retriever = retriever;
+    this.contentRenderer = contentRenderer;
   }
 
   @Scheduled(fixedDelayString = "${veo.messages.publishing.delayMs:500}")
@@ -78,6 +84,6 @@ public class MessagingJob {
     }
     if (pendingEvents.isEmpty()) return;
     log.info("Dispatching messages for {} stored events.", pendingEvents.size());
-    eventDispatcher.send(exchange, messagesFrom(pendingEvents));
+    eventDispatcher.send(exchange, contentRenderer.messagesFrom(pendingEvents));
   }
 }
@@ -0,0 +1,206 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.listeners;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.SimpleApplicationEventMulticaster;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalApplicationListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import org.veo.core.entity.ElementType;
+import org.veo.core.entity.event.DomainEvent;
+import org.veo.core.entity.event.ElementEvent;
+import org.veo.core.entity.event.UnitImpactRecalculatedEvent;
+import org.veo.core.repository.AfterCommitWork;
+import org.veo.core.repository.AfterCommitWorkRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Multicasts events synchronously, but can hand over the execution of after-commit listeners (e.g.
+ * in {@link RiskComponentChangeListener}) to background lanes, so that derived data is recalculated
+ * without delaying the response to the request that caused the change.
+ *
+ * <p>Only listeners for element and unit events are handed over. Before that, the affected element
+ * or unit is recorded as {@link AfterCommitWork} in the committing transaction, and the record is
+ * removed once the listener has completed. Work that is interrupted by a crash or that fails is
+ * therefore not lost, but recovered by recalculating the derived data of the element or unit (see
+ * {@link RiskComponentChangeListener#recover}). Other listeners (e.g. for risk definition changes
+ * or cache invalidation) are always invoked on the committing thread, because their events cannot
+ * be recovered this way.
+ *
+ * <p>Events of the same client are processed in the order in which their transactions were
+ * committed, because element and unit events of a client may affect the same derived data. Listener
+ * invocations that fail due to concurrent modifications are retried. Pending work is completed
+ * before the application shuts down if possible.
+ */
+@Slf4j
+public class AfterCommitEventMulticaster extends SimpleApplicationEventMulticaster
+    implements SmartLifecycle {
+  private final boolean async;
+  private final KeyOrderedExecutor executor;
+  private final Supplier<AfterCommitWorkRepository> afterCommitWorkRepository;
+  private final int maxAttempts;
+  private final Duration shutdownTimeout;
+  private volatile boolean running;
+
+  /**
+   * @param afterCommitWorkRepository supplies the repository lazily, because the multicaster is
+   *     created before the persistence layer
+   */
+  public AfterCommitEventMulticaster(
+      boolean async,
+      int lanes,
+      int queueCapacity,
+      int maxAttempts,
+      Duration shutdownTimeout,
+      Supplier<AfterCommitWorkRepository> afterCommitWorkRepository) {
+    setTaskExecutor(new SyncTaskExecutor());
+    this.async = async;
+    this.afterCommitWorkRepository = afterCommitWorkRepository;
+    this.executor =
+        async
+            ? new KeyOrderedExecutor(
+                lanes, queueCapacity, Thread.ofVirtual().name("veo-after-commit-", 0).factory())
+            : null;
+    this.maxAttempts = maxAttempts;
+    this.shutdownTimeout = shutdownTimeout;
+  }
+
+  @Override
+  protected void invokeListener(ApplicationListener<?> listener, ApplicationEvent event) {
+    if (async
+        && getPayload(event) instanceof DomainEvent domainEvent
+        && listener instanceof TransactionalApplicationListener<?> transactionalListener
+        && transactionalListener.getTransactionPhase() == TransactionPhase.AFTER_COMMIT
+        && TransactionSynchronizationManager.isSynchronizationActive()
+        && TransactionSynchronizationManager.isActualTransactionActive()
+        && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      var work = toWork(domainEvent);
+      if (work.isPresent()) {
+        afterCommitWorkRepository.get().add(work.get());
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+              @Override
+              public void afterCommit() {
+                executor.execute(
+                    domainEvent.getClientId(),
+                    new DelegatingSecurityContextRunnable(
+                        () -> process(transactionalListener, event, work.get())));
+              }
+            });
+        return;
+      }
+    }
+    super.invokeListener(listener, event);
+  }
+
+  private static Optional<AfterCommitWork> toWork(DomainEvent event) {
+    if (event instanceof ElementEvent elementEvent) {
+      return Optional.of(
+          AfterCommitWork.forElement(
+              elementEvent.getClientId(),
+              elementEvent.getDomainId(),
+              elementEvent.getEntityId(),
+              ElementType.fromModelInterface(elementEvent.getEntityType())));
+    }
+    if (event instanceof UnitImpactRecalculatedEvent unitEvent) {
+      return Optional.of(
+          AfterCommitWork.forUnit(
+              unitEvent.getClientId(), unitEvent.getDomainId(), unitEvent.getUnit().getId()));
+    }
+    return Optional.empty();
+  }
+
+  private void process(
+      TransactionalApplicationListener<?> listener, ApplicationEvent event, AfterCommitWork work) {
+    if (!processWithRetry(listener, event)) {
+      log.warn("Leaving {} for recovery", work);
+      return;
+    }
+    try {
+      afterCommitWorkRepository.get().remove(work.id());
+    } catch (RuntimeException e) {
+      log.error("Failed to remove completed {}, it will be recovered", work, e);
+    }
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private boolean processWithRetry(
+      TransactionalApplicationListener listener, ApplicationEvent event) {
+    for (int attempt = 1; ; attempt++) {
+      try {
+        listener.processEvent(event);
+        return true;
+      } catch (OptimisticLockingFailureException e) {
+        if (attempt >= maxAttempts) {
+          log.error("Giving up on {} after {} attempts", getPayload(event), attempt, e);
+          return false;
+        }
+        log.debug("Concurrent modification while processing {}, retrying", getPayload(event));
+      } catch (RuntimeException e) {
+        log.error("Failed to process {}", getPayload(event), e);
+        return false;
+      }
+    }
+  }
+
+  private static Object getPayload(ApplicationEvent event) {
+    return event instanceof PayloadApplicationEvent<?> p ? p.getPayload() : event;
+  }
+
+  @Override
+  public void start() {
+    running = true;
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    if (executor == null) {
+      return;
+    }
+    log.info("Completing pending after-commit work ({} queued)", executor.getQueued());
+    try {
+      if (!executor.shutdown(shutdownTimeout)) {
+        log.error(
+            "After-commit work did not complete within {}, it will be recovered", shutdownTimeout);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.error("Interrupted while completing after-commit work", e);
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+}
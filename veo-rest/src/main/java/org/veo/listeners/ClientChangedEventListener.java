@@ -20,7 +20,6 @@ package org.veo.listeners;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.UUID;
 import java.util.function.Predicate;
 
@@ -30,10 +29,10 @@ import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import org.veo.core.UserAccessRights;
 import org.veo.core.entity.Client;
-import org.veo.core.entity.ClientOwned;
 import org.veo.core.entity.Domain;
 import org.veo.core.entity.Profile;
 import org.veo.core.entity.event.ClientChangedEvent;
@@ -41,14 +40,9 @@ import org.veo.core.entity.event.ClientEvent.ClientChangeType;
 import org.veo.core.entity.transform.EntityFactory;
 import org.veo.core.repository.ClientRepository;
 import org.veo.core.repository.DomainRepository;
-import org.veo.core.repository.UnitRepository;
 import org.veo.core.usecase.TemplateItems;
-import org.veo.core.usecase.UseCase.EntityId;
-import org.veo.core.usecase.unit.DeleteUnitUseCase;
 import org.veo.service.DefaultDomainCreator;
 
-import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -57,8 +51,7 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class ClientChangedEventListener {
   private final ClientRepository repository;
-  private final DeleteUnitUseCase deleteUnitUseCase;
-  private final UnitRepository unitRepository;
+  private final ClientPurger clientPurger;
   private final DomainRepository domainRepository;
   private final EntityFactory entityFactory;
   private final DefaultDomainCreator defaultDomainCreator;
@@ -85,7 +78,7 @@ public class ClientChangedEventListener {
     switch (event.getType()) {
       case ACTIVATION -> log.info("client {} activated", client.getIdAsString());
       case DEACTIVATION -> log.info("client {} deactivated", client.getIdAsString());
-      case DELETION -> deleteClient(client, new NoRestriction(client.getId()));
+      case DELETION -> deleteClient(client);
       case MODIFICATION -> modifyClient(client, event);
       default -> throw new NotImplementedException("Unexpected value: " + event.getType());
     }
@@ -104,9 +97,9 @@ public class ClientChangedEventListener {
       client.setMaxUnits(Client.DEFAULT_MAX_UNITS);
     }
     client.updateState(ClientChangeType.ACTIVATION);
-    addDomains(client, event.getDomainProducts(), false);
-    addProfiles(client, event.getDomainProducts(), false);
     repository.save(client);
+    addDomains(client.getId(), event.getDomainProducts());
+    addProfiles(client.getId(), event.getDomainProducts());
   }
 
   private void modifyClient(Client client, ClientChangedEvent event) {
@@ -115,33 +108,36 @@ public class ClientChangedEventListener {
       log.info("Modify max units for client {} {}", client, maxUnits);
       client.setMaxUnits(maxUnits);
     }
-    addDomains(client, event.getDomainProducts(), true);
-    addProfiles(client, event.getDomainProducts(), true);
     repository.save(client);
+    addDomains(client.getId(), event.getDomainProducts());
+    addProfiles(client.getId(), event.getDomainProducts());
   }
 
-  private void addDomains(Client client, Map<String, List<String>> domainProducts, boolean save) {
+  /**
+   * Template items are copied in the database, which clears the persistence context, so the client
+   * is reloaded for every domain.
+   */
+  private void addDomains(UUID clientId, Map<String, List<String>> domainProducts) {
     if (domainProducts != null && !domainProducts.isEmpty()) {
-      domainProducts.keySet().stream()
-          .filter(
-              domainName ->
-                  client.getDomains().stream()
-                      .filter(hasDomainTemplate())
-                      .noneMatch(referenceDomainTemplate(domainName)))
+      domainProducts
+          .keySet()
           .forEach(
-              dn -> {
-                log.info("create Domain {} for client {}", dn, client.getName());
-                defaultDomainCreator.addDomain(client, dn, TemplateItems.CATALOG_ONLY);
-                if (save) {
-                  repository.save(client);
+              domainName -> {
+                var client = repository.getById(clientId);
+                if (client.getDomains().stream()
+                    .filter(hasDomainTemplate())
+                    .noneMatch(referenceDomainTemplate(domainName))) {
+                  log.info("create Domain {} for client {}", domainName, client.getName());
+                  defaultDomainCreator.addDomainToPersistedClient(
+                      client, domainName, TemplateItems.CATALOG_ONLY);
                 }
               });
     }
   }
 
-  private void addProfiles(Client client, Map<String, List<String>> products, boolean save) {
+  private void addProfiles(UUID clientId, Map<String, List<String>> products) {
     if (products != null && !products.isEmpty()) {
-      client.getDomains().stream()
+      repository.getById(clientId).getDomains().stream()
           .filter(hasDomainTemplate())
           .forEach(
               domain -> {
@@ -151,27 +147,31 @@ public class ClientChangedEventListener {
                         productId -> {
                           domain.getDomainTemplate().getProfiles().stream()
                               .filter(isProfile(productId))
-                              .forEach(profile -> copyProfileToDomain(save, profile, domain));
+                              .forEach(profile -> copyProfileToDomain(profile, domain));
                         });
               });
     }
   }
 
-  private void copyProfileToDomain(boolean save, Profile profile, Domain domain) {
+  private void copyProfileToDomain(Profile profile, Domain domain) {
     defaultDomainCreator.copyProfileToDomain(profile, domain);
-    if (save) {
-      domainRepository.save(domain);
-    }
+    domainRepository.save(domain);
   }
 
-  private void deleteClient(Client client, UserAccessRights userAccessRights) {
+  /**
+   * Only marks the client as deleted, so the message is acknowledged right away. The client's data
+   * is purged in the background once the state change has been committed.
+   */
+  private void deleteClient(Client client) {
     log.info("Delete data for client {}", client);
-    unitRepository
-        .findByClient(client)
-        .forEach(unit -> deleteUnitUseCase.execute(new EntityId(unit.getId()), userAccessRights));
-
-    // Reload the client since the persistence context was cleared
-    repository.delete(repository.getById(client.getId()));
+    var clientId = client.getId();
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            clientPurger.purgeAsync(clientId);
+          }
+        });
   }
 
   private Predicate<? super Domain> referenceDomainTemplate(String templateName) {
@@ -185,52 +185,4 @@ public class ClientChangedEventListener {
   private Predicate<? super Domain> hasDomainTemplate() {
     return d -> d.getDomainTemplate() != null;
   }
-
-  @AllArgsConstructor(access = AccessLevel.PRIVATE)
-  private static final class NoRestriction implements UserAccessRights {
-    private final UUID clientId;
-
-    @Override
-    public void checkClient(ClientOwned id) {}
-
-    @Override
-    public boolean isUnitAccessRestricted() {
-      return false;
-    }
-
-    @Override
-    public Set<UUID> getReadableUnitIds() {
-      return Collections.emptySet();
-    }
-
-    @Override
-    public Set<UUID> getWritableUnitIds() {
-      return Collections.emptySet();
-    }
-
-    @Override
-    public List<String> getRoles() {
-      return Collections.emptyList();
-    }
-
-    @Override
-    public UUID getClientId() {
-      return clientId;
-    }
-
-    @Override
-    public String getUsername() {
-      return "system";
-    }
-
-    @Override
-    public Integer getMaxUnits() {
-      return 0;
-    }
-
-    @Override
-    public Integer getTotalUnits() {
-      return 0;
-    }
-  }
 }
@@ -0,0 +1,126 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.listeners;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import org.veo.core.entity.ClientState;
+import org.veo.core.entity.Identifiable;
+import org.veo.core.repository.ClientRepository;
+import org.veo.core.repository.GenericElementRepository;
+import org.veo.core.repository.UnitRepository;
+import org.veo.core.usecase.MessageCreator;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Removes all data of a client in the {@link ClientState#DELETED} state. The elements are removed
+ * unit by unit with set-based statements, each unit in a separate transaction, so purging a large
+ * client neither loads its elements nor holds a single long-running transaction. The client itself
+ * is deleted last, so a purge that was interrupted can simply be started again (see {@link
+ * org.veo.jobs.ClientPurgeJob}). In that case, deletion messages may be sent more than once for
+ * units that had already been purged.
+ */
+@Component
+@Slf4j
+public class ClientPurger {
+  private final ClientRepository clientRepository;
+  private final UnitRepository unitRepository;
+  private final GenericElementRepository genericElementRepository;
+  private final MessageCreator messageCreator;
+  private final TransactionTemplate transactionTemplate;
+  private final Set<UUID> clientsInProgress = ConcurrentHashMap.newKeySet();
+
+  public ClientPurger(
+      ClientRepository clientRepository,
+      UnitRepository unitRepository,
+      GenericElementRepository genericElementRepository,
+      MessageCreator messageCreator,
+      PlatformTransactionManager transactionManager) {
+    this.clientRepository = clientRepository;
+    this.unitRepository = unitRepository;
+    this.genericElementRepository = genericElementRepository;
+    this.messageCreator = messageCreator;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  /** Purges the client in the background. */
+  @Async
+  public void purgeAsync(UUID clientId) {
+    purge(clientId);
+  }
+
+  /**
+   * Purges the client on the calling thread. Does nothing if the client is already being purged by
+   * another thread.
+   */
+  public void purge(UUID clientId) {
+    if (!clientsInProgress.add(clientId)) {
+      log.debug("Client {} is already being purged", clientId);
+      return;
+    }
+    try {
+      doPurge(clientId);
+    } finally {
+      clientsInProgress.remove(clientId);
+    }
+  }
+
+  private void doPurge(UUID clientId) {
+    List<UUID> unitIds = transactionTemplate.execute(status -> findUnitIds(clientId));
+    if (unitIds == null) {
+      log.warn("Client {} does not exist or has not been deleted, skipping purge", clientId);
+      return;
+    }
+    log.info("Purging {} units of client {}", unitIds.size(), clientId);
+    for (int i = 0; i < unitIds.size(); i++) {
+      var unitId = unitIds.get(i);
+      transactionTemplate.executeWithoutResult(status -> purgeUnit(unitId));
+      log.info("Purged unit {} of client {} ({}/{})", unitId, clientId, i + 1, unitIds.size());
+    }
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          unitRepository.deleteByClient(clientId);
+          clientRepository.delete(clientRepository.getById(clientId));
+        });
+    log.info("Purged client {}", clientId);
+  }
+
+  private List<UUID> findUnitIds(UUID clientId) {
+    return clientRepository
+        .findById(clientId)
+        .filter(client -> client.getState() == ClientState.DELETED)
+        .map(
+            client ->
+                unitRepository.findByClient(client).stream().map(Identifiable::getId).toList())
+        .orElse(null);
+  }
+
+  private void purgeUnit(UUID unitId) {
+    genericElementRepository.purgeByUnit(unitId);
+    messageCreator.createUnitDeletionMessage(unitRepository.getById(unitId));
+  }
+}
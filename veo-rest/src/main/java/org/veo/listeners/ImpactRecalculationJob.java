@@ -0,0 +1,98 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.listeners;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/** Progress and result of a unit-wide impact recalculation by {@link UnitImpactRecalculator}. */
+@Getter
+public class ImpactRecalculationJob {
+  public enum State {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+  }
+
+  private final UUID id = UUID.randomUUID();
+  private final UUID unitId;
+
+  /** The domain to recalculate, {@code null} for all domains of the unit */
+  private final UUID domainId;
+
+  private final Instant createdAt = Instant.now();
+  private volatile Instant finishedAt;
+  private volatile State state = State.PENDING;
+
+  /** The number of independent components of the inheritance graphs */
+  private volatile int components;
+
+  @Getter(AccessLevel.NONE)
+  private final AtomicInteger processedComponents = new AtomicInteger();
+
+  @Getter(AccessLevel.NONE)
+  private final AtomicInteger failedComponents = new AtomicInteger();
+
+  @Getter(AccessLevel.NONE)
+  private final AtomicInteger changedElements = new AtomicInteger();
+
+  ImpactRecalculationJob(UUID unitId, UUID domainId) {
+    this.unitId = unitId;
+    this.domainId = domainId;
+  }
+
+  public int getProcessedComponents() {
+    return processedComponents.get();
+  }
+
+  public int getFailedComponents() {
+    return failedComponents.get();
+  }
+
+  public int getChangedElements() {
+    return changedElements.get();
+  }
+
+  void start(int components) {
+    this.components = components;
+    state = State.RUNNING;
+  }
+
+  void componentProcessed(int changedElements) {
+    this.changedElements.addAndGet(changedElements);
+    processedComponents.incrementAndGet();
+  }
+
+  void componentFailed() {
+    failedComponents.incrementAndGet();
+  }
+
+  void finish() {
+    finish(failedComponents.get() == 0 ? State.COMPLETED : State.FAILED);
+  }
+
+  void finish(State state) {
+    finishedAt = Instant.now();
+    this.state = state;
+  }
+}
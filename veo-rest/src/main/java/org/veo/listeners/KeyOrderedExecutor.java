@@ -0,0 +1,94 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.listeners;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Executes tasks on a fixed number of single-threaded lanes. Tasks with equal keys always end up in
+ * the same lane and are therefore executed in submission order, tasks with different keys may run
+ * in parallel. Each lane has a bounded queue. If it is full, the submitting thread blocks until
+ * there is room again. Tasks submitted after shutdown are executed on the submitting thread.
+ */
+@Slf4j
+class KeyOrderedExecutor {
+  private final List<ThreadPoolExecutor> lanes;
+
+  KeyOrderedExecutor(int laneCount, int queueCapacity, ThreadFactory threadFactory) {
+    lanes =
+        IntStream.range(0, laneCount)
+            .mapToObj(
+                i ->
+                    new ThreadPoolExecutor(
+                        1,
+                        1,
+                        0,
+                        TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(queueCapacity),
+                        threadFactory,
+                        KeyOrderedExecutor::waitForCapacity))
+            .toList();
+  }
+
+  void execute(Object key, Runnable task) {
+    lanes.get(Math.floorMod(Objects.hashCode(key), lanes.size())).execute(task);
+  }
+
+  int getQueued() {
+    return lanes.stream().mapToInt(lane -> lane.getQueue().size()).sum();
+  }
+
+  /** Executes all pending tasks and waits for their completion. */
+  boolean shutdown(Duration timeout) throws InterruptedException {
+    lanes.forEach(ThreadPoolExecutor::shutdown);
+    var deadline = System.nanoTime() + timeout.toNanos();
+    for (var lane : lanes) {
+      if (!lane.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static void waitForCapacity(Runnable task, ThreadPoolExecutor lane) {
+    if (lane.isShutdown()) {
+      task.run();
+      return;
+    }
+    try {
+      lane.getQueue().put(task);
+      if (lane.isShutdown() && lane.getQueue().remove(task)) {
+        // the lane has been shut down meanwhile and may not pick up the task anymore
+        task.run();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.warn("Interrupted while waiting for a lane, executing task directly");
+      task.run();
+    }
+  }
+}
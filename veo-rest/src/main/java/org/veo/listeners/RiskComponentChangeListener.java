@@ -43,6 +43,8 @@ import org.veo.core.entity.event.RiskDefinitionChangedEvent;
 import org.veo.core.entity.event.RiskEvent.ChangedValues;
 import org.veo.core.entity.event.UnitImpactRecalculatedEvent;
 import org.veo.core.entity.riskdefinition.RiskDefinition;
+import org.veo.core.repository.AfterCommitWork;
+import org.veo.core.repository.AfterCommitWorkRepository;
 import org.veo.core.repository.DomainRepository;
 import org.veo.core.repository.ElementQuery;
 import org.veo.core.repository.GenericElementRepository;
@@ -74,6 +76,8 @@ public class RiskComponentChangeListener {
   private final Decider decider;
   private final ElementMigrationService elementMigrationService;
   private final TemplateItemMigrationService templateItemMigrationService;
+  private final UnitImpactRecalculator unitImpactRecalculator;
+  private final AfterCommitWorkRepository afterCommitWorkRepository;
 
   @TransactionalEventListener(condition = "#event.source != @riskService")
   @Transactional(propagation = Propagation.REQUIRES_NEW)
@@ -117,14 +121,13 @@ public class RiskComponentChangeListener {
     }
   }
 
+  /**
+   * Unit-wide recalculations are split into independent components, which are processed in separate
+   * transactions by the {@link UnitImpactRecalculator}.
+   */
   @TransactionalEventListener(condition = "#event.source != @riskService")
-  @Transactional(propagation = Propagation.REQUIRES_NEW)
   public void handle(UnitImpactRecalculatedEvent event) {
-    Unit unit = unitRepository.findById(event.getUnit().getId()).orElseThrow();
-    Optional.ofNullable(event.getDomain())
-        .ifPresentOrElse(
-            domain -> impactInheritanceCalculator.updateAllRootNodes(unit, domain),
-            () -> impactInheritanceCalculator.updateAllRootNodes(unit));
+    unitImpactRecalculator.submit(event.getUnit().getId(), event.getDomainId());
   }
 
   @TransactionalEventListener(condition = "#event.source != @riskService")
@@ -168,4 +171,35 @@ public class RiskComponentChangeListener {
   public void handle(ElementEvent event) {
     decider.updateDecisions(event);
   }
+
+  /**
+   * Completes after-commit work that has been interrupted or has failed (see {@link
+   * AfterCommitEventMulticaster}). As the original event is not available anymore, all derived data
+   * of the affected element or unit is recalculated. The work is removed in the same transaction.
+   */
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public void recover(AfterCommitWork work) {
+    if (!afterCommitWorkRepository.lock(work.id())) {
+      log.debug("{} is already being recovered or has been completed", work);
+      return;
+    }
+    if (work.elementId() != null) {
+      elementRepository
+          .findById(work.elementId(), work.elementType().getType(), work.clientId())
+          .ifPresent(
+              element -> {
+                riskService.evaluateChangedRiskComponent(element);
+                if (element instanceof RiskAffected<?, ?> ra) {
+                  impactInheritanceCalculator.calculateImpactInheritance(ra);
+                }
+                decider.updateAllDecisions(element);
+              });
+    } else if (unitRepository.exists(work.unitId())) {
+      var job = unitImpactRecalculator.recalculate(work.unitId(), work.domainId());
+      if (job.getState() != ImpactRecalculationJob.State.COMPLETED) {
+        throw new IllegalStateException("Impact recalculation failed for " + work);
+      }
+    }
+    afterCommitWorkRepository.remove(work.id());
+  }
 }
@@ -0,0 +1,256 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.listeners;
+
+import static java.util.function.Predicate.not;
+import static org.veo.service.risk.ImpactInheritanceCalculator.HAS_INHERITING_LINKS;
+import static org.veo.service.risk.ImpactInheritanceCalculator.HAS_RISK_DEFINITION;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import org.veo.core.entity.Domain;
+import org.veo.core.entity.FlyweightElement;
+import org.veo.core.entity.Unit;
+import org.veo.core.repository.UnitRepository;
+import org.veo.service.risk.ImpactInheritanceCalculator;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Recalculates the impact inheritance of all elements in a unit, e.g. after an import. The
+ * inheritance graph of each domain and risk definition is split into its weakly connected
+ * components, which are updated in parallel on a bounded executor, each in a separate transaction.
+ * The risk definitions are processed one after another, because their impact values are stored in
+ * the same elements. Progress and results are tracked as {@link ImpactRecalculationJob}s, of which
+ * the most recent ones are retained. On shutdown, running jobs are given some time to complete.
+ */
+@Component
+@Slf4j
+public class UnitImpactRecalculator {
+  private final UnitRepository unitRepository;
+  private final ImpactInheritanceCalculator impactInheritanceCalculator;
+  private final TransactionTemplate transactionTemplate;
+  private final ExecutorService executor;
+  private final ExecutorService jobExecutor;
+  private final boolean async;
+  private final int maxAttempts;
+  private final int retainedJobs;
+  private final Duration shutdownTimeout;
+  private final Map<UUID, ImpactRecalculationJob> jobs = new LinkedHashMap<>();
+
+  private record ComponentTask(
+      UUID domainId, String riskDefinitionId, Set<FlyweightElement> component) {}
+
+  public UnitImpactRecalculator(
+      UnitRepository unitRepository,
+      ImpactInheritanceCalculator impactInheritanceCalculator,
+      PlatformTransactionManager transactionManager,
+      @Value("${veo.impact-inheritance.recalculation.async:false}") boolean async,
+      @Value("${veo.impact-inheritance.recalculation.parallelism:4}") int parallelism,
+      @Value("${veo.impact-inheritance.recalculation.max-attempts:5}") int maxAttempts,
+      @Value("${veo.impact-inheritance.recalculation.retained-jobs:100}") int retainedJobs,
+      @Value("${veo.impact-inheritance.recalculation.shutdown-timeout:60s}")
+          Duration shutdownTimeout) {
+    this.unitRepository = unitRepository;
+    this.impactInheritanceCalculator = impactInheritanceCalculator;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    // may be called from an after-commit listener, which must not join the completed transaction
+    transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.executor =
+        new DelegatingSecurityContextExecutorService(
+            Executors.newFixedThreadPool(
+                parallelism, Thread.ofVirtual().name("veo-impact-inheritance-", 0).factory()));
+    this.jobExecutor =
+        new DelegatingSecurityContextExecutorService(
+            Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("veo-impact-job-", 0).factory()));
+    this.async = async;
+    this.maxAttempts = maxAttempts;
+    this.retainedJobs = retainedJobs;
+    this.shutdownTimeout = shutdownTimeout;
+  }
+
+  /**
+   * Recalculates the impacts in the given domain of the unit, or in all its domains if {@code
+   * domainId} is {@code null}. Depending on the configuration, this returns immediately while the
+   * job runs in the background or once the job has finished.
+   */
+  public ImpactRecalculationJob submit(UUID unitId, UUID domainId) {
+    if (!async) {
+      return recalculate(unitId, domainId);
+    }
+    var job = register(unitId, domainId);
+    try {
+      jobExecutor.execute(() -> run(job));
+    } catch (RejectedExecutionException e) {
+      log.warn("Not recalculating impacts in unit {}, shutting down", unitId);
+      job.finish(ImpactRecalculationJob.State.FAILED);
+    }
+    return job;
+  }
+
+  /** Recalculates the impacts like {@link #submit} but always waits for the job to finish. */
+  public ImpactRecalculationJob recalculate(UUID unitId, UUID domainId) {
+    var job = register(unitId, domainId);
+    run(job);
+    return job;
+  }
+
+  /** Returns the retained jobs, most recent first. */
+  public synchronized List<ImpactRecalculationJob> getJobs() {
+    return List.copyOf(jobs.values()).reversed();
+  }
+
+  /**
+   * Waits for running jobs to complete. Jobs still running after the timeout are interrupted and
+   * remain incomplete, so their units must be recalculated again.
+   */
+  @PreDestroy
+  void shutdown() throws InterruptedException {
+    var deadline = System.nanoTime() + shutdownTimeout.toNanos();
+    // the component executor must stay available until the jobs have finished
+    jobExecutor.shutdown();
+    var completed = jobExecutor.awaitTermination(remaining(deadline), TimeUnit.NANOSECONDS);
+    executor.shutdown();
+    completed = completed && executor.awaitTermination(remaining(deadline), TimeUnit.NANOSECONDS);
+    if (!completed) {
+      log.error("Impact recalculations did not complete within {}", shutdownTimeout);
+      jobExecutor.shutdownNow();
+      executor.shutdownNow();
+    }
+  }
+
+  private static long remaining(long deadline) {
+    return Math.max(0, deadline - System.nanoTime());
+  }
+
+  private synchronized ImpactRecalculationJob register(UUID unitId, UUID domainId) {
+    var job = new ImpactRecalculationJob(unitId, domainId);
+    jobs.put(job.getId(), job);
+    while (jobs.size() > retainedJobs) {
+      jobs.remove(jobs.keySet().iterator().next());
+    }
+    return job;
+  }
+
+  private void run(ImpactRecalculationJob job) {
+    long startTime = System.currentTimeMillis();
+    try {
+      List<List<ComponentTask>> tasksByRiskDefinition =
+          transactionTemplate.execute(status -> findComponents(job));
+      job.start(tasksByRiskDefinition.stream().mapToInt(List::size).sum());
+      log.info(
+          "Recalculating impacts of {} components in unit {}",
+          job.getComponents(),
+          job.getUnitId());
+      for (var tasks : tasksByRiskDefinition) {
+        CompletableFuture.allOf(
+                tasks.stream()
+                    .map(task -> CompletableFuture.runAsync(() -> process(job, task), executor))
+                    .toArray(CompletableFuture[]::new))
+            .join();
+      }
+      job.finish();
+      log.info(
+          "Recalculated impacts in unit {}: {} elements changed, {} components failed, {} ms",
+          job.getUnitId(),
+          job.getChangedElements(),
+          job.getFailedComponents(),
+          System.currentTimeMillis() - startTime);
+    } catch (RuntimeException e) {
+      log.error("Failed to recalculate impacts in unit {}", job.getUnitId(), e);
+      job.finish(ImpactRecalculationJob.State.FAILED);
+    }
+  }
+
+  private List<List<ComponentTask>> findComponents(ImpactRecalculationJob job) {
+    Unit unit = unitRepository.getById(job.getUnitId());
+    return unit.getDomains().stream()
+        .filter(d -> job.getDomainId() == null || d.getId().equals(job.getDomainId()))
+        .filter(HAS_RISK_DEFINITION)
+        .flatMap(
+            domain ->
+                domain.getRiskDefinitions().values().stream()
+                    .filter(HAS_INHERITING_LINKS)
+                    .map(
+                        rd ->
+                            impactInheritanceCalculator
+                                .findComponents(unit, domain, rd.getId())
+                                .stream()
+                                .map(c -> new ComponentTask(domain.getId(), rd.getId(), c))
+                                .toList()))
+        .filter(not(List::isEmpty))
+        .toList();
+  }
+
+  private void process(ImpactRecalculationJob job, ComponentTask task) {
+    for (int attempt = 1; ; attempt++) {
+      try {
+        int changed = transactionTemplate.execute(status -> updateComponent(job, task));
+        job.componentProcessed(changed);
+        return;
+      } catch (OptimisticLockingFailureException e) {
+        if (attempt >= maxAttempts) {
+          log.error(
+              "Giving up on component in unit {} after {} attempts", job.getUnitId(), attempt, e);
+          job.componentFailed();
+          return;
+        }
+        log.debug("Concurrent modification in unit {}, retrying component", job.getUnitId());
+      } catch (RuntimeException e) {
+        log.error("Failed to recalculate component in unit {}", job.getUnitId(), e);
+        job.componentFailed();
+        return;
+      }
+    }
+  }
+
+  private int updateComponent(ImpactRecalculationJob job, ComponentTask task) {
+    Unit unit = unitRepository.getById(job.getUnitId());
+    Domain domain =
+        unit.getDomains().stream()
+            .filter(d -> d.getId().equals(task.domainId()))
+            .findFirst()
+            .orElseThrow();
+    return new HashSet<>(
+            impactInheritanceCalculator.updateComponent(
+                unit, domain, task.riskDefinitionId(), task.component()))
+        .size();
+  }
+}
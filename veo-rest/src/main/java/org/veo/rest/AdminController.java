@@ -17,6 +17,7 @@
  */
 package org.veo.rest;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -33,6 +34,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.request.WebRequest;
 
@@ -48,6 +50,10 @@ import org.veo.core.usecase.message.DeleteSystemMessageUseCase;
 import org.veo.core.usecase.message.SaveSystemMessageUseCase;
 import org.veo.core.usecase.unit.GetUnitCountUseCase;
 import org.veo.core.usecase.unit.GetUnitDumpUseCase;
+import org.veo.core.usecase.unit.RebuildAttributeValueUsageUseCase;
+import org.veo.core.usecase.unit.RebuildElementStatusCountsUseCase;
+import org.veo.listeners.ImpactRecalculationJob;
+import org.veo.listeners.UnitImpactRecalculator;
 import org.veo.rest.common.RestApiResponse;
 import org.veo.rest.security.ApplicationUser;
 
@@ -69,6 +75,9 @@ public class AdminController {
   private final SaveSystemMessageUseCase saveSystemMessageUseCase;
   private final DeleteSystemMessageUseCase deleteSystemMessageUseCase;
   private final GetUnitCountUseCase getUnitCountUseCase;
+  private final RebuildElementStatusCountsUseCase rebuildElementStatusCountsUseCase;
+  private final RebuildAttributeValueUsageUseCase rebuildAttributeValueUsageUseCase;
+  private final UnitImpactRecalculator unitImpactRecalculator;
 
   public static final String URL_BASE_PATH = "/admin";
 
@@ -145,6 +154,35 @@ public class AdminController {
         out -> UnitDumpMapper.mapOutput(out, entityToDtoTransformer));
   }
 
+  @PostMapping("/units/{unitId}/element-status-counts/rebuild")
+  @Operation(summary = "Recalculates the element status counters of given unit")
+  public CompletableFuture<ResponseEntity<Void>> rebuildElementStatusCounts(
+      @PathVariable UUID unitId) {
+    return useCaseInteractor.execute(
+        rebuildElementStatusCountsUseCase,
+        new RebuildElementStatusCountsUseCase.InputData(unitId),
+        out -> ResponseEntity.noContent().build());
+  }
+
+  @PostMapping("/units/{unitId}/attribute-values/rebuild")
+  @Operation(summary = "Recalculates the attribute value usages of given unit")
+  public CompletableFuture<ResponseEntity<Void>> rebuildAttributeValueUsage(
+      @PathVariable UUID unitId) {
+    return useCaseInteractor.execute(
+        rebuildAttributeValueUsageUseCase,
+        new RebuildAttributeValueUsageUseCase.InputData(unitId),
+        out -> ResponseEntity.noContent().build());
+  }
+
+  @GetMapping("/impact-recalculations")
+  @Operation(summary = "Returns the most recent unit-wide impact recalculation jobs")
+  public List<ImpactRecalculationJob> getImpactRecalculations(
+      @RequestParam(required = false) UUID unitId) {
+    return unitImpactRecalculator.getJobs().stream()
+        .filter(job -> unitId == null || job.getUnitId().equals(unitId))
+        .toList();
+  }
+
   @GetMapping("/unit-count")
   @Operation(summary = "Returns the overall number of units")
   @SecurityRequirements(@SecurityRequirement(name = RestApplication.SECURITY_SCHEME_APIKEY))
@@ -0,0 +1,79 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.rest;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractJacksonHttpMessageConverter;
+
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.cfg.MapperBuilder;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+/**
+ * Uses a custom binary media type (Smile or CBOR) with the same compact rules as {@link
+ * CompactJsonHttpMessageConverter}: read-only properties and properties with default values are
+ * omitted. This spares internal clients the cost of parsing and writing JSON text for large DTO
+ * graphs (e.g. unit dumps).
+ */
+public class CompactBinaryHttpMessageConverter extends AbstractJacksonHttpMessageConverter {
+  public static final String MEDIA_TYPE_SMILE_COMPACT_VALUE =
+      "application/vnd.sernet.verinice.compact+smile";
+  public static final MediaType MEDIA_TYPE_SMILE_COMPACT =
+      MediaType.parseMediaType(MEDIA_TYPE_SMILE_COMPACT_VALUE);
+  public static final String MEDIA_TYPE_CBOR_COMPACT_VALUE =
+      "application/vnd.sernet.verinice.compact+cbor";
+  public static final MediaType MEDIA_TYPE_CBOR_COMPACT =
+      MediaType.parseMediaType(MEDIA_TYPE_CBOR_COMPACT_VALUE);
+
+  private CompactBinaryHttpMessageConverter(ObjectMapper mapper, MediaType mediaType) {
+    super(mapper, mediaType);
+  }
+
+  public static CompactBinaryHttpMessageConverter smile(ObjectMapper defaultMapper) {
+    return new CompactBinaryHttpMessageConverter(
+        configureCompactMapper(SmileMapper.builder(), defaultMapper), MEDIA_TYPE_SMILE_COMPACT);
+  }
+
+  public static CompactBinaryHttpMessageConverter cbor(ObjectMapper defaultMapper) {
+    return new CompactBinaryHttpMessageConverter(
+        configureCompactMapper(CBORMapper.builder(), defaultMapper), MEDIA_TYPE_CBOR_COMPACT);
+  }
+
+  /**
+   * Mappers cannot be rebuilt for a different data format, so the relevant configuration of the
+   * default (JSON) mapper is transferred to the binary mapper's builder.
+   */
+  private static <M extends ObjectMapper, B extends MapperBuilder<M, B>> M configureCompactMapper(
+      B builder, ObjectMapper defaultMapper) {
+    builder.addModules(defaultMapper.registeredModules());
+    builder.changeDefaultPropertyInclusion(
+        incl -> defaultMapper.serializationConfig().getDefaultPropertyInclusion());
+    for (var feature : SerializationFeature.values()) {
+      builder.configure(feature, defaultMapper.isEnabled(feature));
+    }
+    for (var feature : DeserializationFeature.values()) {
+      builder.configure(feature, defaultMapper.isEnabled(feature));
+    }
+    return builder
+        .annotationIntrospector(CompactJsonHttpMessageConverter.compactIntrospector(defaultMapper))
+        .build();
+  }
+}
@@ -49,6 +49,17 @@ public class CompactJsonHttpMessageConverter extends AbstractJacksonHttpMessageC
   private final class Dummy {}
 
   private static ObjectMapper configureCompactMapper(ObjectMapper defaultMapper) {
+    return defaultMapper
+        .rebuild()
+        .annotationIntrospector(compactIntrospector(defaultMapper))
+        .build();
+  }
+
+  /**
+   * Creates an annotation introspector that applies the compact rules (omitting read-only
+   * properties and properties with default values) on top of the default mapper's introspector.
+   */
+  static AnnotationIntrospector compactIntrospector(ObjectMapper defaultMapper) {
     var includeNonDefault = new JsonInclude.Value(Dummy.class.getAnnotation(JsonInclude.class));
     var defaultIntrospector = defaultMapper.serializationConfig().getAnnotationIntrospector();
 
@@ -94,6 +105,6 @@ public class CompactJsonHttpMessageConverter extends AbstractJacksonHttpMessageC
                 return false;
               }
             });
-    return defaultMapper.rebuild().annotationIntrospector(newIntrospector).build();
+    return newIntrospector;
   }
 }
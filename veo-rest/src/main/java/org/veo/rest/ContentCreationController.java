@@ -35,6 +35,8 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -43,6 +45,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
@@ -76,6 +79,7 @@ import org.veo.core.entity.inspection.Inspection;
 import org.veo.core.entity.riskdefinition.RiskDefinition;
 import org.veo.core.entity.riskdefinition.RiskDefinitionChange;
 import org.veo.core.usecase.UseCase.EntityId;
+import org.veo.core.usecase.common.ETag;
 import org.veo.core.usecase.domain.CreateCatalogFromUnitUseCase;
 import org.veo.core.usecase.domain.CreateDomainUseCase;
 import org.veo.core.usecase.domain.CreateProfileFromUnitUseCase;
@@ -99,6 +103,7 @@ import org.veo.core.usecase.domaintemplate.CreateProfileInDomainTemplateUseCase;
 import org.veo.core.usecase.domaintemplate.DeleteProfileInDomainTemplateUseCase;
 import org.veo.core.usecase.domaintemplate.GetDomainTemplateUseCase;
 import org.veo.core.usecase.profile.SaveIncarnationConfigurationUseCase;
+import org.veo.rest.common.ExportCache;
 import org.veo.rest.common.RestApiResponse;
 import org.veo.service.EtagService;
 
@@ -152,6 +157,7 @@ public class ContentCreationController extends AbstractVeoController {
   private final CreateDomainUseCase createDomainUseCase;
   private final CreateDomainTemplateUseCase createDomainTemplatesUseCase;
   private final EtagService etagService;
+  private final ExportCache exportCache;
   private final SaveDomainMetadataUseCase saveDomainMetadataUseCase;
 
   @PostMapping("/domains")
@@ -573,6 +579,44 @@ public class ContentCreationController extends AbstractVeoController {
         out -> ResponseEntity.noContent().build());
   }
 
+  @GetMapping(value = "/domain-templates/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+  @Operation(summary = "Loads a domain template")
+  @ApiResponse(
+      responseCode = "200",
+      description = "Domain template loaded",
+      content =
+          @Content(
+              mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ExportDomainTemplateDto.class)))
+  @ApiResponse(responseCode = "404", description = "Domain template not found")
+  @ApiResponse(responseCode = "400", description = "Bad request")
+  public Future<ResponseEntity<Resource>> getDomainTemplateCached(
+      @PathVariable UUID id,
+      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+      WebRequest request) {
+    var eTag = etagService.getEtag(DomainTemplate.class, id);
+    if (eTag.map(request::checkNotModified).orElse(false)) {
+      return null;
+    }
+    // Domain templates are not client-specific, so a cached export can be served without loading
+    // anything.
+    var cachedExport = eTag.flatMap(e -> exportCache.find(id, e));
+    if (cachedExport.isPresent()) {
+      return CompletableFuture.completedFuture(
+          exportCache.toResponse(cachedExport.get(), acceptEncoding));
+    }
+    return useCaseInteractor.execute(
+        getDomainTemplateUseCase,
+        new EntityId(id),
+        output ->
+            exportCache.toResponse(
+                exportCache.store(
+                    id,
+                    ETag.from(output.domainTemplate()),
+                    entityToDtoTransformer.transformDomainTemplate2Dto(output.domainTemplate())),
+                acceptEncoding));
+  }
+
   @GetMapping(value = "/domain-templates/{id}")
   @Operation(summary = "Loads a domain template")
   @ApiResponse(
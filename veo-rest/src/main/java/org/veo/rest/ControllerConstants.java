@@ -72,6 +72,11 @@ public final class ControllerConstants {
   static final CacheControl DEFAULT_CACHE_CONTROL = CacheControl.noCache();
   static final int GRAPH_MAX_NEIGHBORS_LIMIT = 1000;
   public static final String DEFAULT_GRAPH_NEIGHBORS_LIMIT = "25";
+  static final int MULTI_HOP_GRAPH_MAX_NEIGHBORS_LIMIT = 100;
+  static final int GRAPH_MAX_DEPTH = 3;
+  static final String DEFAULT_GRAPH_DEPTH = "2";
+  static final int GRAPH_MAX_NODES_LIMIT = 2000;
+  static final String DEFAULT_GRAPH_NODES_LIMIT = "200";
 
   private ControllerConstants() {}
 }
@@ -78,6 +78,8 @@ import org.springframework.web.context.request.WebRequest;
 import org.veo.adapter.persistence.schema.RelationGraphService;
 import org.veo.adapter.presenter.api.common.ApiResponseBody;
 import org.veo.adapter.presenter.api.dto.AbstractElementInDomainDto;
+import org.veo.adapter.presenter.api.dto.ElementOperationDto;
+import org.veo.adapter.presenter.api.dto.ElementOperationResultDto;
 import org.veo.adapter.presenter.api.dto.GraphResultDto;
 import org.veo.adapter.presenter.api.dto.LinkMapDto;
 import org.veo.adapter.presenter.api.dto.PageDto;
@@ -365,6 +367,25 @@ public class DocumentInDomainController implements ElementInDomainResource {
         domainId, uuid, dto, Document.class, entityToDtoTransformer::transformDocument2Dto);
   }
 
+  @Operation(
+      summary = "Creates and updates multiple documents from the viewpoint of a domain",
+      description =
+          "Operations for elements without an ID create new documents, all other operations"
+              + " update existing documents and require their current ETag. Operations are"
+              + " applied in chunks, rejected operations don't affect the others.")
+  @PostMapping("/bulk")
+  @ApiResponse(responseCode = "200", description = "Operations processed, see individual results")
+  @ApiResponse(responseCode = "400", description = "Too many operations")
+  @ApiResponse(responseCode = "404", description = "Domain not found")
+  public CompletableFuture<ResponseEntity<List<ElementOperationResultDto>>> saveElements(
+      @Parameter(required = true, example = UUID_EXAMPLE, description = UUID_DESCRIPTION)
+          @PathVariable
+          UUID domainId,
+      @Valid @NotNull @RequestBody
+          List<@Valid ElementOperationDto<FullDocumentInDomainDto>> operations) {
+    return elementService.saveElements(domainId, operations);
+  }
+
   @Operation(summary = "Updates a document from the viewpoint of a domain")
   @PutMapping(UUID_PARAM_SPEC)
   @ApiResponse(responseCode = "200", description = "Document updated")
@@ -20,8 +20,14 @@ package org.veo.rest;
 import static org.veo.core.entity.DomainBase.INSPECTION_ID_MAX_LENGTH;
 import static org.veo.rest.ControllerConstants.ABBREVIATION_PARAM;
 import static org.veo.rest.ControllerConstants.CUSTOM_ASPECTS_PARAM;
+import static org.veo.rest.ControllerConstants.DEFAULT_GRAPH_DEPTH;
+import static org.veo.rest.ControllerConstants.DEFAULT_GRAPH_NEIGHBORS_LIMIT;
+import static org.veo.rest.ControllerConstants.DEFAULT_GRAPH_NODES_LIMIT;
 import static org.veo.rest.ControllerConstants.DESCRIPTION_PARAM;
 import static org.veo.rest.ControllerConstants.ELEMENT_TYPE_PARAM;
+import static org.veo.rest.ControllerConstants.GRAPH_MAX_DEPTH;
+import static org.veo.rest.ControllerConstants.GRAPH_MAX_NODES_LIMIT;
+import static org.veo.rest.ControllerConstants.MULTI_HOP_GRAPH_MAX_NEIGHBORS_LIMIT;
 import static org.veo.rest.ControllerConstants.NAME_PARAM;
 import static org.veo.rest.ControllerConstants.PAGE_NUMBER_DEFAULT_VALUE;
 import static org.veo.rest.ControllerConstants.PAGE_NUMBER_PARAM;
@@ -39,29 +45,43 @@ import static org.veo.rest.ControllerConstants.UUID_EXAMPLE;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.request.WebRequest;
 
+import org.veo.adapter.persistence.schema.RelationGraphService;
 import org.veo.adapter.presenter.api.common.ApiResponseBody;
 import org.veo.adapter.presenter.api.common.DomainUpdateFailedResponseBody;
 import org.veo.adapter.presenter.api.dto.AttributeValuesDto;
+import org.veo.adapter.presenter.api.dto.CursorPageDto;
+import org.veo.adapter.presenter.api.dto.ElementLookupDto;
+import org.veo.adapter.presenter.api.dto.ElementLookupResultDto;
+import org.veo.adapter.presenter.api.dto.GraphResultDto;
 import org.veo.adapter.presenter.api.dto.PageDto;
+import org.veo.adapter.presenter.api.dto.RiskValueDto;
 import org.veo.adapter.presenter.api.dto.ShortCatalogItemDto;
 import org.veo.adapter.presenter.api.dto.ShortInspectionDto;
 import org.veo.adapter.presenter.api.dto.ShortProfileDto;
@@ -71,6 +91,7 @@ import org.veo.adapter.presenter.api.dto.full.FullDomainDto;
 import org.veo.adapter.presenter.api.dto.full.FullProfileDto;
 import org.veo.adapter.presenter.api.io.mapper.PagingMapper;
 import org.veo.adapter.presenter.api.io.mapper.QueryInputMapper;
+import org.veo.adapter.presenter.api.response.InOrOutboundLinkDto;
 import org.veo.adapter.service.domaintemplate.dto.ExportDomainDto;
 import org.veo.adapter.service.domaintemplate.dto.ExportProfileDto;
 import org.veo.core.entity.BreakingChange;
@@ -79,6 +100,7 @@ import org.veo.core.entity.ElementType;
 import org.veo.core.entity.IncarnationConfiguration;
 import org.veo.core.entity.Profile;
 import org.veo.core.entity.ProfileItem;
+import org.veo.core.entity.exception.NotFoundException;
 import org.veo.core.entity.inspection.Inspection;
 import org.veo.core.entity.ref.TypedId;
 import org.veo.core.entity.ref.TypedSymbolicId;
@@ -86,13 +108,15 @@ import org.veo.core.entity.riskdefinition.RiskDefinition;
 import org.veo.core.entity.state.TemplateItemIncarnationDescriptionState;
 import org.veo.core.entity.statistics.CatalogItemsTypeCount;
 import org.veo.core.entity.statistics.ElementStatusCounts;
-import org.veo.core.usecase.UpdateDomainUseCase;
+import org.veo.core.repository.LinkQuery;
+import org.veo.core.usecase.GetLinksByElementKeysetUseCase;
 import org.veo.core.usecase.UseCase;
 import org.veo.core.usecase.UseCase.EntityId;
 import org.veo.core.usecase.catalogitem.ApplyProfileIncarnationDescriptionUseCase;
 import org.veo.core.usecase.catalogitem.GetCatalogItemUseCase;
 import org.veo.core.usecase.catalogitem.GetProfileIncarnationDescriptionUseCase;
 import org.veo.core.usecase.catalogitem.QueryCatalogItemsUseCase;
+import org.veo.core.usecase.common.ETag;
 import org.veo.core.usecase.domain.EvaluateRiskDefinitionUseCase;
 import org.veo.core.usecase.domain.ExportDomainUseCase;
 import org.veo.core.usecase.domain.GetAttributeValuesUseCase;
@@ -109,7 +133,12 @@ import org.veo.core.usecase.profile.GetProfileItemUseCase;
 import org.veo.core.usecase.profile.GetProfileItemsUseCase;
 import org.veo.core.usecase.profile.GetProfileUseCase;
 import org.veo.core.usecase.profile.GetProfilesUseCase;
+import org.veo.core.usecase.risk.GetRiskValuesUseCase;
 import org.veo.rest.annotations.UnitUuidParam;
+import org.veo.rest.common.DomainUpdateJob;
+import org.veo.rest.common.DomainUpdater;
+import org.veo.rest.common.ElementInDomainService;
+import org.veo.rest.common.ExportCache;
 import org.veo.rest.common.RestApiResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -143,9 +172,10 @@ public class DomainController extends AbstractEntityController {
   private final GetDomainsUseCase getDomainsUseCase;
   private final GetDomainUpdatesUseCase getDomainUpdatesUseCase;
   private final ExportDomainUseCase exportDomainUseCase;
-  private final UpdateDomainUseCase updateDomainUseCase;
   private final GetElementStatusCountUseCase getElementStatusCountUseCase;
   private final GetAttributeValuesUseCase getAttributeValuesUseCase;
+  private final GetLinksByElementKeysetUseCase getLinksByElementKeysetUseCase;
+  private final GetRiskValuesUseCase getRiskValuesUseCase;
   private final GetCatalogItemUseCase getCatalogItemUseCase;
   private final GetCatalogItemsTypeCountUseCase getCatalogItemsTypeCountUseCase;
   private final QueryCatalogItemsUseCase queryCatalogItemsUseCase;
@@ -161,6 +191,10 @@ public class DomainController extends AbstractEntityController {
 
   private final ApplyProfileIncarnationDescriptionUseCase applyProfileIncarnationDescriptionUseCase;
   private final GetProfileIncarnationDescriptionUseCase getProfileIncarnationDescriptionUseCase;
+  private final ExportCache exportCache;
+  private final ElementInDomainService elementInDomainService;
+  private final DomainUpdater domainUpdater;
+  private final RelationGraphService relationGraphService;
 
   @GetMapping
   @Operation(summary = "Loads all domains")
@@ -203,6 +237,44 @@ public class DomainController extends AbstractEntityController {
         domainDto -> ResponseEntity.ok().cacheControl(defaultCacheControl).body(domainDto));
   }
 
+  @GetMapping(value = "/{id}/export", produces = MediaType.APPLICATION_JSON_VALUE)
+  @Operation(summary = "Export a domain")
+  @ApiResponse(
+      responseCode = "200",
+      description = "Domain exported",
+      content =
+          @Content(
+              mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = ExportDomainDto.class)))
+  @ApiResponse(responseCode = "404", description = "Domain not found")
+  public Future<ResponseEntity<Resource>> exportDomainCached(
+      @PathVariable UUID id,
+      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+      WebRequest request) {
+    var eTag = getEtag(Domain.class, id);
+    if (eTag.map(request::checkNotModified).orElse(false)) {
+      return null;
+    }
+    var cachedExport = eTag.flatMap(e -> exportCache.find(id, e));
+    if (cachedExport.isPresent()) {
+      // The domain is loaded without its catalog & profiles to check if it is accessible.
+      return useCaseInteractor.execute(
+          getDomainUseCase,
+          new EntityId(id),
+          o -> exportCache.toResponse(cachedExport.get(), acceptEncoding));
+    }
+    return useCaseInteractor.execute(
+        exportDomainUseCase,
+        new EntityId(id),
+        o ->
+            exportCache.toResponse(
+                exportCache.store(
+                    id,
+                    ETag.from(o.exportDomain()),
+                    entityToDtoTransformer.transformDomain2ExportDto(o.exportDomain())),
+                acceptEncoding));
+  }
+
   @GetMapping(value = "/{id}/export")
   @Operation(summary = "Export a domain")
   @ApiResponse(
@@ -419,6 +491,205 @@ public class DomainController extends AbstractEntityController {
         .thenApply(counts -> ResponseEntity.ok().cacheControl(defaultCacheControl).body(counts));
   }
 
+  @PostMapping(value = "/{domainId}/elements/lookup")
+  @Operation(
+      summary = "Loads multiple elements of any type by ID from the viewpoint of a domain",
+      description =
+          "Conditional requests are evaluated per element: ETags of elements that the client"
+              + " already knows may be passed in the request body. Those elements are reported"
+              + " with status 304 if they have not been modified. This does not change any data.")
+  @ApiResponse(
+      responseCode = "200",
+      description = "Elements loaded, see individual results",
+      content =
+          @Content(
+              mediaType = MediaType.APPLICATION_JSON_VALUE,
+              array =
+                  @ArraySchema(schema = @Schema(implementation = ElementLookupResultDto.class))))
+  @ApiResponse(responseCode = "404", description = "Domain not found")
+  public CompletableFuture<ResponseEntity<List<ElementLookupResultDto>>> getElementsByIds(
+      @Parameter(required = true, example = UUID_EXAMPLE, description = UUID_DESCRIPTION)
+          @PathVariable
+          UUID domainId,
+      @Valid @RequestBody ElementLookupDto lookup) {
+    return elementInDomainService.getElementsByIds(
+        domainId,
+        lookup.ids(),
+        lookup.elementTypes(),
+        lookup.knownETags() == null
+            ? Set.of()
+            : lookup.knownETags().stream()
+                .map(DomainController::normalizeETag)
+                .collect(Collectors.toSet()));
+  }
+
+  /** Normalizes an ETag for comparison, which is case-insensitive like {@link ETag#matches}. */
+  private static String normalizeETag(String eTag) {
+    var trimmed = eTag.trim();
+    if (trimmed.startsWith("W/")) {
+      trimmed = trimmed.substring(2);
+    }
+    return (trimmed.startsWith("\"") ? trimmed : "\"" + trimmed + "\"").toLowerCase(Locale.ROOT);
+  }
+
+  @GetMapping(value = "/{domainId}/elements/{elementId}/relation-graph")
+  @Operation(
+      summary =
+          "EXPERIMENTAL API - Returns the relations of an element up to a number of hops for graph"
+              + " visualization",
+      description =
+          "Traverses custom links, parts and scope members. From each element, at most"
+              + " neighborLimit neighbors are followed. The result contains at most limit nodes,"
+              + " preferring the nodes closest to the requested element.")
+  @ApiResponse(responseCode = "200", description = "Graph retrieved")
+  @ApiResponse(responseCode = "404", description = "Domain or element not found")
+  public GraphResultDto getRelationGraph(
+      @PathVariable UUID domainId,
+      @PathVariable UUID elementId,
+      Locale locale,
+      @RequestParam(defaultValue = DEFAULT_GRAPH_DEPTH) @Min(1) @Max(GRAPH_MAX_DEPTH) Integer depth,
+      @RequestParam(defaultValue = DEFAULT_GRAPH_NEIGHBORS_LIMIT)
+          @Min(1)
+          @Max(MULTI_HOP_GRAPH_MAX_NEIGHBORS_LIMIT)
+          Integer neighborLimit,
+      @RequestParam(defaultValue = DEFAULT_GRAPH_NODES_LIMIT)
+          @Min(1)
+          @Max(GRAPH_MAX_NODES_LIMIT)
+          Integer limit,
+      @Parameter(description = "Only traverse elements of these types")
+          @RequestParam(value = ELEMENT_TYPE_PARAM, required = false)
+          Set<ElementType> elementTypes,
+      @Parameter(description = "Only traverse custom links of these types")
+          @RequestParam(required = false)
+          Set<String> linkTypes) {
+    return relationGraphService.getMultiHopGraph(
+        elementId,
+        domainId,
+        depth,
+        neighborLimit,
+        limit,
+        elementTypes == null ? Set.of() : elementTypes,
+        linkTypes == null ? Set.of() : linkTypes,
+        locale);
+  }
+
+  @GetMapping(value = "/{domainId}/elements/{elementId}/links")
+  @Operation(
+      summary = "Retrieve inbound and outbound links for an element of any type in a domain",
+      description =
+          "Pages are continued with the cursor returned with the previous page. Counting all links"
+              + " is optional and can be skipped for elements with many links.")
+  @ApiResponse(responseCode = "200", description = "Links loaded")
+  @ApiResponse(
+      responseCode = "404",
+      description = "Element or domain not found or element not associated with domain")
+  public CompletableFuture<ResponseEntity<CursorPageDto<InOrOutboundLinkDto>>> getLinks(
+      @Parameter(required = true, example = UUID_EXAMPLE, description = UUID_DESCRIPTION)
+          @PathVariable
+          UUID domainId,
+      @Parameter(required = true, example = UUID_EXAMPLE, description = UUID_DESCRIPTION)
+          @PathVariable
+          UUID elementId,
+      @RequestParam(
+              value = PAGE_SIZE_PARAM,
+              required = false,
+              defaultValue = PAGE_SIZE_DEFAULT_VALUE)
+          @Min(1)
+          Integer pageSize,
+      @RequestParam(value = SORT_COLUMN_PARAM, required = false, defaultValue = "DIRECTION")
+          LinkQuery.SortCriterion sortColumn,
+      @RequestParam(
+              value = SORT_ORDER_PARAM,
+              required = false,
+              defaultValue = SORT_ORDER_DEFAULT_VALUE)
+          @Pattern(regexp = SORT_ORDER_PATTERN)
+          String sortOrder,
+      @Parameter(description = "Cursor returned with the previous page")
+          @RequestParam(required = false)
+          String cursor,
+      @Parameter(description = "Whether to count all links")
+          @RequestParam(required = false, defaultValue = "true")
+          boolean countTotal) {
+    return useCaseInteractor
+        .execute(
+            getLinksByElementKeysetUseCase,
+            new GetLinksByElementKeysetUseCase.InputData(
+                elementId,
+                domainId,
+                pageSize,
+                sortColumn,
+                PagingMapper.toSortOrder(sortOrder),
+                cursor,
+                countTotal),
+            out ->
+                new CursorPageDto<>(
+                    out.page().resultPage().stream()
+                        .map(link -> InOrOutboundLinkDto.from(link, out.domain(), urlAssembler))
+                        .toList(),
+                    out.page().nextCursor(),
+                    out.page().totalResults()))
+        .thenApply(ResponseEntity::ok);
+  }
+
+  @GetMapping(value = "/{domainId}/risks")
+  @Operation(
+      summary = "Retrieve the risk values of all risk-affected elements in a domain",
+      description =
+          "Returns one item per risk, risk definition and risk category, ordered by residual risk"
+              + " (highest first). Pages are continued with the cursor returned with the previous"
+              + " page.")
+  @ApiResponse(responseCode = "200", description = "Risk values loaded")
+  @ApiResponse(responseCode = "404", description = "Domain, unit or risk definition not found")
+  public CompletableFuture<ResponseEntity<CursorPageDto<RiskValueDto>>> getRiskValues(
+      @Parameter(required = true, example = UUID_EXAMPLE, description = UUID_DESCRIPTION)
+          @PathVariable
+          UUID domainId,
+      @Parameter(description = "Only return risks of elements in this unit")
+          @RequestParam(value = UNIT_PARAM, required = false)
+          UUID unitId,
+      @Parameter(description = "Only return values of this risk definition")
+          @RequestParam(required = false)
+          String riskDefinition,
+      @Parameter(description = "Only return values of this risk category")
+          @RequestParam(required = false)
+          String category,
+      @Parameter(description = "Only return values with one of these inherent risk ordinals")
+          @RequestParam(required = false)
+          Set<Integer> inherentRisk,
+      @Parameter(description = "Only return values with one of these residual risk ordinals")
+          @RequestParam(required = false)
+          Set<Integer> residualRisk,
+      @RequestParam(
+              value = PAGE_SIZE_PARAM,
+              required = false,
+              defaultValue = PAGE_SIZE_DEFAULT_VALUE)
+          @Min(1)
+          Integer pageSize,
+      @Parameter(description = "Cursor returned with the previous page")
+          @RequestParam(required = false)
+          String cursor) {
+    return useCaseInteractor
+        .execute(
+            getRiskValuesUseCase,
+            new GetRiskValuesUseCase.InputData(
+                domainId,
+                unitId,
+                riskDefinition,
+                category,
+                inherentRisk,
+                residualRisk,
+                pageSize,
+                cursor),
+            out ->
+                new CursorPageDto<>(
+                    out.page().resultPage().stream()
+                        .map(value -> RiskValueDto.from(value, domainId, referenceAssembler))
+                        .toList(),
+                    out.page().nextCursor(),
+                    out.page().totalResults()))
+        .thenApply(ResponseEntity::ok);
+  }
+
   @GetMapping(value = "/{id}/attribute-values")
   @Operation(
       summary =
@@ -434,12 +705,21 @@ public class DomainController extends AbstractEntityController {
   public @Valid CompletableFuture<ResponseEntity<AttributeValuesDto>> getAttributeValues(
       @PathVariable UUID id,
       @RequestParam(value = "type") String type,
-      @UnitUuidParam @RequestParam(value = UNIT_PARAM) String unitId) {
+      @UnitUuidParam @RequestParam(value = UNIT_PARAM) String unitId,
+      @Parameter(description = "Only return values starting with this text (ignoring case)")
+          @RequestParam(value = "prefix", required = false)
+          String prefix,
+      @Parameter(
+              description =
+                  "Only return values after this one (the last value of the previous page)")
+          @RequestParam(value = "after", required = false)
+          String after) {
 
     return useCaseInteractor
         .execute(
             getAttributeValuesUseCase,
-            new GetAttributeValuesUseCase.InputData(id, UUID.fromString(unitId), type),
+            new GetAttributeValuesUseCase.InputData(
+                id, UUID.fromString(unitId), type, prefix, after),
             out -> new AttributeValuesDto(out.values(), out.truncated()))
         .thenApply(dto -> ResponseEntity.ok().cacheControl(defaultCacheControl).body(dto));
   }
@@ -525,9 +805,14 @@ public class DomainController extends AbstractEntityController {
   @PostMapping("/{domainId}/update")
   @Operation(
       summary =
-          "Update the domain to a newer template, migrating all associated units in the client.")
+          "Update the domain to a newer template, migrating all associated units in the client.",
+      description =
+          "Domains with many elements are updated in the background. In that case, the response"
+              + " points to the update job, which can be polled for progress and results. If an"
+              + " update has been interrupted, requesting it again resumes it.")
   @ApiResponses({
     @ApiResponse(responseCode = "201", description = "Client updated to new domain version"),
+    @ApiResponse(responseCode = "202", description = "Update started"),
     @ApiResponse(responseCode = "404", description = "Domain or domain template not found"),
     @ApiResponse(
         responseCode = "409",
@@ -539,14 +824,29 @@ public class DomainController extends AbstractEntityController {
   })
   public CompletableFuture<ResponseEntity<ApiResponseBody>> updateDomain(
       @PathVariable UUID domainId, @RequestParam(name = "template") UUID domainTemplateId) {
-    return useCaseInteractor.execute(
-        updateDomainUseCase,
-        new UpdateDomainUseCase.InputData(domainId, domainTemplateId),
-        out ->
-            RestApiResponse.created(
-                referenceAssembler.targetReferenceOf(out.newDomain()),
-                out.newDomain().getId(),
-                "Domain updated"));
+    return domainUpdater
+        .update(domainId, domainTemplateId)
+        .thenApply(
+            outcome ->
+                outcome.newDomain() != null
+                    ? RestApiResponse.created(
+                        referenceAssembler.targetReferenceOf(outcome.newDomain()),
+                        outcome.newDomain().getId(),
+                        "Domain updated")
+                    : RestApiResponse.accepted(
+                        "/domains/%s/updates/%s".formatted(domainId, outcome.job().getId()),
+                        outcome.job().getId(),
+                        "Domain update started"));
+  }
+
+  @GetMapping("/{domainId}/updates/{jobId}")
+  @Operation(summary = "Retrieve the progress and result of a domain update")
+  @ApiResponse(responseCode = "200", description = "Update job retrieved")
+  @ApiResponse(responseCode = "404", description = "Update job not found")
+  public DomainUpdateJob getDomainUpdate(@PathVariable UUID domainId, @PathVariable UUID jobId) {
+    return domainUpdater
+        .findJob(domainId, jobId)
+        .orElseThrow(() -> new NotFoundException("Update job %s not found", jobId));
   }
 
   @GetMapping(value = "/{domainId}/breaking-changes")
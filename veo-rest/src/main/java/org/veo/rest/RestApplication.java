@@ -34,6 +34,7 @@ import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.security.task.DelegatingSecurityContextAsyncTaskExecutor;
 
 import org.veo.SpringPropertyLogger;
+import org.veo.rest.common.ServerTiming;
 
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.enums.SecuritySchemeIn;
@@ -126,6 +127,7 @@ public class RestApplication {
         new SimpleAsyncTaskExecutorBuilder()
             .virtualThreads(enableVirtualThreads)
             .threadNamePrefix(THREAD_NAME_PREFIX)
+            .taskDecorator(ServerTiming::propagate)
             .build();
     return new DelegatingSecurityContextAsyncTaskExecutor(delegate);
   }
@@ -17,6 +17,8 @@
  */
 package org.veo.rest;
 
+import static org.veo.rest.CompactBinaryHttpMessageConverter.MEDIA_TYPE_CBOR_COMPACT_VALUE;
+import static org.veo.rest.CompactBinaryHttpMessageConverter.MEDIA_TYPE_SMILE_COMPACT_VALUE;
 import static org.veo.rest.ControllerConstants.IF_MATCH_HEADER;
 import static org.veo.rest.ControllerConstants.IF_MATCH_HEADER_NOT_BLANK_MESSAGE;
 import static org.veo.rest.ControllerConstants.UUID_DESCRIPTION;
@@ -257,7 +259,13 @@ public class UnitController extends AbstractEntityController {
         unitDto -> ResponseEntity.ok().cacheControl(defaultCacheControl).body(unitDto));
   }
 
-  @GetMapping(value = "/{id}/export", produces = MediaType.APPLICATION_JSON_VALUE)
+  @GetMapping(
+      value = "/{id}/export",
+      produces = {
+        MediaType.APPLICATION_JSON_VALUE,
+        MEDIA_TYPE_SMILE_COMPACT_VALUE,
+        MEDIA_TYPE_CBOR_COMPACT_VALUE
+      })
   @Operation(summary = "Exports given unit, including unit metadata, domains, elements & risks")
   @ApiResponse(
       responseCode = "200",
@@ -304,7 +312,13 @@ public class UnitController extends AbstractEntityController {
         out -> UnitDumpMapper.mapOutput(out, entityToDtoTransformer, newStructure));
   }
 
-  @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+  @PostMapping(
+      value = "/import",
+      consumes = {
+        MediaType.APPLICATION_JSON_VALUE,
+        MEDIA_TYPE_SMILE_COMPACT_VALUE,
+        MEDIA_TYPE_CBOR_COMPACT_VALUE
+      })
   @Operation(summary = IMPORT_UNIT_DESCRIPTION)
   @ApiResponse(responseCode = "201", description = "Unit imported")
   @ApiResponse(responseCode = "404", description = "Domain not found")
@@ -25,6 +25,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.format.FormatterRegistry;
@@ -45,6 +46,7 @@ import org.veo.core.repository.ClientRepository;
 import org.veo.core.repository.LinkQuery;
 import org.veo.core.repository.ParentElementQuery;
 import org.veo.rest.common.ClientNotActiveException;
+import org.veo.rest.common.ServerTimingInterceptor;
 import org.veo.rest.security.ApplicationUser;
 
 import tools.jackson.databind.ObjectMapper;
@@ -56,6 +58,9 @@ class WebMvcContext implements WebMvcConfigurer {
   @Autowired private ObjectMapper defaultMapper;
   @Autowired private ClientReadOnlyRepository clientRepository;
 
+  @Value("${veo.metrics.server-timing:false}")
+  private boolean serverTiming;
+
   @Override
   public void addArgumentResolvers(List<HandlerMethodArgumentResolver> argumentResolvers) {
     argumentResolvers.add(new ApplicationUserArgumentResolver());
@@ -69,6 +74,8 @@ class WebMvcContext implements WebMvcConfigurer {
   @Override
   public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
     converters.addFirst(new CompactJsonHttpMessageConverter(defaultMapper));
+    converters.add(CompactBinaryHttpMessageConverter.smile(defaultMapper));
+    converters.add(CompactBinaryHttpMessageConverter.cbor(defaultMapper));
   }
 
   @Override
@@ -121,5 +128,8 @@ class WebMvcContext implements WebMvcConfigurer {
             })
         .excludePathPatterns(
             "/admin/**", "/content-creation/**", "/content-customizing/**", "/messages/**");
+    if (serverTiming) {
+      registry.addInterceptor(new ServerTimingInterceptor());
+    }
   }
 }
@@ -0,0 +1,98 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.rest.common;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.veo.adapter.presenter.api.common.ApiResponseBody;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/** Progress and result of a domain update that is performed in chunks by {@link DomainUpdater}. */
+@Getter
+public class DomainUpdateJob {
+  public enum State {
+    VALIDATING,
+    MIGRATING,
+    COMPLETED,
+    FAILED
+  }
+
+  private final UUID id = UUID.randomUUID();
+  @JsonIgnore private final UUID clientId;
+  private final UUID domainId;
+  private final UUID domainTemplateId;
+  private final Instant createdAt = Instant.now();
+  private volatile Instant finishedAt;
+  private volatile State state = State.VALIDATING;
+  private volatile int validatedPages;
+
+  @Getter(AccessLevel.NONE)
+  private final AtomicInteger migratedElements = new AtomicInteger();
+
+  /** The ID of the new domain, {@code null} until the update has been completed */
+  private volatile UUID newDomainId;
+
+  /** The reason of the failure (e.g. conflicted elements), {@code null} unless the job failed */
+  private volatile ApiResponseBody failure;
+
+  DomainUpdateJob(UUID clientId, UUID domainId, UUID domainTemplateId) {
+    this.clientId = clientId;
+    this.domainId = domainId;
+    this.domainTemplateId = domainTemplateId;
+  }
+
+  public int getMigratedElements() {
+    return migratedElements.get();
+  }
+
+  public boolean isFinished() {
+    return finishedAt != null;
+  }
+
+  void pageValidated() {
+    validatedPages++;
+  }
+
+  void startMigration() {
+    state = State.MIGRATING;
+  }
+
+  int chunkMigrated(int migratedElements) {
+    return this.migratedElements.addAndGet(migratedElements);
+  }
+
+  void complete(UUID newDomainId) {
+    this.newDomainId = newDomainId;
+    finish(State.COMPLETED);
+  }
+
+  void fail(ApiResponseBody failure) {
+    this.failure = failure;
+    finish(State.FAILED);
+  }
+
+  private void finish(State state) {
+    finishedAt = Instant.now();
+    this.state = state;
+  }
+}
@@ -0,0 +1,242 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.rest.common;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import org.veo.adapter.presenter.api.common.ApiResponseBody;
+import org.veo.adapter.presenter.api.common.DomainUpdateFailedResponseBody;
+import org.veo.adapter.presenter.api.common.ReferenceAssembler;
+import org.veo.core.entity.Domain;
+import org.veo.core.service.UserAccessRightsProvider;
+import org.veo.core.usecase.DomainUpdateFailedException;
+import org.veo.core.usecase.UpdateDomainUseCase;
+import org.veo.core.usecase.UseCaseInteractor;
+import org.veo.core.usecase.domain.CompleteDomainUpdateUseCase;
+import org.veo.core.usecase.domain.MigrateDomainElementsUseCase;
+import org.veo.core.usecase.domain.ValidateDomainUpdateUseCase;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Updates domains to newer templates. If all elements of the old domain fit on one page, the update
+ * is performed in a single transaction. Otherwise the elements are validated page by page and
+ * migrated in chunks in the background, which is tracked as a {@link DomainUpdateJob}. Each chunk
+ * locks the old domain, so concurrent updates of the same domain are serialized. An interrupted
+ * update is resumed by requesting the same update again.
+ */
+@Component
+@Slf4j
+public class DomainUpdater {
+  private final UseCaseInteractor useCaseInteractor;
+  private final ValidateDomainUpdateUseCase validateDomainUpdateUseCase;
+  private final UpdateDomainUseCase updateDomainUseCase;
+  private final MigrateDomainElementsUseCase migrateDomainElementsUseCase;
+  private final CompleteDomainUpdateUseCase completeDomainUpdateUseCase;
+  private final UserAccessRightsProvider userAccessRightsProvider;
+  private final ReferenceAssembler referenceAssembler;
+  private final int pageSize;
+  private final int retainedJobs;
+  private final Map<UUID, DomainUpdateJob> jobs = new LinkedHashMap<>();
+
+  public DomainUpdater(
+      UseCaseInteractor useCaseInteractor,
+      ValidateDomainUpdateUseCase validateDomainUpdateUseCase,
+      UpdateDomainUseCase updateDomainUseCase,
+      MigrateDomainElementsUseCase migrateDomainElementsUseCase,
+      CompleteDomainUpdateUseCase completeDomainUpdateUseCase,
+      UserAccessRightsProvider userAccessRightsProvider,
+      ReferenceAssembler referenceAssembler,
+      @Value("${veo.domain-update.page-size:2000}") int pageSize,
+      @Value("${veo.domain-update.retained-jobs:100}") int retainedJobs) {
+    this.useCaseInteractor = useCaseInteractor;
+    this.validateDomainUpdateUseCase = validateDomainUpdateUseCase;
+    this.updateDomainUseCase = updateDomainUseCase;
+    this.migrateDomainElementsUseCase = migrateDomainElementsUseCase;
+    this.completeDomainUpdateUseCase = completeDomainUpdateUseCase;
+    this.userAccessRightsProvider = userAccessRightsProvider;
+    this.referenceAssembler = referenceAssembler;
+    this.pageSize = pageSize;
+    this.retainedJobs = retainedJobs;
+  }
+
+  /**
+   * The outcome of an update request: the new domain if the update has been performed in a single
+   * transaction, otherwise the job performing the update in the background.
+   */
+  public record Outcome(Domain newDomain, DomainUpdateJob job) {}
+
+  public CompletableFuture<Outcome> update(UUID domainId, UUID domainTemplateId) {
+    var clientId = userAccessRightsProvider.getAccessRights().getClientId();
+    var runningJob = findRunningJob(clientId, domainId);
+    if (runningJob.isPresent()) {
+      return CompletableFuture.completedFuture(new Outcome(null, runningJob.get()));
+    }
+    return validate(domainId, domainTemplateId, null, Set.of(), null)
+        .thenCompose(
+            firstPage -> {
+              if (firstPage.complete()
+                  && !firstPage.updateInProgress()
+                  && firstPage.newDomain() == null) {
+                return useCaseInteractor.execute(
+                    updateDomainUseCase,
+                    new UpdateDomainUseCase.InputData(domainId, domainTemplateId),
+                    out -> new Outcome(out.newDomain(), null));
+              }
+              var job = new DomainUpdateJob(clientId, domainId, domainTemplateId);
+              var registeredJob = register(job);
+              if (registeredJob == job) {
+                run(job, firstPage);
+              }
+              return CompletableFuture.completedFuture(new Outcome(null, registeredJob));
+            });
+  }
+
+  /** Finds a job of the current user's client for the given domain. */
+  public synchronized Optional<DomainUpdateJob> findJob(UUID domainId, UUID jobId) {
+    var clientId = userAccessRightsProvider.getAccessRights().getClientId();
+    return Optional.ofNullable(jobs.get(jobId))
+        .filter(job -> job.getClientId().equals(clientId) && job.getDomainId().equals(domainId));
+  }
+
+  private synchronized Optional<DomainUpdateJob> findRunningJob(UUID clientId, UUID domainId) {
+    return jobs.values().stream()
+        .filter(job -> !job.isFinished())
+        .filter(job -> job.getClientId().equals(clientId) && job.getDomainId().equals(domainId))
+        .findFirst();
+  }
+
+  /**
+   * Registers the job, unless another job for the same domain has been started in the meantime.
+   *
+   * @return the registered job or the job that is already running
+   */
+  private synchronized DomainUpdateJob register(DomainUpdateJob job) {
+    var runningJob = findRunningJob(job.getClientId(), job.getDomainId());
+    if (runningJob.isPresent()) {
+      return runningJob.get();
+    }
+    // the first page has already been validated
+    job.pageValidated();
+    jobs.put(job.getId(), job);
+    while (jobs.size() > retainedJobs) {
+      jobs.remove(jobs.keySet().iterator().next());
+    }
+    return job;
+  }
+
+  private void run(DomainUpdateJob job, ValidateDomainUpdateUseCase.OutputData firstPage) {
+    continueValidation(job, firstPage)
+        .thenCompose(
+            _ -> {
+              job.startMigration();
+              return migrate(job);
+            })
+        .whenComplete(
+            (newDomain, ex) -> {
+              if (ex == null) {
+                log.info("Domain {} updated to {}", job.getDomainId(), newDomain.getId());
+                job.complete(newDomain.getId());
+              } else if (ex instanceof CompletionException && ex.getCause() != null) {
+                fail(job, ex.getCause());
+              } else {
+                fail(job, ex);
+              }
+            });
+  }
+
+  /**
+   * Validates the remaining elements in the old domain page by page in read-only transactions, so
+   * conflicts are detected before anything is persisted.
+   */
+  private CompletableFuture<Void> continueValidation(
+      DomainUpdateJob job, ValidateDomainUpdateUseCase.OutputData page) {
+    if (page.complete()) {
+      return CompletableFuture.completedFuture(null);
+    }
+    log.info(
+        "{} page(s) of domain {} validated for update", job.getValidatedPages(), job.getDomainId());
+    return validate(
+            job.getDomainId(),
+            job.getDomainTemplateId(),
+            page.lastElementId(),
+            page.conflictedElementIds(),
+            page.newDomain())
+        .thenCompose(
+            next -> {
+              job.pageValidated();
+              return continueValidation(job, next);
+            });
+  }
+
+  private CompletableFuture<ValidateDomainUpdateUseCase.OutputData> validate(
+      UUID domainId,
+      UUID domainTemplateId,
+      UUID afterElementId,
+      Set<UUID> conflictedElementIds,
+      Domain newDomain) {
+    return useCaseInteractor.execute(
+        validateDomainUpdateUseCase,
+        new ValidateDomainUpdateUseCase.InputData(
+            domainId, domainTemplateId, afterElementId, pageSize, conflictedElementIds, newDomain),
+        out -> out);
+  }
+
+  /** Migrates the elements to the new domain in one transaction per chunk. */
+  private CompletableFuture<Domain> migrate(DomainUpdateJob job) {
+    return useCaseInteractor
+        .execute(
+            migrateDomainElementsUseCase,
+            new MigrateDomainElementsUseCase.InputData(
+                job.getDomainId(), job.getDomainTemplateId(), pageSize),
+            out -> out)
+        .thenCompose(
+            out -> {
+              log.info(
+                  "{} elements migrated from domain {}",
+                  job.chunkMigrated(out.migratedElementCount()),
+                  job.getDomainId());
+              return out.complete()
+                  ? useCaseInteractor.execute(
+                      completeDomainUpdateUseCase,
+                      new CompleteDomainUpdateUseCase.InputData(
+                          job.getDomainId(), job.getDomainTemplateId()),
+                      CompleteDomainUpdateUseCase.OutputData::newDomain)
+                  : migrate(job);
+            });
+  }
+
+  private void fail(DomainUpdateJob job, Throwable cause) {
+    if (cause instanceof DomainUpdateFailedException ex) {
+      log.info("Update of domain {} failed due to conflicts", job.getDomainId());
+      job.fail(new DomainUpdateFailedResponseBody(ex, referenceAssembler));
+    } else {
+      log.error("Update of domain {} failed", job.getDomainId(), cause);
+      job.fail(new ApiResponseBody(false, cause.getMessage()));
+    }
+  }
+}
@@ -17,18 +17,27 @@
  */
 package org.veo.rest.common;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.Future;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.context.request.WebRequest;
@@ -38,12 +47,16 @@ import org.veo.adapter.presenter.api.common.ReferenceAssembler;
 import org.veo.adapter.presenter.api.dto.AbstractElementInDomainDto;
 import org.veo.adapter.presenter.api.dto.ActionDto;
 import org.veo.adapter.presenter.api.dto.ControlImplementationInDomainDto;
+import org.veo.adapter.presenter.api.dto.ElementLookupResultDto;
+import org.veo.adapter.presenter.api.dto.ElementOperationDto;
+import org.veo.adapter.presenter.api.dto.ElementOperationResultDto;
 import org.veo.adapter.presenter.api.dto.LinkMapDto;
 import org.veo.adapter.presenter.api.dto.PageDto;
 import org.veo.adapter.presenter.api.dto.RequirementImplementationDto;
 import org.veo.adapter.presenter.api.dto.create.CreateDomainAssociationDto;
 import org.veo.adapter.presenter.api.io.mapper.CreateElementInputMapper;
 import org.veo.adapter.presenter.api.io.mapper.PagingMapper;
+import org.veo.adapter.presenter.api.io.mapper.QueryInputMapper;
 import org.veo.adapter.presenter.api.response.ActionResultDto;
 import org.veo.adapter.presenter.api.response.IdentifiableDto;
 import org.veo.adapter.presenter.api.response.InOrOutboundLinkDto;
@@ -66,9 +79,11 @@ import org.veo.core.usecase.UseCaseInteractor;
 import org.veo.core.usecase.base.AddLinksUseCase;
 import org.veo.core.usecase.base.AssociateElementWithDomainUseCase;
 import org.veo.core.usecase.base.CreateElementUseCase;
+import org.veo.core.usecase.base.ElementOperationFailedException;
 import org.veo.core.usecase.base.GetElementUseCase;
 import org.veo.core.usecase.base.GetElementsUseCase;
 import org.veo.core.usecase.base.GetParentElementsUseCase;
+import org.veo.core.usecase.base.SaveElementsInDomainUseCase;
 import org.veo.core.usecase.base.UpdateElementInDomainUseCase;
 import org.veo.core.usecase.common.ETag;
 import org.veo.core.usecase.compliance.GetControlImplementationsUseCase;
@@ -98,11 +113,19 @@ public class ElementInDomainService {
   private final GetRequirementImplementationsByControlImplementationUseCase
       getRequirementImplementationsByControlImplementationUseCase;
   private final PerformActionUseCase performActionUseCase;
+  private final SaveElementsInDomainUseCase saveElementsInDomainUseCase;
+  private final VeriniceExceptionHandler exceptionHandler;
   private final TransactionalRunner runner;
   private final CacheControl defaultCacheControl = CacheControl.noCache();
   private final EntityToDtoTransformer entityToDtoTransformer;
   private final UserAccessRightsProvider userAccessRightsProvider;
 
+  @Value("${veo.element-operations.chunk-size:500}")
+  private final int operationChunkSize;
+
+  @Value("${veo.element-operations.max-operations:5000}")
+  private final int maxOperations;
+
   @Valid
   public <
           TElement extends Element,
@@ -126,6 +149,52 @@ public class ElementInDomainService {
         .thenApply(dto -> ResponseEntity.ok().cacheControl(defaultCacheControl).body(dto));
   }
 
+  /**
+   * Loads the elements with given IDs using a single query. Missing elements (including those that
+   * are not accessible or not associated with the domain) are reported individually. Elements whose
+   * current ETag is among the given known ETags (normalized to lower case) are reported as not
+   * modified and are not transformed.
+   */
+  public CompletableFuture<ResponseEntity<List<ElementLookupResultDto>>> getElementsByIds(
+      UUID domainId, List<UUID> ids, Set<ElementType> elementTypes, Set<String> knownETags) {
+    return useCaseInteractor
+        .execute(
+            getElementsUseCase,
+            QueryInputMapper.map(domainId, ids, elementTypes),
+            output -> {
+              var elements =
+                  output.elements().resultPage().stream()
+                      .collect(Collectors.toMap(Element::getId, Function.identity()));
+              return ids.stream()
+                  .distinct()
+                  .map(id -> toLookupResult(id, elements.get(id), domainId, knownETags))
+                  .toList();
+            })
+        .thenApply(
+            results -> ResponseEntity.ok().cacheControl(defaultCacheControl).body(results));
+  }
+
+  private ElementLookupResultDto toLookupResult(
+      UUID id, Element element, UUID domainId, Set<String> knownETags) {
+    if (element == null) {
+      return ElementLookupResultDto.notFound(id);
+    }
+    var eTag = ETag.from(element.getIdAsString(), element.getVersion());
+    if (knownETags.contains(eTag.toLowerCase(Locale.ROOT))) {
+      return ElementLookupResultDto.notModified(id, eTag);
+    }
+    var domain =
+        element.getDomains().stream()
+            .filter(d -> d.getId().equals(domainId))
+            .findFirst()
+            .orElseThrow();
+    return new ElementLookupResultDto(
+        id,
+        HttpStatus.OK.value(),
+        eTag,
+        entityToDtoTransformer.transformElement2Dto(element, domain));
+  }
+
   @Valid
   public <TElement extends Element> boolean ensureElementExists(
       UUID domainId, UUID uuid, GetElementUseCase<TElement> getElementUseCase) {
@@ -220,6 +289,107 @@ public class ElementInDomainService {
                     .orElseThrow()));
   }
 
+  /**
+   * Creates and updates elements in batches. Each chunk of operations is saved in its own
+   * transaction. Rejected operations are reported individually and don't affect the other
+   * operations.
+   *
+   * @throws IllegalArgumentException if there are more operations than allowed per request
+   */
+  public <
+          TElement extends Element,
+          TFullDto extends AbstractElementInDomainDto<TElement> & IdentifiableDto>
+      CompletableFuture<ResponseEntity<List<ElementOperationResultDto>>> saveElements(
+          UUID domainId, List<ElementOperationDto<TFullDto>> operations) {
+    if (operations.size() > maxOperations) {
+      throw new IllegalArgumentException(
+          "Too many operations (%s), at most %s are allowed per request"
+              .formatted(operations.size(), maxOperations));
+    }
+    var domainRef = TypedId.from(domainId, Domain.class);
+    var input = new ArrayList<SaveElementsInDomainUseCase.Operation>(operations.size());
+    for (int i = 0; i < operations.size(); i++) {
+      var operation = operations.get(i);
+      var dto = operation.element();
+      dto.setDomain(domainRef);
+      input.add(
+          new SaveElementsInDomainUseCase.Operation(
+              i,
+              dto.getId(),
+              operation.eTag(),
+              dto,
+              operation.scopeIds() == null ? Set.of() : Set.copyOf(operation.scopeIds())));
+    }
+    CompletableFuture<List<ElementOperationResultDto>> result =
+        CompletableFuture.completedFuture(new ArrayList<>());
+    for (int from = 0; from < input.size(); from += operationChunkSize) {
+      var chunk = input.subList(from, Math.min(from + operationChunkSize, input.size()));
+      result =
+          result.thenCompose(
+              results ->
+                  saveChunk(domainId, chunk)
+                      .thenApply(
+                          chunkResults -> {
+                            results.addAll(chunkResults);
+                            return results;
+                          }));
+    }
+    return result.thenApply(ResponseEntity::ok);
+  }
+
+  /**
+   * Saves a chunk of operations. If an operation spoils the transaction, the chunk is saved again
+   * without that operation.
+   */
+  private CompletableFuture<List<ElementOperationResultDto>> saveChunk(
+      UUID domainId, List<SaveElementsInDomainUseCase.Operation> chunk) {
+    if (chunk.isEmpty()) {
+      return CompletableFuture.completedFuture(List.of());
+    }
+    return useCaseInteractor
+        .execute(
+            saveElementsInDomainUseCase,
+            new SaveElementsInDomainUseCase.InputData(domainId, chunk),
+            output -> output.results().stream().map(this::toResultDto).toList())
+        .exceptionallyCompose(
+            ex -> {
+              var cause = ex instanceof CompletionException ? ex.getCause() : ex;
+              if (!(cause instanceof ElementOperationFailedException failure)) {
+                return CompletableFuture.failedFuture(cause);
+              }
+              var rejected = toResultDto(failure.getIndex(), failure.getCause());
+              return saveChunk(
+                      domainId,
+                      chunk.stream().filter(o -> o.index() != failure.getIndex()).toList())
+                  .thenApply(
+                      results ->
+                          Stream.concat(results.stream(), Stream.of(rejected))
+                              .sorted(Comparator.comparingInt(ElementOperationResultDto::index))
+                              .toList());
+            });
+  }
+
+  private ElementOperationResultDto toResultDto(SaveElementsInDomainUseCase.Result result) {
+    if (result.error() != null) {
+      return toResultDto(result.index(), result.error());
+    }
+    var element = result.element();
+    return new ElementOperationResultDto(
+        result.index(),
+        result.created() ? HttpStatus.CREATED.value() : HttpStatus.OK.value(),
+        element.getId(),
+        ETag.from(element.getIdAsString(), element.getVersion()),
+        null);
+  }
+
+  private ElementOperationResultDto toResultDto(int index, RuntimeException error) {
+    var response = exceptionHandler.toResponse(error);
+    var message =
+        response.getBody() instanceof ApiResponseBody body ? body.getMessage() : error.getMessage();
+    return new ElementOperationResultDto(
+        index, response.getStatusCode().value(), null, null, message);
+  }
+
   @Valid
   public <TElement extends Element, TDto extends AbstractElementInDomainDto<TElement>>
       CompletableFuture<ResponseEntity<EvaluateElementUseCase.OutputData>> evaluate(
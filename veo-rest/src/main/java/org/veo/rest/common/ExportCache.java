@@ -0,0 +1,174 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.rest.common;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Stores serialized exports of large, rarely changing aggregates (domains, domain templates) as
+ * gzip-compressed JSON files on local disk. Artifacts are keyed by entity ID and ETag, which is
+ * derived from the entity version, so a modified entity is exported again on the next request and
+ * outdated artifacts of that entity are discarded.
+ */
+@Component
+@Slf4j
+public class ExportCache {
+  private static final String GZIP = "gzip";
+  private static final String X_GZIP = "x-gzip";
+  private static final String ANY_ENCODING = "*";
+  private static final String SUFFIX = ".json.gz";
+
+  private final ObjectMapper objectMapper;
+  private final Path directory;
+
+  public ExportCache(
+      ObjectMapper objectMapper, @Value("${veo.export-cache.directory:}") String directory)
+      throws IOException {
+    this.objectMapper = objectMapper;
+    this.directory =
+        directory.isBlank()
+            ? Files.createTempDirectory("veo-export-cache")
+            : Files.createDirectories(Path.of(directory));
+    log.info("Caching exports in {}", this.directory);
+  }
+
+  public Optional<Path> find(UUID id, String eTag) {
+    return Optional.of(getPath(id, eTag)).filter(Files::isReadable);
+  }
+
+  /** Serializes the given export DTO and replaces any previous artifact for the entity. */
+  public Path store(UUID id, String eTag, Object exportDto) {
+    var target = getPath(id, eTag);
+    try {
+      var tmp = Files.createTempFile(directory, id.toString(), ".tmp");
+      try (var out = new GZIPOutputStream(Files.newOutputStream(tmp))) {
+        objectMapper.writeValue(out, exportDto);
+      }
+      Files.move(tmp, target, ATOMIC_MOVE, REPLACE_EXISTING);
+      removeOutdated(id, target);
+      return target;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to cache export for " + id, e);
+    }
+  }
+
+  /**
+   * Creates a response streaming the cached file. The compressed bytes are sent as they are if the
+   * client accepts gzip encoding, otherwise they are decompressed on the fly.
+   */
+  public ResponseEntity<Resource> toResponse(Path artifact, String acceptEncoding) {
+    var builder =
+        ResponseEntity.ok()
+            .cacheControl(CacheControl.noCache())
+            .contentType(MediaType.APPLICATION_JSON)
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    if (acceptsGzip(acceptEncoding)) {
+      return builder
+          .header(HttpHeaders.CONTENT_ENCODING, GZIP)
+          .body(new FileSystemResource(artifact));
+    }
+    try {
+      return builder.body(
+          new InputStreamResource(new GZIPInputStream(Files.newInputStream(artifact))));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read cached export " + artifact, e);
+    }
+  }
+
+  /**
+   * Determines whether gzip is acceptable according to the Accept-Encoding header (RFC 9110,
+   * section 12.5.3). Codings with a quality value of 0 are not acceptable and an explicitly listed
+   * coding takes precedence over the wildcard.
+   */
+  static boolean acceptsGzip(String acceptEncoding) {
+    if (acceptEncoding == null) {
+      return false;
+    }
+    Double gzipQuality = null;
+    Double wildcardQuality = null;
+    for (var element : acceptEncoding.split(",")) {
+      var parts = element.split(";");
+      var coding = parts[0].trim().toLowerCase(Locale.ROOT);
+      var quality = parseQuality(parts);
+      if (coding.equals(GZIP) || coding.equals(X_GZIP)) {
+        gzipQuality = gzipQuality == null ? quality : Math.max(gzipQuality, quality);
+      } else if (coding.equals(ANY_ENCODING)) {
+        wildcardQuality = quality;
+      }
+    }
+    if (gzipQuality != null) {
+      return gzipQuality > 0;
+    }
+    return wildcardQuality != null && wildcardQuality > 0;
+  }
+
+  private static double parseQuality(String[] parts) {
+    for (int i = 1; i < parts.length; i++) {
+      var param = parts[i].trim();
+      if (param.length() > 2 && param.substring(0, 2).equalsIgnoreCase("q=")) {
+        try {
+          return Double.parseDouble(param.substring(2).trim());
+        } catch (NumberFormatException e) {
+          return 0;
+        }
+      }
+    }
+    return 1;
+  }
+
+  private Path getPath(UUID id, String eTag) {
+    return directory.resolve(id + "-" + eTag.replace("\"", "") + SUFFIX);
+  }
+
+  private void removeOutdated(UUID id, Path current) throws IOException {
+    try (DirectoryStream<Path> artifacts =
+        Files.newDirectoryStream(directory, id + "-*" + SUFFIX)) {
+      for (var artifact : artifacts) {
+        if (!artifact.equals(current)) {
+          log.debug("Removing outdated export {}", artifact);
+          Files.deleteIfExists(artifact);
+        }
+      }
+    }
+  }
+}
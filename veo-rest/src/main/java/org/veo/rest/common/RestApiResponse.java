@@ -76,6 +76,12 @@ public class RestApiResponse {
         .body(new ApiResponseBody(true, Optional.of(id.toString()), message));
   }
 
+  public static ResponseEntity<ApiResponseBody> accepted(String location, UUID id, String message) {
+    return ResponseEntity.accepted()
+        .location(URI.create(location))
+        .body(new ApiResponseBody(true, Optional.of(id.toString()), message));
+  }
+
   @Schema(
       description =
           "A response body for a new element that was created within a domain, containing resource ID, success message & Location header.")
@@ -0,0 +1,84 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.rest.common;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects metrics for the {@code Server-Timing} header of the current request. The instance is
+ * bound to the request thread and handed over to the threads that execute use cases on behalf of
+ * the request (see {@link #propagate(Runnable)}).
+ */
+public final class ServerTiming {
+  public static final String HEADER = "Server-Timing";
+  static final String REQUEST_ATTRIBUTE = ServerTiming.class.getName();
+
+  private static final ThreadLocal<ServerTiming> CURRENT = new ThreadLocal<>();
+
+  private final Queue<String> entries = new ConcurrentLinkedQueue<>();
+
+  public static Optional<ServerTiming> current() {
+    return Optional.ofNullable(CURRENT.get());
+  }
+
+  static void bind(ServerTiming serverTiming) {
+    CURRENT.set(serverTiming);
+  }
+
+  static void unbind() {
+    CURRENT.remove();
+  }
+
+  /** Wraps given task so it runs with the server timing of the submitting thread. */
+  public static Runnable propagate(Runnable task) {
+    var serverTiming = CURRENT.get();
+    if (serverTiming == null) {
+      return task;
+    }
+    return () -> {
+      CURRENT.set(serverTiming);
+      try {
+        task.run();
+      } finally {
+        CURRENT.remove();
+      }
+    };
+  }
+
+  public void add(String name, long durationNanos, String description) {
+    entries.add(
+        String.format(
+            Locale.ROOT,
+            "%s;dur=%.1f;desc=\"%s\"",
+            name,
+            durationNanos / (double) TimeUnit.MILLISECONDS.toNanos(1),
+            description));
+  }
+
+  boolean isEmpty() {
+    return entries.isEmpty();
+  }
+
+  String toHeaderValue() {
+    return String.join(", ", entries);
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.rest.common;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Binds a {@link ServerTiming} to each request. The same instance is reused when an asynchronous
+ * request is dispatched again to write the result.
+ */
+public class ServerTimingInterceptor implements AsyncHandlerInterceptor {
+
+  @Override
+  public boolean preHandle(
+      HttpServletRequest request, HttpServletResponse response, Object handler) {
+    var serverTiming = (ServerTiming) request.getAttribute(ServerTiming.REQUEST_ATTRIBUTE);
+    if (serverTiming == null) {
+      serverTiming = new ServerTiming();
+      request.setAttribute(ServerTiming.REQUEST_ATTRIBUTE, serverTiming);
+    }
+    ServerTiming.bind(serverTiming);
+    return true;
+  }
+
+  @Override
+  public void afterConcurrentHandlingStarted(
+      HttpServletRequest request, HttpServletResponse response, Object handler) {
+    ServerTiming.unbind();
+  }
+
+  @Override
+  public void afterCompletion(
+      HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+    ServerTiming.unbind();
+  }
+}
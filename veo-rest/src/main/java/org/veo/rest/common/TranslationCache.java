@@ -0,0 +1,98 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.rest.common;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import org.veo.core.entity.event.ElementTypeDefinitionUpdateEvent;
+
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Caches serialized UI translation bundles in memory. Bundles are keyed by client, languages and
+ * the versions of the included domains. Updating an element type definition increments the domain
+ * version, so an outdated bundle is never served, even if another instance has modified the
+ * domain. Bundles are additionally evicted when an element type definition of one of their domains
+ * is updated on this instance. If the cache is full, the least recently used bundle is discarded.
+ */
+@Component
+public class TranslationCache {
+  private final Map<Key, Bundle> bundles;
+  private final ObjectMapper objectMapper;
+
+  public TranslationCache(
+      ObjectMapper objectMapper, @Value("${veo.translations.cache-size:1000}") int maxSize) {
+    this.objectMapper = objectMapper;
+    this.bundles =
+        Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+              @Override
+              protected boolean removeEldestEntry(Map.Entry<Key, Bundle> eldest) {
+                return size() > maxSize;
+              }
+            });
+  }
+
+  /**
+   * Returns the cached bundle for given key or serializes the translations supplied by the given
+   * function and caches them.
+   */
+  public Bundle get(Key key, Supplier<Object> translations) {
+    var bundle = bundles.get(key);
+    if (bundle != null) {
+      return bundle;
+    }
+    // serialize outside of the lock, concurrent misses for the same key keep the first bundle
+    var content = objectMapper.writeValueAsBytes(translations.get());
+    bundle = new Bundle(content, DigestUtils.md5DigestAsHex(content));
+    return Objects.requireNonNullElse(bundles.putIfAbsent(key, bundle), bundle);
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  void handle(ElementTypeDefinitionUpdateEvent event) {
+    var domainId = event.getDomain().getId();
+    synchronized (bundles) {
+      bundles.keySet().removeIf(key -> key.domainVersions().containsKey(domainId));
+    }
+  }
+
+  public record Key(UUID clientId, Map<UUID, Long> domainVersions, Set<Locale> locales) {
+    public Key {
+      domainVersions = Map.copyOf(domainVersions);
+      locales = Set.copyOf(locales);
+    }
+  }
+
+  /**
+   * @param content the translations as JSON
+   * @param eTag strong entity tag derived from the content
+   */
+  public record Bundle(byte[] content, String eTag) {}
+}
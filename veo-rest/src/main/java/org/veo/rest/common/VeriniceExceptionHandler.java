@@ -27,12 +27,15 @@ import jakarta.validation.ConstraintViolationException;
 import org.apache.commons.lang3.NotImplementedException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSourceResolvable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.annotation.ExceptionHandlerMethodResolver;
 import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 import org.veo.adapter.presenter.api.DeviatingIdException;
@@ -57,6 +60,7 @@ import org.veo.core.entity.specification.ResultSizeExceededException;
 import org.veo.core.usecase.DomainUpdateFailedException;
 import org.veo.core.usecase.common.ETagMismatchException;
 import org.veo.core.usecase.domain.DomainInUseException;
+import org.veo.rest.interactor.UseCaseRejectedException;
 
 import lombok.extern.slf4j.Slf4j;
 import tools.jackson.databind.exc.InvalidFormatException;
@@ -64,9 +68,24 @@ import tools.jackson.databind.exc.InvalidFormatException;
 @ControllerAdvice
 @Slf4j
 public class VeriniceExceptionHandler {
+  private static final ExceptionHandlerMethodResolver HANDLER_RESOLVER =
+      new ExceptionHandlerMethodResolver(VeriniceExceptionHandler.class);
 
   @Autowired ReferenceAssembler referenceAssembler;
 
+  /**
+   * Creates the error response that a request failing with given exception would receive. This is
+   * used to report the outcome of single items in batch operations.
+   */
+  public ResponseEntity<?> toResponse(Exception exception) {
+    var handlerMethod = HANDLER_RESOLVER.resolveMethod(exception);
+    if (handlerMethod == null) {
+      return handle(exception, HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+    ReflectionUtils.makeAccessible(handlerMethod);
+    return (ResponseEntity<?>) ReflectionUtils.invokeMethod(handlerMethod, this, exception);
+  }
+
   @ExceptionHandler({TranslationException.class})
   protected ResponseEntity<ApiResponseBody> handle(TranslationException exception) {
     return handle(exception, HttpStatus.UNPROCESSABLE_ENTITY);
@@ -200,6 +219,14 @@ public class VeriniceExceptionHandler {
     return handle(exception, HttpStatus.UNPROCESSABLE_ENTITY);
   }
 
+  @ExceptionHandler(UseCaseRejectedException.class)
+  protected ResponseEntity<ApiResponseBody> handle(UseCaseRejectedException exception) {
+    log.warn(exception.getMessage());
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, String.valueOf(exception.getRetryAfter().toSeconds()))
+        .body(new ApiResponseBody(false, Optional.empty(), exception.getMessage()));
+  }
+
   @ExceptionHandler({LicensingException.class})
   protected ResponseEntity<ApiResponseBody> handle(LicensingException exception) {
     return handle(exception, HttpStatus.FORBIDDEN);
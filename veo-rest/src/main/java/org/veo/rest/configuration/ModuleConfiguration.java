@@ -17,6 +17,7 @@
  */
 package org.veo.rest.configuration;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Optional;
 
@@ -30,15 +31,14 @@ import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.JacksonJsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.jackson.autoconfigure.JsonMapperBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.event.ApplicationEventMulticaster;
-import org.springframework.context.event.SimpleApplicationEventMulticaster;
 import org.springframework.core.annotation.AnnotatedElementUtils;
-import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.data.domain.AuditorAware;
 import org.springframework.http.HttpStatus;
 
@@ -58,6 +58,7 @@ import org.veo.core.entity.specification.EntityValidator;
 import org.veo.core.entity.transform.EntityFactory;
 import org.veo.core.entity.transform.IdentifiableFactory;
 import org.veo.core.events.MessageCreatorImpl;
+import org.veo.core.repository.AfterCommitWorkRepository;
 import org.veo.core.repository.AssetRepository;
 import org.veo.core.repository.CatalogItemRepository;
 import org.veo.core.repository.ClientRepository;
@@ -83,6 +84,7 @@ import org.veo.core.service.UserAccessRightsProvider;
 import org.veo.core.usecase.DesignatorService;
 import org.veo.core.usecase.DomainChangeService;
 import org.veo.core.usecase.GetAvailableActionsUseCase;
+import org.veo.core.usecase.GetLinksByElementKeysetUseCase;
 import org.veo.core.usecase.GetLinksByElementUseCase;
 import org.veo.core.usecase.IncomingMessageHandler;
 import org.veo.core.usecase.InspectElementUseCase;
@@ -100,6 +102,7 @@ import org.veo.core.usecase.base.CreateElementUseCase;
 import org.veo.core.usecase.base.DeleteElementUseCase;
 import org.veo.core.usecase.base.GetElementsUseCase;
 import org.veo.core.usecase.base.GetParentElementsUseCase;
+import org.veo.core.usecase.base.SaveElementsInDomainUseCase;
 import org.veo.core.usecase.base.UpdateAssetInDomainUseCase;
 import org.veo.core.usecase.base.UpdateControlInDomainUseCase;
 import org.veo.core.usecase.base.UpdateDocumentInDomainUseCase;
@@ -125,6 +128,7 @@ import org.veo.core.usecase.control.GetControlUseCase;
 import org.veo.core.usecase.decision.Decider;
 import org.veo.core.usecase.decision.EvaluateElementUseCase;
 import org.veo.core.usecase.document.GetDocumentUseCase;
+import org.veo.core.usecase.domain.CompleteDomainUpdateUseCase;
 import org.veo.core.usecase.domain.CreateCatalogFromUnitUseCase;
 import org.veo.core.usecase.domain.CreateDomainFromTemplateUseCase;
 import org.veo.core.usecase.domain.CreateDomainUseCase;
@@ -148,6 +152,7 @@ import org.veo.core.usecase.domain.GetElementStatusCountUseCase;
 import org.veo.core.usecase.domain.GetInspectionUseCase;
 import org.veo.core.usecase.domain.GetInspectionsUseCase;
 import org.veo.core.usecase.domain.GetUpdateDefinitionUseCase;
+import org.veo.core.usecase.domain.MigrateDomainElementsUseCase;
 import org.veo.core.usecase.domain.SaveControlImplementationConfigurationUseCase;
 import org.veo.core.usecase.domain.SaveDecisionUseCase;
 import org.veo.core.usecase.domain.SaveDomainMetadataUseCase;
@@ -156,6 +161,7 @@ import org.veo.core.usecase.domain.SaveRiskDefinitionUseCase;
 import org.veo.core.usecase.domain.SaveUpdateDefinitionUseCase;
 import org.veo.core.usecase.domain.UpdateControlImplementationDefinitionUseCase;
 import org.veo.core.usecase.domain.UpdateElementTypeDefinitionUseCase;
+import org.veo.core.usecase.domain.ValidateDomainUpdateUseCase;
 import org.veo.core.usecase.domaintemplate.CreateDomainTemplateFromDomainUseCase;
 import org.veo.core.usecase.domaintemplate.CreateDomainTemplateUseCase;
 import org.veo.core.usecase.domaintemplate.CreateProfileInDomainTemplateUseCase;
@@ -181,6 +187,7 @@ import org.veo.core.usecase.profile.GetProfileUseCase;
 import org.veo.core.usecase.profile.GetProfilesUseCase;
 import org.veo.core.usecase.profile.SaveIncarnationConfigurationUseCase;
 import org.veo.core.usecase.risk.DeleteRiskUseCase;
+import org.veo.core.usecase.risk.GetRiskValuesUseCase;
 import org.veo.core.usecase.scenario.GetScenarioUseCase;
 import org.veo.core.usecase.scope.CreateScopeRiskUseCase;
 import org.veo.core.usecase.scope.GetScopeRiskUseCase;
@@ -198,6 +205,8 @@ import org.veo.core.usecase.unit.GetUnitCountUseCase;
 import org.veo.core.usecase.unit.GetUnitDumpUseCase;
 import org.veo.core.usecase.unit.GetUnitUseCase;
 import org.veo.core.usecase.unit.GetUnitsUseCase;
+import org.veo.core.usecase.unit.RebuildAttributeValueUsageUseCase;
+import org.veo.core.usecase.unit.RebuildElementStatusCountsUseCase;
 import org.veo.core.usecase.unit.UnitImportUseCase;
 import org.veo.core.usecase.unit.UnitValidator;
 import org.veo.core.usecase.unit.UpdateUnitUseCase;
@@ -205,6 +214,7 @@ import org.veo.core.usecase.userconfiguration.DeleteUserConfigurationUseCase;
 import org.veo.core.usecase.userconfiguration.GetAllUserConfigurationKeysUseCase;
 import org.veo.core.usecase.userconfiguration.GetUserConfigurationUseCase;
 import org.veo.core.usecase.userconfiguration.SaveUserConfigurationUseCase;
+import org.veo.listeners.AfterCommitEventMulticaster;
 import org.veo.persistence.CurrentUserProvider;
 import org.veo.persistence.access.AssetRepositoryImpl;
 import org.veo.persistence.access.ClientRepositoryImpl;
@@ -429,6 +439,20 @@ public class ModuleConfiguration {
     return new GetLinksByElementUseCase(domainRepository, elementRepository);
   }
 
+  @Bean
+  public GetLinksByElementKeysetUseCase getLinksByElementKeysetUseCase(
+      DomainRepository domainRepository, GenericElementRepository elementRepository) {
+    return new GetLinksByElementKeysetUseCase(domainRepository, elementRepository);
+  }
+
+  @Bean
+  public GetRiskValuesUseCase getRiskValuesUseCase(
+      DomainRepository domainRepository,
+      UnitRepository unitRepository,
+      GenericElementRepository elementRepository) {
+    return new GetRiskValuesUseCase(domainRepository, unitRepository, elementRepository);
+  }
+
   @Bean
   public QueryCatalogItemsUseCase queryCatalogItemsUseCase(
       DomainRepository domainRepository, CatalogItemRepository catalogItemRepository) {
@@ -782,10 +806,20 @@ public class ModuleConfiguration {
 
   @Primary
   @Bean(name = "applicationEventMulticaster")
-  public ApplicationEventMulticaster simpleApplicationEventMulticaster() {
-    SimpleApplicationEventMulticaster eventMulticaster = new SimpleApplicationEventMulticaster();
-    eventMulticaster.setTaskExecutor(new SyncTaskExecutor());
-    return eventMulticaster;
+  public ApplicationEventMulticaster simpleApplicationEventMulticaster(
+      @Value("${veo.events.after-commit.async:true}") boolean async,
+      @Value("${veo.events.after-commit.lanes:8}") int lanes,
+      @Value("${veo.events.after-commit.queue-capacity:1000}") int queueCapacity,
+      @Value("${veo.events.after-commit.max-attempts:5}") int maxAttempts,
+      @Value("${veo.events.after-commit.shutdown-timeout:60s}") Duration shutdownTimeout,
+      ObjectProvider<AfterCommitWorkRepository> afterCommitWorkRepository) {
+    return new AfterCommitEventMulticaster(
+        async,
+        lanes,
+        queueCapacity,
+        maxAttempts,
+        shutdownTimeout,
+        afterCommitWorkRepository::getObject);
   }
 
   @Bean
@@ -838,8 +872,12 @@ public class ModuleConfiguration {
 
   @Bean
   public DomainTemplateService domainTemplateService(
-      DomainTemplateRepository domainTemplateRepository, DomainStateMapper domainStateMapper) {
-    return new DomainTemplateService(domainTemplateRepository, domainStateMapper);
+      DomainTemplateRepository domainTemplateRepository,
+      DomainStateMapper domainStateMapper,
+      ClientRepository clientRepository,
+      DomainRepository domainRepository) {
+    return new DomainTemplateService(
+        domainTemplateRepository, domainStateMapper, clientRepository, domainRepository);
   }
 
   @Bean
@@ -1064,6 +1102,41 @@ public class ModuleConfiguration {
         messageCreator);
   }
 
+  @Bean
+  public ValidateDomainUpdateUseCase validateDomainUpdateUseCase(
+      DomainRepository domainRepository,
+      DomainTemplateService domainTemplateService,
+      DomainChangeService domainChangeService,
+      MigrationService migrationService) {
+    return new ValidateDomainUpdateUseCase(
+        domainRepository, domainTemplateService, domainChangeService, migrationService);
+  }
+
+  @Bean
+  public MigrateDomainElementsUseCase migrateDomainElementsUseCase(
+      DomainRepository domainRepository,
+      UnitRepository unitRepository,
+      DomainTemplateService domainTemplateService,
+      DomainChangeService domainChangeService,
+      MigrationService migrationService,
+      MessageCreator messageCreator) {
+    return new MigrateDomainElementsUseCase(
+        domainRepository,
+        unitRepository,
+        domainTemplateService,
+        domainChangeService,
+        migrationService,
+        messageCreator);
+  }
+
+  @Bean
+  public CompleteDomainUpdateUseCase completeDomainUpdateUseCase(
+      DomainRepository domainRepository,
+      UnitRepository unitRepository,
+      MigrationService migrationService) {
+    return new CompleteDomainUpdateUseCase(domainRepository, unitRepository, migrationService);
+  }
+
   @Bean
   public DomainTemplateIdGenerator domainTemplateIdGenerator() {
     return new DomainTemplateIdGeneratorImpl();
@@ -1307,6 +1380,27 @@ public class ModuleConfiguration {
         refResolverFactory);
   }
 
+  @Bean
+  SaveElementsInDomainUseCase saveElementsInDomainUseCase(
+      RepositoryProvider repositoryProvider,
+      GenericElementRepository genericElementRepository,
+      DesignatorService designatorService,
+      EventPublisher eventPublisher,
+      IdentifiableFactory identifiableFactory,
+      EntityStateMapper entityStateMapper,
+      Decider decider,
+      RefResolverFactory refResolverFactory) {
+    return new SaveElementsInDomainUseCase(
+        refResolverFactory,
+        repositoryProvider,
+        genericElementRepository,
+        designatorService,
+        eventPublisher,
+        identifiableFactory,
+        entityStateMapper,
+        decider);
+  }
+
   @Bean
   AssociateElementWithDomainUseCase associateElementWithDomainUseCase(
       GenericElementRepository genericElementRepository, DomainRepository domainRepository) {
@@ -1388,6 +1482,18 @@ public class ModuleConfiguration {
     return new GetUnitCountUseCase(unitRepository);
   }
 
+  @Bean
+  RebuildElementStatusCountsUseCase rebuildElementStatusCountsUseCase(
+      UnitRepository unitRepository, GenericElementRepository genericElementRepository) {
+    return new RebuildElementStatusCountsUseCase(unitRepository, genericElementRepository);
+  }
+
+  @Bean
+  RebuildAttributeValueUsageUseCase rebuildAttributeValueUsageUseCase(
+      UnitRepository unitRepository, GenericElementRepository genericElementRepository) {
+    return new RebuildAttributeValueUsageUseCase(unitRepository, genericElementRepository);
+  }
+
   @Bean
   public Validator validator() {
     try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
@@ -0,0 +1,121 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.rest.configuration;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import org.veo.persistence.datasource.ReplicaConsistencyGuard;
+import org.veo.persistence.datasource.ReplicaRoutingDataSource;
+import org.veo.rest.security.ApplicationUser;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Sends read-only transactions to a streaming replica when {@code veo.datasource.replica.url} is
+ * set. Both connection pools are configured like the default data source, the replica pool can be
+ * tuned with {@code veo.datasource.replica.hikari.*}. Pool metrics are published per pool name.
+ */
+@Configuration
+@ConditionalOnProperty("veo.datasource.replica.url")
+public class ReadReplicaConfiguration {
+
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+    var dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    dataSource.setPoolName("veo-primary");
+    return dataSource;
+  }
+
+  @Bean
+  @ConfigurationProperties("veo.datasource.replica.hikari")
+  public HikariDataSource replicaDataSource(
+      DataSourceProperties properties,
+      @Value("${veo.datasource.replica.url}") String url,
+      @Value("${veo.datasource.replica.username:}") String username,
+      @Value("${veo.datasource.replica.password:}") String password) {
+    var builder = properties.initializeDataSourceBuilder().type(HikariDataSource.class).url(url);
+    if (!username.isEmpty()) {
+      builder.username(username).password(password);
+    }
+    var dataSource = builder.build();
+    dataSource.setPoolName("veo-replica");
+    dataSource.setReadOnly(true);
+    return dataSource;
+  }
+
+  @Bean
+  public ReplicaConsistencyGuard replicaConsistencyGuard(
+      @Qualifier("primaryDataSource") DataSource primary,
+      @Qualifier("replicaDataSource") DataSource replica,
+      @Value("${veo.datasource.replica.pin-window:10s}") Duration pinWindow,
+      @Value("${veo.datasource.replica.replay-lsn-max-age:100ms}") Duration replayLsnMaxAge,
+      @Value("${veo.datasource.replica.track-lsn:true}") boolean trackLsn) {
+    return new ReplicaConsistencyGuard(
+        primary,
+        replica,
+        ReadReplicaConfiguration::getCurrentClientId,
+        pinWindow,
+        replayLsnMaxAge,
+        trackLsn,
+        Clock.systemUTC());
+  }
+
+  /**
+   * The application's data source. Connections are fetched lazily, so read-only transactions can be
+   * routed to the replica once Hibernate has marked the connection as read-only.
+   */
+  @Bean
+  @Primary
+  public DataSource dataSource(
+      @Qualifier("primaryDataSource") DataSource primary,
+      @Qualifier("replicaDataSource") DataSource replica,
+      ReplicaConsistencyGuard guard,
+      MeterRegistry meterRegistry) {
+    var dataSource = new LazyConnectionDataSourceProxy(primary);
+    dataSource.setReadOnlyDataSource(
+        new ReplicaRoutingDataSource(primary, replica, guard, meterRegistry));
+    return dataSource;
+  }
+
+  private static Optional<UUID> getCurrentClientId() {
+    return Optional.ofNullable(SecurityContextHolder.getContext().getAuthentication())
+        .map(Authentication::getPrincipal)
+        .map(ApplicationUser::findAuthenticatedUser)
+        .map(ApplicationUser::getClientId);
+  }
+}
@@ -0,0 +1,157 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.rest.interactor;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import lombok.Getter;
+
+/**
+ * A counting semaphore that hands out released permits to waiting clients in round-robin order.
+ * Each client has its own FIFO queue, so a client flooding the pool with requests only delays its
+ * own requests and cannot starve other clients.
+ */
+class FairPermitPool {
+  @Getter private final String name;
+  private final ReentrantLock lock = new ReentrantLock();
+
+  /** Waiting requests by client. Iteration order is the order in which clients are served. */
+  private final Map<UUID, Deque<Waiter>> queues = new LinkedHashMap<>();
+
+  private int available;
+  private int queued;
+
+  FairPermitPool(String name, int permits) {
+    if (permits < 1) {
+      throw new IllegalArgumentException(
+          "Permit pool %s needs at least one permit".formatted(name));
+    }
+    this.name = name;
+    this.available = permits;
+  }
+
+  /**
+   * Waits until a permit is available for given client.
+   *
+   * @return {@code false} if no permit could be acquired within given time
+   */
+  boolean acquire(UUID clientId, Duration maxWait) throws InterruptedException {
+    lock.lock();
+    try {
+      if (available > 0 && queued == 0) {
+        available--;
+        return true;
+      }
+      var waiter = new Waiter(lock.newCondition());
+      queues.computeIfAbsent(clientId, id -> new ArrayDeque<>()).add(waiter);
+      queued++;
+      var remainingNanos = maxWait.toNanos();
+      try {
+        while (!waiter.granted) {
+          if (remainingNanos <= 0) {
+            dequeue(clientId, waiter);
+            return false;
+          }
+          remainingNanos = waiter.condition.awaitNanos(remainingNanos);
+        }
+      } catch (InterruptedException e) {
+        if (waiter.granted) {
+          // the permit has been handed over in the meantime, pass it on
+          grantNext();
+        } else {
+          dequeue(clientId, waiter);
+        }
+        throw e;
+      }
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  void release() {
+    lock.lock();
+    try {
+      grantNext();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  int getQueued() {
+    lock.lock();
+    try {
+      return queued;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  int getAvailable() {
+    lock.lock();
+    try {
+      return available;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void grantNext() {
+    var iterator = queues.entrySet().iterator();
+    if (!iterator.hasNext()) {
+      available++;
+      return;
+    }
+    var entry = iterator.next();
+    iterator.remove();
+    var waiter = entry.getValue().poll();
+    queued--;
+    if (!entry.getValue().isEmpty()) {
+      // move client to the end of the line
+      queues.put(entry.getKey(), entry.getValue());
+    }
+    waiter.granted = true;
+    waiter.condition.signal();
+  }
+
+  private void dequeue(UUID clientId, Waiter waiter) {
+    var queue = queues.get(clientId);
+    if (queue != null && queue.remove(waiter)) {
+      queued--;
+      if (queue.isEmpty()) {
+        queues.remove(clientId);
+      }
+    }
+  }
+
+  private static final class Waiter {
+    private final Condition condition;
+    private boolean granted;
+
+    private Waiter(Condition condition) {
+      this.condition = condition;
+    }
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.rest.interactor;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import org.veo.core.usecase.TransactionalUseCase;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Limits the number of concurrently executed transactional use cases, so that excess requests wait
+ * in line instead of competing for database connections. Read-only and read-write use cases have
+ * separate permit pools, so long-running writes cannot block reads (and vice versa). Waiting
+ * requests are served round-robin by client (see {@link FairPermitPool}). If no permit becomes
+ * available within the configured time, the use case is rejected with a {@link
+ * UseCaseRejectedException}. The permits must not exceed the database connection pool, which is
+ * verified on startup.
+ */
+@Component
+@Slf4j
+public class UseCaseAdmissionControl {
+  private static final String WAIT_TIMER = "veo.usecase.admission.wait";
+
+  private final MeterRegistry meterRegistry;
+  private final FairPermitPool readPool;
+  private final FairPermitPool writePool;
+  private final Duration maxWait;
+  private final Duration retryAfter;
+
+  public UseCaseAdmissionControl(
+      MeterRegistry meterRegistry,
+      @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize,
+      @Value("${veo.admission.read-permits:0}") int readPermits,
+      @Value("${veo.admission.write-permits:0}") int writePermits,
+      @Value("${veo.admission.max-wait:30s}") Duration maxWait,
+      @Value("${veo.admission.retry-after:5s}") Duration retryAfter) {
+    var permits = Permits.of(connectionPoolSize, readPermits, writePermits);
+    log.info(
+        "Admitting {} read-only and {} read-write use cases concurrently",
+        permits.read(),
+        permits.write());
+    this.meterRegistry = meterRegistry;
+    this.readPool = register(new FairPermitPool("read", permits.read()));
+    this.writePool = register(new FairPermitPool("write", permits.write()));
+    this.maxWait = maxWait;
+    this.retryAfter = retryAfter;
+  }
+
+  /**
+   * Blocks until given use case may be executed on behalf of given client.
+   *
+   * @return a permit that must be closed after the execution
+   * @throws UseCaseRejectedException if no permit became available in time
+   */
+  public Permit admit(TransactionalUseCase<?, ?> useCase, UUID clientId) {
+    var pool = useCase.isReadOnly() ? readPool : writePool;
+    var start = System.nanoTime();
+    boolean admitted;
+    try {
+      admitted = pool.acquire(clientId, maxWait);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for admission", e);
+    }
+    Timer.builder(WAIT_TIMER)
+        .description("Time that use cases wait for admission")
+        .tag("pool", pool.getName())
+        .tag("outcome", admitted ? "admitted" : "rejected")
+        .register(meterRegistry)
+        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    if (!admitted) {
+      log.warn(
+          "Rejecting {} for client {}, no {} permit available within {}",
+          useCase,
+          clientId,
+          pool.getName(),
+          maxWait);
+      throw new UseCaseRejectedException(retryAfter);
+    }
+    return pool::release;
+  }
+
+  private FairPermitPool register(FairPermitPool pool) {
+    Gauge.builder("veo.usecase.admission.queued", pool, FairPermitPool::getQueued)
+        .description("Number of use cases waiting for admission")
+        .tag("pool", pool.getName())
+        .register(meterRegistry);
+    Gauge.builder("veo.usecase.admission.available", pool, FairPermitPool::getAvailable)
+        .description("Number of unused execution permits")
+        .tag("pool", pool.getName())
+        .register(meterRegistry);
+    return pool;
+  }
+
+  /** Number of read-only and read-write use cases that may be executed concurrently. */
+  record Permits(int read, int write) {
+    /**
+     * Derives missing (non-positive) permit counts from the size of the database connection pool.
+     * One connection is left for work outside of use cases (e.g. event processing) and a third of
+     * the others is used for writes.
+     *
+     * @throws IllegalStateException if the permits exceed the connection pool size
+     */
+    static Permits of(int connectionPoolSize, int read, int write) {
+      var available = connectionPoolSize - 1;
+      var writePermits = write > 0 ? write : Math.max(1, available / 3);
+      var readPermits = read > 0 ? read : Math.max(1, available - writePermits);
+      if (readPermits + writePermits > connectionPoolSize) {
+        throw new IllegalStateException(
+            "%s read and %s write permits exceed the database connection pool size of %s"
+                .formatted(readPermits, writePermits, connectionPoolSize));
+      }
+      return new Permits(readPermits, writePermits);
+    }
+  }
+
+  /** Grants the execution of a single use case until it is closed. */
+  @FunctionalInterface
+  public interface Permit extends AutoCloseable {
+    @Override
+    void close();
+  }
+}
@@ -17,6 +17,7 @@
  */
 package org.veo.rest.interactor;
 
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -41,6 +42,8 @@ import org.veo.core.usecase.UseCase;
 import org.veo.core.usecase.UseCase.InputData;
 import org.veo.core.usecase.UseCase.OutputData;
 import org.veo.core.usecase.UseCaseInteractor;
+import org.veo.persistence.datasource.ReplicaConsistencyGuard;
+import org.veo.persistence.metrics.ExecutionStatistics;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -63,6 +66,9 @@ public class UseCaseInteractorImpl implements UseCaseInteractor {
 
   private final PlatformTransactionManager transactionManager;
   private final UserAccessRightsProvider userAccessRightsProvider;
+  private final UseCaseAdmissionControl admissionControl;
+  private final Optional<ReplicaConsistencyGuard> replicaConsistencyGuard;
+  private final UseCaseMetrics useCaseMetrics;
 
   @Override
   @Async
@@ -74,11 +80,23 @@ public class UseCaseInteractorImpl implements UseCaseInteractor {
 
     log.info("Executing {}", useCase);
     log.debug("Input: {}", input);
-    return doExecuteWithRetry(
-        useCase,
-        () ->
-            useCase.executeAndTransformResult(
-                input, outputMapper, userAccessRightsProvider.getAccessRights()));
+    var accessRights = userAccessRightsProvider.getAccessRights();
+    Supplier<R> resultSupplier =
+        () -> useCase.executeAndTransformResult(input, outputMapper, accessRights);
+    if (useCase instanceof TransactionalUseCase<?, ?> t) {
+      try (var permit = admissionControl.admit(t, accessRights.getClientId())) {
+        var result =
+            useCaseMetrics.measure(
+                useCase, t.isReadOnly(), () -> doExecuteWithRetry(useCase, resultSupplier));
+        if (!t.isReadOnly()) {
+          // keep the client's subsequent reads from seeing an outdated replica
+          replicaConsistencyGuard.ifPresent(g -> g.recordWrite(accessRights.getClientId()));
+        }
+        return result;
+      }
+    }
+    return useCaseMetrics.measure(
+        useCase, false, () -> doExecuteWithRetry(useCase, resultSupplier));
   }
 
   private <R, I extends InputData, O extends OutputData> CompletableFuture<R> doExecuteWithRetry(
@@ -94,7 +112,13 @@ public class UseCaseInteractorImpl implements UseCaseInteractor {
           BackOffPolicyBuilder.newBuilder().delay(30l).maxDelay(500l).build();
       retryTemplate.setBackOffPolicy(backOffPolicy);
 
-      return retryTemplate.execute(ctx -> doExecuteWithIsolation(useCase, resultSupplier));
+      return retryTemplate.execute(
+          ctx -> {
+            if (ctx.getRetryCount() > 0) {
+              ExecutionStatistics.current().ifPresent(ExecutionStatistics::recordRetry);
+            }
+            return doExecuteWithIsolation(useCase, resultSupplier);
+          });
     }
     return doExecuteWithIsolation(useCase, resultSupplier);
   }
@@ -0,0 +1,107 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.rest.interactor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import org.veo.core.usecase.UseCase;
+import org.veo.persistence.metrics.ExecutionStatistics;
+import org.veo.rest.common.ServerTiming;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Records duration, outcome and persistence statistics of use case executions. Statement, row and
+ * entity counts reveal N+1 query problems without having to enable SQL logging. Row counts are only
+ * available if result set rows are counted by the data source proxy (see {@code
+ * veo.logging.datasource.row_count}).
+ */
+@Component
+@RequiredArgsConstructor
+public class UseCaseMetrics {
+  private static final String USE_CASE_TAG = "usecase";
+
+  private final MeterRegistry meterRegistry;
+
+  <R> R measure(UseCase<?, ?> useCase, boolean readOnly, Supplier<R> execution) {
+    var name = ClassUtils.getUserClass(useCase).getSimpleName();
+    var start = System.nanoTime();
+    RuntimeException failure = null;
+    try (var statistics = ExecutionStatistics.begin()) {
+      try {
+        return execution.get();
+      } catch (RuntimeException e) {
+        failure = e;
+        throw e;
+      } finally {
+        record(name, readOnly, failure, System.nanoTime() - start, statistics);
+      }
+    }
+  }
+
+  private void record(
+      String name,
+      boolean readOnly,
+      RuntimeException failure,
+      long durationNanos,
+      ExecutionStatistics statistics) {
+    Timer.builder("veo.usecase.execution")
+        .description("Execution time of use cases")
+        .tag(USE_CASE_TAG, name)
+        .tag("readOnly", String.valueOf(readOnly))
+        .tag("outcome", failure == null ? "success" : "failure")
+        .tag("exception", failure == null ? "none" : failure.getClass().getSimpleName())
+        .register(meterRegistry)
+        .record(durationNanos, TimeUnit.NANOSECONDS);
+    record("veo.usecase.jdbc.statements", name, statistics.getStatements());
+    record("veo.usecase.entities.loaded", name, statistics.getEntitiesLoaded());
+    if (statistics.getRows() > 0) {
+      record("veo.usecase.jdbc.rows", name, statistics.getRows());
+    }
+    if (statistics.getRetries() > 0) {
+      Counter.builder("veo.usecase.retries")
+          .description("Repeated executions of retryable use cases")
+          .tag(USE_CASE_TAG, name)
+          .register(meterRegistry)
+          .increment(statistics.getRetries());
+    }
+    ServerTiming.current()
+        .ifPresent(
+            serverTiming ->
+                serverTiming.add(
+                    name,
+                    durationNanos,
+                    "%d statements, %d entities"
+                        .formatted(statistics.getStatements(), statistics.getEntitiesLoaded())));
+  }
+
+  private void record(String meter, String name, int amount) {
+    DistributionSummary.builder(meter)
+        .tag(USE_CASE_TAG, name)
+        .register(meterRegistry)
+        .record(amount);
+  }
+}
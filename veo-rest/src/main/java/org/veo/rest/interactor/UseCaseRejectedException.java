@@ -0,0 +1,35 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.rest.interactor;
+
+import java.time.Duration;
+
+import lombok.Getter;
+
+/**
+ * Thrown if a use case could not be admitted for execution because the server is saturated. The
+ * request may be repeated after the suggested delay.
+ */
+public class UseCaseRejectedException extends RuntimeException {
+  @Getter private final Duration retryAfter;
+
+  public UseCaseRejectedException(Duration retryAfter) {
+    super("The server is currently busy, please try again later.");
+    this.retryAfter = retryAfter;
+  }
+}
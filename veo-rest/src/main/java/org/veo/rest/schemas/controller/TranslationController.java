@@ -18,31 +18,41 @@
 package org.veo.rest.schemas.controller;
 
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import org.springframework.context.MessageSource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.task.DelegatingSecurityContextAsyncTaskExecutor;
 import org.springframework.stereotype.Component;
 
-import org.veo.adapter.presenter.api.dto.TranslationsDto;
 import org.veo.core.Translations;
 import org.veo.core.entity.Client;
 import org.veo.core.entity.Domain;
 import org.veo.core.entity.ElementType;
 import org.veo.core.repository.ClientReadOnlyRepository;
+import org.veo.core.repository.ClientRepository;
+import org.veo.core.repository.DomainRepository;
 import org.veo.core.service.EntitySchemaService;
 import org.veo.rest.VeoMessage;
 import org.veo.rest.common.ClientNotActiveException;
+import org.veo.rest.common.TranslationCache;
 import org.veo.rest.schemas.resource.TranslationsResource;
 import org.veo.rest.security.ApplicationUser;
 
 import lombok.RequiredArgsConstructor;
 
-/** REST service which provides methods to UI translations in JSON format. */
+/**
+ * REST service which provides methods to UI translations in JSON format. Translations are served
+ * from the {@link TranslationCache} with a strong ETag, so Spring MVC answers conditional requests
+ * from clients that already have the current bundle with 304 Not Modified.
+ */
 @Component
 @RequiredArgsConstructor
 public class TranslationController implements TranslationsResource {
@@ -51,46 +61,72 @@ public class TranslationController implements TranslationsResource {
 
   private final ClientReadOnlyRepository clientRepository;
 
+  private final DomainRepository domainRepository;
+
   private final MessageSource messageSource;
 
+  private final TranslationCache translationCache;
+
+  private final DelegatingSecurityContextAsyncTaskExecutor taskExecutor;
+
   @Override
-  public CompletableFuture<ResponseEntity<TranslationsDto>> getSchema(
+  public CompletableFuture<ResponseEntity<byte[]>> getSchema(
       Authentication auth, Set<String> languages, String domainId) {
     ApplicationUser user = ApplicationUser.authenticatedUser(auth.getPrincipal());
-    Client client = getClient(user.getClientId());
+    UUID clientId = user.getClientId();
+    // cached bundles must not be served to inactive clients
+    clientRepository
+        .findById(clientId)
+        .filter(ClientRepository.IS_CLIENT_ACTIVE)
+        .orElseThrow(() -> new ClientNotActiveException(clientId.toString()));
     var locales = languages.stream().map(Locale::forLanguageTag).collect(Collectors.toSet());
 
     return CompletableFuture.supplyAsync(
         () -> {
-          Set<Domain> domains = client.getDomains();
-          if (domainId != null) {
-            domains =
-                domains.stream()
-                    .filter(it -> it.getIdAsString().equals(domainId))
-                    .collect(Collectors.toSet());
-            if (domains.isEmpty()) {
-              return ResponseEntity.notFound().build();
-            }
+          var domainVersions =
+              domainRepository.findActiveVersionsByClient(clientId).entrySet().stream()
+                  .filter(it -> domainId == null || it.getKey().toString().equals(domainId))
+                  .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+          if (domainId != null && domainVersions.isEmpty()) {
+            return ResponseEntity.notFound().build();
+          }
+          var bundle =
+              translationCache.get(
+                  new TranslationCache.Key(clientId, domainVersions, locales),
+                  () -> createTranslations(clientId, domainVersions.keySet(), locales));
+          return ResponseEntity.ok()
+              .contentType(MediaType.APPLICATION_JSON)
+              .cacheControl(CacheControl.noCache())
+              .eTag(bundle.eTag())
+              .body(bundle.content());
+        },
+        taskExecutor);
+  }
+
+  private Translations createTranslations(
+      UUID clientId, Set<UUID> domainIds, Set<Locale> locales) {
+    Set<Domain> domains =
+        getClient(clientId).getDomains().stream()
+            .filter(it -> domainIds.contains(it.getId()))
+            .collect(Collectors.toSet());
+    Translations t10n = schemaService.findTranslations(domains, locales);
+    locales.forEach(
+        loc -> {
+          for (VeoMessage veoMessage : VeoMessage.values()) {
+            t10n.add(
+                loc,
+                veoMessage.getMessageKey(),
+                messageSource.getMessage(veoMessage.getMessageKey(), null, loc));
+          }
+          // Add alternative element type plural keys for convenience
+          for (ElementType type : ElementType.values()) {
+            t10n.add(
+                loc,
+                type.getSingularTerm() + "_plural",
+                messageSource.getMessage(type.getPluralTerm(), null, loc));
           }
-          Translations t10n = schemaService.findTranslations(domains, locales);
-          locales.forEach(
-              loc -> {
-                for (VeoMessage veoMessage : VeoMessage.values()) {
-                  t10n.add(
-                      loc,
-                      veoMessage.getMessageKey(),
-                      messageSource.getMessage(veoMessage.getMessageKey(), null, loc));
-                }
-                // Add alternative element type plural keys for convenience
-                for (ElementType type : ElementType.values()) {
-                  t10n.add(
-                      loc,
-                      type.getSingularTerm() + "_plural",
-                      messageSource.getMessage(type.getPluralTerm(), null, loc));
-                }
-              });
-          return ResponseEntity.ok().body((TranslationsDto) t10n);
         });
+    return t10n;
   }
 
   protected Client getClient(UUID clientId) {
@@ -62,9 +62,10 @@ public interface TranslationsResource {
             @Content(
                 mediaType = MediaType.APPLICATION_JSON_VALUE,
                 schema = @Schema(implementation = TranslationsDto.class))),
+    @ApiResponse(responseCode = "304", description = "Translations not modified"),
     @ApiResponse(responseCode = "404", description = "Translation not found")
   })
-  CompletableFuture<ResponseEntity<TranslationsDto>> getSchema(
+  CompletableFuture<ResponseEntity<byte[]>> getSchema(
       @Parameter(hidden = true) Authentication auth,
       @Parameter(
               required = true,
@@ -17,6 +17,7 @@
  */
 package org.veo.rest.security;
 
+import java.time.Instant;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -24,6 +25,9 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.springframework.security.core.GrantedAuthority;
@@ -42,6 +46,16 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ApplicationUser implements UserDetails, UserAccessRights {
   private static final String UUID_REGEX = "[a-fA-F\\d]{8}(?:-[a-fA-F\\d]{4}){3}-[a-fA-F\\d]{12}";
+  private static final Pattern CLIENT_GROUP_PATTERN =
+      Pattern.compile("^/veo_client:(" + UUID_REGEX + ")$");
+
+  /**
+   * Users that have been resolved from JWTs, keyed by token ID (or token value if the token has no
+   * ID). A token's claims never change, so the user only needs to be resolved once per token.
+   */
+  private static final Map<String, CachedUser> USERS_BY_TOKEN = new ConcurrentHashMap<>();
+
+  private static final int MAX_CACHED_USERS = 10_000;
 
   private String password = null; // unused but required by UserDetails
   private final String username;
@@ -84,12 +98,12 @@ public class ApplicationUser implements UserDetails, UserAccessRights {
             .orElse(Collections.emptyList())
             .stream()
             .map(UUID::fromString)
-            .collect(Collectors.toSet()),
+            .collect(Collectors.toUnmodifiableSet()),
         Optional.ofNullable(jwt.getClaimAsStringList("unit_write_access"))
             .orElse(Collections.emptyList())
             .stream()
             .map(UUID::fromString)
-            .collect(Collectors.toSet()));
+            .collect(Collectors.toUnmodifiableSet()));
 
     this.claims = jwt.getClaims();
   }
@@ -97,8 +111,9 @@ public class ApplicationUser implements UserDetails, UserAccessRights {
   private static UUID extractClientId(List<String> groups) {
     List<String> clientIDs =
         Optional.ofNullable(groups).orElseGet(Collections::emptyList).stream()
-            .filter(g -> g.matches("^/veo_client:" + UUID_REGEX + "$"))
-            .map(g -> g.replaceFirst("/veo_client:", ""))
+            .map(CLIENT_GROUP_PATTERN::matcher)
+            .filter(Matcher::matches)
+            .map(m -> m.group(1))
             .toList();
 
     if (clientIDs.size() != 1) {
@@ -110,11 +125,34 @@ public class ApplicationUser implements UserDetails, UserAccessRights {
   }
 
   public static ApplicationUser findAuthenticatedUser(Object principal) {
-    if (principal instanceof Jwt jwt) return new ApplicationUser(jwt);
+    if (principal instanceof Jwt jwt) return fromJwt(jwt);
     else if (principal instanceof ApplicationUser applicationUser) return applicationUser;
     return null;
   }
 
+  /** Resolves the user from the token once and caches it until the token expires. */
+  private static ApplicationUser fromJwt(Jwt jwt) {
+    var expiresAt = jwt.getExpiresAt();
+    if (expiresAt == null) {
+      return new ApplicationUser(jwt);
+    }
+    var key = Optional.ofNullable(jwt.getId()).orElseGet(jwt::getTokenValue);
+    var cached = USERS_BY_TOKEN.get(key);
+    if (cached != null) {
+      return cached.user();
+    }
+    if (USERS_BY_TOKEN.size() >= MAX_CACHED_USERS) {
+      var now = Instant.now();
+      USERS_BY_TOKEN.values().removeIf(u -> u.expiresAt().isBefore(now));
+      if (USERS_BY_TOKEN.size() >= MAX_CACHED_USERS) {
+        USERS_BY_TOKEN.clear();
+      }
+    }
+    var user = new ApplicationUser(jwt);
+    USERS_BY_TOKEN.put(key, new CachedUser(user, expiresAt));
+    return user;
+  }
+
   public static ApplicationUser authenticatedUser(Object principal) {
     return Optional.ofNullable(findAuthenticatedUser(principal))
         .orElseThrow(
@@ -170,4 +208,6 @@ public class ApplicationUser implements UserDetails, UserAccessRights {
         unitReads,
         unitWrite);
   }
+
+  private record CachedUser(ApplicationUser user, Instant expiresAt) {}
 }
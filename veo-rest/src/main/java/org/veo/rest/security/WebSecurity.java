@@ -128,9 +128,10 @@ public class WebSecurity {
   private static final String[] ADMIN_PATHS = {"/admin/**", "/domain-templates/*/createdomains"};
 
   // Paths that never change state on the server:
-  // Inspections are transient and may be POSTed by regular users.
+  // Inspections are transient and may be POSTed by regular users, as may element lookups.
   private static final String[] TRANSIENT_PATHS = {
     "/domains/*/*/evaluation/**",
+    "/domains/*/elements/lookup",
     // TODO VEO-1987 remove legacy endpoint pattern
     "/*/evaluation/**"
   };
@@ -0,0 +1,250 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.perf
+
+import static groovy.json.JsonOutput.prettyPrint
+import static groovy.json.JsonOutput.toJson
+import static org.springframework.http.MediaType.APPLICATION_JSON
+
+import java.nio.charset.StandardCharsets
+import java.nio.file.Files
+import java.nio.file.Path
+import java.time.Instant
+
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.security.test.context.support.WithUserDetails
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders
+
+import org.veo.core.VeoMvcSpec
+import org.veo.core.entity.ElementType
+import org.veo.test.dataset.DatasetApi
+import org.veo.test.dataset.DatasetParameters
+import org.veo.test.dataset.GeneratedDataset
+import org.veo.test.dataset.UnitDatasetGenerator
+
+import groovy.util.logging.Slf4j
+import io.micrometer.core.instrument.MeterRegistry
+
+/**
+ * Runs typical requests against a large generated unit and writes latency percentiles and
+ * persistence statistics per scenario to a JSON report, so results can be compared across versions.
+ * This is meant to run against a dedicated local PostgreSQL database (see {@code perfTest} task),
+ * because all clients are deleted before the run.
+ *
+ * <p>Statement and entity counts are taken from the use case metrics (see {@code UseCaseMetrics})
+ * and cover all use cases executed by a request.
+ */
+@Slf4j
+@WithUserDetails("content-creator")
+class LargeUnitPerformanceSpec extends VeoMvcSpec {
+    static final long SEED = Long.getLong("veo.perf.seed", 42)
+    static final double SCALE = Double.parseDouble(System.getProperty("veo.perf.scale", "1"))
+    static final int WARMUP = Integer.getInteger("veo.perf.warmup", 3)
+    static final int ITERATIONS = Integer.getInteger("veo.perf.iterations", 20)
+    static final int HEAVY_ITERATIONS = Integer.getInteger("veo.perf.heavy-iterations", 3)
+    static final Path RESULTS_DIRECTORY = Path.of(System.getProperty("veo.perf.results", "build/perf-results"))
+
+    @Autowired
+    MeterRegistry meterRegistry
+
+    List<Map> scenarios = []
+
+    def "run scenarios on a large unit"() {
+        given: "a large unit in the DS-GVO domain"
+        def client = createTestClient()
+        def domainId = createTestDomain(client, DSGVO_DOMAINTEMPLATE_UUID).idAsString
+        createTestDomainTemplate(DSGVO_DOMAINTEMPLATE_V2_UUID)
+        def unitId = parseJson(post("/units", [
+            name: "large unit",
+            domains: [
+                [targetUri: "/domains/$domainId"]
+            ]
+        ])).resourceId
+        def domain = parseJson(get("/domains/$domainId"))
+        def parameters = new DatasetParameters(seed: SEED).scaled(SCALE)
+        def generationStart = System.nanoTime()
+        def dataset = new UnitDatasetGenerator(datasetApi(domainId), domain, unitId, parameters).generate()
+        def generationMillis = (System.nanoTime() - generationStart) / 1_000_000
+        log.info("Generated {} elements, {} links and {} risks in {} ms", dataset.elements, dataset.links,
+                dataset.risks, generationMillis)
+        def processIds = dataset.elementIds[ElementType.PROCESS]
+        def assetIds = dataset.elementIds[ElementType.ASSET]
+        int processPages = Math.max(1, processIds.size().intdiv(20))
+        def processSubType = domain.elementTypeDefinitions.process.subTypes.keySet().first()
+
+        when: "reading element lists"
+        measure("list-first-page") {
+            get("/domains/$domainId/processes?unit=$unitId&size=20&page=0")
+        }
+        measure("list-deep-page") {
+            get("/domains/$domainId/processes?unit=$unitId&size=20&page=${(it * 37) % processPages}")
+        }
+        measure("list-large-page-sorted") {
+            get("/domains/$domainId/assets?unit=$unitId&size=500&sortBy=name&sortOrder=desc")
+        }
+
+        and: "searching elements"
+        measure("search-display-name") {
+            get("/domains/$domainId/processes?unit=$unitId&size=20&displayName=0-$it")
+        }
+        measure("search-sub-type-root-elements") {
+            get("/domains/$domainId/processes?unit=$unitId&size=20&subType=$processSubType&hasParentElements=false")
+        }
+
+        and: "fetching relation graphs"
+        measure("graph-process-relations") {
+            get("/domains/$domainId/processes/${processIds[it % processIds.size()]}/relations")
+        }
+        measure("graph-asset-relations") {
+            get("/domains/$domainId/assets/${assetIds[it % assetIds.size()]}/relations")
+        }
+
+        and: "exporting and importing the unit"
+        measure("unit-export", HEAVY_ITERATIONS, 1) {
+            get("/units/$unitId/export")
+        }
+        def dump = get("/units/$unitId/export").andReturn().response.getContentAsString(StandardCharsets.UTF_8)
+        String importedUnitId
+        measure("unit-import", HEAVY_ITERATIONS, 1, {
+            importedUnitId = parseJson(doRequest(MockMvcRequestBuilders.post("/units/import")
+                    .contentType(APPLICATION_JSON)
+                    .accept(APPLICATION_JSON)
+                    .content(dump), 201)).resourceId
+        }, {
+            delete("/units/$importedUnitId")
+        })
+
+        and: "changing the risk definition used by all risks"
+        def riskDefinition = domain.riskDefinitions.DSRA
+        def category = riskDefinition.categories.find { it.id == "C" }
+        def valueMatrix = category.valueMatrix
+        measure("risk-definition-change", HEAVY_ITERATIONS, 1) { iteration ->
+            // alternately removes and restores the risk matrix, so risk values are dropped and recalculated
+            category.valueMatrix = iteration % 2 ? valueMatrix : null
+            put("/content-creation/domains/$domainId/risk-definitions/DSRA", riskDefinition)
+        }
+
+        and: "migrating the unit to a new domain version"
+        measure("domain-migration", 1, 0) {
+            post("/domains/$domainId/update?template=$DSGVO_DOMAINTEMPLATE_V2_UUID", null)
+        }
+
+        then:
+        def report = writeReport(parameters, dataset, generationMillis)
+        log.info("Performance report written to {}", report)
+        scenarios.every { it.iterations > 0 }
+    }
+
+    /**
+     * Runs the given action {@code warmup} times, then measures {@code iterations} executions. The
+     * action receives the execution index. The cleanup runs after each execution and is not measured.
+     */
+    private void measure(String name, int iterations = ITERATIONS, int warmup = WARMUP, Closure action,
+            Closure cleanup = {}) {
+        warmup.times {
+            action(it)
+            cleanup()
+        }
+        List<Long> latencies = []
+        double statements = 0
+        double entities = 0
+        iterations.times {
+            double statementsBefore = total("veo.usecase.jdbc.statements")
+            double entitiesBefore = total("veo.usecase.entities.loaded")
+            long start = System.nanoTime()
+            action(warmup + it)
+            latencies << System.nanoTime() - start
+            statements += total("veo.usecase.jdbc.statements") - statementsBefore
+            entities += total("veo.usecase.entities.loaded") - entitiesBefore
+            cleanup()
+        }
+        latencies.sort()
+        def result = [
+            scenario: name,
+            iterations: iterations,
+            latencyMillis: [
+                p50: percentile(latencies, 50),
+                p90: percentile(latencies, 90),
+                p95: percentile(latencies, 95),
+                p99: percentile(latencies, 99),
+                max: latencies.last() / 1_000_000,
+            ],
+            statementsPerRequest: statements / iterations,
+            entitiesLoadedPerRequest: entities / iterations,
+        ]
+        log.info("{}", result)
+        scenarios << result
+    }
+
+    private static double percentile(List<Long> sortedLatencies, int percentile) {
+        int rank = Math.ceil(percentile / 100 * sortedLatencies.size()) as int
+        sortedLatencies[Math.max(rank, 1) - 1] / 1_000_000
+    }
+
+    private double total(String meter) {
+        meterRegistry.find(meter).summaries()*.totalAmount().sum(0d) as double
+    }
+
+    private Path writeReport(DatasetParameters parameters, GeneratedDataset dataset, generationMillis) {
+        Files.createDirectories(RESULTS_DIRECTORY)
+        def version = System.getProperty("veo.perf.version", "unknown")
+        def timestamp = Instant.now()
+        def file = RESULTS_DIRECTORY.resolve("large-unit-$version-${timestamp.toEpochMilli()}.json")
+        Files.writeString(file, prettyPrint(toJson([
+            version: version,
+            timestamp: timestamp.toString(),
+            parameters: [
+                seed: parameters.seed,
+                scale: SCALE,
+                elementCounts: parameters.elementCounts.collectEntries { type, count -> [(type.pluralTerm): count] },
+                linksPerElement: parameters.linksPerElement,
+                hierarchyDepth: parameters.hierarchyDepth,
+                risks: parameters.risks,
+            ],
+            dataset: [
+                elements: dataset.elements,
+                links: dataset.links,
+                risks: dataset.risks,
+                generationMillis: generationMillis,
+            ],
+            scenarios: scenarios,
+        ])))
+        file
+    }
+
+    /** Creates the dataset through the bulk, link and risk endpoints. */
+    private DatasetApi datasetApi(String domainId) {
+        [
+            createElements: { ElementType type, List<Map> elements ->
+                def results = parseJson(doRequest(MockMvcRequestBuilders.post("/domains/$domainId/$type.pluralTerm/bulk")
+                        .contentType(APPLICATION_JSON)
+                        .accept(APPLICATION_JSON)
+                        .content(toJson(elements)), 200)).sort { it.index }
+                def failures = results.findAll { it.status != 201 }
+                assert !failures: "Creating $type.pluralTerm failed: ${failures.take(3)}"
+                results*.id
+            },
+            addLinks: { ElementType type, String elementId, Map links ->
+                post("/domains/$domainId/$type.pluralTerm/$elementId/links", links, 204)
+            },
+            createRisk: { ElementType type, String elementId, Map risk ->
+                post("/$type.pluralTerm/$elementId/risks", risk)
+            },
+        ] as DatasetApi
+    }
+}
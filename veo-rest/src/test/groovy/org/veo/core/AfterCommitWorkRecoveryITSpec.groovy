@@ -0,0 +1,103 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.core
+
+import java.time.Instant
+
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.security.test.context.support.WithUserDetails
+
+import org.veo.core.entity.Client
+import org.veo.core.entity.ElementType
+import org.veo.core.entity.Unit
+import org.veo.core.repository.AfterCommitWork
+import org.veo.core.repository.AfterCommitWorkRepository
+import org.veo.listeners.RiskComponentChangeListener
+import org.veo.persistence.access.AssetRepositoryImpl
+import org.veo.persistence.access.ClientRepositoryImpl
+import org.veo.persistence.access.UnitRepositoryImpl
+
+@WithUserDetails("user@domain.example")
+class AfterCommitWorkRecoveryITSpec extends VeoSpringSpec {
+
+    @Autowired
+    private ClientRepositoryImpl clientRepository
+    @Autowired
+    private UnitRepositoryImpl unitRepository
+    @Autowired
+    private AssetRepositoryImpl assetRepository
+    @Autowired
+    private AfterCommitWorkRepository afterCommitWorkRepository
+    @Autowired
+    private RiskComponentChangeListener riskComponentChangeListener
+
+    private Client client
+    private Unit unit
+
+    def setup() {
+        client = clientRepository.save(newClient())
+        unit = unitRepository.save(newUnit(client))
+    }
+
+    def "pending work is recorded and recovered"() {
+        given:
+        def domain = createTestDomain(client, DSGVO_DOMAINTEMPLATE_UUID)
+        def asset = executeInTransaction {
+            assetRepository.save(newAsset(unit) {
+                associateWithDomain(domain, 'AST_Application', 'NEW')
+            })
+        }
+        def elementWork = AfterCommitWork.forElement(client.id, domain.id, asset.id, ElementType.ASSET)
+        def unitWork = AfterCommitWork.forUnit(client.id, null, unit.id)
+        executeInTransaction {
+            afterCommitWorkRepository.add(elementWork)
+            afterCommitWorkRepository.add(unitWork)
+        }
+
+        expect: "the work is found once it is old enough"
+        afterCommitWorkRepository.findRecordedBefore(Instant.now().plusSeconds(1), 10) == [elementWork, unitWork]
+        afterCommitWorkRepository.findRecordedBefore(Instant.now().minusSeconds(60), 10).empty
+
+        when:
+        riskComponentChangeListener.recover(elementWork)
+        riskComponentChangeListener.recover(unitWork)
+
+        then: "the recovered work is removed"
+        afterCommitWorkRepository.findRecordedBefore(Instant.now().plusSeconds(1), 10).empty
+
+        when: "recovering completed work again"
+        riskComponentChangeListener.recover(elementWork)
+
+        then:
+        noExceptionThrown()
+    }
+
+    def "work of deleted elements is discarded"() {
+        given:
+        def work = AfterCommitWork.forElement(client.id, null, UUID.randomUUID(), ElementType.PROCESS)
+        executeInTransaction {
+            afterCommitWorkRepository.add(work)
+        }
+
+        when:
+        riskComponentChangeListener.recover(work)
+
+        then:
+        afterCommitWorkRepository.findRecordedBefore(Instant.now().plusSeconds(1), 10).empty
+    }
+}
@@ -134,6 +134,30 @@ class ApplyCatalogIncarnationDescriptionUseCasePerformanceITSpec extends Abstrac
         DataSourceProxyBeanPostProcessor.totalResultSetRowsRead - rowCountBefore <= 30
     }
 
+    def "SQL performance for getting an incarnation description of a deep reference chain"() {
+        given: "a chain of catalog items, each one referencing the next"
+        createClient()
+        Domain domain = createCatalogItemChain(30)
+        def firstItem = domain.catalogItems.find { it.name == 'c0' }
+        QueryCountHolder.clear()
+
+        when: "requesting the first item in the default mode"
+        def dto = executeInTransaction {
+            def out = synchronousUseCaseInteractor.execute(
+                    getIncarnationDescriptionUseCase,
+                    new GetCatalogIncarnationDescriptionUseCase.InputData(
+                    unit.id, domain.id, [firstItem.symbolicId], IncarnationRequestModeType.DEFAULT, IncarnationLookup.FOR_REFERENCED_ITEMS, null, null),
+                    Function.identity()
+                    ).get()
+            new IncarnateDescriptionsDto(out.references, urlAssembler)
+        }
+        def queryCounts = QueryCountHolder.grandTotal
+
+        then: "all items are included and the number of queries does not depend on the chain length"
+        dto.parameters.size() == 30
+        queryCounts.select <= 5
+    }
+
     Client createClient() {
         executeInTransaction {
             client = newClient()
@@ -235,4 +259,24 @@ class ApplyCatalogIncarnationDescriptionUseCasePerformanceITSpec extends Abstrac
             domainDataRepository.save(domain)
         }
     }
-}
\ No newline at end of file
+
+    Domain createCatalogItemChain(int length) {
+        executeInTransaction {
+            def domain = client.domains.first()
+            def items = (0..<length).collect { i ->
+                newCatalogItem(domain, {
+                    elementType = ElementType.CONTROL
+                    subType = "Test"
+                    status = "NEW"
+                    name = "c$i"
+                })
+            }
+            items.eachWithIndex { item, i ->
+                if (i < length - 1) {
+                    newTailoringReference(item, items[i + 1], TailoringReferenceType.PART)
+                }
+            }
+            domainDataRepository.save(domain)
+        }
+    }
+}
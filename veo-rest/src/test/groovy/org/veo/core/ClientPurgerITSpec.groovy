@@ -0,0 +1,177 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.core
+
+import org.springframework.beans.factory.annotation.Autowired
+
+import org.veo.core.entity.Client
+import org.veo.core.entity.ClientState
+import org.veo.core.entity.Domain
+import org.veo.core.entity.Unit
+import org.veo.listeners.ClientPurger
+
+import groovy.json.JsonSlurper
+
+class ClientPurgerITSpec extends VeoSpringSpec {
+
+    @Autowired
+    ClientPurger clientPurger
+
+    Client client
+    Domain domain
+
+    def setup() {
+        client = createTestClient()
+        domain = createTestDomain(client, DSGVO_DOMAINTEMPLATE_UUID)
+    }
+
+    def "purges a deleted client with all of its data"() {
+        given: "a deleted client with two populated units"
+        def units = (1..2).collect { createPopulatedUnit() }
+        markDeleted(client)
+
+        and: "another client that must not be affected"
+        def otherClient = clientRepository.save(newClient())
+        def otherUnit = unitDataRepository.save(newUnit(otherClient))
+        def otherAsset = assetDataRepository.save(newAsset(otherUnit))
+
+        when:
+        clientPurger.purge(client.id)
+
+        then: "the client and all of its data are gone"
+        !clientRepository.exists(client.id)
+        units.every { !unitDataRepository.existsById(it.id) }
+        !domainDataRepository.existsById(domain.id)
+        executeInTransaction {
+            [
+                assetDataRepository,
+                controlDataRepository,
+                personDataRepository,
+                processDataRepository,
+                scenarioDataRepository,
+                scopeDataRepository
+            ].every { repo -> repo.findAll().every { it.owner.id == otherUnit.id } }
+        }
+
+        and: "a deletion message is stored for each unit"
+        storedUnitDeleteEvents*.unitId as Set == units*.idAsString as Set
+
+        and: "the other client is unchanged"
+        clientRepository.exists(otherClient.id)
+        unitDataRepository.existsById(otherUnit.id)
+        assetDataRepository.existsById(otherAsset.id)
+    }
+
+    def "resumes an interrupted purge"() {
+        given: "a deleted client where one unit has already been purged"
+        def units = (1..2).collect { createPopulatedUnit() }
+        markDeleted(client)
+        executeInTransaction {
+            elementRepository.purgeByUnit(units.first().id)
+        }
+
+        when:
+        clientPurger.purge(client.id)
+
+        then:
+        !clientRepository.exists(client.id)
+        units.every { !unitDataRepository.existsById(it.id) }
+    }
+
+    def "does not purge a client that has not been deleted"() {
+        given:
+        def unit = createPopulatedUnit()
+
+        when:
+        clientPurger.purge(client.id)
+
+        then:
+        clientRepository.exists(client.id)
+        unitDataRepository.existsById(unit.id)
+        executeInTransaction {
+            processDataRepository.findAll().size() == 10
+        }
+    }
+
+    private Unit createPopulatedUnit() {
+        executeInTransaction {
+            def unit = unitDataRepository.save(newUnit(client) {
+                addToDomains(domain)
+            })
+            def persons = personDataRepository.saveAll((0..4).collect {
+                newPerson(unit)
+            })
+            def controls = controlDataRepository.saveAll((0..4).collect {
+                newControl(unit) {
+                    associateWithDomain(domain, 'CTL_TOM', 'NEW')
+                }
+            })
+            def scenarios = scenarioDataRepository.saveAll((0..4).collect {
+                newScenario(unit) {
+                    associateWithDomain(domain, 'SCN_Scenario', 'NEW')
+                }
+            })
+            def assets = assetDataRepository.saveAll((0..4).collect {
+                newAsset(unit) {
+                    associateWithDomain(domain, 'AST_Application', 'NEW')
+                }
+            })
+            assets.eachWithIndex { asset, i ->
+                asset.applyLink(newCustomLink(assets[(i + 1) % assets.size()], 'asset_asset_app', domain))
+            }
+            def parts = processDataRepository.saveAll((0..4).collect {
+                newProcess(unit)
+            })
+            def processes = processDataRepository.saveAll((0..4).collect { i ->
+                newProcess(unit) {
+                    associateWithDomain(domain, 'PRO_DataProcessing', 'NEW')
+                    addPart(parts[i])
+                    obtainRisk(scenarios[i]).tap {
+                        assignDesignator(it)
+                        appoint(persons[i])
+                        mitigate(controls[i])
+                    }
+                    implementControl(controls[i]).tap {
+                        setResponsible(persons[i])
+                    }
+                }
+            })
+            scopeDataRepository.save(newScope(unit) {
+                associateWithDomain(domain, 'SCP_ResponsibleBody', 'NEW')
+                addMembers(assets as Set)
+                addMembers(processes as Set)
+            })
+            unit
+        }
+    }
+
+    private void markDeleted(Client client) {
+        executeInTransaction {
+            clientRepository.getById(client.id).tap {
+                state = ClientState.DELETED
+            }
+        }
+    }
+
+    def getStoredUnitDeleteEvents() {
+        eventStoreDataRepository.findAll()
+                .findAll { it.content != null }
+                .collect { new JsonSlurper().parseText(it.content) }
+                .findAll { it.eventType == 'unit_deletion' }
+    }
+}
@@ -120,6 +120,131 @@ class GenericElementRepositoryITSpec extends VeoSpringSpec {
         }
     }
 
+    def "Element counts follow status changes, compaction and rebuilds"() {
+        given:
+        def domain = createTestDomain(client, DSGVO_DOMAINTEMPLATE_UUID)
+        def persons = executeInTransaction {
+            (1..3).collect {
+                personRepository.save(newPerson(unit) {
+                    associateWithDomain(domain, 'PER_Person', 'NEW')
+                })
+            }
+        }
+
+        when: "one person is released and another one is deleted"
+        executeInTransaction {
+            def released = personRepository.findById(persons[0].id).get()
+            released.setStatus('RELEASED', domain)
+            personRepository.save(released)
+            personRepository.deleteById(persons[1].id)
+        }
+        def counts = countsByStatus(domain)
+
+        then:
+        counts == [NEW: 1, RELEASED: 1]
+
+        when:
+        genericElementRepository.compactCountsBySubType()
+
+        then:
+        countsByStatus(domain) == counts
+
+        when:
+        genericElementRepository.rebuildCountsBySubType(unit.id)
+
+        then:
+        countsByStatus(domain) == counts
+    }
+
+    def "graph traversal follows links and parts up to the given depth"() {
+        given: "a cycle of linked persons, one of them having a part"
+        def domain = createTestDomain(client, DSGVO_DOMAINTEMPLATE_UUID)
+        def (p1, p2, p3, p4) = executeInTransaction {
+            def part = personRepository.save(newPerson(unit) {
+                associateWithDomain(domain, 'PER_Person', 'NEW')
+            })
+            def persons = (1..3).collect {
+                personRepository.save(newPerson(unit) {
+                    associateWithDomain(domain, 'PER_Person', 'NEW')
+                })
+            }
+            persons[0].applyLink(newCustomLink(persons[1], 'person_link', domain))
+            persons[1].applyLink(newCustomLink(persons[2], 'person_link', domain))
+            persons[2].applyLink(newCustomLink(persons[0], 'person_link', domain))
+            persons[2].addPart(part)
+            persons.each { personRepository.save(it) }
+            persons + part
+        }
+
+        when:
+        def graph = genericElementRepository.traverseGraph(p1.id, domain.id, 2, 10, 100, [] as Set, [] as Set).execute()
+
+        then:
+        graph.nodes().collectEntries { [it.id(), it.depth()] } == [
+            (p1.id): 0,
+            (p2.id): 1,
+            (p3.id): 1,
+            (p4.id): 2,
+        ]
+        graph.totalCount() == 4
+        graph.edges().collect { [it.sourceId(), it.targetId()] } as Set == [
+            [p1.id, p2.id],
+            [p2.id, p3.id],
+            [p3.id, p1.id],
+            [p3.id, p4.id],
+        ] as Set
+
+        when: "parts are out of reach"
+        graph = genericElementRepository.traverseGraph(p1.id, domain.id, 1, 10, 100, [] as Set, [] as Set).execute()
+
+        then:
+        graph.nodes()*.id() as Set == [p1.id, p2.id, p3.id] as Set
+        graph.edges().size() == 2
+
+        when: "the links are filtered"
+        graph = genericElementRepository.traverseGraph(p1.id, domain.id, 2, 10, 100, [] as Set, ['other_link'] as Set).execute()
+
+        then:
+        graph.nodes()*.id() == [p1.id]
+        graph.edges().empty
+    }
+
+    def "graph traversal expands each element only once in a densely connected graph"() {
+        given: "persons that are all linked with each other"
+        def domain = createTestDomain(client, DSGVO_DOMAINTEMPLATE_UUID)
+        def persons = executeInTransaction {
+            def persons = (1..20).collect {
+                personRepository.save(newPerson(unit) {
+                    associateWithDomain(domain, 'PER_Person', 'NEW')
+                })
+            }
+            persons.each { source ->
+                (persons - source).each { target ->
+                    source.applyLink(newCustomLink(target, 'person_link', domain))
+                }
+                personRepository.save(source)
+            }
+            persons
+        }
+
+        when:
+        def graph = genericElementRepository.traverseGraph(persons[0].id, domain.id, 3, 100, 100, [] as Set, [] as Set).execute()
+
+        then: "all persons are direct neighbors of the start element"
+        graph.nodes().size() == 20
+        graph.totalCount() == 20
+        graph.nodes().findAll { it.depth() == 1 }.size() == 19
+        graph.edges().size() == 20 * 19
+
+        when: "the number of nodes is limited"
+        graph = genericElementRepository.traverseGraph(persons[0].id, domain.id, 3, 100, 5, [] as Set, [] as Set).execute()
+
+        then: "each level is capped as well"
+        graph.nodes().size() == 5
+        graph.totalCount() == 1 + 3 * 5
+        graph.edges().size() == 5 * 4
+    }
+
     def "finds custom aspect attribute values filtered by type and key"() {
         given:
         def domain = createTestDomain(client, DSGVO_DOMAINTEMPLATE_UUID)
@@ -165,6 +290,48 @@ class GenericElementRepositoryITSpec extends VeoSpringSpec {
         values == ['P3D']
     }
 
+    def "attribute value usages follow deletions, compaction and rebuilds"() {
+        given:
+        def domain = createTestDomain(client, DSGVO_DOMAINTEMPLATE_UUID)
+        def persons = executeInTransaction {
+            ['PT1H', 'PT8H', 'PT8H'].collect { duration ->
+                personRepository.save(newPerson(unit) {
+                    associateWithDomain(domain, 'PER_Person', 'NEW')
+                    customAspects = [
+                        newCustomAspect('person_duration', domain) {
+                            attributes['estimatedDuration'] = duration
+                        }
+                    ]
+                })
+            }
+        }
+        def findValues = {
+            genericElementRepository.findUsedAttributeValues(
+                    unit.id, domain.id, ['person_duration': ['estimatedDuration'] as Set], [:], DurationAttributeDefinition.TYPE, 100)
+        }
+
+        when: "one of two persons using a value and the only person using another value are deleted"
+        executeInTransaction {
+            personRepository.deleteById(persons[0].id)
+            personRepository.deleteById(persons[1].id)
+        }
+
+        then:
+        findValues() == ['PT8H']
+
+        when:
+        genericElementRepository.compactUsedAttributeValues()
+
+        then:
+        findValues() == ['PT8H']
+
+        when:
+        genericElementRepository.rebuildUsedAttributeValues(unit.id)
+
+        then:
+        findValues() == ['PT8H']
+    }
+
     def "database orders all duration period values correctly"() {
         given: "a domain"
         def domain = createTestDomain(client, DSGVO_DOMAINTEMPLATE_UUID)
@@ -405,4 +572,9 @@ class GenericElementRepositoryITSpec extends VeoSpringSpec {
             "PT1S"
         ]
     }
+
+    private Map<String, Long> countsByStatus(domain) {
+        genericElementRepository.getCountsBySubType(unit, domain)
+                .collectEntries { [it.status, it.count] }
+    }
 }
@@ -119,7 +119,7 @@ class GetAttributeValuesUseCaseITSpec extends VeoSpringSpec {
 
         when:
         def output = getAttributeValuesUseCase.execute(
-                new GetAttributeValuesUseCase.InputData(domain.id, unit.id, 'duration'), user)
+                new GetAttributeValuesUseCase.InputData(domain.id, unit.id, 'duration', null, null), user)
 
         then:
         output.values() == ['PT8H', 'P1D', 'P3D']
@@ -134,17 +134,52 @@ class GetAttributeValuesUseCaseITSpec extends VeoSpringSpec {
 
         when:
         def output = cappedUseCase.execute(
-                new GetAttributeValuesUseCase.InputData(domain.id, unit.id, 'duration'), user)
+                new GetAttributeValuesUseCase.InputData(domain.id, unit.id, 'duration', null, null), user)
 
         then:
         output.values() == ['PT8H', 'P1D']
         output.truncated()
     }
 
+    def "filters values by prefix and pages through them"() {
+        given:
+        saveDurationData()
+        def pagedUseCase = new GetAttributeValuesUseCase(
+                domainRepository, unitRepository, genericElementRepository, 2)
+
+        when:
+        def output = getAttributeValuesUseCase.execute(
+                new GetAttributeValuesUseCase.InputData(domain.id, unit.id, 'duration', 'pt', null), user)
+
+        then:
+        output.values() == ['PT8H']
+
+        when:
+        def firstPage = pagedUseCase.execute(
+                new GetAttributeValuesUseCase.InputData(domain.id, unit.id, 'duration', null, null), user)
+        def secondPage = pagedUseCase.execute(
+                new GetAttributeValuesUseCase.InputData(domain.id, unit.id, 'duration', null, firstPage.values().last()), user)
+
+        then:
+        firstPage.values() == ['PT8H', 'P1D']
+        firstPage.truncated()
+        secondPage.values() == ['P3D']
+        !secondPage.truncated()
+    }
+
+    def "rejects an invalid duration cursor"() {
+        when:
+        getAttributeValuesUseCase.execute(
+                new GetAttributeValuesUseCase.InputData(domain.id, unit.id, 'duration', null, 'soon'), user)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
     def "rejects an unknown attribute type"() {
         when:
         getAttributeValuesUseCase.execute(
-                new GetAttributeValuesUseCase.InputData(domain.id, unit.id, 'bogus'), user)
+                new GetAttributeValuesUseCase.InputData(domain.id, unit.id, 'bogus', null, null), user)
 
         then:
         thrown(IllegalArgumentException)
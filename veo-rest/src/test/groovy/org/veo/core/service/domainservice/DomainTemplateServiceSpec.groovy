@@ -269,6 +269,123 @@ class DomainTemplateServiceSpec extends VeoSpringSpec {
         }
     }
 
+    def "add a domain to a persisted client by copying the catalog in the database"() {
+        given: "a client and a template"
+        Client client = repository.save(newClient { })
+        createTestDomainTemplate(DSGVO_TEST_DOMAIN_TEMPLATE_ID)
+
+        when:
+        def domainId = txTemplate.execute {
+            domainTemplateService.addDomainToClient(repository.getById(client.id), DSGVO_TEST_DOMAIN_TEMPLATE_ID, TemplateItems.CATALOG_ONLY)
+        }
+        def domain = txTemplate.execute {
+            repository.getById(client.id).domains.find { it.id == domainId }.tap {
+                // initialize lazy associations
+                it.catalogItems*.tailoringReferences*.target*.name
+                it.profiles.size()
+            }
+        }
+        def templateItemIds = txTemplate.execute {
+            domainTemplateDataRepository.findById(DSGVO_TEST_DOMAIN_TEMPLATE_ID).get().catalogItems*.symbolicId
+        }
+
+        then: "the catalog has been copied to the new domain"
+        domain.domainTemplate.id == DSGVO_TEST_DOMAIN_TEMPLATE_ID
+        domain.profiles.empty
+        domain.catalogItems.size() == 6
+        domain.catalogItems*.domainBase*.id.unique() == [domainId]
+        domain.catalogItems*.symbolicId.toSet() == templateItemIds.toSet()
+        with (domain.catalogItems.sort { it.name }) {
+            it*.name == [
+                'Control-1',
+                'Control-2',
+                'Control-3',
+                'Control-cc-1',
+                'Control-cc-2',
+                'Test process-1'
+            ]
+            it[0].tailoringReferences.size() == 1
+            it[0].tailoringReferences.first().referenceType == TailoringReferenceType.LINK_EXTERNAL
+            it[0].tailoringReferences.first().target == it[5]
+            it[1].tailoringReferences.empty
+            it[2].tailoringReferences.size() == 1
+            it[2].tailoringReferences.first().referenceType == TailoringReferenceType.LINK
+            it[2].tailoringReferences.first().target == it[0]
+        }
+
+        and: "the template is untouched"
+        txTemplate.execute {
+            domainTemplateDataRepository.findById(DSGVO_TEST_DOMAIN_TEMPLATE_ID).get().catalogItems*.domainBase*.id.unique()
+        } == [DSGVO_TEST_DOMAIN_TEMPLATE_ID]
+    }
+
+    def "add a domain to a persisted client by copying catalog and profiles in the database"() {
+        given: "a template with a profile referencing the catalog"
+        Client client = repository.save(newClient { })
+        def template = domainTemplateDataRepository.save(newDomainTemplate { t ->
+            catalogItems = [
+                newCatalogItem(t) {
+                    name = "control"
+                    elementType = ElementType.CONTROL
+                    subType = "CTL"
+                    status = "NEW"
+                }
+            ]
+            profiles = [
+                newProfile(t) {
+                    name = "profile"
+                    def control = newProfileItem(it) {
+                        name = "profile control"
+                        elementType = ElementType.CONTROL
+                        subType = "CTL"
+                        status = "NEW"
+                        appliedCatalogItem = t.catalogItems.first()
+                    }
+                    def asset = newProfileItem(it) {
+                        name = "profile asset"
+                        elementType = ElementType.ASSET
+                        subType = "AST"
+                        status = "NEW"
+                    }
+                    asset.addControlImplementationReference(control, null, null)
+                    items = [control, asset]
+                }
+            ]
+        })
+
+        when:
+        def domainId = txTemplate.execute {
+            domainTemplateService.addDomainToClient(repository.getById(client.id), template.id, TemplateItems.CATALOG_AND_PROFILES)
+        }
+        def domain = txTemplate.execute {
+            repository.getById(client.id).domains.find { it.id == domainId }.tap {
+                // initialize lazy associations
+                it.catalogItems*.name
+                it.profiles*.items*.tailoringReferences*.target*.name
+                it.profiles*.items*.appliedCatalogItem*.name
+            }
+        }
+
+        then: "profile items reference the copied catalog item and each other"
+        domain.catalogItems.size() == 1
+        domain.profiles.size() == 1
+        with(domain.profiles.first()) {
+            name == "profile"
+            items.size() == 2
+            with(items.find { it.name == "profile control" }) {
+                appliedCatalogItem == domain.catalogItems.first()
+                tailoringReferences.empty
+            }
+            with(items.find { it.name == "profile asset" }) {
+                appliedCatalogItem == null
+                tailoringReferences.size() == 1
+                tailoringReferences.first().referenceType == TailoringReferenceType.CONTROL_IMPLEMENTATION
+                tailoringReferences.first().target.owner.id == it.owner.id
+                tailoringReferences.first().target.name == "profile control"
+            }
+        }
+    }
+
     def "copy a profile with multiple references to the same catalog item"() {
         given:
         def template = newDomainTemplate() {t->
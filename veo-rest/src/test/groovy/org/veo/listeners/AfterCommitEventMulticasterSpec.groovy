@@ -0,0 +1,207 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.listeners
+
+import java.time.Duration
+import java.util.concurrent.CopyOnWriteArrayList
+
+import org.springframework.context.PayloadApplicationEvent
+import org.springframework.dao.OptimisticLockingFailureException
+import org.springframework.transaction.event.TransactionPhase
+import org.springframework.transaction.event.TransactionalApplicationListener
+import org.springframework.transaction.support.TransactionSynchronization
+import org.springframework.transaction.support.TransactionSynchronizationManager
+import org.springframework.transaction.support.TransactionSynchronizationUtils
+
+import org.veo.core.entity.Asset
+import org.veo.core.entity.Element
+import org.veo.core.entity.ElementType
+import org.veo.core.entity.event.DomainEvent
+import org.veo.core.entity.event.ElementEvent
+import org.veo.core.repository.AfterCommitWork
+import org.veo.core.repository.AfterCommitWorkRepository
+
+import spock.lang.Specification
+
+class AfterCommitEventMulticasterSpec extends Specification {
+
+    def afterCommitWorkRepository = Mock(AfterCommitWorkRepository)
+    def multicaster = new AfterCommitEventMulticaster(true, 2, 10, 3, Duration.ofSeconds(10), { afterCommitWorkRepository })
+    def invocations = new CopyOnWriteArrayList()
+
+    def setup() {
+        multicaster.start()
+    }
+
+    def cleanup() {
+        multicaster.stop()
+        if (TransactionSynchronizationManager.synchronizationActive) {
+            TransactionSynchronizationManager.clear()
+        }
+    }
+
+    def "domain events are processed in the background after commit"() {
+        given:
+        listen { invocations << Thread.currentThread() }
+
+        when: "publishing an event within a transaction"
+        inTransaction {
+            publish(new TestEvent(clientId: UUID.randomUUID()))
+            assert invocations.empty
+        }
+        multicaster.stop()
+
+        then: "the listener was invoked on a different thread after commit"
+        invocations.size() == 1
+        invocations.first() != Thread.currentThread()
+    }
+
+    def "events of the same client are processed in commit order"() {
+        given:
+        def clientId = UUID.randomUUID()
+        listen { invocations << it.domainId }
+        def domainIds = (1..20).collect { UUID.randomUUID() }
+
+        when:
+        domainIds.each { domainId ->
+            inTransaction {
+                publish(new TestEvent(clientId: clientId, domainId: domainId))
+            }
+        }
+        multicaster.stop()
+
+        then:
+        invocations == domainIds
+    }
+
+    def "invocations failing due to concurrent modifications are retried"() {
+        given:
+        listen {
+            invocations << it
+            if (invocations.size() < 3) {
+                throw new OptimisticLockingFailureException("conflict")
+            }
+        }
+
+        when:
+        inTransaction {
+            publish(new TestEvent(clientId: UUID.randomUUID()))
+        }
+        multicaster.stop()
+
+        then:
+        invocations.size() == 3
+    }
+
+    def "pending work is recorded in the committing transaction and removed once processed"() {
+        given:
+        def elementId = UUID.randomUUID()
+        AfterCommitWork recorded
+        listen { invocations << it }
+
+        when:
+        inTransaction {
+            publish(new TestEvent(clientId: UUID.randomUUID(), entityId: elementId))
+        }
+        multicaster.stop()
+
+        then:
+        1 * afterCommitWorkRepository.add(_) >> { AfterCommitWork work ->
+            assert invocations.empty
+            recorded = work
+        }
+        recorded.elementId() == elementId
+        recorded.elementType() == ElementType.ASSET
+        1 * afterCommitWorkRepository.remove({ it == recorded.id() })
+    }
+
+    def "work of failing invocations is left for recovery"() {
+        given:
+        listen { throw new IllegalStateException("failure") }
+
+        when:
+        inTransaction {
+            publish(new TestEvent(clientId: UUID.randomUUID()))
+        }
+        multicaster.stop()
+
+        then:
+        1 * afterCommitWorkRepository.add(_)
+        0 * afterCommitWorkRepository.remove(_)
+    }
+
+    def "events that cannot be recovered are processed on the committing thread"() {
+        given:
+        listen { invocations << Thread.currentThread() }
+
+        when:
+        inTransaction {
+            publish(payload)
+        }
+
+        then:
+        invocations == [Thread.currentThread()]
+        0 * afterCommitWorkRepository._
+
+        where:
+        payload << [
+            "not a domain event",
+            new OtherEvent(clientId: UUID.randomUUID())
+        ]
+    }
+
+    private listen(Closure listener) {
+        multicaster.addApplicationListener(
+                TransactionalApplicationListener.forPayload(TransactionPhase.AFTER_COMMIT) { listener(it) })
+    }
+
+    private publish(Object payload) {
+        multicaster.multicastEvent(new PayloadApplicationEvent(this, payload))
+    }
+
+    private static inTransaction(Closure body) {
+        TransactionSynchronizationManager.initSynchronization()
+        TransactionSynchronizationManager.actualTransactionActive = true
+        try {
+            body()
+            def synchronizations = TransactionSynchronizationManager.synchronizations
+            TransactionSynchronizationUtils.invokeAfterCommit(synchronizations)
+            TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, TransactionSynchronization.STATUS_COMMITTED)
+        } finally {
+            TransactionSynchronizationManager.clear()
+        }
+    }
+
+    static class TestEvent implements ElementEvent {
+        Object source
+        UUID clientId
+        UUID domainId
+        UUID entityId = UUID.randomUUID()
+
+        @Override
+        <T extends Element> Class<T> getEntityType() {
+            Asset
+        }
+    }
+
+    static class OtherEvent implements DomainEvent {
+        Object source
+        UUID clientId
+        UUID domainId
+    }
+}
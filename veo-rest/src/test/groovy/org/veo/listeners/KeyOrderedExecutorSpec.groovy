@@ -0,0 +1,62 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.listeners
+
+import java.time.Duration
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.Executors
+
+import spock.lang.Specification
+
+class KeyOrderedExecutorSpec extends Specification {
+
+    def "tasks with the same key are executed in order"() {
+        given:
+        def executor = new KeyOrderedExecutor(4, 2, Executors.defaultThreadFactory())
+        def executed = [a: new CopyOnWriteArrayList(), b: new CopyOnWriteArrayList()]
+
+        when: "more tasks are submitted than the queues can hold"
+        100.times { i ->
+            ["a", "b"].each { key ->
+                executor.execute(key) {
+                    executed[key] << i
+                }
+            }
+        }
+        executor.shutdown(Duration.ofSeconds(10))
+
+        then:
+        executed.a == (0..<100).toList()
+        executed.b == (0..<100).toList()
+    }
+
+    def "tasks submitted after shutdown are executed directly"() {
+        given:
+        def executor = new KeyOrderedExecutor(1, 1, Executors.defaultThreadFactory())
+        def executed = false
+        executor.shutdown(Duration.ofSeconds(1))
+
+        when:
+        executor.execute("a") {
+            executed = true
+        }
+
+        then:
+        executed
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.message
+
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.test.context.TestPropertySource
+
+import org.veo.core.VeoSpringSpec
+import org.veo.core.events.EntityRevisionContentRenderer
+import org.veo.persistence.access.jpa.StoredEventDataRepository
+
+import tools.jackson.databind.ObjectMapper
+
+@TestPropertySource(properties = [
+    "veo.message.entity-revision.deferred-content=true",
+    "veo.message.entity-revision.complete-history=false"
+])
+class DeferredEntityRevisionContentITSpec extends VeoSpringSpec {
+    @Autowired
+    StoredEventDataRepository storedEventRepository
+
+    @Autowired
+    EntityRevisionContentRenderer contentRenderer
+
+    @Autowired
+    ObjectMapper objectMapper
+
+    def "element revision content is rendered when dispatching"() {
+        given: "an asset"
+        storedEventRepository.deleteAll()
+        def client = createTestClient()
+        def asset = executeInTransaction {
+            assetDataRepository.save(newAsset(unitDataRepository.save(newUnit(client))) {
+                name = "first name"
+            })
+        }
+
+        when: "fetching the stored revision messages"
+        def assetEvents = {
+            storedEventRepository.findAll().findAll { it.uri?.endsWith("/assets/${asset.idAsString}") }
+        }
+
+        then: "the content is pending"
+        with(objectMapper.readValue(assetEvents().first().content, Map)) {
+            contentPending
+            content == null
+        }
+
+        when: "rendering the messages"
+        def messages = contentRenderer.messagesFrom(assetEvents())
+                .collect { objectMapper.readValue(it.content, Map) }
+
+        then: "the current state has been rendered"
+        with(messages.first()) {
+            contentPending == null
+            contentSuperseded == null
+            content.name == "first name"
+        }
+
+        when: "modifying the asset and rendering all messages"
+        executeInTransaction {
+            assetDataRepository.findById(asset.id).get().name = "second name"
+        }
+        messages = contentRenderer.messagesFrom(assetEvents())
+                .collect { objectMapper.readValue(it.content, Map) }
+                .sort { it.changeNumber }
+
+        then: "the outdated revision has been superseded"
+        messages.size() == 2
+        with(messages[0]) {
+            contentSuperseded
+            content == null
+        }
+        with(messages[1]) {
+            contentSuperseded == null
+            content.name == "second name"
+        }
+    }
+}
@@ -18,10 +18,12 @@
 package org.veo.rest
 
 import static java.util.UUID.randomUUID
+import static org.springframework.http.MediaType.APPLICATION_JSON
 
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.http.converter.HttpMessageNotReadableException
 import org.springframework.security.test.context.support.WithUserDetails
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders
 
 import org.veo.adapter.presenter.api.DeviatingIdException
 import org.veo.categories.MapGetProperties
@@ -231,6 +233,86 @@ class AssetInDomainControllerMockMvcITSpec extends VeoMvcSpec {
         }
     }
 
+    def "create and update assets in bulk"() {
+        given: "two existing assets and a scope"
+        def assetIds = (1..2).collect {
+            parseJson(post("/domains/$testDomainId/assets", [
+                name: "asset $it",
+                owner: [targetUri: "/units/$unitId"],
+                subType: "Server",
+                status: "RUNNING",
+            ])).resourceId
+        }
+        def scopeId = parseJson(post("/domains/$testDomainId/scopes", [
+            name: "data center",
+            owner: [targetUri: "/units/$unitId"],
+            subType: "Company",
+            status: "NEW",
+        ])).resourceId
+        def asset1 = parseJson(get("/domains/$testDomainId/assets/${assetIds[0]}"))
+        def asset1ETag = getETag(get("/domains/$testDomainId/assets/${assetIds[0]}"))
+        def asset2 = parseJson(get("/domains/$testDomainId/assets/${assetIds[1]}"))
+
+        when: "sending creations and updates in one request"
+        asset1.name = "renamed asset 1"
+        asset2.name = "renamed asset 2"
+        def results = parseJson(doRequest(MockMvcRequestBuilders.post("/domains/$testDomainId/assets/bulk")
+                .contentType(APPLICATION_JSON)
+                .content(toJson([
+                    [
+                        element: [
+                            name: "new asset",
+                            owner: [targetUri: "/units/$unitId"],
+                            subType: "Server",
+                            status: "RUNNING",
+                        ],
+                        scopeIds: [scopeId],
+                    ],
+                    [
+                        eTag: asset1ETag,
+                        element: asset1,
+                    ],
+                    [
+                        eTag: "outdated",
+                        element: asset2,
+                    ],
+                    [
+                        element: [
+                            name: "invalid asset",
+                            owner: [targetUri: "/units/$unitId"],
+                            subType: "Server",
+                            status: "ON_FIRE",
+                        ],
+                    ],
+                ])), 200))
+
+        then: "each operation is reported"
+        results*.index == [0, 1, 2, 3]
+        results*.status == [201, 200, 412, 422]
+        results[1].id == assetIds[0]
+        results[2].message == "The eTag does not match for the asset with the ID ${assetIds[1]}"
+
+        and: "valid operations have been applied"
+        with(parseJson(get("/domains/$testDomainId/assets/${results[0].id}"))) {
+            name == "new asset"
+            designator =~ /AST-\d+/
+        }
+        getETag(get("/domains/$testDomainId/assets/${results[0].id}")) == results[0].eTag
+        parseJson(get("/domains/$testDomainId/scopes/$scopeId")).members*.targetUri == [
+            "http://localhost/assets/${results[0].id}"
+        ]
+        parseJson(get("/domains/$testDomainId/assets/${assetIds[0]}")).name == "renamed asset 1"
+        getETag(get("/domains/$testDomainId/assets/${assetIds[0]}")) == results[1].eTag
+
+        and: "rejected operations have not been applied"
+        parseJson(get("/domains/$testDomainId/assets/${assetIds[1]}")).name == "asset 2"
+        parseJson(get("/domains/$testDomainId/assets?size=10")).items*.name ==~ [
+            "new asset",
+            "renamed asset 1",
+            "asset 2"
+        ]
+    }
+
     def "missing asset is handled"() {
         given: "a non-existing asset ID"
         def randomAssetId = randomUUID()
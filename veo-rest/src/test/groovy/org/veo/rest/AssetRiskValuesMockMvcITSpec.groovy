@@ -28,6 +28,7 @@ import org.veo.core.entity.Client
 import org.veo.core.entity.Domain
 import org.veo.core.entity.ElementType
 import org.veo.core.entity.Unit
+import org.veo.core.entity.exception.NotFoundException
 import org.veo.core.entity.exception.ReferenceTargetNotFoundException
 import org.veo.core.entity.exception.UnprocessableDataException
 import org.veo.persistence.access.AssetRepositoryImpl
@@ -318,6 +319,90 @@ class AssetRiskValuesMockMvcITSpec extends VeoMvcSpec {
         }
     }
 
+    def "risk values of a domain can be listed and filtered"() {
+        given: "an asset with two risks"
+        def assetId = asset.getIdAsString()
+        def scenarioId = scenario.getIdAsString()
+        def scenario2Id = scenarioRepository.save(newScenario(unit) {
+            associateWithDomain(domain, "NormalScenario", "NEW")
+        }).idAsString
+        postRisk1(assetId, scenarioId)
+        postRisk2(assetId, scenario2Id)
+
+        when: "requesting the first page of values with a residual risk of 3"
+        def firstPage = parseJson(get("/domains/$domainId/risks?unit=$unitId&residualRisk=3&size=1"))
+
+        then: "the value of the second risk definition is returned first"
+        firstPage.items.size() == 1
+        with(firstPage.items.first()) {
+            designator == "RSK-2"
+            riskAffected.id == assetId
+            riskAffected.targetInDomainUri == "http://localhost/domains/$domainId/assets/$assetId"
+            scenario.id == scenario2Id
+            scenario.targetInDomainUri == "http://localhost/domains/$domainId/scenarios/$scenario2Id"
+            riskDefinitionId == "r2d2"
+            category == "D"
+            impact == 3
+            residualRisk == 3
+        }
+        firstPage.nextCursor != null
+
+        when: "requesting the next page"
+        def secondPage = parseJson(get("/domains/$domainId/risks?unit=$unitId&residualRisk=3&size=1&cursor=$firstPage.nextCursor"))
+
+        then: "the calculated value of the first risk definition is returned"
+        secondPage.items.size() == 1
+        with(secondPage.items.first()) {
+            designator == "RSK-2"
+            riskDefinitionId == "r1d1"
+            category == "D"
+            probability == 2
+            impact == 3
+            inherentRisk == 3
+            residualRisk == 3
+        }
+        secondPage.nextCursor == null
+
+        when: "filtering by risk definition and category"
+        def r2d2Values = parseJson(get("/domains/$domainId/risks?riskDefinition=r2d2&category=D")).items
+
+        then: "the values of both risks are ordered by residual risk"
+        r2d2Values*.designator == ["RSK-2", "RSK-1"]
+        r2d2Values*.residualRisk == [3, 0]
+
+        when: "filtering by inherent risk"
+        def inherentValues = parseJson(get("/domains/$domainId/risks?inherentRisk=3")).items
+
+        then:
+        inherentValues*.designator == ["RSK-2"]
+        inherentValues*.riskDefinitionId == ["r1d1"]
+
+        when: "adding a risk without risk values"
+        def scenario3Id = scenarioRepository.save(newScenario(unit) {
+            associateWithDomain(domain, "NormalScenario", "NEW")
+        }).idAsString
+        post("/assets/$assetId/risks", [
+            domains : [
+                (domainId): [
+                    reference      : [targetUri: "http://localhost/domains/$domainId"],
+                    riskDefinitions: [:]
+                ]
+            ],
+            scenario: [targetUri: "http://localhost/scenarios/$scenario3Id"]
+        ])
+        def allValues = parseJson(get("/domains/$domainId/risks")).items
+
+        then: "it is not listed"
+        !allValues.any { it.scenario.id == scenario3Id }
+        allValues*.designator.toSet() == ["RSK-1", "RSK-2"] as Set
+
+        when: "requesting values of an unknown risk definition"
+        get("/domains/$domainId/risks?riskDefinition=absentRd", 404)
+
+        then:
+        thrown(NotFoundException)
+    }
+
     private postRisk2(String assetId, String scenario2Id) {
         post("/assets/$assetId/risks", [
             domains : [
@@ -0,0 +1,78 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.rest
+
+import static groovy.json.JsonOutput.toJson
+import static org.springframework.http.MediaType.APPLICATION_JSON
+
+import org.springframework.security.test.context.support.WithUserDetails
+import org.springframework.test.context.TestPropertySource
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders
+
+import org.veo.core.VeoMvcSpec
+
+@WithUserDetails("user@domain.example")
+@TestPropertySource(properties = [
+    "veo.element-operations.chunk-size=1",
+    "veo.element-operations.max-operations=2"
+])
+class BulkElementOperationsMvcITSpec extends VeoMvcSpec {
+
+    String domainId
+    String unitId
+
+    def setup() {
+        def client = createTestClient()
+        domainId = createTestDomain(client, TEST_DOMAIN_TEMPLATE_ID).idAsString
+        unitId = unitDataRepository.save(newUnit(client)).idAsString
+    }
+
+    def "operations are saved in chunks"() {
+        when:
+        def results = parseJson(saveAssets(2, 200))
+
+        then:
+        results*.status == [201, 201]
+        parseJson(get("/domains/$domainId/assets")).items*.name ==~ ["asset 1", "asset 2"]
+    }
+
+    def "too many operations are rejected"() {
+        when:
+        saveAssets(3, 400)
+
+        then:
+        def ex = thrown(IllegalArgumentException)
+        ex.message == "Too many operations (3), at most 2 are allowed per request"
+        parseJson(get("/domains/$domainId/assets")).items.empty
+    }
+
+    private saveAssets(int count, int expectedStatus) {
+        doRequest(MockMvcRequestBuilders.post("/domains/$domainId/assets/bulk")
+                .contentType(APPLICATION_JSON)
+                .content(toJson((1..count).collect {
+                    [
+                        element: [
+                            name: "asset $it",
+                            owner: [targetUri: "/units/$unitId"],
+                            subType: "Server",
+                            status: "RUNNING",
+                        ]
+                    ]
+                })), expectedStatus)
+    }
+}
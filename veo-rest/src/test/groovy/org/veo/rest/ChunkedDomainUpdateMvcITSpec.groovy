@@ -0,0 +1,221 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.rest
+
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.security.test.context.support.WithUserDetails
+import org.springframework.test.context.TestPropertySource
+
+import com.github.zafarkhaja.semver.Version
+
+import org.veo.core.VeoMvcSpec
+import org.veo.core.entity.Client
+import org.veo.core.entity.ElementType
+import org.veo.core.entity.Unit
+import org.veo.core.entity.definitions.attribute.BooleanAttributeDefinition
+import org.veo.core.entity.definitions.attribute.IntegerAttributeDefinition
+import org.veo.core.usecase.domain.MigrateDomainElementsUseCase
+import org.veo.rest.security.NoRestrictionAccessRight
+
+import spock.util.concurrent.PollingConditions
+
+@WithUserDetails("user@domain.example")
+@TestPropertySource(properties = "veo.domain-update.page-size=2")
+class ChunkedDomainUpdateMvcITSpec extends VeoMvcSpec {
+
+    @Autowired
+    MigrateDomainElementsUseCase migrateDomainElementsUseCase
+
+    def conditions = new PollingConditions(timeout: 10)
+
+    Client client
+    Unit unit
+    String oldDomainId
+
+    def setup() {
+        executeInTransaction {
+            client = createTestClient()
+            def oldDomain = createTestDomain(client, DSGVO_DOMAINTEMPLATE_UUID)
+            createTestDomainTemplate(DSGVO_DOMAINTEMPLATE_V2_UUID)
+            unit = unitDataRepository.save(newUnit(client) {
+                addToDomains(oldDomain)
+            })
+            oldDomainId = oldDomain.idAsString
+        }
+    }
+
+    def "domain with more elements than fit on a page is migrated in chunks"() {
+        given: "more assets than fit on two pages"
+        def assetIds = createAssets(5)
+
+        when: "updating to the new domain template"
+        def jobId = parseJson(post("/domains/$oldDomainId/update?template=$DSGVO_DOMAINTEMPLATE_V2_UUID", null, 202)).resourceId
+
+        then: "the update job completes in the background"
+        def job = awaitJob(oldDomainId, jobId)
+        job.state == "COMPLETED"
+        job.validatedPages == 3
+        job.migratedElements == 5
+        def newDomainId = job.newDomainId
+
+        and: "all assets have been moved to the new domain"
+        assetIds.collect { parseJson(get("/assets/$it")).domains }.every {
+            it.keySet() == [newDomainId] as Set
+                    && it[newDomainId].subType == "AST_Datatype"
+                    && it[newDomainId].status == "NEW"
+        }
+
+        and: "the unit only uses the new domain"
+        executeInTransaction {
+            unitDataRepository.findById(unit.id).get().domains*.idAsString
+        } ==~ [newDomainId]
+
+        and: "the old domain has been deactivated"
+        !domainDataRepository.findById(UUID.fromString(oldDomainId)).get().active
+    }
+
+    def "interrupted update is resumed"() {
+        given: "an update that has been interrupted after the first chunk"
+        def assetIds = createAssets(5)
+        executeInTransaction {
+            migrateDomainElementsUseCase.execute(
+                    new MigrateDomainElementsUseCase.InputData(UUID.fromString(oldDomainId), DSGVO_DOMAINTEMPLATE_V2_UUID, 2),
+                    NoRestrictionAccessRight.from(client.idAsString))
+        }
+
+        when: "requesting the same update again"
+        def jobId = parseJson(post("/domains/$oldDomainId/update?template=$DSGVO_DOMAINTEMPLATE_V2_UUID", null, 202)).resourceId
+        def job = awaitJob(oldDomainId, jobId)
+
+        then: "the remaining assets have been migrated to the same new domain"
+        job.state == "COMPLETED"
+        job.migratedElements == 3
+        assetIds.collect { parseJson(get("/assets/$it")).domains.keySet() }.every {
+            it == [job.newDomainId] as Set
+        }
+        !domainDataRepository.findById(UUID.fromString(oldDomainId)).get().active
+    }
+
+    def "conflicts on a later page fail the update without changing anything"() {
+        given: "assets in two domains that share a custom aspect"
+        def domainAId, domainBId
+        List<String> assetIds
+        executeInTransaction {
+            def templateA = domainTemplateDataRepository.save(newDomainTemplate {
+                name = "AnimalProtection"
+                templateVersion = Version.parse("1.0.0")
+                applyElementTypeDefinition(newElementTypeDefinition(ElementType.ASSET, it) {
+                    subTypes.Pet = newSubTypeDefinition {}
+                    customAspects.movement = newCustomAspectDefinition {
+                        attributeDefinitions.numberOfLegs = new IntegerAttributeDefinition()
+                        attributeDefinitions.hasWings = new BooleanAttributeDefinition()
+                    }
+                })
+            })
+            def templateB = domainTemplateDataRepository.save(newDomainTemplate {
+                name = "EnvironmentProtection"
+                templateVersion = Version.parse("1.0.0")
+                applyElementTypeDefinition(newElementTypeDefinition(ElementType.ASSET, it) {
+                    subTypes.Animal = newSubTypeDefinition {}
+                    customAspects.movement = newCustomAspectDefinition {
+                        attributeDefinitions.numberOfLegs = new IntegerAttributeDefinition()
+                    }
+                })
+            })
+            def domainA = createTestDomain(client, templateA.id)
+            def domainB = createTestDomain(client, templateB.id)
+            def animalUnit = unitDataRepository.save(newUnit(client) {
+                addToDomains([domainA, domainB] as Set)
+            })
+
+            assetIds = (1..5).collect {
+                assetDataRepository.save(newAsset(animalUnit) {
+                    associateWithDomain(domainA, "Pet", "NEW")
+                    associateWithDomain(domainB, "Animal", "NEW")
+                    applyCustomAspectAttribute(domainA, "movement", "numberOfLegs", 4)
+                    applyCustomAspectAttribute(domainB, "movement", "numberOfLegs", 4)
+                }).idAsString
+            }.sort()
+            domainAId = domainA.idAsString
+            domainBId = domainB.idAsString
+        }
+
+        and: "deviating values for the asset on the last page"
+        executeInTransaction {
+            def domainB = domainDataRepository.findById(UUID.fromString(domainBId)).get()
+            assetDataRepository.findById(UUID.fromString(assetIds.last())).get().with {
+                applyCustomAspectAttribute(domainB, "movement", "numberOfLegs", 2)
+                assetDataRepository.save(it)
+            }
+        }
+
+        and: "a new template version sharing the custom aspect with the other domain"
+        def newTemplateId = executeInTransaction {
+            domainTemplateDataRepository.save(newDomainTemplate {
+                name = "EnvironmentProtection"
+                templateVersion = Version.parse("1.1.0")
+                applyElementTypeDefinition(newElementTypeDefinition(ElementType.ASSET, it) {
+                    subTypes.Animal = newSubTypeDefinition {}
+                    customAspects.movement = newCustomAspectDefinition {
+                        attributeDefinitions.numberOfLegs = new IntegerAttributeDefinition()
+                        attributeDefinitions.hasWings = new BooleanAttributeDefinition()
+                    }
+                })
+            }).id
+        }
+
+        when: "updating the domain"
+        def jobId = parseJson(post("/domains/$domainBId/update?template=$newTemplateId", null, 202)).resourceId
+        def job = awaitJob(domainBId, jobId)
+
+        then: "the job has failed with the conflicted asset from the last page"
+        job.state == "FAILED"
+        job.validatedPages == 3
+        job.migratedElements == 0
+        job.failure.conflictedElementsByUnit*.elements*.id.flatten() == [assetIds.last()]
+
+        and: "the old domain is still in use"
+        domainDataRepository.findById(UUID.fromString(domainBId)).get().active
+        parseJson(get("/assets/${assetIds.first()}")).domains.keySet() == [domainAId, domainBId] as Set
+    }
+
+    def "unknown update jobs are not found"() {
+        expect:
+        get("/domains/$oldDomainId/updates/${UUID.randomUUID()}", 404)
+    }
+
+    private List<String> createAssets(int count) {
+        (1..count).collect { i ->
+            parseJson(post("/domains/$oldDomainId/assets", [
+                name: "asset $i",
+                subType: "AST_Datatype",
+                status: "NEW",
+                owner: [targetUri: "/units/${unit.id}"]
+            ])).resourceId
+        }
+    }
+
+    private Map awaitJob(String domainId, String jobId) {
+        Map job = null
+        conditions.eventually {
+            job = parseJson(get("/domains/$domainId/updates/$jobId"))
+            assert job.finished
+        }
+        job
+    }
+}
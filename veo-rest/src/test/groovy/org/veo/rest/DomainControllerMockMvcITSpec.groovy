@@ -17,9 +17,15 @@
  */
 package org.veo.rest
 
+import java.util.zip.GZIPInputStream
+
 import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.http.HttpHeaders
+import org.springframework.http.MediaType
 import org.springframework.security.test.context.support.WithUserDetails
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders
 import org.springframework.transaction.support.TransactionTemplate
+import org.springframework.web.bind.MethodArgumentNotValidException
 
 import org.veo.core.entity.Client
 import org.veo.core.entity.Domain
@@ -246,6 +252,47 @@ class DomainControllerMockMvcITSpec extends ContentSpec {
         }
     }
 
+    @WithUserDetails("content-creator")
+    def "domain export is cached until the domain changes"() {
+        when: "exporting the domain twice"
+        def firstResult = get("/domains/${completeDomain.idAsString}/export")
+        def eTag = getETag(firstResult)
+        def secondResult = get("/domains/${completeDomain.idAsString}/export")
+
+        then: "the same content is returned"
+        eTag != null
+        getETag(secondResult) == eTag
+        parseJson(secondResult) == parseJson(firstResult)
+
+        and: "a conditional request is answered with 304"
+        mvc.perform(MockMvcRequestBuilders.get("/domains/${completeDomain.idAsString}/export")
+                .accept(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andReturn().response.status == 304
+
+        when: "requesting a gzip-encoded export"
+        def gzipResponse = get("/domains/${completeDomain.idAsString}/export", [(HttpHeaders.ACCEPT_ENCODING): "gzip"]).andReturn().response
+
+        then: "the compressed artifact is sent"
+        gzipResponse.getHeader(HttpHeaders.CONTENT_ENCODING) == "gzip"
+        parseJson(new GZIPInputStream(new ByteArrayInputStream(gzipResponse.contentAsByteArray)).getText("UTF-8")) == parseJson(firstResult)
+
+        when: "gzip is explicitly refused"
+        def refusedResponse = get("/domains/${completeDomain.idAsString}/export", [(HttpHeaders.ACCEPT_ENCODING): "gzip;q=0, identity"]).andReturn().response
+
+        then: "the export is sent uncompressed"
+        refusedResponse.getHeader(HttpHeaders.CONTENT_ENCODING) == null
+        parseJson(refusedResponse.contentAsString) == parseJson(firstResult)
+
+        when: "the domain is modified"
+        delete("/content-creation/domains/${completeDomain.idAsString}/risk-definitions/id1")
+        def result = get("/domains/${completeDomain.idAsString}/export")
+
+        then: "the export is rebuilt"
+        getETag(result) != eTag
+        parseJson(result).riskDefinitions.id1 == null
+    }
+
     @WithUserDetails("user@domain.example")
     def "get all Profiles and items"() {
         when: "get the profiles"
@@ -362,6 +409,69 @@ class DomainControllerMockMvcITSpec extends ContentSpec {
         }
     }
 
+    @WithUserDetails("user@domain.example")
+    def "load multiple elements by ID"() {
+        given: 'persons in two domains'
+        def client = testDomain.owner
+        def (team, employee, otherDomainTeam) = executeInTransaction {
+            def unit = unitDataRepository.save(newUnit(client))
+            [
+                personDataRepository.save(newPerson(unit) {
+                    name = "team"
+                    associateWithDomain(testDomain, 'Team', 'NEW')
+                }),
+                personDataRepository.save(newPerson(unit) {
+                    name = "employee"
+                    associateWithDomain(testDomain, 'Employee', 'NEW')
+                }),
+                personDataRepository.save(newPerson(unit) {
+                    associateWithDomain(secondDomain, 'Team', 'NEW')
+                }),
+            ]*.idAsString
+        }
+        def randomId = UUID.randomUUID().toString()
+        def url = "/domains/${testDomain.idAsString}/elements/lookup"
+        def ids = [employee, randomId, team, otherDomainTeam]
+
+        when: "loading them"
+        def result = parseJson(post(url, [ids: ids], 200))
+
+        then: "elements in the domain are returned in the requested order"
+        result*.id == [employee, randomId, team, otherDomainTeam]
+        result*.status == [200, 404, 200, 404]
+        result[0].element.name == "employee"
+        result[0].element.subType == "Employee"
+        result[0].element._self == "http://localhost/domains/${testDomain.idAsString}/persons/$employee"
+        result[0].eTag == getETag(get("/domains/${testDomain.idAsString}/persons/$employee"))
+        result[2].element.name == "team"
+
+        when: "passing a known ETag"
+        def knownETag = result[0].eTag
+        result = parseJson(post(url, [ids: ids, knownETags: [knownETag]], 200))
+
+        then: "the known element is not transformed"
+        result*.status == [304, 404, 200, 404]
+        result[0].element == null
+
+        when: "passing the known ETag in upper case and without quotes"
+        result = parseJson(post(url, [ids: ids, knownETags: [knownETag.replace('"', '').toUpperCase()]], 200))
+
+        then: "it still matches"
+        result*.status == [304, 404, 200, 404]
+
+        when: "filtering by type"
+        result = parseJson(post(url, [ids: [employee], elementTypes: ["asset"]], 200))
+
+        then:
+        result*.status == [404]
+
+        when: "requesting too many elements"
+        post(url, [ids: (1..501).collect { UUID.randomUUID() }], 400)
+
+        then:
+        thrown(MethodArgumentNotValidException)
+    }
+
     @WithUserDetails("user@domain.example")
     def "retrieve element statistics for a unit with invalid elements"() {
         given:
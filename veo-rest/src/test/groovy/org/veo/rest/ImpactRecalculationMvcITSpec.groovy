@@ -0,0 +1,95 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.rest
+
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.security.test.context.support.WithUserDetails
+import org.springframework.test.context.TestPropertySource
+
+import org.veo.core.VeoMvcSpec
+import org.veo.core.entity.Domain
+import org.veo.core.entity.Unit
+import org.veo.core.entity.risk.CategoryRef
+import org.veo.core.entity.risk.ImpactRef
+import org.veo.core.entity.risk.ImpactValues
+import org.veo.core.entity.risk.RiskDefinitionRef
+import org.veo.listeners.UnitImpactRecalculator
+
+import spock.util.concurrent.PollingConditions
+
+@WithUserDetails("admin")
+@TestPropertySource(properties = "veo.impact-inheritance.recalculation.async=true")
+class ImpactRecalculationMvcITSpec extends VeoMvcSpec {
+
+    @Autowired
+    UnitImpactRecalculator unitImpactRecalculator
+
+    def conditions = new PollingConditions(timeout: 10)
+
+    Domain domain
+    Unit unit
+
+    def setup() {
+        def client = createTestClient()
+        domain = createTestDomain(client, DSGVO_DOMAINTEMPLATE_UUID)
+        unit = unitDataRepository.save(newUnit(client) {
+            addToDomains(domain)
+        })
+    }
+
+    def "impacts are recalculated in the background"() {
+        given: "an asset that inherits the impact of another one"
+        def riskDefinition = domain.riskDefinitions.DSRA
+        def riskDefinitionRef = RiskDefinitionRef.from(riskDefinition)
+        def confidentialityRef = CategoryRef.from(riskDefinition.getCategory("C").orElseThrow())
+        def impact = ImpactRef.from(riskDefinition.getCategory("C").orElseThrow().getLevel(2).orElseThrow())
+        def targetId = executeInTransaction {
+            def target = assetDataRepository.save(newAsset(unit) {
+                associateWithDomain(domain, "AST_Application", "NEW")
+            })
+            assetDataRepository.save(newAsset(unit) {
+                associateWithDomain(domain, "AST_Application", "NEW")
+                setImpactValues(domain, [(riskDefinitionRef): new ImpactValues([(confidentialityRef): impact])])
+                applyLink(newCustomLink(target, "asset_asset_app", domain))
+            })
+            target.id
+        }
+
+        when: "submitting a recalculation of the unit"
+        def jobId = unitImpactRecalculator.submit(unit.id, null).id.toString()
+
+        then: "the job completes in the background"
+        conditions.eventually {
+            with(parseJson(get("/admin/impact-recalculations?unitId=${unit.idAsString}")).find { it.id == jobId }) {
+                state == "COMPLETED"
+                components == 1
+                processedComponents == 1
+                failedComponents == 0
+                changedElements == 1
+                finishedAt != null
+            }
+        }
+
+        and: "the inherited impact has been saved"
+        executeInTransaction {
+            assetDataRepository.findById(targetId).get()
+                    .getImpactValues(domain, riskDefinitionRef).get()
+                    .potentialImpactsCalculated[confidentialityRef]
+        } == impact
+    }
+}
@@ -212,6 +212,46 @@ class LinkingMvcITSpec extends VeoMvcSpec {
         }
     }
 
+    def "pages through links with a cursor"() {
+        given: "a scope with three inbound links"
+        def scopeId = parseJson(post("/domains/$domainId/scopes", [
+            name: "popular scope",
+            subType: "Normal",
+            status: "NEW",
+            owner: [targetUri: "http://localhost/units/$unitId"],
+        ])).resourceId
+        (1..3).each { i ->
+            post("/domains/$domainId/persons", [
+                name: "person $i",
+                subType: "Normal",
+                status: "NEW",
+                owner: [targetUri: "http://localhost/units/$unitId"],
+                links: [
+                    favScope: [
+                        [target: [targetUri: "/scopes/$scopeId"]]
+                    ]
+                ],
+            ])
+        }
+
+        when: "reading the first page"
+        def firstPage = parseJson(get("/domains/$domainId/elements/$scopeId/links?size=2&sortBy=LINKED_ELEMENT_NAME&sortOrder=desc"))
+
+        then:
+        firstPage.items*.linkedElement*.name == ["person 3", "person 2"]
+        firstPage.totalItemCount == 3
+        firstPage.nextCursor != null
+
+        when: "continuing without counting"
+        def secondPage = parseJson(get("/domains/$domainId/elements/$scopeId/links?size=2&sortBy=LINKED_ELEMENT_NAME&sortOrder=desc&countTotal=false&cursor=$firstPage.nextCursor"))
+
+        then:
+        secondPage.items*.linkedElement*.name == ["person 1"]
+        secondPage.items[0].linkedElement.subType == "Normal"
+        secondPage.totalItemCount == null
+        secondPage.nextCursor == null
+    }
+
     def "link target type is validated"() {
         given:
         def normalPersonId = parseJson(post("/domains/$domainId/persons", [
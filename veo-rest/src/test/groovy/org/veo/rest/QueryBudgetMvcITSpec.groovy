@@ -0,0 +1,191 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.rest
+
+import static org.veo.test.QueryBudget.assertBudget
+import static org.veo.test.QueryBudget.measure
+
+import org.springframework.security.test.context.support.WithUserDetails
+
+import org.veo.core.VeoMvcSpec
+import org.veo.core.entity.Asset
+import org.veo.core.entity.Domain
+import org.veo.core.entity.Scenario
+import org.veo.core.entity.Scope
+import org.veo.core.entity.Unit
+
+/**
+ * Statement budgets for the main read endpoints. Lazy associations are batch-fetched in batches of
+ * 20 (hibernate.default_batch_fetch_size), so listing more elements may cost a few more statements
+ * per batch, but never one or more statements per element. The budgets leave some headroom, they
+ * are meant to catch N+1 problems rather than single additional statements.
+ */
+@WithUserDetails("user@domain.example")
+class QueryBudgetMvcITSpec extends VeoMvcSpec {
+    static final int ASSETS = 500
+    static final int BATCH_SIZE = 20
+    /** Additional statements allowed per batch of 20 elements. */
+    static final int STATEMENTS_PER_BATCH = 3
+
+    private Domain domain
+    private Unit unit
+    private String domainId
+    private String unitId
+    private List<Asset> assets
+    private Asset hub
+    private String riskyProcessId
+    private List<Scope> scopes
+
+    def setup() {
+        executeInTransaction {
+            def client = createTestClient()
+            domain = createTestDomain(client, DSGVO_DOMAINTEMPLATE_UUID)
+            unit = unitDataRepository.save(newUnit(client) {
+                addToDomains(domain)
+            })
+            assets = (1..ASSETS).collect { n ->
+                newAsset(unit) {
+                    name = "asset $n"
+                    associateWithDomain(domain, "AST_Application", "NEW")
+                }
+            }
+            assets.eachWithIndex { asset, i ->
+                if (i > 0) {
+                    asset.applyLink(newCustomLink(assets[i - 1], "asset_asset_app", domain))
+                }
+            }
+            hub = newAsset(unit) {
+                name = "hub"
+                associateWithDomain(domain, "AST_Application", "NEW")
+            }
+            assets.take(100).each { hub.applyLink(newCustomLink(it, "asset_asset_app", domain)) }
+            elementRepository.saveAll(assets + hub)
+
+            def scenarios = (1..10).collect { n ->
+                newScenario(unit) {
+                    name = "scenario $n"
+                    associateWithDomain(domain, "SCN_Scenario", "NEW")
+                }
+            }
+            elementRepository.saveAll(scenarios)
+            def processes = elementRepository.saveAll((1..100).collect { n ->
+                newProcess(unit) {
+                    name = "process $n"
+                    associateWithDomain(domain, "PRO_DataProcessing", "NEW")
+                    scenarios.take(n % 5 + 1).each { Scenario scenario ->
+                        obtainRisk(scenario).tap {
+                            assignDesignator(it)
+                        }
+                    }
+                }
+            })
+            riskyProcessId = processes.find { it.risks.size() == 5 }.idAsString
+            scopes = elementRepository.saveAll((0..<20).collect { n ->
+                newScope(unit) {
+                    name = "scope $n"
+                    associateWithDomain(domain, "SCP_Scope", "NEW")
+                    members = assets.subList(n * 25, n * 25 + 25) as Set
+                }
+            })
+        }
+        domainId = domain.idAsString
+        unitId = unit.idAsString
+    }
+
+    def "listing #type #scope does not load elements one by one"() {
+        given:
+        def url = inDomain ? "/domains/$domainId/$type?unit=$unitId" : "/$type?unit=$unitId"
+
+        when:
+        def small = assertBudget("GET $url with $smallPage items", smallBudget) {
+            get("$url&size=$smallPage")
+        }
+        def large = measure {
+            get("$url&size=$largePage")
+        }
+
+        then:
+        large.total - small.total <= batchAllowance(largePage)
+
+        where:
+        type        | inDomain | smallPage | largePage | smallBudget
+        "assets"    | true     | 20        | ASSETS    | 20
+        "assets"    | false    | 20        | ASSETS    | 20
+        "processes" | true     | 20        | 100       | 25
+        "processes" | false    | 20        | 100       | 25
+        "scopes"    | true     | 5         | 20        | 25
+        "scopes"    | false    | 5         | 20        | 25
+        scope = inDomain ? "in a domain" : "in a unit"
+    }
+
+    def "fetching single elements stays within budget"() {
+        expect:
+        assertBudget("GET asset with 100 links", 20) {
+            get("/domains/$domainId/assets/$hub.idAsString")
+        }
+        assertBudget("GET links of an asset", 20) {
+            get("/domains/$domainId/assets/$hub.idAsString/links?size=100")
+        }
+        assertBudget("GET scope with 25 members", 20) {
+            get("/domains/$domainId/scopes/${scopes.first().idAsString}")
+        }
+        assertBudget("GET risks of a process", 20) {
+            get("/processes/$riskyProcessId/risks")
+        }
+        assertBudget("GET relations of an asset", 25) {
+            get("/domains/$domainId/assets/$hub.idAsString/relations")
+        }
+    }
+
+    def "fetching units and domains stays within budget"() {
+        expect:
+        assertBudget("GET units", 10) {
+            get("/units")
+        }
+        assertBudget("GET unit", 10) {
+            get("/units/$unitId")
+        }
+        assertBudget("GET domain", 30) {
+            get("/domains/$domainId")
+        }
+        assertBudget("GET unit export with ${ASSETS + 131} elements", 40 + batchAllowance(ASSETS + 131)) {
+            get("/units/$unitId/export")
+        }
+    }
+
+    def "saving an element stays within budget"() {
+        expect:
+        assertBudget("POST asset with a link", 40) {
+            post("/domains/$domainId/assets", [
+                name: "new asset",
+                owner: [targetUri: "/units/$unitId"],
+                subType: "AST_Application",
+                status: "NEW",
+                links: [
+                    asset_asset_app: [
+                        [target: [targetUri: "/assets/${assets.first().idAsString}"]]
+                    ]
+                ],
+            ])
+        }
+    }
+
+    private static int batchAllowance(int elements) {
+        Math.ceil(elements / BATCH_SIZE) * STATEMENTS_PER_BATCH as int
+    }
+}
@@ -17,9 +17,12 @@
  */
 package org.veo.rest
 
+import java.time.Instant
+
 import org.springframework.security.test.context.support.WithUserDetails
 
 import org.veo.core.VeoMvcSpec
+import org.veo.core.entity.ClientState
 import org.veo.core.entity.ElementType
 import org.veo.rest.common.ClientNotActiveException
 
@@ -112,6 +115,29 @@ class TranslationControllerMockMvcSpec extends VeoMvcSpec {
         noExceptionThrown()
     }
 
+    @WithUserDetails("user@domain.example")
+    def "translations are revalidated using an ETag"() {
+        given:
+        def domain = createTestDomain(createTestClient(), DSGVO_DOMAINTEMPLATE_UUID)
+        def eTag = getETag(get('/translations?languages=en'))
+
+        expect: "the unchanged translations are not sent again"
+        get('/translations?languages=en', ['If-None-Match': eTag], 304)
+
+        when: "an element type definition is modified"
+        executeInTransaction {
+            domainDataRepository.findById(domain.id).get().with {
+                elementTypeDefinitions.find { it.elementType == ElementType.PERSON }.translations.get(Locale.ENGLISH).'person_contactInformation_office' = 'Office phone'
+                updatedAt = Instant.now()
+            }
+        }
+        def response = get('/translations?languages=en', ['If-None-Match': eTag])
+
+        then: "the modified translations are returned"
+        getETag(response) != eTag
+        parseJson(response).lang.en.person_contactInformation_office == 'Office phone'
+    }
+
     @WithUserDetails("user@domain.example")
     def "get the translation for a non-existing domain"() {
         given:
@@ -182,4 +208,23 @@ class TranslationControllerMockMvcSpec extends VeoMvcSpec {
         then: "no translations are returned"
         thrown(ClientNotActiveException)
     }
+
+    @WithUserDetails("user@domain.example")
+    def "cached translations are not served to a deactivated client"() {
+        given: "cached translations"
+        def client = createTestClient()
+        createTestDomain(client, DSGVO_DOMAINTEMPLATE_UUID)
+        get('/translations?languages=de')
+
+        when: "the client has been deactivated"
+        executeInTransaction {
+            clientRepository.getById(client.id).tap {
+                state = ClientState.DEACTIVATED
+            }
+        }
+        get('/translations?languages=de', 403)
+
+        then:
+        thrown(ClientNotActiveException)
+    }
 }
@@ -21,7 +21,11 @@ import static org.hamcrest.Matchers.emptyOrNullString
 import static org.hamcrest.Matchers.is
 import static org.hamcrest.Matchers.not
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath
+import static org.veo.rest.CompactBinaryHttpMessageConverter.MEDIA_TYPE_CBOR_COMPACT
+import static org.veo.rest.CompactBinaryHttpMessageConverter.MEDIA_TYPE_SMILE_COMPACT
+import static org.veo.rest.CompactJsonHttpMessageConverter.MEDIA_TYPE_JSON_COMPACT
 
+import java.nio.charset.StandardCharsets
 import java.util.concurrent.Callable
 import java.util.concurrent.Executors
 import java.util.concurrent.TimeUnit
@@ -29,6 +33,7 @@ import java.util.concurrent.atomic.AtomicInteger
 
 import org.apache.http.HttpStatus
 import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.http.MediaType
 import org.springframework.http.converter.HttpMessageNotReadableException
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken
 import org.springframework.security.core.Authentication
@@ -38,6 +43,7 @@ import org.springframework.security.core.userdetails.UserDetails
 import org.springframework.security.core.userdetails.UserDetailsService
 import org.springframework.security.test.context.TestSecurityContextHolder
 import org.springframework.security.test.context.support.WithUserDetails
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders
 import org.springframework.transaction.support.TransactionTemplate
 import org.springframework.web.bind.MethodArgumentNotValidException
 
@@ -58,6 +64,8 @@ import org.veo.persistence.access.UnitRepositoryImpl
 import org.veo.rest.common.ClientNotActiveException
 
 import groovy.json.JsonSlurper
+import tools.jackson.dataformat.cbor.CBORMapper
+import tools.jackson.dataformat.smile.SmileMapper
 
 /**
  * Integration test for the unit controller. Uses mocked spring MVC environment.
@@ -651,6 +659,46 @@ class UnitControllerMockMvcITSpec extends VeoMvcSpec {
         }
     }
 
+    @WithUserDetails("user@domain.example")
+    def "export and import a unit in compact binary format #mediaType"() {
+        given:
+        def unit = urepository.save(newUnit(client) {
+            name = "My unit"
+            addToDomains(domain)
+        })
+        (1..50).each { i ->
+            sRepository.save(newScope(unit) {
+                name = "My scope $i"
+                description = "A scope used to compare the export sizes"
+            })
+        }
+
+        when: "exporting the unit as compact JSON and in the binary format"
+        def compactJson = get("/units/${unit.idAsString}/export", 200, MEDIA_TYPE_JSON_COMPACT).andReturn().response.contentAsByteArray
+        def binary = get("/units/${unit.idAsString}/export", 200, mediaType).andReturn().response.contentAsByteArray
+
+        then: "both contain the same data"
+        mapper.readValue(binary, Map) == parseJson(new String(compactJson, StandardCharsets.UTF_8))
+
+        and: "the binary format is smaller"
+        binary.length < compactJson.length
+
+        when: "the binary dump is imported"
+        def result = parseJson(doRequest(MockMvcRequestBuilders.post("/units/import")
+                .contentType(mediaType)
+                .content(binary)
+                .accept(MediaType.APPLICATION_JSON), 201))
+
+        then:
+        result.success
+        parseJson(get("/units/${result.resourceId}")).name == "My unit"
+
+        where:
+        mediaType                | mapper
+        MEDIA_TYPE_SMILE_COMPACT | SmileMapper.builder().build()
+        MEDIA_TYPE_CBOR_COMPACT  | CBORMapper.builder().build()
+    }
+
     @WithUserDetails("user@domain.example")
     def "cannot export a unit from another client"() {
         given:
@@ -0,0 +1,71 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.rest
+
+import static org.springframework.http.MediaType.APPLICATION_JSON
+
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.security.test.context.support.WithUserDetails
+import org.springframework.test.context.TestPropertySource
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders
+
+import org.veo.core.VeoMvcSpec
+import org.veo.core.entity.Client
+import org.veo.core.usecase.TransactionalUseCase
+import org.veo.rest.interactor.UseCaseAdmissionControl
+
+@WithUserDetails("user@domain.example")
+@TestPropertySource(properties = [
+    "veo.admission.read-permits=1",
+    "veo.admission.max-wait=100ms",
+    "veo.admission.retry-after=7s"
+])
+class UseCaseAdmissionMvcITSpec extends VeoMvcSpec {
+
+    @Autowired
+    UseCaseAdmissionControl admissionControl
+
+    Client client
+
+    def setup() {
+        client = createTestClient()
+    }
+
+    def "requests are rejected with 503 while all permits are in use"() {
+        given: "the only read permit is in use"
+        def permit = admissionControl.admit(Stub(TransactionalUseCase) {
+            isReadOnly() >> true
+        }, client.id)
+
+        when: "loading the domains"
+        def asyncResult = mvc.perform(MockMvcRequestBuilders.get("/domains").accept(APPLICATION_JSON)).andReturn()
+        def response = mvc.perform(MockMvcRequestBuilders.asyncDispatch(asyncResult)).andReturn().response
+
+        then: "the request is rejected"
+        response.status == 503
+        response.getHeader("Retry-After") == "7"
+
+        cleanup:
+        permit?.close()
+    }
+
+    def "requests are admitted once a permit is available"() {
+        expect:
+        get("/domains")
+    }
+}
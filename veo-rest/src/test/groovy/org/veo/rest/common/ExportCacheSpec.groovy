@@ -0,0 +1,46 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.rest.common
+
+import spock.lang.Specification
+
+class ExportCacheSpec extends Specification {
+
+    def "gzip acceptance is negotiated from #acceptEncoding"() {
+        expect:
+        ExportCache.acceptsGzip(acceptEncoding) == accepted
+
+        where:
+        acceptEncoding                  | accepted
+        null                            | false
+        ""                              | false
+        "gzip"                          | true
+        "GZIP"                          | true
+        "x-gzip"                        | true
+        "deflate, gzip;q=0.5"           | true
+        "gzip;q=0"                      | false
+        "gzip; q=0.000, identity"       | false
+        "identity"                      | false
+        "*"                             | true
+        "*;q=0"                         | false
+        "*, gzip;q=0"                   | false
+        "gzip;q=0, *"                   | false
+        "br;q=1.0, *;q=0.1"             | true
+        "gzip;q=invalid"                | false
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.rest.common
+
+import org.veo.core.entity.Domain
+import org.veo.core.entity.event.ElementTypeDefinitionUpdateEvent
+
+import spock.lang.Specification
+import tools.jackson.databind.ObjectMapper
+
+class TranslationCacheSpec extends Specification {
+
+    def cache = new TranslationCache(new ObjectMapper(), 2)
+    def clientId = UUID.randomUUID()
+
+    def "least recently used bundles are evicted"() {
+        given:
+        def keyA = key(UUID.randomUUID())
+        def keyB = key(UUID.randomUUID())
+        def keyC = key(UUID.randomUUID())
+
+        when: "caching two bundles and using the first one again"
+        cache.get(keyA, { [a: 1] })
+        cache.get(keyB, { [b: 1] })
+        cache.get(keyA, { [a: 2] })
+
+        and: "caching a third bundle"
+        cache.get(keyC, { [c: 1] })
+
+        then: "the recently used bundle is still cached"
+        content(cache.get(keyA, { [a: 3] })) == '{"a":1}'
+
+        and: "the least recently used bundle has been evicted"
+        content(cache.get(keyB, { [b: 2] })) == '{"b":2}'
+    }
+
+    def "bundles of a modified domain are evicted"() {
+        given:
+        def domainId = UUID.randomUUID()
+        def key = key(domainId)
+        cache.get(key, { [a: 1] })
+
+        when:
+        cache.handle(new ElementTypeDefinitionUpdateEvent(null, Stub(Domain) {
+            getId() >> domainId
+        }))
+
+        then:
+        content(cache.get(key, { [a: 2] })) == '{"a":2}'
+    }
+
+    private static String content(TranslationCache.Bundle bundle) {
+        new String(bundle.content())
+    }
+
+    private TranslationCache.Key key(UUID domainId) {
+        new TranslationCache.Key(clientId, [(domainId): 1L], [Locale.ENGLISH] as Set)
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.rest.interactor
+
+import java.time.Duration
+import java.util.concurrent.CopyOnWriteArrayList
+
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+class FairPermitPoolSpec extends Specification {
+
+    def conditions = new PollingConditions(timeout: 5)
+
+    def "released permits are handed out to clients in turn"() {
+        given:
+        def pool = new FairPermitPool("test", 1)
+        def clientA = UUID.randomUUID()
+        def clientB = UUID.randomUUID()
+        def admitted = new CopyOnWriteArrayList()
+        pool.acquire(clientA, Duration.ZERO)
+
+        when: "client A queues two requests before client B queues one"
+        [
+            [clientA, "a1"],
+            [clientA, "a2"],
+            [clientB, "b1"]
+        ].eachWithIndex { request, i ->
+            Thread.startVirtualThread {
+                if (pool.acquire(request[0], Duration.ofSeconds(10))) {
+                    admitted << request[1]
+                }
+            }
+            conditions.eventually {
+                assert pool.queued == i + 1
+            }
+        }
+
+        and:
+        3.times {
+            pool.release()
+            conditions.eventually {
+                assert admitted.size() == it + 1
+            }
+        }
+
+        then:
+        admitted == ["a1", "b1", "a2"]
+        pool.queued == 0
+        pool.available == 0
+    }
+
+    def "waiting for a permit times out"() {
+        given:
+        def pool = new FairPermitPool("test", 1)
+        pool.acquire(UUID.randomUUID(), Duration.ZERO)
+
+        expect:
+        !pool.acquire(UUID.randomUUID(), Duration.ofMillis(10))
+        pool.queued == 0
+
+        when:
+        pool.release()
+
+        then:
+        pool.available == 1
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.rest.interactor
+
+import java.time.Duration
+
+import org.veo.core.usecase.TransactionalUseCase
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import spock.lang.Specification
+
+class UseCaseAdmissionControlSpec extends Specification {
+
+    def "permits are derived from the connection pool size"() {
+        expect:
+        UseCaseAdmissionControl.Permits.of(poolSize, read, write) == new UseCaseAdmissionControl.Permits(expectedRead, expectedWrite)
+
+        where:
+        poolSize | read | write || expectedRead | expectedWrite
+        10       | 0    | 0     || 6            | 3
+        2        | 0    | 0     || 1            | 1
+        30       | 0    | 0     || 20           | 9
+        10       | 7    | 0     || 7            | 3
+        10       | 0    | 5     || 4            | 5
+        10       | 8    | 2     || 8            | 2
+    }
+
+    def "permits must not exceed the connection pool size"() {
+        when:
+        UseCaseAdmissionControl.Permits.of(10, 8, 4)
+
+        then:
+        def ex = thrown(IllegalStateException)
+        ex.message == "8 read and 4 write permits exceed the database connection pool size of 10"
+    }
+
+    def "use cases are rejected if no permit becomes available"() {
+        given:
+        def admissionControl = new UseCaseAdmissionControl(new SimpleMeterRegistry(), 3, 1, 1, Duration.ofMillis(50), Duration.ofSeconds(7))
+        def readUseCase = Stub(TransactionalUseCase) {
+            isReadOnly() >> true
+        }
+        def writeUseCase = Stub(TransactionalUseCase) {
+            isReadOnly() >> false
+        }
+        def clientId = UUID.randomUUID()
+        def permit = admissionControl.admit(readUseCase, clientId)
+
+        when:
+        admissionControl.admit(readUseCase, clientId)
+
+        then:
+        def ex = thrown(UseCaseRejectedException)
+        ex.retryAfter == Duration.ofSeconds(7)
+
+        when: "a write use case uses the other pool"
+        admissionControl.admit(writeUseCase, clientId).close()
+
+        then:
+        notThrown(UseCaseRejectedException)
+
+        when: "the read permit is released"
+        permit.close()
+        admissionControl.admit(readUseCase, clientId).close()
+
+        then:
+        notThrown(UseCaseRejectedException)
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.rest.interactor
+
+import org.veo.core.usecase.UseCase
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import spock.lang.Specification
+
+class UseCaseMetricsSpec extends Specification {
+
+    def meterRegistry = new SimpleMeterRegistry()
+    def useCaseMetrics = new UseCaseMetrics(meterRegistry)
+
+    def "executions are timed by use case and outcome"() {
+        given:
+        def useCase = Mock(UseCase)
+        def name = useCase.getClass().simpleName
+
+        when:
+        def result = useCaseMetrics.measure(useCase, true) { "result" }
+
+        then:
+        result == "result"
+        meterRegistry.get("veo.usecase.execution")
+                .tags("usecase", name, "readOnly", "true", "outcome", "success")
+                .timer().count() == 1
+        meterRegistry.get("veo.usecase.jdbc.statements").tags("usecase", name)
+                .summary().count() == 1
+
+        when:
+        useCaseMetrics.measure(useCase, false) { throw new IllegalStateException() }
+
+        then:
+        thrown(IllegalStateException)
+        meterRegistry.get("veo.usecase.execution")
+                .tags("usecase", name, "outcome", "failure", "exception", "IllegalStateException")
+                .timer().count() == 1
+    }
+}
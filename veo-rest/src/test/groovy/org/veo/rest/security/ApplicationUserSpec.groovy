@@ -17,6 +17,8 @@
  */
 package org.veo.rest.security
 
+import java.time.Instant
+
 import org.springframework.security.oauth2.jwt.Jwt
 
 import spock.lang.Specification
@@ -43,4 +45,29 @@ public class ApplicationUserSpec extends Specification {
         Exception e = thrown()
         e.message =~ /Expected 1 client/
     }
+
+    def "A user is resolved once per token"() {
+        given:
+        def clientId = UUID.randomUUID()
+        def unitId = UUID.randomUUID()
+        def jwt = { String id ->
+            new Jwt.Builder('foo')
+                    .header('Foo', 'Bar')
+                    .jti(id)
+                    .expiresAt(Instant.now().plusSeconds(300))
+                    .claim('groups', "/veo_client:$clientId")
+                    .claim('unit_read_access', [unitId.toString()])
+                    .build()
+        }
+        def tokenId = UUID.randomUUID().toString()
+
+        when:
+        def user = ApplicationUser.authenticatedUser(jwt(tokenId))
+
+        then:
+        user.clientId == clientId
+        user.readableUnitIds == [unitId] as Set
+        ApplicationUser.authenticatedUser(jwt(tokenId)).is(user)
+        !ApplicationUser.authenticatedUser(jwt(UUID.randomUUID().toString())).is(user)
+    }
 }
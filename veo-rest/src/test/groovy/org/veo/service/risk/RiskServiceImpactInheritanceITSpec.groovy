@@ -39,6 +39,8 @@ import org.veo.core.entity.risk.RiskDefinitionRef
 import org.veo.core.entity.riskdefinition.CategoryDefinition
 import org.veo.core.entity.riskdefinition.CategoryLevel
 import org.veo.core.entity.riskdefinition.RiskDefinition
+import org.veo.listeners.ImpactRecalculationJob
+import org.veo.listeners.UnitImpactRecalculator
 
 import groovy.util.logging.Slf4j
 import net.ttddyy.dsproxy.QueryCountHolder
@@ -55,6 +57,9 @@ class RiskServiceImpactInheritanceITSpec extends AbstractPerformanceITSpec  {
     @Autowired
     ImpactInheritanceCalculator impactInheritanceCalculator
 
+    @Autowired
+    UnitImpactRecalculator unitImpactRecalculator
+
     Client client
     Domain domain
     Domain secondDomain
@@ -1552,6 +1557,48 @@ class RiskServiceImpactInheritanceITSpec extends AbstractPerformanceITSpec  {
         }
     }
 
+    def "recalculate the independent components of a unit"() {
+        given: "two unconnected chains"
+        def a1 = assetDataRepository.save(newAsset(unit) {
+            name = "a1"
+            associateWithDomain(domain, "AST_Application", "NEW")
+            setImpactValues(domain, impactValues0)
+        })
+        def a2 = buildAssetListOpposite(a1, unit, domain,"a2",impactValuesEmpty)
+        def b1 = assetDataRepository.save(newAsset(unit) {
+            name = "b1"
+            associateWithDomain(domain, "AST_Application", "NEW")
+            setImpactValues(domain, impactValues3)
+        })
+        def b2 = buildAssetListOpposite(b1, unit, domain,"b2",impactValuesEmpty)
+        def b3 = buildAssetListOpposite(b2, unit, domain,"b3",impactValuesEmpty)
+
+        when: "we recalculate the unit"
+        def job = unitImpactRecalculator.recalculate(unit.id, domain.id)
+
+        then: "each chain is processed as a component"
+        with(job) {
+            state == ImpactRecalculationJob.State.COMPLETED
+            components == 2
+            processedComponents == 2
+            failedComponents == 0
+            changedElements == 3
+            finishedAt != null
+        }
+        unitImpactRecalculator.jobs.first() == job
+
+        and: "the calculated impacts have been saved"
+        executeInTransaction {
+            [a2, b2, b3].collect {
+                assetDataRepository.findById(it.id).get().getImpactValues(domain, riskDefinitionRef).get().potentialImpactsCalculated
+            }
+        } == [
+            impactValues0.get(riskDefinitionRef).potentialImpacts,
+            impactValues3.get(riskDefinitionRef).potentialImpacts,
+            impactValues3.get(riskDefinitionRef).potentialImpacts
+        ]
+    }
+
     private void listLinks(Element a) {
         a.links.forEach{
             log.debug("{}->{}", it.source.designator,it.target.designator)
@@ -0,0 +1,95 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.test
+
+import net.ttddyy.dsproxy.QueryCount
+import net.ttddyy.dsproxy.QueryCountHolder
+import net.ttddyy.dsproxy.listener.SingleQueryCountHolder
+
+/**
+ * Counts the SQL statements executed through the data source proxy (see {@code
+ * DataSourceProxyBeanPostProcessor}, active in the "test" profile) and asserts statement budgets for
+ * operations. Use cases are executed on other threads than the test, so statements of all threads
+ * are counted while an operation is running. Operations must therefore not run concurrently with
+ * other database work.
+ */
+class QueryBudget {
+
+    /** Runs the given operation and returns the statements it executed. */
+    static StatementCount measure(Closure<?> operation) {
+        synchronized (QueryBudget) {
+            def previousStrategy = QueryCountHolder.queryCountStrategy
+            def holder = new SingleQueryCountHolder()
+            QueryCountHolder.queryCountStrategy = holder
+            try {
+                operation.call()
+            } finally {
+                QueryCountHolder.queryCountStrategy = previousStrategy
+            }
+            StatementCount.of(holder.queryCountMap.values())
+        }
+    }
+
+    /**
+     * Runs the given operation and fails if it executed more than the given number of statements.
+     *
+     * @return the statements executed by the operation
+     */
+    static StatementCount assertBudget(String operation, int maxStatements, Closure<?> action) {
+        def count = measure(action)
+        if (count.total > maxStatements) {
+            throw new AssertionError(
+            "$operation executed $count.total statements ($count), budget is $maxStatements" as String)
+        }
+        count
+    }
+
+    static class StatementCount {
+        final long select
+        final long insert
+        final long update
+        final long delete
+        final long other
+
+        private StatementCount(long select, long insert, long update, long delete, long other) {
+            this.select = select
+            this.insert = insert
+            this.update = update
+            this.delete = delete
+            this.other = other
+        }
+
+        static StatementCount of(Collection<QueryCount> counts) {
+            new StatementCount(
+                    counts*.select.sum(0L) as long,
+                    counts*.insert.sum(0L) as long,
+                    counts*.update.sum(0L) as long,
+                    counts*.delete.sum(0L) as long,
+                    counts*.other.sum(0L) as long)
+        }
+
+        long getTotal() {
+            select + insert + update + delete + other
+        }
+
+        @Override
+        String toString() {
+            "select: $select, insert: $insert, update: $update, delete: $delete, other: $other"
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.test.dataset
+
+import org.veo.core.entity.ElementType
+
+/**
+ * Write operations used by {@link UnitDatasetGenerator}. Implementations send the given payloads to
+ * the respective REST endpoints, so the dataset is created through the regular use cases.
+ */
+interface DatasetApi {
+    /**
+     * Creates new elements from the viewpoint of the generator's domain.
+     *
+     * @return the IDs of the created elements, in the order of the given payloads
+     */
+    List<String> createElements(ElementType type, List<Map> elements)
+
+    void addLinks(ElementType type, String elementId, Map links)
+
+    void createRisk(ElementType type, String elementId, Map risk)
+}
@@ -0,0 +1,87 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.test.dataset
+
+import org.veo.core.entity.ElementType
+
+/**
+ * Shape of a synthetic unit created by {@link UnitDatasetGenerator}. Two runs with equal parameters
+ * against the same domain produce the same unit content (apart from IDs and designators).
+ */
+class DatasetParameters {
+    long seed = 42
+
+    /** Number of elements to create per element type, including composites and scopes. */
+    Map<ElementType, Integer> elementCounts = [
+        (ElementType.ASSET): 4000,
+        (ElementType.CONTROL): 3000,
+        (ElementType.DOCUMENT): 1000,
+        (ElementType.INCIDENT): 500,
+        (ElementType.PERSON): 2000,
+        (ElementType.PROCESS): 4000,
+        (ElementType.SCENARIO): 1500,
+        (ElementType.SCOPE): 500,
+    ]
+
+    /** Average number of custom links per element, only link types defined in the domain are used. */
+    double linksPerElement = 2
+
+    /** Number of composite levels above the leaf elements (0 for a flat unit). */
+    int hierarchyDepth = 3
+
+    /** Number of parts of a composite (or scopes contained in a scope) on the next lower level. */
+    int partsPerComposite = 5
+
+    /** Number of non-scope elements assigned to each scope on the lowest scope level. */
+    int membersPerScope = 20
+
+    /** Share of custom aspect attributes (and potential impact categories) that receive a value. */
+    double fillRate = 0.8
+
+    /** Total number of risks, distributed over the risk-affected elements. */
+    int risks = 3000
+
+    /** Number of the domain's risk definitions to fill with impacts and risk values. */
+    int riskDefinitions = 1
+
+    /** Maximum number of elements per bulk creation request. */
+    int batchSize = 200
+
+    /** Creates a copy with all element and risk counts multiplied by the given factor. */
+    DatasetParameters scaled(double factor) {
+        new DatasetParameters(
+                seed: seed,
+                elementCounts: elementCounts.collectEntries { type, count ->
+                    [
+                        (type): Math.round(count * factor) as int
+                    ]
+                },
+                linksPerElement: linksPerElement,
+                hierarchyDepth: hierarchyDepth,
+                partsPerComposite: partsPerComposite,
+                membersPerScope: membersPerScope,
+                fillRate: fillRate,
+                risks: Math.round(risks * factor) as int,
+                riskDefinitions: riskDefinitions,
+                batchSize: batchSize)
+    }
+
+    int getTotalElements() {
+        elementCounts.values().sum(0) as int
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.test.dataset
+
+import org.veo.core.entity.ElementType
+
+import groovy.transform.TupleConstructor
+
+/** IDs and statistics of a unit created by {@link UnitDatasetGenerator}. */
+@TupleConstructor
+class GeneratedDataset {
+    Map<ElementType, List<String>> elementIds
+    /** Number of hierarchy levels per element type, the leaves are level 0. */
+    Map<ElementType, Integer> levels
+    int links
+    int risks
+
+    int getElements() {
+        elementIds.values()*.size().sum(0) as int
+    }
+}
@@ -0,0 +1,299 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.test.dataset
+
+import java.time.Instant
+import java.time.LocalDate
+import java.time.temporal.ChronoUnit
+
+import org.veo.core.entity.ElementType
+
+import groovy.transform.TupleConstructor
+
+/**
+ * Creates a large synthetic unit in a domain through the regular REST endpoints. Sub types,
+ * statuses, custom aspects, links and risk values are derived from the domain definition (as
+ * returned by {@code GET /domains/{id}}), so the generated data is valid in any domain.
+ *
+ * <p>Elements of each type are arranged in composite hierarchies: the leaves are created first,
+ * each composite on the next level gets a share of the level below as parts. Scopes are created
+ * last, containing elements of all other types on the lowest level and scopes on higher levels.
+ * Custom links and risks are added afterwards. All random choices are derived from {@link
+ * DatasetParameters#seed}.
+ */
+class UnitDatasetGenerator {
+    private static final LocalDate BASE_DATE = LocalDate.of(2020, 1, 1)
+    private static final Instant BASE_INSTANT = Instant.parse('2020-01-01T00:00:00Z')
+
+    private final DatasetApi api
+    private final Map domain
+    private final String unitId
+    private final DatasetParameters params
+    private final List<Map.Entry<String, Map>> riskDefinitions
+    private Random random
+
+    UnitDatasetGenerator(DatasetApi api, Map domain, String unitId, DatasetParameters params) {
+        this.api = api
+        this.domain = domain
+        this.unitId = unitId
+        this.params = params
+        this.riskDefinitions = (domain.riskDefinitions ?: [:]).entrySet().take(params.riskDefinitions) as List
+    }
+
+    GeneratedDataset generate() {
+        random = new Random(params.seed)
+        Map<ElementType, List<GeneratedElement>> nodes = [:]
+        ElementType.values().findAll { it != ElementType.SCOPE }.each { type ->
+            nodes[type] = createHierarchy(type) { level, index, count, lowerLevel ->
+                lowerLevel ? [parts: references(lowerLevel.findAll { it.index % count == index })] : [:]
+            }
+        }
+        def nonScopes = nodes.values().flatten() as List<GeneratedElement>
+        nodes[ElementType.SCOPE] = createHierarchy(ElementType.SCOPE) { level, index, count, lowerLevel ->
+            def members = lowerLevel
+                    ? lowerLevel.findAll { it.index % count == index }
+                    : pickDistinct(nonScopes, params.membersPerScope)
+            [members: references(members)]
+        }
+        def links = createLinks(nodes)
+        def risks = createRisks(nodes)
+        new GeneratedDataset(
+                nodes.collectEntries { type, list -> [(type): list*.id] },
+                nodes.collectEntries { type, list -> [(type): list ? list*.level.max() + 1 : 0] },
+                links,
+                risks)
+    }
+
+    /**
+     * Creates the given type's elements level by level, starting with the leaves. Each level is
+     * smaller than the one below by {@link DatasetParameters#partsPerComposite}.
+     *
+     * @param containedElements provides the parts or members for an element, given its level,
+     *     index on that level, number of elements on that level and the elements on the level below
+     */
+    private List<GeneratedElement> createHierarchy(ElementType type, Closure<Map> containedElements) {
+        def definition = domain.elementTypeDefinitions?.get(type.singularTerm)
+        int count = params.elementCounts.getOrDefault(type, 0)
+        if (!definition?.subTypes || count == 0) {
+            return []
+        }
+        List<GeneratedElement> all = []
+        List<GeneratedElement> lowerLevel = []
+        levelSizes(count).eachWithIndex { int size, int level ->
+            def payloads = (0..<size).collect { index ->
+                def subType = pick(definition.subTypes.keySet() as List)
+                elementPayload(type, definition, subType, level, index) +
+                        containedElements(level, index, size, lowerLevel)
+            }
+            def ids = payloads.collate(params.batchSize).collectMany { api.createElements(type, it) }
+            lowerLevel = (0..<size).collect {
+                new GeneratedElement(type, ids[it], payloads[it].subType, level, it)
+            }
+            all.addAll(lowerLevel)
+        }
+        all
+    }
+
+    private List<Integer> levelSizes(int count) {
+        def weights = (0..params.hierarchyDepth).collect { Math.pow(params.partsPerComposite, -it) }
+        double total = weights.sum()
+        def sizes = weights.collect { (int) (count * it / total) }.takeWhile { it > 0 }
+        if (!sizes) {
+            return [count]
+        }
+        sizes[0] += count - (sizes.sum() as int)
+        sizes
+    }
+
+    private Map elementPayload(ElementType type, Map definition, String subType, int level, int index) {
+        def payload = [
+            name: "${type.singularTerm} $level-$index".toString(),
+            abbreviation: "${type.singularTerm.take(3)}-$index".toString(),
+            description: "Level $level ${type.singularTerm} generated from seed ${params.seed}".toString(),
+            owner: [targetUri: "/units/$unitId".toString()],
+            subType: subType,
+            status: pick(definition.subTypes[subType].statuses as List),
+            customAspects: definition.customAspects.collectEntries { name, aspect ->
+                [(name): attributes(aspect.attributeDefinitions)]
+            }.findAll { it.value },
+        ]
+        if (type in ElementType.RISK_AFFECTED_TYPES) {
+            payload.riskValues = riskDefinitions.collectEntries { rd ->
+                [
+                    (rd.key): [
+                        potentialImpacts: impactCategories(rd.value).findAll { fill() }.collectEntries {
+                            [(it.id): pick(it.potentialImpacts).ordinalValue]
+                        }
+                    ]
+                ]
+            }
+        } else if (type == ElementType.SCENARIO) {
+            payload.riskValues = riskDefinitions.collectEntries { rd ->
+                [(rd.key): [potentialProbability: pick(rd.value.probability.levels).ordinalValue]]
+            }
+        }
+        payload
+    }
+
+    private int createLinks(Map<ElementType, List<GeneratedElement>> nodes) {
+        Map<String, List<GeneratedElement>> targetsBySubType = nodes.values().flatten()
+                .groupBy { GeneratedElement e -> "$e.type.singularTerm/$e.subType".toString() }
+        int total = 0
+        ElementType.values().each { type ->
+            def linkDefinitions = domain.elementTypeDefinitions?.get(type.singularTerm)?.links ?: [:]
+            def usable = linkDefinitions.findAll { name, link ->
+                targetsBySubType["$link.targetType/$link.targetSubType".toString()]
+            }
+            if (!usable) {
+                return
+            }
+            def names = usable.keySet() as List
+            nodes[type].each { source ->
+                int count = (int) params.linksPerElement +
+                        (random.nextDouble() < params.linksPerElement % 1 ? 1 : 0)
+                Map<String, Map<String, Map>> links = [:]
+                count.times {
+                    def name = pick(names)
+                    def link = usable[name]
+                    def target = pick(targetsBySubType["$link.targetType/$link.targetSubType".toString()])
+                    if (target != source) {
+                        links.computeIfAbsent(name) { [:] }[target.id] = [
+                            target: reference(target),
+                            attributes: attributes(link.attributeDefinitions),
+                        ]
+                    }
+                }
+                if (links) {
+                    api.addLinks(type, source.id, links.collectEntries { name, byTarget ->
+                        [(name): byTarget.values() as List]
+                    })
+                    total += links.values()*.size().sum(0) as int
+                }
+            }
+        }
+        total
+    }
+
+    private int createRisks(Map<ElementType, List<GeneratedElement>> nodes) {
+        def riskAffected = ElementType.values().findAll { it in ElementType.RISK_AFFECTED_TYPES }
+                .collectMany { nodes[it] }
+        def scenarios = nodes[ElementType.SCENARIO]
+        def controls = nodes[ElementType.CONTROL]
+        if (!riskAffected || !scenarios) {
+            return 0
+        }
+        int maxRisks = Math.min(params.risks, riskAffected.size() * scenarios.size())
+        Set<List<String>> pairs = []
+        while (pairs.size() < maxRisks) {
+            GeneratedElement element = pick(riskAffected)
+            GeneratedElement scenario = pick(scenarios)
+            if (!pairs.add([element.id, scenario.id])) {
+                continue
+            }
+            def risk = [
+                scenario: reference(scenario),
+                domains: [
+                    (domain.id): [
+                        reference: [targetUri: "/domains/$domain.id".toString()],
+                        riskDefinitions: riskDefinitions.collectEntries { rd ->
+                            [(rd.key): riskValues(rd.value)]
+                        },
+                    ]
+                ],
+            ]
+            if (controls && random.nextBoolean()) {
+                risk.mitigation = reference(pick(controls))
+            }
+            api.createRisk(element.type, element.id, risk)
+        }
+        pairs.size()
+    }
+
+    private Map riskValues(Map riskDefinition) {
+        [
+            probability: [specificProbability: pick(riskDefinition.probability.levels).ordinalValue],
+            impactValues: impactCategories(riskDefinition).findAll { fill() }.collect {
+                [category: it.id, specificImpact: pick(it.potentialImpacts).ordinalValue]
+            },
+        ]
+    }
+
+    private static List<Map> impactCategories(Map riskDefinition) {
+        riskDefinition.categories.findAll { it.potentialImpacts }
+    }
+
+    private Map attributes(Map attributeDefinitions) {
+        (attributeDefinitions ?: [:]).collectEntries { name, definition ->
+            fill() ? [(name): attributeValue(definition)] : [:]
+        }.findAll { it.value != null }
+    }
+
+    private Object attributeValue(Map definition) {
+        switch (definition.type) {
+            case 'boolean': return random.nextBoolean()
+            case 'integer': return random.nextInt(1000)
+            case 'text': return "text ${random.nextInt(100_000)}".toString()
+            case 'enum': return pick(definition.allowedValues)
+            case 'date': return BASE_DATE.plusDays(random.nextInt(3000)).toString()
+            case 'dateTime': return BASE_INSTANT.plus(random.nextInt(3000 * 24), ChronoUnit.HOURS).toString()
+            case 'duration': return "P${random.nextInt(365) + 1}D".toString()
+            case 'externalDocument':
+                return "https://example.org/documents/${random.nextInt(100_000)}".toString()
+            case 'list':
+                def items = (1..(random.nextInt(3) + 1)).collect { attributeValue(definition.itemDefinition) }
+                return items.unique().findAll { it != null }
+            default: return null
+        }
+    }
+
+    private boolean fill() {
+        random.nextDouble() < params.fillRate
+    }
+
+    private <T> T pick(List<T> values) {
+        values[random.nextInt(values.size())]
+    }
+
+    private List<GeneratedElement> pickDistinct(List<GeneratedElement> values, int count) {
+        if (values.size() <= count) {
+            return values
+        }
+        Set<Integer> indices = new LinkedHashSet<>()
+        while (indices.size() < count) {
+            indices.add(random.nextInt(values.size()))
+        }
+        indices.collect { values[it] }
+    }
+
+    private static List<Map> references(List<GeneratedElement> nodes) {
+        nodes.collect { reference(it) }
+    }
+
+    private static Map reference(GeneratedElement node) {
+        [targetUri: "/$node.type.pluralTerm/$node.id".toString()]
+    }
+
+    @TupleConstructor
+    private static class GeneratedElement {
+        ElementType type
+        String id
+        String subType
+        int level
+        int index
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * verinice.veo
+ * Copyright (C) 2026  Jonas Jordan
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.veo.test.dataset
+
+import org.veo.core.entity.ElementType
+
+import spock.lang.Specification
+
+class UnitDatasetGeneratorSpec extends Specification {
+    def domain = [
+        id: "d1",
+        elementTypeDefinitions: [
+            asset: [
+                subTypes: [
+                    Server: [statuses: ["NEW", "RUNNING"]],
+                    Laptop: [statuses: ["NEW"]],
+                ],
+                customAspects: [
+                    details: [
+                        attributeDefinitions: [
+                            size: [type: "integer"],
+                            color: [type: "enum", allowedValues: ["red", "green"]],
+                            tags: [type: "list", itemDefinition: [type: "text"]],
+                        ]
+                    ]
+                ],
+                links: [
+                    asset_admin: [targetType: "person", targetSubType: "Admin", attributeDefinitions: [:]],
+                ],
+            ],
+            person: [
+                subTypes: [
+                    Admin: [statuses: ["NEW"]],
+                ],
+                customAspects: [:],
+                links: [:],
+            ],
+            scenario: [
+                subTypes: [
+                    Threat: [statuses: ["NEW"]],
+                ],
+                customAspects: [:],
+                links: [:],
+            ],
+            scope: [
+                subTypes: [
+                    Company: [statuses: ["NEW"]],
+                ],
+                customAspects: [:],
+                links: [:],
+            ],
+        ],
+        riskDefinitions: [
+            rd: [
+                probability: [levels: [[ordinalValue: 0], [ordinalValue: 1]]],
+                categories: [
+                    [id: "C", potentialImpacts: [[ordinalValue: 0], [ordinalValue: 1]]],
+                    [id: "X", potentialImpacts: []],
+                ],
+            ]
+        ],
+    ]
+
+    def parameters = new DatasetParameters(
+            elementCounts: [
+                (ElementType.ASSET): 31,
+                (ElementType.PERSON): 4,
+                (ElementType.SCENARIO): 5,
+                (ElementType.SCOPE): 3,
+                (ElementType.CONTROL): 10,
+            ],
+            hierarchyDepth: 2,
+            partsPerComposite: 5,
+            membersPerScope: 3,
+            linksPerElement: 1.5,
+            risks: 20,
+            batchSize: 10)
+
+    def "generates a unit with hierarchies, links and risks"() {
+        given:
+        def api = new RecordingApi()
+
+        when:
+        def dataset = new UnitDatasetGenerator(api, domain, "u1", parameters).generate()
+
+        then: "elements of types with sub types are created in batches"
+        dataset.elementIds.collectEntries { type, ids -> [(type): ids.size()] } == [
+            (ElementType.ASSET): 31,
+            (ElementType.CONTROL): 0,
+            (ElementType.DOCUMENT): 0,
+            (ElementType.INCIDENT): 0,
+            (ElementType.PERSON): 4,
+            (ElementType.PROCESS): 0,
+            (ElementType.SCENARIO): 5,
+            (ElementType.SCOPE): 3,
+        ]
+        api.batches.every { it.elements.size() <= 10 }
+        api.elements.every { it.owner.targetUri == "/units/u1" }
+
+        and: "assets form a three-level hierarchy"
+        dataset.levels[ElementType.ASSET] == 3
+        def assets = api.elements.findAll { it.type == ElementType.ASSET }
+        assets.count { it.parts == null } == 25
+        assets.findAll { it.parts != null }*.parts*.size() == [5] * 6
+        assets*.customAspects*.details.findAll().every {
+            it.keySet().every { it in ["size", "color", "tags"] }
+        }
+        assets*.riskValues*.rd*.potentialImpacts.every { it.keySet().every { it == "C" } }
+
+        and: "scopes contain elements of other types"
+        def scopes = api.elements.findAll { it.type == ElementType.SCOPE }
+        scopes*.members*.size() == [3, 3, 3]
+
+        and: "links point to matching targets"
+        dataset.links > 0
+        api.links.every { it.type == ElementType.ASSET }
+        api.links*.links*.asset_admin.flatten()*.target*.targetUri.every {
+            it.startsWith("/persons/")
+        }
+
+        and: "risks are unique per element and scenario"
+        dataset.risks == 20
+        api.risks*.subMap(["type", "id", "scenario"]).unique().size() == 20
+        api.risks.every { it.domains.d1.riskDefinitions.rd.probability.specificProbability in [0, 1] }
+    }
+
+    def "generates the same data for the same seed"() {
+        given:
+        def api1 = new RecordingApi()
+        def api2 = new RecordingApi()
+        def api3 = new RecordingApi()
+
+        when:
+        new UnitDatasetGenerator(api1, domain, "u1", parameters).generate()
+        new UnitDatasetGenerator(api2, domain, "u1", parameters).generate()
+        new UnitDatasetGenerator(api3, domain, "u1", parameters.tap { seed = 43 }).generate()
+
+        then:
+        api1.elements == api2.elements
+        api1.links == api2.links
+        api1.risks == api2.risks
+        api1.elements != api3.elements
+    }
+
+    def "scales element and risk counts"() {
+        when:
+        def scaled = parameters.scaled(2)
+
+        then:
+        scaled.elementCounts[ElementType.ASSET] == 62
+        scaled.totalElements == 106
+        scaled.risks == 40
+        scaled.hierarchyDepth == 2
+    }
+
+    static class RecordingApi implements DatasetApi {
+        List<Map> batches = []
+        List<Map> elements = []
+        List<Map> links = []
+        List<Map> risks = []
+        int nextId
+
+        @Override
+        List<String> createElements(ElementType type, List<Map> elements) {
+            batches << [type: type, elements: elements]
+            elements.collect {
+                this.elements << (it + [type: type])
+                "${type.singularTerm}-${nextId++}".toString()
+            }
+        }
+
+        @Override
+        void addLinks(ElementType type, String elementId, Map links) {
+            this.links << [type: type, id: elementId, links: links]
+        }
+
+        @Override
+        void createRisk(ElementType type, String elementId, Map risk) {
+            risks << (risk + [type: type, id: elementId])
+        }
+    }
+}